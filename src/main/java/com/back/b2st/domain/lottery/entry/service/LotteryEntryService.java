@@ -29,8 +29,7 @@ import com.back.b2st.domain.performance.repository.PerformanceRepository;
 import com.back.b2st.domain.performanceschedule.entity.BookingType;
 import com.back.b2st.domain.performanceschedule.repository.PerformanceScheduleRepository;
 import com.back.b2st.domain.seat.grade.entity.SeatGradeType;
-import com.back.b2st.domain.seat.seat.dto.response.SeatInfoRes;
-import com.back.b2st.domain.seat.seat.service.SeatService;
+import com.back.b2st.domain.seat.layout.service.SeatLayoutCache;
 import com.back.b2st.global.error.exception.BusinessException;
 
 import lombok.RequiredArgsConstructor;
@@ -48,7 +47,7 @@ public class LotteryEntryService {
 	private final LotteryEntryRepository lotteryEntryRepository;
 	private final MemberRepository memberRepository;
 	private final PerformanceRepository performanceRepository;
-	private final SeatService seatService;
+	private final SeatLayoutCache seatLayoutCache;
 	private final PerformanceScheduleRepository performanceScheduleRepository;
 	private final LotteryResultRepository lotteryResultRepository;
 
@@ -57,10 +56,10 @@ public class LotteryEntryService {
 	 */
 	public List<SectionLayoutRes> getSeatLayout(Long memberId, Long performanceId) {
 		validateMember(memberId);
-		Long venudId = validatePerformance(performanceId);
-		List<SeatInfoRes> seatInfo = seatService.getSeatInfoByVenueId(venudId);
+		validatePerformance(performanceId);
 
-		return SectionLayoutRes.from(seatInfo);
+		// 공연 좌석 레이아웃 캐시 (좌석/등급 변경 시에만 재적재)
+		return SectionLayoutRes.from(seatLayoutCache.get(performanceId).toSeatInfos());
 	}
 
 	/**
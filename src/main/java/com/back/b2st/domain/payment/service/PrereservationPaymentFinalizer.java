@@ -3,6 +3,7 @@ package com.back.b2st.domain.payment.service;
 import java.time.Clock;
 import java.time.LocalDateTime;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,6 +18,7 @@ import com.back.b2st.domain.prereservation.booking.entity.PrereservationBookingS
 import com.back.b2st.domain.prereservation.booking.repository.PrereservationBookingRepository;
 import com.back.b2st.domain.reservation.entity.Reservation;
 import com.back.b2st.domain.reservation.entity.ReservationSeat;
+import com.back.b2st.domain.scheduleseat.dto.event.ScheduleSeatStatusChangedEvent;
 import com.back.b2st.domain.scheduleseat.entity.ScheduleSeat;
 import com.back.b2st.domain.scheduleseat.entity.SeatStatus;
 import com.back.b2st.domain.ticket.service.TicketService;
@@ -35,6 +37,7 @@ public class PrereservationPaymentFinalizer implements PaymentFinalizer {
 	private final PrereservationBookingRepository prereservationBookingRepository;
 	private final TicketService ticketService;
 	private final Clock clock;
+	private final ApplicationEventPublisher eventPublisher;
 
 	@Override
 	public boolean supports(DomainType domainType) {
@@ -76,6 +79,7 @@ public class PrereservationPaymentFinalizer implements PaymentFinalizer {
 		LocalDateTime now = LocalDateTime.now(clock);
 		booking.complete(now);
 		scheduleSeat.sold();
+		publishSeatSold(scheduleSeat);
 		Reservation reservation = findOrCreateCompletedReservation(booking, scheduleSeat.getId(), now);
 		ensureTicketExists(reservation, scheduleSeat.getSeatId());
 	}
@@ -160,9 +164,15 @@ public class PrereservationPaymentFinalizer implements PaymentFinalizer {
 	private void ensureSeatSold(ScheduleSeat scheduleSeat) {
 		if (scheduleSeat.getStatus() != SeatStatus.SOLD) {
 			scheduleSeat.sold();
+			publishSeatSold(scheduleSeat);
 		}
 	}
 
+	private void publishSeatSold(ScheduleSeat scheduleSeat) {
+		eventPublisher.publishEvent(
+			ScheduleSeatStatusChangedEvent.of(scheduleSeat.getScheduleId(), scheduleSeat.getSeatId(), SeatStatus.SOLD));
+	}
+
 	private void ensureTicketExists(Reservation reservation, Long seatId) {
 		ticketService.createTicket(reservation.getId(), reservation.getMemberId(), seatId);
 	}
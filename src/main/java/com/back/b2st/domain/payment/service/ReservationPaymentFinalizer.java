@@ -4,6 +4,7 @@ import java.time.Clock;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,8 +16,10 @@ import com.back.b2st.domain.reservation.entity.ReservationSeat;
 import com.back.b2st.domain.reservation.entity.ReservationStatus;
 import com.back.b2st.domain.reservation.error.ReservationErrorCode;
 import com.back.b2st.domain.reservation.repository.ReservationSeatRepository;
+import com.back.b2st.domain.scheduleseat.dto.event.ScheduleSeatStatusChangedEvent;
 import com.back.b2st.domain.scheduleseat.entity.ScheduleSeat;
 import com.back.b2st.domain.scheduleseat.entity.SeatStatus;
+import com.back.b2st.domain.scheduleseat.repository.ScheduleSeatRepository;
 import com.back.b2st.domain.ticket.service.TicketService;
 import com.back.b2st.global.error.exception.BusinessException;
 
@@ -33,8 +36,10 @@ public class ReservationPaymentFinalizer implements PaymentFinalizer {
 	private EntityManager entityManager;
 
 	private final ReservationSeatRepository reservationSeatRepository;
+	private final ScheduleSeatRepository scheduleSeatRepository;
 	private final TicketService ticketService;
 	private final Clock clock;
+	private final ApplicationEventPublisher eventPublisher;
 
 	@Override
 	public boolean supports(DomainType domainType) {
@@ -65,33 +70,37 @@ public class ReservationPaymentFinalizer implements PaymentFinalizer {
 			throw new BusinessException(PaymentErrorCode.DOMAIN_NOT_FOUND);
 		}
 
-		ReservationSeat rs = reservationSeats.getFirst();
-
-		ScheduleSeat scheduleSeat = findScheduleSeatWithLock(rs.getScheduleSeatId());
+		List<ScheduleSeat> scheduleSeats = findScheduleSeatsWithLock(reservationSeats);
 
 		// 멱등: 이미 확정된 예매라면 좌석/티켓이 최종 상태인지 보정하고 종료
 		if (reservation.getStatus() == ReservationStatus.COMPLETED) {
-			ensureSeatSold(scheduleSeat);
-			ensureTicketExists(reservation, scheduleSeat.getSeatId());
+			ensureSeatsSold(scheduleSeats);
+			ensureTicketsExist(reservation, scheduleSeats);
 			return;
 		}
 
-		ensureSeatHoldOrSold(scheduleSeat);
+		scheduleSeats.forEach(this::ensureSeatHoldOrSold);
 
 		LocalDateTime now = LocalDateTime.now(clock);
 		reservation.complete(now);
-		scheduleSeat.sold();
-		ensureTicketExists(reservation, scheduleSeat.getSeatId());
+		scheduleSeats.forEach(ScheduleSeat::sold);
+		publishSeatsSold(scheduleSeats);
+		ensureTicketsExist(reservation, scheduleSeats);
 	}
 
-	private ScheduleSeat findScheduleSeatWithLock(Long scheduleSeatId) {
-		ScheduleSeat scheduleSeat =
-			entityManager.find(ScheduleSeat.class, scheduleSeatId, LockModeType.PESSIMISTIC_WRITE);
+	/**
+	 * 예매 좌석 전부 락 (seatId 오름차순, 다중 좌석 HOLD와 같은 순서로 잠가 교착 방지)
+	 */
+	private List<ScheduleSeat> findScheduleSeatsWithLock(List<ReservationSeat> reservationSeats) {
+		List<Long> scheduleSeatIds = reservationSeats.stream()
+			.map(ReservationSeat::getScheduleSeatId)
+			.toList();
+		List<ScheduleSeat> scheduleSeats = scheduleSeatRepository.findAllByIdInWithLock(scheduleSeatIds);
 
-		if (scheduleSeat == null) {
+		if (scheduleSeats.size() != scheduleSeatIds.size()) {
 			throw new BusinessException(PaymentErrorCode.DOMAIN_NOT_FOUND, "예매 좌석 정보를 찾을 수 없습니다.");
 		}
-		return scheduleSeat;
+		return scheduleSeats;
 	}
 
 	private void ensureSeatHoldOrSold(ScheduleSeat scheduleSeat) {
@@ -103,13 +112,27 @@ public class ReservationPaymentFinalizer implements PaymentFinalizer {
 		}
 	}
 
-	private void ensureSeatSold(ScheduleSeat scheduleSeat) {
-		if (scheduleSeat.getStatus() != SeatStatus.SOLD) {
-			scheduleSeat.sold();
+	private void ensureSeatsSold(List<ScheduleSeat> scheduleSeats) {
+		List<ScheduleSeat> unsold = scheduleSeats.stream()
+			.filter(scheduleSeat -> scheduleSeat.getStatus() != SeatStatus.SOLD)
+			.toList();
+		if (unsold.isEmpty()) {
+			return;
 		}
+		unsold.forEach(ScheduleSeat::sold);
+		publishSeatsSold(unsold);
 	}
 
-	private void ensureTicketExists(Reservation reservation, Long seatId) {
-		ticketService.createTicket(reservation.getId(), reservation.getMemberId(), seatId);
+	/** 예매 좌석은 한 회차 소속 → SOLD 이벤트 1건 */
+	private void publishSeatsSold(List<ScheduleSeat> scheduleSeats) {
+		List<Long> seatIds = scheduleSeats.stream().map(ScheduleSeat::getSeatId).toList();
+		eventPublisher.publishEvent(
+			ScheduleSeatStatusChangedEvent.of(scheduleSeats.getFirst().getScheduleId(), seatIds, SeatStatus.SOLD));
+	}
+
+	private void ensureTicketsExist(Reservation reservation, List<ScheduleSeat> scheduleSeats) {
+		for (ScheduleSeat scheduleSeat : scheduleSeats) {
+			ticketService.createTicket(reservation.getId(), reservation.getMemberId(), scheduleSeat.getSeatId());
+		}
 	}
 }
\ No newline at end of file
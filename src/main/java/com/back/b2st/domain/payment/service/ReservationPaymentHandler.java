@@ -1,5 +1,6 @@
 package com.back.b2st.domain.payment.service;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.springframework.stereotype.Component;
@@ -62,34 +63,41 @@ public class ReservationPaymentHandler implements PaymentDomainHandler {
 			throw new BusinessException(PaymentErrorCode.DOMAIN_NOT_PAYABLE);
 		}
 
-		ReservationSeat rs = reservationSeats.getFirst();
-
-		ScheduleSeat scheduleSeat =
-			scheduleSeatRepository.findById(rs.getScheduleSeatId())
-				.orElseThrow(() -> new BusinessException(PaymentErrorCode.DOMAIN_NOT_FOUND));
-
-		if (scheduleSeat.getStatus() != SeatStatus.HOLD) {
-			throw new BusinessException(PaymentErrorCode.DOMAIN_NOT_PAYABLE);
+		// 예매 좌석 전부 HOLD + 본인 소유여야 결제 가능 (다중 좌석 예매)
+		List<ScheduleSeat> scheduleSeats = new ArrayList<>(reservationSeats.size());
+		for (ReservationSeat rs : reservationSeats) {
+			ScheduleSeat scheduleSeat =
+				scheduleSeatRepository.findById(rs.getScheduleSeatId())
+					.orElseThrow(() -> new BusinessException(PaymentErrorCode.DOMAIN_NOT_FOUND));
+
+			if (scheduleSeat.getStatus() != SeatStatus.HOLD) {
+				throw new BusinessException(PaymentErrorCode.DOMAIN_NOT_PAYABLE);
+			}
+
+			seatHoldTokenService.validateOwnership(
+				scheduleSeat.getScheduleId(),
+				scheduleSeat.getSeatId(),
+				memberId
+			);
+			scheduleSeats.add(scheduleSeat);
 		}
 
-		seatHoldTokenService.validateOwnership(
-			scheduleSeat.getScheduleId(),
-			scheduleSeat.getSeatId(),
-			memberId
-		);
-
-		PerformanceSchedule schedule = performanceScheduleRepository.findById(scheduleSeat.getScheduleId())
+		PerformanceSchedule schedule = performanceScheduleRepository.findById(scheduleSeats.getFirst().getScheduleId())
 			.orElseThrow(() -> new BusinessException(PaymentErrorCode.DOMAIN_NOT_FOUND));
 
 		Long performanceId = schedule.getPerformance().getPerformanceId();
 
-		SeatGrade seatGrade = seatGradeRepository.findTopByPerformanceIdAndSeatIdOrderByIdDesc(
-				performanceId,
-				scheduleSeat.getSeatId()
-			)
-			.orElseThrow(() -> new BusinessException(PaymentErrorCode.DOMAIN_NOT_PAYABLE));
+		// 결제 금액 = 좌석별 등급 가격 합계
+		long expectedAmount = 0L;
+		for (ScheduleSeat scheduleSeat : scheduleSeats) {
+			SeatGrade seatGrade = seatGradeRepository.findTopByPerformanceIdAndSeatIdOrderByIdDesc(
+					performanceId,
+					scheduleSeat.getSeatId()
+				)
+				.orElseThrow(() -> new BusinessException(PaymentErrorCode.DOMAIN_NOT_PAYABLE));
+			expectedAmount += seatGrade.getPrice().longValue();
+		}
 
-		Long expectedAmount = seatGrade.getPrice().longValue();
 		return new PaymentTarget(DomainType.RESERVATION, reservationId, expectedAmount);
 	}
 }
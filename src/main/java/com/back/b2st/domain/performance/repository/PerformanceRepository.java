@@ -136,4 +136,14 @@ public interface PerformanceRepository extends JpaRepository<Performance, Long>
 		@Param("cursor") Long cursor,
 		Pageable pageable
 	);
+
+	/**
+	 * performanceId로 venueId 조회 (좌석 레이아웃 캐시 적재용)
+	 */
+	@Query("""
+			select p.venue.venueId
+			from Performance p
+			where p.performanceId = :performanceId
+		""")
+	Optional<Long> findVenueIdByPerformanceId(@Param("performanceId") Long performanceId);
 }
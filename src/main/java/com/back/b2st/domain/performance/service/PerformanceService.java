@@ -31,10 +31,10 @@ import com.back.b2st.domain.queue.repository.QueueRepository;
 import com.back.b2st.domain.reservation.repository.ReservationRepository;
 import com.back.b2st.domain.reservation.repository.ReservationSeatRepository;
 import com.back.b2st.domain.scheduleseat.repository.ScheduleSeatRepository;
-import com.back.b2st.domain.seat.grade.entity.SeatGrade;
+import com.back.b2st.domain.seat.grade.dto.SectionGrade;
 import com.back.b2st.domain.seat.grade.entity.SeatGradeType;
+import com.back.b2st.domain.seat.grade.repository.SeatGradeBatchRepository;
 import com.back.b2st.domain.seat.grade.repository.SeatGradeRepository;
-import com.back.b2st.domain.seat.seat.entity.Seat;
 import com.back.b2st.domain.seat.seat.error.SeatErrorCode;
 import com.back.b2st.domain.seat.seat.repository.SeatRepository;
 import com.back.b2st.domain.ticket.repository.TicketRepository;
@@ -47,7 +47,9 @@ import com.back.b2st.global.s3.dto.response.PresignedUrlRes;
 import com.back.b2st.global.s3.service.S3Service;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -58,6 +60,7 @@ public class PerformanceService {
 	private final PerformanceScheduleRepository performanceScheduleRepository;
 	private final SeatRepository seatRepository;
 	private final SeatGradeRepository seatGradeRepository;
+	private final SeatGradeBatchRepository seatGradeBatchRepository;
 	private final ScheduleSeatRepository scheduleSeatRepository;
 	private final PrereservationBookingRepository prereservationBookingRepository;
 	private final PrereservationRepository prereservationRepository;
@@ -125,33 +128,30 @@ public class PerformanceService {
 		return performanceMapper.toDetailRes(saved, LocalDateTime.now(), null);
 	}
 
+	/**
+	 * 기본 좌석 등급 생성
+	 * - 등급은 구역 단위로 정해지므로 구역 이름만 조회하고, 구역당 INSERT ... SELECT 1건으로 생성 (대형 공연장 대응)
+	 */
 	private void createDefaultSeatGrades(Performance performance) {
 		Long performanceId = performance.getPerformanceId();
 		Long venueId = performance.getVenue().getVenueId();
 
-		List<Seat> seats = seatRepository.findByVenueId(venueId);
-		if (seats.isEmpty()) {
+		long startedAt = System.nanoTime();
+		List<String> sectionNames = seatRepository.findDistinctSectionNamesByVenueId(venueId);
+		if (sectionNames.isEmpty()) {
 			throw new BusinessException(SeatErrorCode.SEAT_NOT_FOUND);
 		}
 
-		List<SeatGrade> toCreate = seats.stream()
-			.filter(seat -> !seatGradeRepository.existsByPerformanceIdAndSeatId(performanceId, seat.getId()))
-			.map(seat -> {
-				SeatGradeType grade = defaultGrade(seat.getSectionName());
-				int price = defaultPrice(grade);
-
-				return SeatGrade.builder()
-					.performanceId(performanceId)
-					.seatId(seat.getId())
-					.grade(grade)
-					.price(price)
-					.build();
+		List<SectionGrade> sectionGrades = sectionNames.stream()
+			.map(sectionName -> {
+				SeatGradeType grade = defaultGrade(sectionName);
+				return new SectionGrade(sectionName, grade, defaultPrice(grade));
 			})
 			.toList();
 
-		if (!toCreate.isEmpty()) {
-			seatGradeRepository.saveAll(toCreate);
-		}
+		int created = seatGradeBatchRepository.insertBySection(performanceId, venueId, sectionGrades);
+		log.info("기본 좌석 등급 생성 - performanceId: {}, venueId: {}, sections: {}, rows: {}, elapsedMs: {}",
+			performanceId, venueId, sectionGrades.size(), created, (System.nanoTime() - startedAt) / 1_000_000);
 	}
 
 	private SeatGradeType defaultGrade(String sectionName) {
@@ -16,15 +16,15 @@ import com.back.b2st.domain.performanceschedule.entity.BookingType;
 import com.back.b2st.domain.performanceschedule.error.PerformanceScheduleErrorCode;
 import com.back.b2st.domain.performanceschedule.repository.PerformanceScheduleRepository;
 import com.back.b2st.domain.prereservation.policy.service.PrereservationTimeTableService;
-import com.back.b2st.domain.scheduleseat.entity.ScheduleSeat;
 import com.back.b2st.domain.scheduleseat.error.ScheduleSeatErrorCode;
+import com.back.b2st.domain.scheduleseat.repository.ScheduleSeatBatchRepository;
 import com.back.b2st.domain.scheduleseat.repository.ScheduleSeatRepository;
-import com.back.b2st.domain.seat.seat.entity.Seat;
-import com.back.b2st.domain.seat.seat.repository.SeatRepository;
 import com.back.b2st.global.error.exception.BusinessException;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -33,8 +33,8 @@ public class PerformanceScheduleService {
 	private final PerformanceRepository performanceRepository;
 	private final PerformanceScheduleRepository performanceScheduleRepository;
 
-	private final SeatRepository seatRepository;
 	private final ScheduleSeatRepository scheduleSeatRepository;
+	private final ScheduleSeatBatchRepository scheduleSeatBatchRepository;
 	private final PrereservationTimeTableService prereservationTimeTableService;
 
 	/**
@@ -77,6 +77,7 @@ public class PerformanceScheduleService {
 
 	/**
 	 * 회차별 좌석(ScheduleSeat) 생성
+	 * - 좌석 엔티티를 읽지 않고 seats → schedule_seat INSERT ... SELECT 1건으로 생성 (대형 공연장 대응)
 	 */
 	private void createScheduleSeats(Long scheduleId, Long venueId) {
 
@@ -85,19 +86,14 @@ public class PerformanceScheduleService {
 			return;
 		}
 
-		List<Seat> seats = seatRepository.findByVenueId(venueId);
-		if (seats.isEmpty()) {
+		long startedAt = System.nanoTime();
+		int created = scheduleSeatBatchRepository.insertForVenue(scheduleId, venueId);
+		if (created == 0) {
 			throw new BusinessException(ScheduleSeatErrorCode.SEAT_NOT_FOUND);
 		}
 
-		List<ScheduleSeat> scheduleSeats = seats.stream()
-			.map(seat -> ScheduleSeat.builder()
-				.scheduleId(scheduleId)
-				.seatId(seat.getId())
-				.build())
-			.toList();
-
-		scheduleSeatRepository.saveAll(scheduleSeats);
+		log.info("회차 좌석 생성 - scheduleId: {}, venueId: {}, rows: {}, elapsedMs: {}",
+			scheduleId, venueId, created, (System.nanoTime() - startedAt) / 1_000_000);
 	}
 
 	/**
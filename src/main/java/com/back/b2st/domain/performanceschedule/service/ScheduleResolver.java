@@ -0,0 +1,63 @@
+package com.back.b2st.domain.performanceschedule.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.back.b2st.domain.performanceschedule.error.PerformanceScheduleErrorCode;
+import com.back.b2st.domain.performanceschedule.repository.PerformanceScheduleRepository;
+import com.back.b2st.global.error.exception.BusinessException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ScheduleId를 PerformanceId로 변환하는 Resolver
+ *
+ * 대기열 진입, 좌석 HOLD의 대기열 검증, 회차 좌석 레이아웃 적재가 공유
+ *
+ * 회차의 소속 공연은 바뀌지 않으므로 노드 로컬 캐시 (상한 초과 시 오래된 항목부터 제거)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ScheduleResolver {
+
+	private final PerformanceScheduleRepository performanceScheduleRepository;
+
+	@Value("${schedule-cache.max-size:10000}")
+	private int maxCacheSize;
+
+	private Cache<Long, Long> performanceIdBySchedule;
+
+	@PostConstruct
+	void initCache() {
+		performanceIdBySchedule = Caffeine.newBuilder()
+			.maximumSize(maxCacheSize)
+			.build();
+	}
+
+	/**
+	 * scheduleId를 performanceId로 변환
+	 *
+	 * @param scheduleId 공연 회차 ID
+	 * @return 공연 ID
+	 * @throws BusinessException scheduleId가 존재하지 않을 때
+	 */
+	public Long resolvePerformanceId(Long scheduleId) {
+		Long cached = performanceIdBySchedule.getIfPresent(scheduleId);
+		if (cached != null) return cached;
+
+		Long performanceId = performanceScheduleRepository.findPerformanceIdByScheduleId(scheduleId)
+			.orElseThrow(() -> {
+				log.warn("Schedule not found - scheduleId: {}", scheduleId);
+				return new BusinessException(PerformanceScheduleErrorCode.SCHEDULE_NOT_FOUND);
+			});
+		performanceIdBySchedule.put(scheduleId, performanceId);
+
+		log.debug("Resolved scheduleId: {} -> performanceId: {}", scheduleId, performanceId);
+		return performanceId;
+	}
+}
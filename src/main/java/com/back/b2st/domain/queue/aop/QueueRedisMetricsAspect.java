@@ -0,0 +1,63 @@
+package com.back.b2st.domain.queue.aop;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.back.b2st.domain.queue.metrics.QueueRedisMetrics;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * QueueRedisRepository 연산 지연 계측
+ *
+ * Circuit Breaker aspect(기본 order LOWEST_PRECEDENCE - 3) 안쪽에서 실행되어
+ * 실제 Redis 호출만 측정 (서킷 OPEN으로 차단된 호출/fallback은 resilience4j 메트릭에서 확인)
+ *
+ * - operation: 메서드명 (enterOrGetStatus, moveToEnterableBatch, cleanupExpiredEnterableBatch ...)
+ * - outcome: success / error
+ * - circuit: 호출 시점 queueRedis 서킷 상태
+ */
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 2)
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "queue.enabled", havingValue = "true", matchIfMissing = false)
+public class QueueRedisMetricsAspect {
+
+	private static final String CIRCUIT_NAME = "queueRedis";
+
+	private final QueueRedisMetrics queueRedisMetrics;
+	private final CircuitBreakerRegistry circuitBreakerRegistry;
+
+	@Around("execution(public * com.back.b2st.domain.queue.repository.QueueRedisRepository.*(..))")
+	public Object timeRedisOperation(ProceedingJoinPoint joinPoint) throws Throwable {
+		String circuit = circuitState();
+		long start = System.nanoTime();
+		String outcome = "error";
+
+		try {
+			Object result = joinPoint.proceed();
+			outcome = "success";
+			return result;
+		} finally {
+			queueRedisMetrics.recordOperation(
+				joinPoint.getSignature().getName(),
+				outcome,
+				circuit,
+				System.nanoTime() - start
+			);
+		}
+	}
+
+	private String circuitState() {
+		CircuitBreaker.State state = circuitBreakerRegistry.circuitBreaker(CIRCUIT_NAME).getState();
+		return state.name().toLowerCase();
+	}
+}
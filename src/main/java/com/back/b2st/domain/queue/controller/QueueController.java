@@ -1,6 +1,7 @@
 package com.back.b2st.domain.queue.controller;
 
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -8,9 +9,11 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.back.b2st.domain.queue.dto.response.QueuePositionRes;
 import com.back.b2st.domain.queue.dto.response.StartBookingRes;
+import com.back.b2st.domain.queue.service.QueuePositionStreamService;
 import com.back.b2st.domain.queue.service.QueueService;
 import com.back.b2st.global.common.BaseResponse;
 import com.back.b2st.global.util.SecurityUtils;
@@ -41,6 +44,7 @@ import lombok.extern.slf4j.Slf4j;
 public class QueueController {
 
 	private final QueueService queueService;
+	private final QueuePositionStreamService queuePositionStreamService;
 
 	/**
 	 * 예매 확정 후 권한 소진
@@ -121,6 +125,34 @@ public class QueueController {
 		return BaseResponse.success(response);
 	}
 
+	/**
+	 * 내 대기 위치 실시간 스트림 (SSE)
+	 *
+	 * 폴링 대신 구독하면 승격(배치 입장) 이벤트가 발생할 때마다 위치가 push 됩니다.
+	 * - event: position → WAITING 상태의 랭크/앞 인원 수/예상 대기시간
+	 * - event: enterable → 입장 가능 전환 + 서명 입장권(queuePass) (이후 스트림 종료)
+	 * WAITING이 아니면 현재 상태 1회 전송 후 종료합니다.
+	 *
+	 * @param queueId 대기열 ID
+	 * @param principal 로그인한 사용자 정보
+	 * @return SSE 스트림
+	 */
+	@Operation(
+		summary = "대기 위치 실시간 스트림 (SSE)",
+		description = "text/event-stream으로 대기 위치(position)와 입장 가능 전환(enterable) 이벤트를 수신합니다. " +
+			"노드별 동시 연결 수를 초과하면 503을 반환하며, 이 경우 위치 조회 API로 폴링하세요."
+	)
+	@GetMapping(value = "/{queueId}/position/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter streamMyPosition(
+		@Parameter(description = "대기열 ID", example = "1")
+		@PathVariable @Positive Long queueId,
+		@AuthenticationPrincipal UserPrincipal principal
+	) {
+		Long userId = SecurityUtils.requireUserId(principal);
+		log.debug("User subscribing queue position stream - queueId: {}, userId: {}", queueId, userId);
+		return queuePositionStreamService.subscribe(queueId, userId);
+	}
+
 	/**
 	 * 예매 시작: scheduleId로 대기열 자동 생성 및 입장 (Idempotent)
 	 *
@@ -0,0 +1,40 @@
+package com.back.b2st.domain.queue.dto;
+
+/**
+ * 적응형 입장 제어 1회 판단 결과 (지표 노출용)
+ *
+ * @param type 조정 방향
+ * @param batchSize 조정 후 틱당 승격 인원
+ * @param holdLatencyMillis 구간 평균 좌석 HOLD 처리 시간(ms)
+ * @param holdErrorRate 구간 좌석 HOLD 과부하성 실패율
+ * @param dbPoolSaturation DB 커넥션 풀 포화도 (0.0 ~ 1.0)
+ * @param slotUtilization ENTERABLE 슬롯 사용률 (유효 인원 / maxActiveUsers)
+ * @param slotTurnover 직전 틱 이후 반환된 ENTERABLE 슬롯 수
+ */
+public record AdmissionDecision(
+	Type type,
+	int batchSize,
+	double holdLatencyMillis,
+	double holdErrorRate,
+	double dbPoolSaturation,
+	double slotUtilization,
+	long slotTurnover
+) {
+
+	public enum Type {
+		/**
+		 * 여유 있음 + 수요가 현재 속도를 채움 + 슬롯 반환이 승격을 따라옴 → 가산 증가
+		 */
+		INCREASE,
+
+		/**
+		 * 지연/오류/풀 포화 임계 초과 또는 슬롯 반환 정체 → 승산 감소
+		 */
+		DECREASE,
+
+		/**
+		 * 유지
+		 */
+		HOLD
+	}
+}
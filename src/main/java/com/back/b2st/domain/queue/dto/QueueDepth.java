@@ -0,0 +1,13 @@
+package com.back.b2st.domain.queue.dto;
+
+/**
+ * 대기열 깊이 샘플 (Redis ZSET 기준)
+ *
+ * @param waiting WAITING 인원 (샤드 모드면 샤드 ZCARD 합)
+ * @param enterable 유효 ENTERABLE 인원 (score >= now)
+ */
+public record QueueDepth(
+	long waiting,
+	long enterable
+) {
+}
@@ -0,0 +1,13 @@
+package com.back.b2st.domain.queue.dto;
+
+/**
+ * 진입-또는-상태 조회 결과 (startBooking용 Lua 1회 결과)
+ *
+ * @param entered 이번 호출로 WAITING에 신규 진입했는지
+ * @param status 호출 직후 사용자 상태 (WAITING 또는 ENTERABLE)
+ */
+public record QueueEnterResult(
+	boolean entered,
+	QueueUserStatus status
+) {
+}
@@ -0,0 +1,59 @@
+package com.back.b2st.domain.queue.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * QueueEntry 상태 전이 (write-behind 버퍼 단위)
+ *
+ * Redis(SoT) 반영이 끝난 전이를 DB 이력으로 비동기 기록할 때 사용
+ *
+ * @param queueId 대기열 ID
+ * @param userId 사용자 ID
+ * @param type 전이 대상 상태
+ * @param occurredAt 전이 시각 (KST)
+ * @param expiresAt 입장 만료 시각 (ENTERABLE일 때만)
+ * @param enqueuedAtMillis 버퍼 적재 시각 (지연 지표용)
+ */
+public record QueueEntryTransition(
+	Long queueId,
+	Long userId,
+	Type type,
+	LocalDateTime occurredAt,
+	LocalDateTime expiresAt,
+	long enqueuedAtMillis
+) {
+
+	public enum Type {
+		/**
+		 * WAITING → ENTERABLE (upsert, 토큰 재발급)
+		 */
+		ENTERABLE,
+
+		/**
+		 * ENTERABLE → COMPLETED (upsert)
+		 */
+		COMPLETED,
+
+		/**
+		 * ENTERABLE → EXPIRED (사용자 이탈, 기존 ENTERABLE 행만 갱신)
+		 */
+		EXPIRED
+	}
+
+	public static QueueEntryTransition enterable(
+		Long queueId,
+		Long userId,
+		LocalDateTime now,
+		LocalDateTime expiresAt
+	) {
+		return new QueueEntryTransition(queueId, userId, Type.ENTERABLE, now, expiresAt, System.currentTimeMillis());
+	}
+
+	public static QueueEntryTransition completed(Long queueId, Long userId, LocalDateTime now) {
+		return new QueueEntryTransition(queueId, userId, Type.COMPLETED, now, null, System.currentTimeMillis());
+	}
+
+	public static QueueEntryTransition expired(Long queueId, Long userId, LocalDateTime now) {
+		return new QueueEntryTransition(queueId, userId, Type.EXPIRED, now, null, System.currentTimeMillis());
+	}
+}
@@ -0,0 +1,59 @@
+package com.back.b2st.domain.queue.dto;
+
+/**
+ * 사용자 대기열 상태 스냅샷 (Redis 1회 조회 결과)
+ *
+ * Lua 스크립트 반환값과 매핑:
+ * - {1, rank0, totalWaiting, -1} → WAITING
+ * - {2, -1, totalWaiting, ttlSeconds} → ENTERABLE
+ * - {0, -1, totalWaiting, -1} → NONE (Redis에 없음, DB 이력 확인 필요)
+ *
+ * @param state Redis 기준 상태
+ * @param rank0 0-based 순번 (WAITING일 때만)
+ * @param totalWaiting 전체 대기 인원
+ * @param enterableTtlSeconds 입장권 남은 시간(초) (ENTERABLE일 때만)
+ */
+public record QueueUserStatus(
+	State state,
+	Long rank0,
+	long totalWaiting,
+	Long enterableTtlSeconds
+) {
+
+	public enum State {
+		/**
+		 * WAITING/ENTERABLE 어디에도 없음
+		 */
+		NONE,
+
+		/**
+		 * WAITING ZSET에 존재
+		 */
+		WAITING,
+
+		/**
+		 * ENTERABLE ZSET에 유효 score로 존재
+		 */
+		ENTERABLE
+	}
+
+	public static QueueUserStatus none() {
+		return new QueueUserStatus(State.NONE, null, 0L, null);
+	}
+
+	public static QueueUserStatus enterable(Long enterableTtlSeconds) {
+		return new QueueUserStatus(State.ENTERABLE, null, 0L, enterableTtlSeconds);
+	}
+
+	public boolean isWaiting() {
+		return state == State.WAITING;
+	}
+
+	public boolean isEnterable() {
+		return state == State.ENTERABLE;
+	}
+
+	public boolean isInQueue() {
+		return state != State.NONE;
+	}
+}
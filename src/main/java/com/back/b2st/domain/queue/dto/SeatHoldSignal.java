@@ -0,0 +1,41 @@
+package com.back.b2st.domain.queue.dto;
+
+/**
+ * 좌석 HOLD 신호 누적값 (적응형 입장 제어 입력)
+ *
+ * 모든 인스턴스가 Redis Hash에 누적하며, 컨트롤러는 직전 조회값과의 차이로 구간 지표를 계산
+ *
+ * @param holds HOLD 시도 수
+ * @param errors 과부하성 실패 수 (락 경합/인프라 오류)
+ * @param latencySumMillis HOLD 처리 시간 합계(ms)
+ */
+public record SeatHoldSignal(
+	long holds,
+	long errors,
+	long latencySumMillis
+) {
+
+	public static SeatHoldSignal empty() {
+		return new SeatHoldSignal(0L, 0L, 0L);
+	}
+
+	/**
+	 * 직전 누적값 대비 구간 증가분 (키 만료로 누적값이 줄었으면 현재값을 구간값으로 사용)
+	 */
+	public SeatHoldSignal since(SeatHoldSignal previous) {
+		if (previous == null || holds < previous.holds) return this;
+		return new SeatHoldSignal(
+			holds - previous.holds,
+			errors - previous.errors,
+			latencySumMillis - previous.latencySumMillis
+		);
+	}
+
+	public double averageLatencyMillis() {
+		return holds == 0 ? 0.0 : (double) latencySumMillis / holds;
+	}
+
+	public double errorRate() {
+		return holds == 0 ? 0.0 : (double) errors / holds;
+	}
+}
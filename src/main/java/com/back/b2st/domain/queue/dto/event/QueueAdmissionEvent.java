@@ -0,0 +1,49 @@
+package com.back.b2st.domain.queue.dto.event;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 대기열 승격(WAITING → ENTERABLE) 이벤트
+ *
+ * 인스턴스 간 Redis pub/sub으로 전달되며, 각 노드는 로컬 SSE 구독자에게 위치를 갱신해 전송합니다.
+ * 메시지 포맷: "{queueId}|{userId1},{userId2},..." (codec 의존성 없이 StringCodec 사용)
+ *
+ * @param queueId 대기열 ID
+ * @param admittedUserIds 이번 배치에서 승격된 userId 목록 (순번 순)
+ */
+public record QueueAdmissionEvent(
+	Long queueId,
+	List<Long> admittedUserIds
+) {
+
+	private static final String DELIMITER = "|";
+	private static final String USER_DELIMITER = ",";
+
+	public static QueueAdmissionEvent of(Long queueId, List<Long> admittedUserIds) {
+		return new QueueAdmissionEvent(queueId, List.copyOf(admittedUserIds));
+	}
+
+	public String toMessage() {
+		return queueId + DELIMITER + admittedUserIds.stream()
+			.map(String::valueOf)
+			.collect(Collectors.joining(USER_DELIMITER));
+	}
+
+	public static QueueAdmissionEvent fromMessage(String message) {
+		int idx = message.indexOf(DELIMITER);
+		Long queueId = Long.parseLong(message.substring(0, idx));
+		String users = message.substring(idx + 1);
+
+		List<Long> userIds = users.isEmpty()
+			? List.of()
+			: Arrays.stream(users.split(USER_DELIMITER)).map(Long::parseLong).toList();
+
+		return new QueueAdmissionEvent(queueId, userIds);
+	}
+
+	public int admittedCount() {
+		return admittedUserIds.size();
+	}
+}
@@ -0,0 +1,31 @@
+package com.back.b2st.domain.queue.dto.event;
+
+/**
+ * 대기열 정책(Queue 엔티티) 생성/변경/삭제 이벤트
+ *
+ * 커밋 이후 로컬 캐시 무효화(대기열 부재 결과 포함) 및 타 인스턴스 전파(Redis pub/sub)에 사용
+ * 메시지 포맷: "{queueId}|{performanceId}"
+ */
+public record QueuePolicyChangedEvent(
+	Long queueId,
+	Long performanceId
+) {
+
+	private static final String DELIMITER = "|";
+
+	public static QueuePolicyChangedEvent of(Long queueId, Long performanceId) {
+		return new QueuePolicyChangedEvent(queueId, performanceId);
+	}
+
+	public String toMessage() {
+		return queueId + DELIMITER + performanceId;
+	}
+
+	public static QueuePolicyChangedEvent fromMessage(String message) {
+		int idx = message.indexOf(DELIMITER);
+		return new QueuePolicyChangedEvent(
+			Long.parseLong(message.substring(0, idx)),
+			Long.parseLong(message.substring(idx + 1))
+		);
+	}
+}
@@ -1,5 +1,6 @@
 package com.back.b2st.domain.queue.dto.request;
 
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -20,7 +21,12 @@ public record CreateQueueReq(
 
 	@NotNull(message = "입장권 유효 시간은 필수입니다.")
 	@Min(value = 1, message = "입장권 유효 시간은 1분 이상이어야 합니다.")
-	Integer entryTtlMinutes
+	Integer entryTtlMinutes,
+
+	// 선택: 초대형 오픈용 WAITING 샤드 수 (미입력 시 1)
+	@Min(value = 1, message = "WAITING 샤드 수는 1 이상이어야 합니다.")
+	@Max(value = 64, message = "WAITING 샤드 수는 64 이하여야 합니다.")
+	Integer waitingShardCount
 ) {
 }
 
@@ -14,7 +14,8 @@ public record QueueEntryRes(
 	Long userId,
 	String status,            // WAITING(Redis), ENTERABLE, EXPIRED, COMPLETED
 	Integer aheadCount,      // 내 앞에 대기 중인 사람 수
-	Integer myRank           // 내 순번 (1부터 시작)
+	Integer myRank,          // 내 순번 (1부터 시작)
+	String queuePass         // 좌석 HOLD용 서명 입장권 (ENTERABLE 상태일 때만)
 ) {
 
 	/**
@@ -28,7 +29,8 @@ public record QueueEntryRes(
 			userId,
 			"WAITING",
 			aheadCount,
-			myRank
+			myRank,
+			null
 		);
 	}
 
@@ -43,7 +45,8 @@ public record QueueEntryRes(
 			entry.getUserId(),
 			entry.getStatus().name(),
 			aheadCount,
-			myRank
+			myRank,
+			null
 		);
 	}
 
@@ -58,6 +61,7 @@ public record QueueEntryRes(
 			entry.getUserId(),
 			entry.getStatus().name(),
 			null,
+			null,
 			null
 		);
 	}
@@ -14,7 +14,10 @@ public record QueuePositionRes(
 	Long userId,
 	String status,        // WAITING, ENTERABLE, EXPIRED, COMPLETED, NOT_IN_QUEUE
 	Integer aheadCount,   // 내 앞에 있는 사람 수 (WAITING 상태일 때만)
-	Integer myRank        // 내 순번 (WAITING 상태일 때만)
+	Integer myRank,       // 내 순번 (WAITING 상태일 때만)
+	Long estimatedWaitSeconds, // 처리량 기반 예상 대기시간(초) (WAITING + 처리량 관측 시)
+	Integer nextPollSeconds,   // 권장 다음 조회 주기(초) (WAITING 상태일 때만)
+	String queuePass           // 좌석 HOLD용 서명 입장권 (ENTERABLE 상태일 때만, X-Queue-Pass 헤더로 전달)
 ) {
 	/**
 	 * WAITING 상태 응답
@@ -24,13 +27,30 @@ public record QueuePositionRes(
 		Long userId,
 		Integer aheadCount,
 		Integer myRank
+	) {
+		return waiting(queueId, userId, aheadCount, myRank, null, null);
+	}
+
+	/**
+	 * WAITING 상태 응답 (예상 대기시간 + 권장 조회 주기 포함)
+	 */
+	public static QueuePositionRes waiting(
+		Long queueId,
+		Long userId,
+		Integer aheadCount,
+		Integer myRank,
+		Long estimatedWaitSeconds,
+		Integer nextPollSeconds
 	) {
 		return new QueuePositionRes(
 			queueId,
 			userId,
 			"WAITING",
 			aheadCount,
-			myRank
+			myRank,
+			estimatedWaitSeconds,
+			nextPollSeconds,
+			null
 		);
 	}
 
@@ -38,12 +58,22 @@ public record QueuePositionRes(
 	 * ENTERABLE 상태 응답
 	 */
 	public static QueuePositionRes enterable(Long queueId, Long userId) {
+		return enterable(queueId, userId, null);
+	}
+
+	/**
+	 * ENTERABLE 상태 응답 (서명 입장권 포함)
+	 */
+	public static QueuePositionRes enterable(Long queueId, Long userId, String queuePass) {
 		return new QueuePositionRes(
 			queueId,
 			userId,
 			"ENTERABLE",
 			null,
-			null
+			null,
+			null,
+			null,
+			queuePass
 		);
 	}
 
@@ -56,6 +86,9 @@ public record QueuePositionRes(
 			userId,
 			"EXPIRED",
 			null,
+			null,
+			null,
+			null,
 			null
 		);
 	}
@@ -69,6 +102,9 @@ public record QueuePositionRes(
 			userId,
 			"COMPLETED",
 			null,
+			null,
+			null,
+			null,
 			null
 		);
 	}
@@ -82,6 +118,9 @@ public record QueuePositionRes(
 			userId,
 			"NOT_IN_QUEUE",
 			null,
+			null,
+			null,
+			null,
 			null
 		);
 	}
@@ -95,6 +134,9 @@ public record QueuePositionRes(
 			entry.getUserId(),
 			entry.getStatus().name(),
 			null,
+			null,
+			null,
+			null,
 			null
 		);
 	}
@@ -13,6 +13,7 @@ public record QueueRes(
 	String queueType,
 	Integer maxActiveUsers,
 	Integer entryTtlMinutes,
+	Integer waitingShardCount,
 	Integer currentWaiting,      // 현재 대기 중인 인원 (Redis)
 	Integer currentEnterable     // 현재 입장 가능 인원 (Redis)
 ) {
@@ -27,6 +28,7 @@ public record QueueRes(
 			queue.getQueueType().name(),
 			queue.getMaxActiveUsers(),
 			queue.getEntryTtlMinutes(),
+			queue.getWaitingShardCount(),
 			null,
 			null
 		);
@@ -42,6 +44,7 @@ public record QueueRes(
 			queue.getQueueType().name(),
 			queue.getMaxActiveUsers(),
 			queue.getEntryTtlMinutes(),
+			queue.getWaitingShardCount(),
 			currentWaiting,
 			currentEnterable
 		);
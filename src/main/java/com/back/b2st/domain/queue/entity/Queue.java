@@ -66,17 +66,36 @@ public class Queue extends BaseEntity {
 	@Schema(description = "입장권 유효 시간(분)", example = "10")
 	private Integer entryTtlMinutes;
 
+	/**
+	 * WAITING ZSET 샤드 수 (1 = 단일 키, 2 이상 = 샤드 모드)
+	 *
+	 * 초대형 오픈 시 WAITING 부하를 여러 클러스터 슬롯으로 분산. 대기 인원이 있는 동안 변경 불가
+	 */
+	@Column(name = "waiting_shard_count", nullable = false, columnDefinition = "integer default 1")
+	@Schema(description = "WAITING 샤드 수 (1 = 비샤드)", example = "1")
+	private Integer waitingShardCount;
+
 	@Builder
 	public Queue(
 		Long performanceId,
 		QueueType queueType,
 		Integer maxActiveUsers,
-		Integer entryTtlMinutes
+		Integer entryTtlMinutes,
+		Integer waitingShardCount
 	) {
 		this.performanceId = performanceId;
 		this.queueType = queueType;
 		this.maxActiveUsers = maxActiveUsers;
 		this.entryTtlMinutes = entryTtlMinutes;
+		this.waitingShardCount = (waitingShardCount != null) ? waitingShardCount : 1;
+	}
+
+	public int getWaitingShardCount() {
+		return (waitingShardCount == null || waitingShardCount < 1) ? 1 : waitingShardCount;
+	}
+
+	public boolean isWaitingSharded() {
+		return getWaitingShardCount() > 1;
 	}
 
 	// 편의 메서드
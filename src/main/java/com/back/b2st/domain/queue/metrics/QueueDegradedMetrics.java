@@ -0,0 +1,98 @@
+package com.back.b2st.domain.queue.metrics;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Redis 장애 시 로컬 입장 제어(degraded mode) 지표
+ *
+ * - 로컬 대기열 현황/진입/승격/복원 (DegradedAdmissionService)
+ * - DB fallback 입장 검증 캐시 (QueueRedisRepository)
+ */
+@Component
+public class QueueDegradedMetrics {
+
+	private final AtomicInteger mode = new AtomicInteger(0);
+	private final AtomicLong waiting = new AtomicLong(0);
+	private final AtomicLong enterable = new AtomicLong(0);
+	private final Counter enteredCounter;
+	private final Counter rejectedCounter;
+	private final Counter admittedCounter;
+	private final Counter reconciledCounter;
+	private final Counter dbCheckHitCounter;
+	private final Counter dbCheckMissCounter;
+
+	public QueueDegradedMetrics(MeterRegistry registry) {
+		Gauge.builder("queue_degraded_mode", mode, AtomicInteger::get)
+			.description("노드 로컬 장애 모드 동작 여부 (1=로컬 대기열 보유)")
+			.register(registry);
+
+		Gauge.builder("queue_degraded_waiting", waiting, AtomicLong::get)
+			.description("장애 모드 로컬 대기 인원")
+			.register(registry);
+
+		Gauge.builder("queue_degraded_enterable", enterable, AtomicLong::get)
+			.description("장애 모드 로컬 입장 가능 인원")
+			.register(registry);
+
+		this.enteredCounter = Counter.builder("queue_degraded_entered_total")
+			.description("장애 모드 로컬 대기열 진입 수")
+			.register(registry);
+
+		this.rejectedCounter = Counter.builder("queue_degraded_rejected_total")
+			.description("장애 모드 로컬 대기열 상한 초과로 거부된 수")
+			.register(registry);
+
+		this.admittedCounter = Counter.builder("queue_degraded_admitted_total")
+			.description("장애 모드 로컬 승격 수")
+			.register(registry);
+
+		this.reconciledCounter = Counter.builder("queue_degraded_reconciled_total")
+			.description("복구 후 Redis로 복원된 로컬 항목 수")
+			.register(registry);
+
+		this.dbCheckHitCounter = Counter.builder("queue_fallback_db_check_total")
+			.tag("result", "hit")
+			.description("DB fallback 입장 검증 캐시 적중 횟수")
+			.register(registry);
+
+		this.dbCheckMissCounter = Counter.builder("queue_fallback_db_check_total")
+			.tag("result", "miss")
+			.description("DB fallback 입장 검증 DB 조회 횟수")
+			.register(registry);
+	}
+
+	/** 로컬 대기열 현황 */
+	public void updateState(boolean active, long waiting, long enterable) {
+		this.mode.set(active ? 1 : 0);
+		this.waiting.set(waiting);
+		this.enterable.set(enterable);
+	}
+
+	public void recordEntered() {
+		enteredCounter.increment();
+	}
+
+	public void recordRejected() {
+		rejectedCounter.increment();
+	}
+
+	public void recordAdmitted(int count) {
+		admittedCounter.increment(count);
+	}
+
+	public void recordReconciled(int count) {
+		reconciledCounter.increment(count);
+	}
+
+	/** DB fallback 입장 검증 캐시 적중/미적중 */
+	public void recordDbCheck(boolean cacheHit) {
+		(cacheHit ? dbCheckHitCounter : dbCheckMissCounter).increment();
+	}
+}
@@ -3,9 +3,12 @@ package com.back.b2st.domain.queue.metrics;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.springframework.stereotype.Component;
 
+import com.back.b2st.domain.queue.dto.AdmissionDecision;
+
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
@@ -13,70 +16,187 @@ import io.micrometer.core.instrument.MeterRegistry;
 @Component
 public class QueueMetrics {
 	private final MeterRegistry registry;
-	private final Map<Long, AtomicInteger> queueWaitingCounts = new ConcurrentHashMap<>();
-	private final Map<Long, AtomicInteger> queueEnterableCounts = new ConcurrentHashMap<>();
+	private final Map<Long, QueueCounters> queueCounters = new ConcurrentHashMap<>();
+	private final AtomicInteger openStreamCount = new AtomicInteger(0);
+	private final Counter streamRejectedCounter;
+	private final Counter policyCacheHitCounter;
+	private final Counter policyCacheMissCounter;
+	private final Map<Long, AdmissionGauges> admissionGauges = new ConcurrentHashMap<>();
+	private final AtomicLong dbPoolSaturationPermille = new AtomicLong(0);
+	private final Map<AdmissionDecision.Type, Counter> admissionDecisionCounters = new ConcurrentHashMap<>();
 
 	public QueueMetrics(MeterRegistry registry) {
 		this.registry = registry;
+
+		// 현재 노드에 열린 SSE 위치 스트림 수
+		Gauge.builder("queue_stream_open_count", openStreamCount, AtomicInteger::get)
+			.description("노드별 열린 대기열 위치 스트림 수")
+			.register(registry);
+
+		// 노드 상한 초과로 거부된 스트림
+		this.streamRejectedCounter = Counter.builder("queue_stream_rejected_total")
+			.description("노드 상한 초과로 거부된 위치 스트림 수")
+			.register(registry);
+
+		// Queue 정책 near cache 적중/미적중
+		this.policyCacheHitCounter = Counter.builder("queue_policy_cache_total")
+			.tag("result", "hit")
+			.description("Queue 정책 캐시 적중 횟수")
+			.register(registry);
+
+		this.policyCacheMissCounter = Counter.builder("queue_policy_cache_total")
+			.tag("result", "miss")
+			.description("Queue 정책 캐시 미적중(DB 조회) 횟수")
+			.register(registry);
+
+		// 적응형 입장 제어 판단/입력 신호
+		for (AdmissionDecision.Type type : AdmissionDecision.Type.values()) {
+			admissionDecisionCounters.put(type, Counter.builder("queue_admission_decision_total")
+				.tag("decision", type.name().toLowerCase())
+				.description("적응형 입장 제어 판단 횟수")
+				.register(registry));
+		}
+
+		Gauge.builder("queue_admission_db_pool_saturation", dbPoolSaturationPermille, v -> v.get() / 1000.0)
+			.description("입장 제어 기준 DB 커넥션 풀 포화도")
+			.register(registry);
 	}
 
 	/** 대기열 진입 기록 */
 	public void recordQueueEnter(Long queueId) {
-		Counter.builder("queue_enter_total").tag("queue_id", String.valueOf(queueId)).register(registry).increment();
-		getWaitingCount(queueId).incrementAndGet();
+		queueCounters(queueId).entered.increment();
 	}
 
 	/** 대기열 이탈 기록 (COMPLETED/EXPIRED/CANCELLED) */
 	public void recordQueueExit(Long queueId, String reason) {
-		Counter.builder("queue_exit_total")
-			.tag("queue_id", String.valueOf(queueId))
-			.tag("reason", reason) // COMPLETED, EXPIRED, CANCELLED
-			.register(registry)
-			.increment();
-		getWaitingCount(queueId).decrementAndGet();
+		recordQueueExit(queueId, reason, 1);
+	}
+
+	/** 대기열 이탈 기록 (다건) */
+	public void recordQueueExit(Long queueId, String reason, long count) {
+		if (count <= 0) return;
+		queueCounters(queueId).exited(reason).increment(count);
 	}
 
 	/** WAITING → ENTERABLE 승격 기록 */
-	public void recordMoveToEnterable(Long queueId) {
-		Counter.builder("queue_enterable_total")
-			.tag("queue_id", String.valueOf(queueId))
-			.register(registry)
-			.increment();
-		getWaitingCount(queueId).decrementAndGet();
-		getEnterableCount(queueId).incrementAndGet();
+	public void recordMoveToEnterable(Long queueId, int count) {
+		if (count <= 0) return;
+		queueCounters(queueId).admitted.increment(count);
 	}
 
 	/** 대기열 입장 완료 기록 */
 	public void recordEntryComplete(Long queueId) {
-		Counter.builder("queue_complete_total").tag("queue_id", String.valueOf(queueId)).register(registry).increment();
-		getEnterableCount(queueId).decrementAndGet();
+		queueCounters(queueId).completed.increment();
 	}
 
-	/** 대기열 통계 갱신 (배치용) */
-	public void updateQueueStats(Long queueId, int waiting, int enterable) {
-		getWaitingCount(queueId).set(waiting);
-		getEnterableCount(queueId).set(enterable);
+	private QueueCounters queueCounters(Long queueId) {
+		return queueCounters.computeIfAbsent(queueId, QueueCounters::new);
 	}
 
-	private AtomicInteger getWaitingCount(Long queueId) {
-		return queueWaitingCounts.computeIfAbsent(queueId, id -> {
-			AtomicInteger count = new AtomicInteger(0);
-			Gauge.builder("queue_waiting_count", count, AtomicInteger::get)
-				.tag("queue_id", String.valueOf(id))
-				.description("대기열 대기 인원")
-				.register(registry);
-			return count;
-		});
+	/** 위치 스트림 열림 */
+	public void recordStreamOpened() {
+		openStreamCount.incrementAndGet();
+	}
+
+	/** 위치 스트림 닫힘 */
+	public void recordStreamClosed() {
+		openStreamCount.decrementAndGet();
+	}
+
+	/** 위치 스트림 거부 (노드 상한 초과) */
+	public void recordStreamRejected() {
+		streamRejectedCounter.increment();
+	}
+
+	/** Queue 정책 캐시 적중 */
+	public void recordPolicyCacheHit() {
+		policyCacheHitCounter.increment();
 	}
 
-	private AtomicInteger getEnterableCount(Long queueId) {
-		return queueEnterableCounts.computeIfAbsent(queueId, id -> {
-			AtomicInteger count = new AtomicInteger(0);
-			Gauge.builder("queue_enterable_count", count, AtomicInteger::get)
-				.tag("queue_id", String.valueOf(id))
-				.description("입장 가능 인원")
+	/** Queue 정책 캐시 미적중 */
+	public void recordPolicyCacheMiss() {
+		policyCacheMissCounter.increment();
+	}
+
+	/** 적응형 입장 제어 판단 기록 */
+	public void recordAdmissionDecision(Long queueId, AdmissionDecision decision) {
+		admissionDecisionCounters.get(decision.type()).increment();
+		dbPoolSaturationPermille.set(Math.round(decision.dbPoolSaturation() * 1000));
+
+		AdmissionGauges gauges = admissionGauges.computeIfAbsent(queueId, this::registerAdmissionGauges);
+		gauges.batchSize = decision.batchSize();
+		gauges.holdLatencyMillis = decision.holdLatencyMillis();
+		gauges.holdErrorRate = decision.holdErrorRate();
+		gauges.slotUtilization = decision.slotUtilization();
+		gauges.slotTurnover = decision.slotTurnover();
+	}
+
+	private AdmissionGauges registerAdmissionGauges(Long queueId) {
+		AdmissionGauges gauges = new AdmissionGauges();
+		String tag = String.valueOf(queueId);
+
+		Gauge.builder("queue_admission_batch_size", gauges, g -> g.batchSize)
+			.tag("queue_id", tag)
+			.description("틱당 승격 인원 (적응형)")
+			.register(registry);
+		Gauge.builder("queue_admission_hold_latency_ms", gauges, g -> g.holdLatencyMillis)
+			.tag("queue_id", tag)
+			.description("구간 평균 좌석 HOLD 처리 시간(ms)")
+			.register(registry);
+		Gauge.builder("queue_admission_hold_error_rate", gauges, g -> g.holdErrorRate)
+			.tag("queue_id", tag)
+			.description("구간 좌석 HOLD 과부하성 실패율")
+			.register(registry);
+		Gauge.builder("queue_admission_slot_utilization", gauges, g -> g.slotUtilization)
+			.tag("queue_id", tag)
+			.description("ENTERABLE 슬롯 사용률")
+			.register(registry);
+		Gauge.builder("queue_admission_slot_turnover", gauges, g -> g.slotTurnover)
+			.tag("queue_id", tag)
+			.description("직전 틱 이후 반환된 ENTERABLE 슬롯 수")
+			.register(registry);
+
+		return gauges;
+	}
+
+	/** 대기열별 이벤트 카운터 (최초 사용 시 1회 등록) */
+	private final class QueueCounters {
+		private final String queueId;
+		private final Counter entered;
+		private final Counter admitted;
+		private final Counter completed;
+		private final Map<String, Counter> exitedByReason = new ConcurrentHashMap<>();
+
+		private QueueCounters(Long queueId) {
+			this.queueId = String.valueOf(queueId);
+			this.entered = Counter.builder("queue_enter_total")
+				.tag("queue_id", this.queueId)
+				.description("대기열 진입 수")
+				.register(registry);
+			this.admitted = Counter.builder("queue_enterable_total")
+				.tag("queue_id", this.queueId)
+				.description("WAITING → ENTERABLE 승격 수")
+				.register(registry);
+			this.completed = Counter.builder("queue_complete_total")
+				.tag("queue_id", this.queueId)
+				.description("입장 완료 수")
 				.register(registry);
-			return count;
-		});
+		}
+
+		private Counter exited(String reason) {
+			return exitedByReason.computeIfAbsent(reason, r -> Counter.builder("queue_exit_total")
+				.tag("queue_id", queueId)
+				.tag("reason", r) // COMPLETED, EXPIRED, CANCELLED
+				.description("대기열 이탈 수")
+				.register(registry));
+		}
+	}
+
+	private static final class AdmissionGauges {
+		private volatile double batchSize;
+		private volatile double holdLatencyMillis;
+		private volatile double holdErrorRate;
+		private volatile double slotUtilization;
+		private volatile double slotTurnover;
 	}
 }
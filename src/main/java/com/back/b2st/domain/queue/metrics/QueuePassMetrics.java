@@ -0,0 +1,43 @@
+package com.back.b2st.domain.queue.metrics;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 서명 입장권 발급/검증 지표 (QueuePassService, QueueAccessServiceImpl)
+ */
+@Component
+public class QueuePassMetrics {
+
+	private final Counter issuedCounter;
+	private final Counter acceptedCounter;
+	private final Counter fallbackCounter;
+
+	public QueuePassMetrics(MeterRegistry registry) {
+		this.issuedCounter = Counter.builder("queue_pass_issued_total")
+			.description("발급된 대기열 입장권 수")
+			.register(registry);
+
+		this.acceptedCounter = Counter.builder("queue_pass_verification_total")
+			.tag("result", "accepted")
+			.description("입장권 로컬 검증으로 통과한 횟수")
+			.register(registry);
+
+		this.fallbackCounter = Counter.builder("queue_pass_verification_total")
+			.tag("result", "fallback")
+			.description("입장권 미제출/무효로 Redis 검증을 수행한 횟수")
+			.register(registry);
+	}
+
+	/** 입장권 발급 기록 */
+	public void recordIssued() {
+		issuedCounter.increment();
+	}
+
+	/** 입장권 검증 결과 기록 (accepted=false면 Redis 검증으로 대체) */
+	public void recordVerification(boolean accepted) {
+		(accepted ? acceptedCounter : fallbackCounter).increment();
+	}
+}
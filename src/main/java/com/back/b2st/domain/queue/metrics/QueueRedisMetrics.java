@@ -0,0 +1,109 @@
+package com.back.b2st.domain.queue.metrics;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.back.b2st.domain.queue.dto.QueueDepth;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 대기열 Redis 지표
+ *
+ * - 대기열 깊이 (QueueMetricsSampler가 Redis ZSET에서 샘플링)
+ * - Redis 연산 지연 (QueueRedisMetricsAspect)
+ */
+@Component
+public class QueueRedisMetrics {
+	private static final QueueDepth EMPTY_DEPTH = new QueueDepth(0, 0);
+
+	private final MeterRegistry registry;
+	private final long depthStaleMs;
+	private final Map<Long, DepthGauges> depthGauges = new ConcurrentHashMap<>();
+	private final Map<String, Timer> operationTimers = new ConcurrentHashMap<>();
+
+	public QueueRedisMetrics(
+		MeterRegistry registry,
+		@Value("${queue.metrics.depth-stale-ms:30000}") long depthStaleMs
+	) {
+		this.registry = registry;
+		this.depthStaleMs = depthStaleMs;
+	}
+
+	/**
+	 * 대기열 깊이 갱신 (리더 스케줄러가 Redis ZSET에서 샘플링)
+	 *
+	 * 샘플에 없는 기존 대기열은 레지스트리에서 해제된 것이므로 0으로 확정
+	 */
+	public void updateQueueDepths(Map<Long, QueueDepth> depths) {
+		long now = System.currentTimeMillis();
+		depths.forEach((queueId, depth) ->
+			depthGauges.computeIfAbsent(queueId, this::registerDepthGauges).update(depth, now));
+
+		depthGauges.forEach((queueId, gauges) -> {
+			if (!depths.containsKey(queueId)) {
+				gauges.update(EMPTY_DEPTH, now);
+			}
+		});
+	}
+
+	/**
+	 * Redis 연산 지연 기록 (QueueRedisRepository 메서드 단위)
+	 *
+	 * @param outcome success / error
+	 * @param circuit 호출 시점 queueRedis 서킷 상태 (closed / half_open ...)
+	 */
+	public void recordOperation(String operation, String outcome, String circuit, long elapsedNanos) {
+		operationTimers.computeIfAbsent(operation + '|' + outcome + '|' + circuit, key ->
+			Timer.builder("queue_redis_operation")
+				.tag("operation", operation)
+				.tag("outcome", outcome)
+				.tag("circuit", circuit)
+				.description("대기열 Redis 연산 처리 시간")
+				.publishPercentileHistogram()
+				.minimumExpectedValue(Duration.ofMillis(1))
+				.maximumExpectedValue(Duration.ofSeconds(2))
+				.register(registry)
+		).record(elapsedNanos, TimeUnit.NANOSECONDS);
+	}
+
+	private DepthGauges registerDepthGauges(Long queueId) {
+		DepthGauges gauges = new DepthGauges();
+		String tag = String.valueOf(queueId);
+
+		Gauge.builder("queue_waiting_count", gauges, g -> g.value(g.waiting, depthStaleMs))
+			.tag("queue_id", tag)
+			.description("대기열 대기 인원 (Redis 샘플, 오래된 샘플은 NaN)")
+			.register(registry);
+		Gauge.builder("queue_enterable_count", gauges, g -> g.value(g.enterable, depthStaleMs))
+			.tag("queue_id", tag)
+			.description("입장 가능 인원 (Redis 샘플, 오래된 샘플은 NaN)")
+			.register(registry);
+
+		return gauges;
+	}
+
+	private static final class DepthGauges {
+		private volatile long waiting;
+		private volatile long enterable;
+		private volatile long sampledAtMillis;
+
+		private void update(QueueDepth depth, long now) {
+			waiting = depth.waiting();
+			enterable = depth.enterable();
+			sampledAtMillis = now;
+		}
+
+		/** 샘플링 주체가 다른 노드로 넘어가면 이 노드 값은 NaN → 클러스터 집계는 max by (queue_id) */
+		private double value(long sampled, long staleMs) {
+			return System.currentTimeMillis() - sampledAtMillis > staleMs ? Double.NaN : sampled;
+		}
+	}
+}
@@ -0,0 +1,75 @@
+package com.back.b2st.domain.queue.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * QueueEntry write-behind 버퍼 지표 (QueueEntryWriteBehind)
+ */
+@Component
+public class QueueWriteBehindMetrics {
+
+	private final AtomicLong backlog = new AtomicLong(0);
+	private final AtomicLong lagMs = new AtomicLong(0);
+	private final Counter flushedCounter;
+	private final Counter retryCounter;
+	private final Counter droppedCounter;
+	private final Counter requeuedCounter;
+
+	public QueueWriteBehindMetrics(MeterRegistry registry) {
+		Gauge.builder("queue_write_behind_backlog", backlog, AtomicLong::get)
+			.description("DB 기록 대기 중인 QueueEntry 전이 수")
+			.register(registry);
+
+		Gauge.builder("queue_write_behind_lag_ms", lagMs, AtomicLong::get)
+			.description("가장 오래된 미기록 전이의 대기 시간(ms)")
+			.register(registry);
+
+		this.flushedCounter = Counter.builder("queue_write_behind_flushed_total")
+			.description("DB에 기록된 QueueEntry 전이 수")
+			.register(registry);
+
+		this.retryCounter = Counter.builder("queue_write_behind_retry_total")
+			.description("write-behind 배치 재시도 횟수")
+			.register(registry);
+
+		this.droppedCounter = Counter.builder("queue_write_behind_dropped_total")
+			.description("버퍼 포화(대기 시간 초과) 또는 종료 시 기록 실패로 폐기된 QueueEntry 전이 수")
+			.register(registry);
+
+		this.requeuedCounter = Counter.builder("queue_write_behind_requeued_total")
+			.description("재시도 소진으로 다음 flush에 다시 기록할 QueueEntry 전이 수")
+			.register(registry);
+	}
+
+	/** 버퍼 상태 갱신 (flush 시점) */
+	public void updateState(long backlog, long lagMs) {
+		this.backlog.set(backlog);
+		this.lagMs.set(lagMs);
+	}
+
+	/** 기록 성공 */
+	public void recordFlushed(int count) {
+		flushedCounter.increment(count);
+	}
+
+	/** 배치 재시도 */
+	public void recordRetry() {
+		retryCounter.increment();
+	}
+
+	/** 전이 폐기 */
+	public void recordDropped(int count) {
+		droppedCounter.increment(count);
+	}
+
+	/** 배치 재기록 대기 (재시도 소진) */
+	public void recordRequeued(int count) {
+		requeuedCounter.increment(count);
+	}
+}
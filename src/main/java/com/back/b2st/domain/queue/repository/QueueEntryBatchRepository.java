@@ -0,0 +1,106 @@
+package com.back.b2st.domain.queue.repository;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.back.b2st.domain.queue.dto.QueueEntryTransition;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * QueueEntry 상태 전이 JDBC 배치 기록 (PostgreSQL)
+ *
+ * write-behind flush 전용. 행마다 전이 시각이 달라 JPQL 벌크 대신 JDBC batch 사용
+ *
+ * upsert는 기존 행보다 늦은(같은) 전이만 반영 (modified_at = 전이 시각)
+ * → 재시도/노드 간 지연으로 늦게 도착한 ENTERABLE이 이후의 COMPLETED를 덮어쓰지 않음
+ */
+@Repository
+@RequiredArgsConstructor
+public class QueueEntryBatchRepository {
+
+	private static final String UPSERT_ENTERABLE_SQL = """
+		INSERT INTO queue_entries (
+		    queue_entry_id, entry_token, queue_id, user_id, status,
+		    joined_at, enterable_at, expires_at, completed_at, created_at, modified_at
+		)
+		VALUES (nextval('queue_entry_seq'), gen_random_uuid(), ?, ?, 'ENTERABLE', ?, ?, ?, NULL, ?, ?)
+		ON CONFLICT (queue_id, user_id) DO UPDATE
+		SET entry_token = EXCLUDED.entry_token,
+		    status = EXCLUDED.status,
+		    joined_at = EXCLUDED.joined_at,
+		    enterable_at = EXCLUDED.enterable_at,
+		    expires_at = EXCLUDED.expires_at,
+		    completed_at = NULL,
+		    modified_at = EXCLUDED.modified_at
+		WHERE queue_entries.modified_at <= EXCLUDED.modified_at
+		""";
+
+	private static final String UPSERT_COMPLETED_SQL = """
+		INSERT INTO queue_entries (
+		    queue_entry_id, entry_token, queue_id, user_id, status,
+		    joined_at, enterable_at, expires_at, completed_at, created_at, modified_at
+		)
+		VALUES (nextval('queue_entry_seq'), gen_random_uuid(), ?, ?, 'COMPLETED', ?, ?, ?, ?, ?, ?)
+		ON CONFLICT (queue_id, user_id) DO UPDATE
+		SET status = EXCLUDED.status,
+		    completed_at = EXCLUDED.completed_at,
+		    modified_at = EXCLUDED.modified_at
+		WHERE queue_entries.modified_at <= EXCLUDED.modified_at
+		""";
+
+	private static final String EXPIRE_ENTERABLE_SQL = """
+		UPDATE queue_entries
+		SET status = 'EXPIRED',
+		    modified_at = ?
+		WHERE queue_id = ?
+		  AND user_id = ?
+		  AND status = 'ENTERABLE'
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public void batchUpsertEnterable(List<QueueEntryTransition> transitions) {
+		if (transitions.isEmpty()) return;
+
+		jdbcTemplate.batchUpdate(UPSERT_ENTERABLE_SQL, transitions, transitions.size(), (ps, t) -> {
+			ps.setLong(1, t.queueId());
+			ps.setLong(2, t.userId());
+			ps.setObject(3, t.occurredAt());
+			ps.setObject(4, t.occurredAt());
+			ps.setObject(5, t.expiresAt());
+			ps.setObject(6, t.occurredAt());
+			ps.setObject(7, t.occurredAt());
+		});
+	}
+
+	/**
+	 * 행이 없으면(ENTERABLE 기록 유실 등) 완료 시각 기준으로 생성
+	 */
+	public void batchUpsertCompleted(List<QueueEntryTransition> transitions) {
+		if (transitions.isEmpty()) return;
+
+		jdbcTemplate.batchUpdate(UPSERT_COMPLETED_SQL, transitions, transitions.size(), (ps, t) -> {
+			ps.setLong(1, t.queueId());
+			ps.setLong(2, t.userId());
+			ps.setObject(3, t.occurredAt());
+			ps.setObject(4, t.occurredAt());
+			ps.setObject(5, t.occurredAt());
+			ps.setObject(6, t.occurredAt());
+			ps.setObject(7, t.occurredAt());
+			ps.setObject(8, t.occurredAt());
+		});
+	}
+
+	public void batchExpireEnterable(List<QueueEntryTransition> transitions) {
+		if (transitions.isEmpty()) return;
+
+		jdbcTemplate.batchUpdate(EXPIRE_ENTERABLE_SQL, transitions, transitions.size(), (ps, t) -> {
+			ps.setObject(1, t.occurredAt());
+			ps.setLong(2, t.queueId());
+			ps.setLong(3, t.userId());
+		});
+	}
+}
@@ -1,24 +1,51 @@
 package com.back.b2st.domain.queue.repository;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.ClusterSlotHashUtil;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 
 import com.back.b2st.domain.queue.dto.MoveResult;
+import com.back.b2st.domain.queue.dto.QueueDepth;
+import com.back.b2st.domain.queue.dto.QueueEnterResult;
+import com.back.b2st.domain.queue.dto.QueueUserStatus;
+import com.back.b2st.domain.queue.dto.SeatHoldSignal;
 import com.back.b2st.domain.queue.entity.QueueEntry;
 import com.back.b2st.domain.queue.entity.QueueEntryStatus;
 import com.back.b2st.domain.queue.error.QueueErrorCode;
+import com.back.b2st.domain.queue.metrics.QueueDegradedMetrics;
 import com.back.b2st.global.error.exception.BusinessException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -33,6 +60,12 @@ import lombok.extern.slf4j.Slf4j;
  * ✅ Redis Cluster HashTag 적용
  * - 모든 키에 {queueId} 포함하여 같은 슬롯에 배치
  *
+ * ✅ WAITING 샤드 모드 (Queue.waitingShardCount > 1)
+ * - WAITING을 {queueId:shard} 키 K개로 분산 (샤드 = userId mod K, score = 도착 시각)
+ * - 승격: 샤드 head k-way merge(도착 순) → ENTERABLE 게이트 Lua → 샤드에서 ZREM
+ * - 순번: 내 샤드 순번 × K (근사), 전체 인원은 샤드 ZCARD 합
+ * - K(waitingShardCount)는 대기열 정책을 가진 호출부(서비스/스케줄러)가 전달
+ *
  * ✅ Circuit Breaker 적용
  * - 모든 Redis 호출에 Circuit Breaker 적용
  * - Fallback 전략: 중요 메서드는 DB 조회, 나머지는 안전한 기본값
@@ -45,6 +78,10 @@ public class QueueRedisRepository {
 
 	private final StringRedisTemplate stringRedisTemplate;
 	private final QueueEntryRepository queueEntryRepository; // Circuit Breaker Fallback용
+	private final QueueDegradedMetrics degradedMetrics;
+
+	/** "queueId:userId" → DB fallback ENTERABLE 판정 (장애 중 요청당 DB 조회 방지, 상한 초과 시 오래된 항목부터 제거) */
+	private Cache<String, Boolean> dbFallbackChecks;
 
 	/**
 	 * Lua Script: WAITING -> ENTERABLE 원자적 이동 + 상한 제어
@@ -56,32 +93,140 @@ public class QueueRedisRepository {
 	@Autowired
 	private RedisScript<Long> moveToEnterableScript;
 
+	/**
+	 * Lua Script: WAITING 상위 N명 -> ENTERABLE 원자적 배치 이동 + 상한 제어(1회)
+	 * return: 승격된 userId 목록
+	 */
+	@Autowired
+	@SuppressWarnings("rawtypes")
+	private RedisScript<List> batchMoveToEnterableScript;
+
+	/**
+	 * Lua Script: 사용자 상태 조회 (읽기 전용)
+	 * return: {status, rank0, totalWaiting, enterableTtlSeconds}
+	 */
+	@Autowired
+	@SuppressWarnings("rawtypes")
+	private RedisScript<List> queueUserStatusScript;
+
+	/**
+	 * Lua Script: 활성 대기열 레지스트리 조건부 해제
+	 * return: 1(제거), 0(유지)
+	 */
+	@Autowired
+	private RedisScript<Long> deregisterActiveQueueScript;
+
+	/**
+	 * Lua Script: 샤드 모드 승격 게이트 (ENTERABLE 키 단독)
+	 * return: {admitted, alreadyEnterable}
+	 */
+	@Autowired
+	@SuppressWarnings("rawtypes")
+	private RedisScript<List> admitCandidatesScript;
+
+	/**
+	 * Lua Script: 진입-또는-상태 조회 (startBooking)
+	 * return: {status, rank0, totalWaiting, enterableTtlSeconds, entered}
+	 */
+	@Autowired
+	@SuppressWarnings("rawtypes")
+	private RedisScript<List> enterOrGetStatusScript;
+
 	@Value("${spring.application.name:b2st}")
 	private String appName;
 
 	@Value("${spring.profiles.active:local}")
 	private String profile;
 
+	@Value("${queue.eta.bucket-seconds:5}")
+	private long throughputBucketSeconds;
+
+	@Value("${queue.eta.window-seconds:60}")
+	private long throughputWindowSeconds;
+
+	@Value("${queue.cleanup.pipeline-size:500}")
+	private int cleanupPipelineSize;
+
+	@Value("${queue.degraded.db-check-cache-ms:3000}")
+	private long dbCheckCacheMs;
+
+	@Value("${queue.degraded.db-check-cache-max-size:100000}")
+	private int dbCheckCacheMaxSize;
+
+	@PostConstruct
+	void initDbCheckCache() {
+		dbFallbackChecks = Caffeine.newBuilder()
+			.maximumSize(dbCheckCacheMaxSize)
+			.expireAfterWrite(Duration.ofMillis(dbCheckCacheMs))
+			.build();
+	}
+
 	private static final String WAITING_KEY_PATTERN = "%s:%s:queue:{%d}:waiting";
+	private static final String WAITING_SHARD_KEY_PATTERN = "%s:%s:queue:{%d:%d}:waiting";
 	private static final String ENTERABLE_KEY_PATTERN = "%s:%s:queue:{%d}:enterable";
+	private static final String ACTIVE_QUEUES_KEY_PATTERN = "%s:%s:queue:active";
+	private static final String ADMITTED_BUCKET_KEY_PATTERN = "%s:%s:queue:{%d}:admitted:%d";
+	private static final String PASS_REVOCATION_KEY_PATTERN = "%s:%s:queue:pass-revoked";
+	private static final String SEAT_HOLD_SIGNAL_KEY_PATTERN = "%s:%s:queue:signal:seat-hold:{%d}";
+	private static final long SEAT_HOLD_SIGNAL_TTL_MINUTES = 30;
 
 	private String getWaitingKey(Long queueId) {
 		return String.format(WAITING_KEY_PATTERN, appName, profile, queueId);
 	}
 
+	private String getWaitingShardKey(Long queueId, int shard) {
+		return String.format(WAITING_SHARD_KEY_PATTERN, appName, profile, queueId, shard);
+	}
+
+	/**
+	 * 사용자가 속한 WAITING 키 (비샤드면 단일 키)
+	 */
+	private String getWaitingKey(Long queueId, Long userId, int shards) {
+		if (shards <= 1) return getWaitingKey(queueId);
+		return getWaitingShardKey(queueId, (int) Math.floorMod(userId, (long) shards));
+	}
+
+	private List<String> getWaitingKeys(Long queueId, int shards) {
+		if (shards <= 1) return List.of(getWaitingKey(queueId));
+
+		List<String> keys = new ArrayList<>(shards);
+		for (int shard = 0; shard < shards; shard++) {
+			keys.add(getWaitingShardKey(queueId, shard));
+		}
+		return keys;
+	}
+
+	private String getPassRevocationKey() {
+		return String.format(PASS_REVOCATION_KEY_PATTERN, appName, profile);
+	}
+
 	private String getEnterableKey(Long queueId) {
 		return String.format(ENTERABLE_KEY_PATTERN, appName, profile, queueId);
 	}
 
+	private String getActiveQueuesKey() {
+		return String.format(ACTIVE_QUEUES_KEY_PATTERN, appName, profile);
+	}
+
+	private String getAdmittedBucketKey(Long queueId, long bucket) {
+		return String.format(ADMITTED_BUCKET_KEY_PATTERN, appName, profile, queueId, bucket);
+	}
+
+	private String getSeatHoldSignalKey(Long performanceId) {
+		return String.format(SEAT_HOLD_SIGNAL_KEY_PATTERN, appName, profile, performanceId);
+	}
+
 	/* ==================== WAITING ==================== */
 
 	@CircuitBreaker(name = "queueRedis", fallbackMethod = "addToWaitingQueueFallback")
-	public void addToWaitingQueue(Long queueId, Long userId, long timestampMillis) {
-		String key = getWaitingKey(queueId);
+	public void addToWaitingQueue(Long queueId, int waitingShardCount, Long userId, long timestampMillis) {
+		String key = getWaitingKey(queueId, userId, waitingShardCount);
 		stringRedisTemplate.opsForZSet().add(key, userId.toString(), timestampMillis);
+		touchActiveQueue(queueId);
 	}
 
-	private void addToWaitingQueueFallback(Long queueId, Long userId, long timestampMillis, Exception e) {
+	private void addToWaitingQueueFallback(Long queueId, int waitingShardCount, Long userId, long timestampMillis,
+		Exception e) {
 		log.error("Circuit Breaker activated - addToWaitingQueue failed for queueId: {}, userId: {}",
 			queueId, userId, e);
 		throw new BusinessException(QueueErrorCode.QUEUE_SERVICE_UNAVAILABLE,
@@ -89,25 +234,26 @@ public class QueueRedisRepository {
 	}
 
 	@CircuitBreaker(name = "queueRedis", fallbackMethod = "removeFromWaitingQueueFallback")
-	public void removeFromWaitingQueue(Long queueId, Long userId) {
-		String key = getWaitingKey(queueId);
+	public void removeFromWaitingQueue(Long queueId, int waitingShardCount, Long userId) {
+		String key = getWaitingKey(queueId, userId, waitingShardCount);
 		stringRedisTemplate.opsForZSet().remove(key, userId.toString());
 	}
 
-	private void removeFromWaitingQueueFallback(Long queueId, Long userId, Exception e) {
+	private void removeFromWaitingQueueFallback(Long queueId, int waitingShardCount, Long userId, Exception e) {
 		log.warn("Circuit Breaker activated - removeFromWaitingQueue failed for queueId: {}, userId: {}",
 			queueId, userId, e);
 		// WAITING 제거는 실패해도 크리티컬하지 않음 (스케줄러가 재정리)
 	}
 
-	/** 0-based rank */
+	/** 0-based rank (샤드 모드: 내 샤드 순번 × 샤드 수 근사) */
 	@CircuitBreaker(name = "queueRedis", fallbackMethod = "getMyRank0InWaitingFallback")
-	public Long getMyRank0InWaiting(Long queueId, Long userId) {
-		String key = getWaitingKey(queueId);
-		return stringRedisTemplate.opsForZSet().rank(key, userId.toString());
+	public Long getMyRank0InWaiting(Long queueId, int waitingShardCount, Long userId) {
+		String key = getWaitingKey(queueId, userId, waitingShardCount);
+		Long rank0 = stringRedisTemplate.opsForZSet().rank(key, userId.toString());
+		return (rank0 == null || waitingShardCount <= 1) ? rank0 : rank0 * waitingShardCount;
 	}
 
-	private Long getMyRank0InWaitingFallback(Long queueId, Long userId, Exception e) {
+	private Long getMyRank0InWaitingFallback(Long queueId, int waitingShardCount, Long userId, Exception e) {
 		log.warn("Circuit Breaker activated - getMyRank0InWaiting fallback for queueId: {}, userId: {}",
 			queueId, userId, e);
 		return null; // 순번을 알 수 없음
@@ -115,73 +261,310 @@ public class QueueRedisRepository {
 
 	/** 1-based rank (테스트/편의용) */
 	@CircuitBreaker(name = "queueRedis", fallbackMethod = "getMyRankInWaitingFallback")
-	public Long getMyRankInWaiting(Long queueId, Long userId) {
-		Long rank0 = getMyRank0InWaiting(queueId, userId);
+	public Long getMyRankInWaiting(Long queueId, int waitingShardCount, Long userId) {
+		Long rank0 = getMyRank0InWaiting(queueId, waitingShardCount, userId);
 		return rank0 == null ? null : (rank0 + 1);
 	}
 
-	private Long getMyRankInWaitingFallback(Long queueId, Long userId, Exception e) {
+	private Long getMyRankInWaitingFallback(Long queueId, int waitingShardCount, Long userId, Exception e) {
 		log.warn("Circuit Breaker activated - getMyRankInWaiting fallback for queueId: {}, userId: {}",
 			queueId, userId, e);
 		return null;
 	}
 
 	@CircuitBreaker(name = "queueRedis", fallbackMethod = "getTotalWaitingCountFallback")
-	public Long getTotalWaitingCount(Long queueId) {
-		String key = getWaitingKey(queueId);
-		Long size = stringRedisTemplate.opsForZSet().size(key);
-		return size != null ? size : 0L;
+	public Long getTotalWaitingCount(Long queueId, int waitingShardCount) {
+		long total = 0L;
+		for (String key : getWaitingKeys(queueId, waitingShardCount)) {
+			Long size = stringRedisTemplate.opsForZSet().size(key);
+			if (size != null) total += size;
+		}
+		return total;
 	}
 
-	private Long getTotalWaitingCountFallback(Long queueId, Exception e) {
+	private Long getTotalWaitingCountFallback(Long queueId, int waitingShardCount, Exception e) {
 		log.warn("Circuit Breaker activated - getTotalWaitingCount fallback for queueId: {}", queueId, e);
 		// WAITING은 DB에 저장 안하므로 알 수 없음
 		return 0L;
 	}
 
 	@CircuitBreaker(name = "queueRedis", fallbackMethod = "getTopWaitingUsersFallback")
-	public Set<String> getTopWaitingUsers(Long queueId, int count) {
+	public Set<String> getTopWaitingUsers(Long queueId, int waitingShardCount, int count) {
 		if (count <= 0) return Collections.emptySet();
+
+		if (waitingShardCount > 1) {
+			Set<String> merged = new LinkedHashSet<>();
+			mergeShardHeads(queueId, waitingShardCount, count).forEach(member -> merged.add(member.userId()));
+			return merged;
+		}
+
 		String key = getWaitingKey(queueId);
 		Set<String> users = stringRedisTemplate.opsForZSet().range(key, 0, count - 1);
 		return users != null ? users : Collections.emptySet();
 	}
 
-	private Set<String> getTopWaitingUsersFallback(Long queueId, int count, Exception e) {
+	private Set<String> getTopWaitingUsersFallback(Long queueId, int waitingShardCount, int count, Exception e) {
 		log.warn("Circuit Breaker activated - getTopWaitingUsers fallback for queueId: {}", queueId, e);
 		return Collections.emptySet();
 	}
 
 	@CircuitBreaker(name = "queueRedis", fallbackMethod = "getAllWaitingUsersWithScoreFallback")
-	public Set<ZSetOperations.TypedTuple<String>> getAllWaitingUsersWithScore(Long queueId) {
-		String key = getWaitingKey(queueId);
-		Set<ZSetOperations.TypedTuple<String>> result = stringRedisTemplate.opsForZSet().rangeWithScores(key, 0, -1);
-		return result != null ? result : Collections.emptySet();
+	public Set<ZSetOperations.TypedTuple<String>> getAllWaitingUsersWithScore(Long queueId, int waitingShardCount) {
+		if (waitingShardCount <= 1) {
+			Set<ZSetOperations.TypedTuple<String>> result = stringRedisTemplate.opsForZSet()
+				.rangeWithScores(getWaitingKey(queueId), 0, -1);
+			return result != null ? result : Collections.emptySet();
+		}
+
+		List<ZSetOperations.TypedTuple<String>> all = new ArrayList<>();
+		for (String key : getWaitingKeys(queueId, waitingShardCount)) {
+			Set<ZSetOperations.TypedTuple<String>> result = stringRedisTemplate.opsForZSet()
+				.rangeWithScores(key, 0, -1);
+			if (result != null) all.addAll(result);
+		}
+		all.sort(Comparator.comparing(ZSetOperations.TypedTuple::getScore,
+			Comparator.nullsLast(Comparator.naturalOrder())));
+		return new LinkedHashSet<>(all);
 	}
 
-	private Set<ZSetOperations.TypedTuple<String>> getAllWaitingUsersWithScoreFallback(Long queueId, Exception e) {
+	private Set<ZSetOperations.TypedTuple<String>> getAllWaitingUsersWithScoreFallback(Long queueId,
+		int waitingShardCount, Exception e) {
 		log.warn("Circuit Breaker activated - getAllWaitingUsersWithScore fallback for queueId: {}", queueId, e);
 		return Collections.emptySet();
 	}
 
 	@CircuitBreaker(name = "queueRedis", fallbackMethod = "isInWaitingQueueFallback")
-	public boolean isInWaitingQueue(Long queueId, Long userId) {
-		String key = getWaitingKey(queueId);
+	public boolean isInWaitingQueue(Long queueId, int waitingShardCount, Long userId) {
+		String key = getWaitingKey(queueId, userId, waitingShardCount);
 		Double score = stringRedisTemplate.opsForZSet().score(key, userId.toString());
 		return score != null;
 	}
 
-	private boolean isInWaitingQueueFallback(Long queueId, Long userId, Exception e) {
+	private boolean isInWaitingQueueFallback(Long queueId, int waitingShardCount, Long userId, Exception e) {
 		log.warn("Circuit Breaker activated - isInWaitingQueue fallback for queueId: {}, userId: {}",
 			queueId, userId, e);
 		// WAITING은 DB에 저장 안하므로 알 수 없음
 		return false;
 	}
 
+	/* ==================== STATUS (WAITING + ENTERABLE) ==================== */
+
+	/**
+	 * 사용자 상태 1회 조회 (ZRANK + ZSCORE + ZCARD를 Lua 1회로)
+	 *
+	 * 폴링 엔드포인트 전용: WAITING/ENTERABLE 판정, 순번, 전체 대기 인원, 입장권 남은 시간
+	 */
+	@CircuitBreaker(name = "queueRedis", fallbackMethod = "getUserStatusFallback")
+	public QueueUserStatus getUserStatus(Long queueId, int waitingShardCount, Long userId) {
+		if (waitingShardCount > 1) {
+			return getShardedUserStatus(queueId, userId, waitingShardCount);
+		}
+
+		String waitingKey = getWaitingKey(queueId);
+		String enterableKey = getEnterableKey(queueId);
+		long nowSeconds = System.currentTimeMillis() / 1000;
+
+		final List<?> raw;
+		try {
+			raw = stringRedisTemplate.execute(
+				queueUserStatusScript,
+				Arrays.asList(waitingKey, enterableKey),
+				userId.toString(),
+				String.valueOf(nowSeconds)
+			);
+		} catch (Exception e) {
+			log.error("Redis Lua execute failed(getUserStatus) - queueId: {}, userId: {}", queueId, userId, e);
+			throw new BusinessException(QueueErrorCode.REDIS_OPERATION_FAILED);
+		}
+
+		if (raw == null || raw.size() < 4) {
+			log.error("Redis Lua result invalid(getUserStatus) - queueId: {}, userId: {}", queueId, userId);
+			throw new BusinessException(QueueErrorCode.REDIS_OPERATION_FAILED);
+		}
+
+		long status = toLong(raw.get(0));
+		long rank0 = toLong(raw.get(1));
+		long totalWaiting = toLong(raw.get(2));
+		long ttl = toLong(raw.get(3));
+
+		if (status == 1) {
+			return new QueueUserStatus(QueueUserStatus.State.WAITING, rank0, totalWaiting, null);
+		}
+		if (status == 2) {
+			return new QueueUserStatus(QueueUserStatus.State.ENTERABLE, null, totalWaiting, Math.max(ttl, 0L));
+		}
+		return new QueueUserStatus(QueueUserStatus.State.NONE, null, totalWaiting, null);
+	}
+
+	/**
+	 * 샤드 모드 상태 조회 (샤드와 ENTERABLE 슬롯이 달라 Lua 1회로 묶을 수 없음)
+	 *
+	 * 순번/전체 인원은 내 샤드 기준 × 샤드 수 근사
+	 */
+	private QueueUserStatus getShardedUserStatus(Long queueId, Long userId, int shards) {
+		String waitingKey = getWaitingKey(queueId, userId, shards);
+
+		Long rank0 = stringRedisTemplate.opsForZSet().rank(waitingKey, userId.toString());
+		if (rank0 != null) {
+			Long shardSize = stringRedisTemplate.opsForZSet().size(waitingKey);
+			long totalWaiting = (shardSize != null ? shardSize : 0L) * shards;
+			return new QueueUserStatus(QueueUserStatus.State.WAITING, rank0 * shards, totalWaiting, null);
+		}
+
+		long nowSeconds = System.currentTimeMillis() / 1000;
+		Double score = stringRedisTemplate.opsForZSet().score(getEnterableKey(queueId), userId.toString());
+		if (score != null && score.longValue() >= nowSeconds) {
+			return QueueUserStatus.enterable(score.longValue() - nowSeconds);
+		}
+		return QueueUserStatus.none();
+	}
+
+	/**
+	 * DB Fallback: WAITING은 DB에 없으므로 ENTERABLE 여부만 판정
+	 */
+	private QueueUserStatus getUserStatusFallback(Long queueId, int waitingShardCount, Long userId, Exception e) {
+		log.error("Circuit Breaker activated - getUserStatus fallback for queueId: {}, userId: {}",
+			queueId, userId, e);
+
+		boolean enterable = isEnterableInDb(queueId, userId);
+
+		return enterable ? QueueUserStatus.enterable(null) : QueueUserStatus.none();
+	}
+
+	/**
+	 * DB ENTERABLE 판정 (queue.degraded.db-check-cache-ms 동안 재사용)
+	 *
+	 * 회로가 열린 동안 모든 좌석/상태 요청이 DB로 몰리지 않도록 사용자별 결과를 짧게 캐시
+	 */
+	private boolean isEnterableInDb(Long queueId, Long userId) {
+		String cacheKey = queueId + ":" + userId;
+
+		Boolean cached = dbFallbackChecks.getIfPresent(cacheKey);
+		if (cached != null) {
+			degradedMetrics.recordDbCheck(true);
+			return cached;
+		}
+
+		degradedMetrics.recordDbCheck(false);
+		boolean enterable = queueEntryRepository.existsByQueueIdAndUserIdAndStatus(
+			queueId, userId, QueueEntryStatus.ENTERABLE);
+
+		dbFallbackChecks.put(cacheKey, enterable);
+		return enterable;
+	}
+
+	/**
+	 * 진입-또는-상태 조회 (멱등, startBooking 전용)
+	 *
+	 * Lua(상태 확인 + 미존재 시 ZADD + ZRANK, EVALSHA)와 활성 레지스트리 갱신을 한 pipeline으로 전송 → 1회 왕복
+	 * 스크립트 캐시가 비어 있으면(재시작/failover) NOSCRIPT → EVAL로 다시 보내 캐시에 등록
+	 * 샤드 모드는 ENTERABLE이 다른 슬롯이라 ENTERABLE 선확인 1회가 추가됨
+	 */
+	@CircuitBreaker(name = "queueRedis", fallbackMethod = "enterOrGetStatusFallback")
+	public QueueEnterResult enterOrGetStatus(Long queueId, int waitingShardCount, Long userId, long timestampMillis) {
+		long nowSeconds = System.currentTimeMillis() / 1000;
+
+		List<String> keys;
+		if (waitingShardCount > 1) {
+			Double score = stringRedisTemplate.opsForZSet().score(getEnterableKey(queueId), userId.toString());
+			if (score != null && score.longValue() >= nowSeconds) {
+				return new QueueEnterResult(false, QueueUserStatus.enterable(score.longValue() - nowSeconds));
+			}
+			keys = List.of(getWaitingKey(queueId, userId, waitingShardCount));
+		} else {
+			keys = List.of(getWaitingKey(queueId), getEnterableKey(queueId));
+		}
+
+		List<byte[]> keysAndArgs = new ArrayList<>();
+		keys.forEach(key -> keysAndArgs.add(key.getBytes(StandardCharsets.UTF_8)));
+		keysAndArgs.add(userId.toString().getBytes(StandardCharsets.UTF_8));
+		keysAndArgs.add(String.valueOf(timestampMillis).getBytes(StandardCharsets.UTF_8));
+		keysAndArgs.add(String.valueOf(nowSeconds).getBytes(StandardCharsets.UTF_8));
+
+		// 레지스트리 갱신은 상태와 무관하게 함께 전송 (ZADD 멱등, 조건부 해제와 경합해도 재등록됨)
+		byte[] activeQueuesKey = getActiveQueuesKey().getBytes(StandardCharsets.UTF_8);
+		byte[] queueMember = queueId.toString().getBytes(StandardCharsets.UTF_8);
+
+		List<Object> results;
+		try {
+			results = pipelineEnterOrGetStatus(true, keys.size(), keysAndArgs, activeQueuesKey, queueMember);
+		} catch (RuntimeException e) {
+			if (!isNoScriptError(e)) {
+				throw e;
+			}
+			results = pipelineEnterOrGetStatus(false, keys.size(), keysAndArgs, activeQueuesKey, queueMember);
+		}
+
+		List<?> raw = results.isEmpty() ? null : (List<?>) results.get(0);
+		if (raw == null || raw.size() < 5) {
+			log.error("Redis Lua result invalid(enterOrGetStatus) - queueId: {}, userId: {}", queueId, userId);
+			throw new BusinessException(QueueErrorCode.REDIS_OPERATION_FAILED);
+		}
+
+		long status = toLong(raw.get(0));
+		boolean entered = toLong(raw.get(4)) == 1L;
+
+		if (status == 2) {
+			return new QueueEnterResult(false, QueueUserStatus.enterable(Math.max(toLong(raw.get(3)), 0L)));
+		}
+
+		// 샤드 모드 순번/전체 인원은 내 샤드 기준 × 샤드 수 근사
+		long scale = Math.max(waitingShardCount, 1);
+		return new QueueEnterResult(entered, new QueueUserStatus(
+			QueueUserStatus.State.WAITING,
+			toLong(raw.get(1)) * scale,
+			toLong(raw.get(2)) * scale,
+			null
+		));
+	}
+
+	private List<Object> pipelineEnterOrGetStatus(boolean useSha, int numKeys, List<byte[]> keysAndArgs,
+		byte[] activeQueuesKey, byte[] queueMember) {
+		byte[][] params = keysAndArgs.toArray(byte[][]::new);
+		return stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+			if (useSha) {
+				connection.scriptingCommands().evalSha(
+					enterOrGetStatusScript.getSha1(), ReturnType.MULTI, numKeys, params);
+			} else {
+				connection.scriptingCommands().eval(
+					enterOrGetStatusScript.getScriptAsString().getBytes(StandardCharsets.UTF_8),
+					ReturnType.MULTI, numKeys, params);
+			}
+			connection.zSetCommands().zAdd(activeQueuesKey, System.currentTimeMillis(), queueMember);
+			return null;
+		});
+	}
+
+	private static boolean isNoScriptError(Throwable e) {
+		for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+			if (cause.getMessage() != null && cause.getMessage().contains("NOSCRIPT")) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private QueueEnterResult enterOrGetStatusFallback(Long queueId, int waitingShardCount, Long userId,
+		long timestampMillis, Exception e) {
+		log.error("Circuit Breaker activated - enterOrGetStatus failed for queueId: {}, userId: {}",
+			queueId, userId, e);
+		throw new BusinessException(QueueErrorCode.QUEUE_SERVICE_UNAVAILABLE,
+			"대기열 시스템이 일시적으로 불안정합니다. 잠시 후 다시 시도해주세요.");
+	}
+
+	private long toLong(Object value) {
+		return Long.parseLong(String.valueOf(value));
+	}
+
 	/* ==================== ENTERABLE (SoT: ZSET) ==================== */
 
 	@CircuitBreaker(name = "queueRedis", fallbackMethod = "moveToEnterableFallback")
-	public MoveResult moveToEnterable(Long queueId, Long userId, int ttlMinutes, int maxActiveUsers) {
+	public MoveResult moveToEnterable(Long queueId, int waitingShardCount, Long userId, int ttlMinutes,
+		int maxActiveUsers) {
+		if (waitingShardCount > 1) {
+			return moveToEnterableSharded(queueId, userId, waitingShardCount, ttlMinutes, maxActiveUsers);
+		}
+
 		String waitingKey = getWaitingKey(queueId);
 		String enterableKey = getEnterableKey(queueId);
 
@@ -208,6 +591,10 @@ public class QueueRedisRepository {
 			throw new BusinessException(QueueErrorCode.REDIS_OPERATION_FAILED);
 		}
 
+		if (raw.intValue() == 1) {
+			touchActiveQueue(queueId);
+		}
+
 		return switch (raw.intValue()) {
 			case 1 -> MoveResult.MOVED;
 			case 2 -> MoveResult.REJECTED_FULL;
@@ -215,7 +602,7 @@ public class QueueRedisRepository {
 		};
 	}
 
-	private MoveResult moveToEnterableFallback(Long queueId, Long userId, int ttlMinutes,
+	private MoveResult moveToEnterableFallback(Long queueId, int waitingShardCount, Long userId, int ttlMinutes,
 											   int maxActiveUsers, Exception e) {
 		log.error("Circuit Breaker activated - moveToEnterable fallback for queueId: {}, userId: {}",
 			queueId, userId, e);
@@ -223,6 +610,238 @@ public class QueueRedisRepository {
 		return MoveResult.SKIPPED;
 	}
 
+	/**
+	 * WAITING 상위 N명을 ENTERABLE로 원자적 배치 이동
+	 *
+	 * - maxActiveUsers 게이트는 스크립트 내에서 1회만 계산
+	 * - 순번(score 오름차순) 그대로 승격
+	 *
+	 * @return 승격된 userId 목록 (순번 순)
+	 */
+	@CircuitBreaker(name = "queueRedis", fallbackMethod = "moveToEnterableBatchFallback")
+	public List<Long> moveToEnterableBatch(Long queueId, int waitingShardCount, int batchSize, int ttlMinutes,
+		int maxActiveUsers) {
+		if (batchSize <= 0) return Collections.emptyList();
+
+		if (waitingShardCount > 1) {
+			return moveToEnterableBatchSharded(queueId, waitingShardCount, batchSize, ttlMinutes, maxActiveUsers);
+		}
+
+		String waitingKey = getWaitingKey(queueId);
+		String enterableKey = getEnterableKey(queueId);
+
+		long nowSeconds = System.currentTimeMillis() / 1000;
+		long expiresAtSeconds = nowSeconds + (ttlMinutes * 60L);
+
+		final List<?> raw;
+		try {
+			raw = stringRedisTemplate.execute(
+				batchMoveToEnterableScript,
+				Arrays.asList(waitingKey, enterableKey),
+				String.valueOf(expiresAtSeconds),
+				String.valueOf(nowSeconds),
+				String.valueOf(maxActiveUsers),
+				String.valueOf(batchSize)
+			);
+		} catch (Exception e) {
+			log.error("Redis Lua execute failed(moveToEnterableBatch) - queueId: {}, batchSize: {}",
+				queueId, batchSize, e);
+			throw new BusinessException(QueueErrorCode.REDIS_OPERATION_FAILED);
+		}
+
+		if (raw == null || raw.isEmpty()) return Collections.emptyList();
+
+		touchActiveQueue(queueId);
+
+		List<Long> moved = new ArrayList<>(raw.size());
+		for (Object userId : raw) {
+			moved.add(toLong(userId));
+		}
+		return moved;
+	}
+
+	private List<Long> moveToEnterableBatchFallback(Long queueId, int waitingShardCount, int batchSize, int ttlMinutes,
+													int maxActiveUsers, Exception e) {
+		log.error("Circuit Breaker activated - moveToEnterableBatch fallback for queueId: {}", queueId, e);
+		// 스케줄러가 다음 주기에 재시도
+		return Collections.emptyList();
+	}
+
+	/* ==================== WAITING SHARDS ==================== */
+
+	private MoveResult moveToEnterableSharded(Long queueId, Long userId, int shards, int ttlMinutes,
+		int maxActiveUsers) {
+		String waitingKey = getWaitingKey(queueId, userId, shards);
+		Double score = stringRedisTemplate.opsForZSet().score(waitingKey, userId.toString());
+		if (score == null) return MoveResult.SKIPPED;
+
+		AdmitResult result = admitCandidates(
+			queueId,
+			List.of(new ShardMember(userId.toString(), waitingKey, score)),
+			ttlMinutes,
+			maxActiveUsers
+		);
+
+		if (!result.admitted().isEmpty()) return MoveResult.MOVED;
+		return result.alreadyEnterable() > 0 ? MoveResult.SKIPPED : MoveResult.REJECTED_FULL;
+	}
+
+	private List<Long> moveToEnterableBatchSharded(Long queueId, int shards, int batchSize, int ttlMinutes,
+		int maxActiveUsers) {
+		// 빈 슬롯이 없으면 샤드 조회 생략 (최종 게이트는 Lua에서 다시 확인)
+		long nowSeconds = System.currentTimeMillis() / 1000;
+		Long active = stringRedisTemplate.opsForZSet().count(
+			getEnterableKey(queueId),
+			(double) nowSeconds,
+			Double.POSITIVE_INFINITY
+		);
+		long freeSlots = maxActiveUsers - (active != null ? active : 0L);
+		int limit = (int) Math.min(batchSize, freeSlots);
+		if (limit <= 0) return Collections.emptyList();
+
+		List<ShardMember> candidates = mergeShardHeads(queueId, shards, limit);
+		return admitCandidates(queueId, candidates, ttlMinutes, maxActiveUsers).admitted();
+	}
+
+	/**
+	 * 후보를 ENTERABLE에 반영(게이트 Lua)한 뒤 WAITING 샤드에서 제거
+	 *
+	 * ENTERABLE 반영 → 샤드 ZREM 순서라 중간 장애 시 유실 대신 WAITING 잔여가 남고,
+	 * 다음 승격에서 alreadyEnterable로 정리됨
+	 */
+	private AdmitResult admitCandidates(Long queueId, List<ShardMember> candidates, int ttlMinutes,
+		int maxActiveUsers) {
+		if (candidates.isEmpty()) return new AdmitResult(Collections.emptyList(), 0);
+
+		long nowSeconds = System.currentTimeMillis() / 1000;
+		long expiresAtSeconds = nowSeconds + (ttlMinutes * 60L);
+
+		List<String> args = new ArrayList<>(candidates.size() + 3);
+		args.add(String.valueOf(expiresAtSeconds));
+		args.add(String.valueOf(nowSeconds));
+		args.add(String.valueOf(maxActiveUsers));
+		candidates.forEach(candidate -> args.add(candidate.userId()));
+
+		final List<?> raw;
+		try {
+			raw = stringRedisTemplate.execute(
+				admitCandidatesScript,
+				Collections.singletonList(getEnterableKey(queueId)),
+				args.toArray()
+			);
+		} catch (Exception e) {
+			log.error("Redis Lua execute failed(admitCandidates) - queueId: {}, candidates: {}",
+				queueId, candidates.size(), e);
+			throw new BusinessException(QueueErrorCode.REDIS_OPERATION_FAILED);
+		}
+
+		if (raw == null || raw.size() < 2) {
+			log.error("Redis Lua result invalid(admitCandidates) - queueId: {}", queueId);
+			throw new BusinessException(QueueErrorCode.REDIS_OPERATION_FAILED);
+		}
+
+		List<?> admittedRaw = (List<?>) raw.get(0);
+		List<?> alreadyRaw = (List<?>) raw.get(1);
+
+		Set<String> toRemove = new HashSet<>();
+		admittedRaw.forEach(userId -> toRemove.add(String.valueOf(userId)));
+		alreadyRaw.forEach(userId -> toRemove.add(String.valueOf(userId)));
+
+		Map<String, List<String>> removeByKey = new LinkedHashMap<>();
+		for (ShardMember candidate : candidates) {
+			if (toRemove.contains(candidate.userId())) {
+				removeByKey.computeIfAbsent(candidate.waitingKey(), key -> new ArrayList<>()).add(candidate.userId());
+			}
+		}
+		removeByKey.forEach((key, members) -> stringRedisTemplate.opsForZSet().remove(key, members.toArray()));
+
+		List<Long> admitted = new ArrayList<>(admittedRaw.size());
+		for (Object userId : admittedRaw) {
+			admitted.add(toLong(userId));
+		}
+
+		if (!admitted.isEmpty()) {
+			touchActiveQueue(queueId);
+		}
+		return new AdmitResult(admitted, alreadyRaw.size());
+	}
+
+	/**
+	 * 샤드별 head를 도착 score 기준으로 k-way merge하여 상위 limit명 선택
+	 *
+	 * 샤드마다 ceil(limit / K)명씩 읽고, 소진된 샤드만 추가로 읽음
+	 */
+	private List<ShardMember> mergeShardHeads(Long queueId, int shards, int limit) {
+		int chunk = Math.max(1, (limit + shards - 1) / shards);
+
+		PriorityQueue<ShardCursor> heap = new PriorityQueue<>(Comparator.comparingDouble(ShardCursor::headScore));
+		for (String key : getWaitingKeys(queueId, shards)) {
+			ShardCursor cursor = new ShardCursor(key);
+			if (cursor.fetch(chunk)) heap.add(cursor);
+		}
+
+		List<ShardMember> merged = new ArrayList<>(limit);
+		while (merged.size() < limit && !heap.isEmpty()) {
+			ShardCursor cursor = heap.poll();
+			merged.add(cursor.next());
+			if (cursor.hasBuffered() || cursor.fetch(chunk)) {
+				heap.add(cursor);
+			}
+		}
+		return merged;
+	}
+
+	private record ShardMember(String userId, String waitingKey, double score) {
+	}
+
+	private record AdmitResult(List<Long> admitted, int alreadyEnterable) {
+	}
+
+	/**
+	 * 샤드 하나의 순차 읽기 커서 (score 오름차순)
+	 */
+	private final class ShardCursor {
+		private final String key;
+		private final ArrayDeque<ShardMember> buffer = new ArrayDeque<>();
+		private long offset;
+		private boolean exhausted;
+
+		private ShardCursor(String key) {
+			this.key = key;
+		}
+
+		private boolean fetch(int count) {
+			if (exhausted) return false;
+
+			Set<ZSetOperations.TypedTuple<String>> page = stringRedisTemplate.opsForZSet()
+				.rangeWithScores(key, offset, offset + count - 1);
+			if (page == null || page.isEmpty()) {
+				exhausted = true;
+				return false;
+			}
+
+			for (ZSetOperations.TypedTuple<String> tuple : page) {
+				double score = tuple.getScore() != null ? tuple.getScore() : Double.MAX_VALUE;
+				buffer.add(new ShardMember(tuple.getValue(), key, score));
+			}
+			offset += page.size();
+			exhausted = page.size() < count;
+			return true;
+		}
+
+		private boolean hasBuffered() {
+			return !buffer.isEmpty();
+		}
+
+		private double headScore() {
+			return buffer.peekFirst().score();
+		}
+
+		private ShardMember next() {
+			return buffer.pollFirst();
+		}
+	}
+
 	@CircuitBreaker(name = "queueRedis", fallbackMethod = "removeFromEnterableFallback")
 	public void removeFromEnterable(Long queueId, Long userId) {
 		String enterableKey = getEnterableKey(queueId);
@@ -263,9 +882,8 @@ public class QueueRedisRepository {
 		log.error("Circuit Breaker activated - isInEnterable fallback (CRITICAL) for queueId: {}, userId: {}",
 			queueId, userId, e);
 
-		// DB에서 ENTERABLE 상태 확인 (중요!)
-		boolean enterable = queueEntryRepository.existsByQueueIdAndUserIdAndStatus(
-			queueId, userId, QueueEntryStatus.ENTERABLE);
+		// DB에서 ENTERABLE 상태 확인 (중요!, 짧은 캐시)
+		boolean enterable = isEnterableInDb(queueId, userId);
 
 		if (enterable) {
 			log.warn("DB fallback success - user {} is ENTERABLE in queue {}", userId, queueId);
@@ -353,6 +971,175 @@ public class QueueRedisRepository {
 		return 0L;
 	}
 
+	/**
+	 * 여러 대기열의 만료 ENTERABLE 일괄 정리 (pipeline)
+	 *
+	 * 키를 클러스터 슬롯 순으로 정렬한 뒤 cleanup.pipeline-size 단위로 전송
+	 * → 같은 노드 명령이 연속되어 노드별로 묶여 나가고, 왕복 수는 대기열 수와 무관하게 ceil(N / pipeline-size)
+	 *
+	 * @return queueId → 제거 건수
+	 */
+	@CircuitBreaker(name = "queueRedis", fallbackMethod = "cleanupExpiredEnterableBatchFallback")
+	public Map<Long, Long> cleanupExpiredEnterableBatch(Collection<Long> queueIds) {
+		if (queueIds.isEmpty()) return Collections.emptyMap();
+
+		double maxScore = (double) (System.currentTimeMillis() / 1000 - 1);
+		List<Long> ordered = sortBySlot(queueIds, this::getEnterableKey);
+
+		Map<Long, Long> removed = new LinkedHashMap<>();
+		for (List<Long> chunk : partition(ordered, cleanupPipelineSize)) {
+			List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+				for (Long queueId : chunk) {
+					connection.zSetCommands().zRemRangeByScore(
+						getEnterableKey(queueId).getBytes(StandardCharsets.UTF_8),
+						Double.NEGATIVE_INFINITY,
+						maxScore
+					);
+				}
+				return null;
+			});
+
+			for (int i = 0; i < chunk.size(); i++) {
+				Object result = i < results.size() ? results.get(i) : null;
+				removed.put(chunk.get(i), result != null ? toLong(result) : 0L);
+			}
+		}
+		return removed;
+	}
+
+	private Map<Long, Long> cleanupExpiredEnterableBatchFallback(Collection<Long> queueIds, Exception e) {
+		log.warn("Circuit Breaker activated - cleanupExpiredEnterableBatch fallback for queues: {}",
+			queueIds.size(), e);
+		// 스케줄러가 다음 주기에 재시도
+		return Collections.emptyMap();
+	}
+
+	/**
+	 * (queueId, userId) 다건의 유효 ENTERABLE 여부 일괄 조회
+	 *
+	 * 대기열별 ZMSCORE 1회를 슬롯 순으로 pipeline 전송 (DB 후보 건수와 무관하게 왕복 수 고정)
+	 *
+	 * @return queueId → 유효 ENTERABLE userId 집합 (조회 실패 시 null → 호출부는 판정 보류)
+	 */
+	@CircuitBreaker(name = "queueRedis", fallbackMethod = "findValidEnterableUsersFallback")
+	public Map<Long, Set<Long>> findValidEnterableUsers(Map<Long, ? extends Collection<Long>> userIdsByQueueId) {
+		if (userIdsByQueueId.isEmpty()) return Collections.emptyMap();
+
+		long nowSeconds = System.currentTimeMillis() / 1000;
+		List<Long> ordered = sortBySlot(userIdsByQueueId.keySet(), this::getEnterableKey);
+
+		Map<Long, Set<Long>> valid = new LinkedHashMap<>();
+		for (List<Long> chunk : partition(ordered, cleanupPipelineSize)) {
+			Map<Long, List<Long>> members = new LinkedHashMap<>();
+			chunk.forEach(queueId -> members.put(queueId, new ArrayList<>(userIdsByQueueId.get(queueId))));
+
+			List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+				members.forEach((queueId, userIds) -> connection.zSetCommands().zMScore(
+					getEnterableKey(queueId).getBytes(StandardCharsets.UTF_8),
+					userIds.stream()
+						.map(userId -> userId.toString().getBytes(StandardCharsets.UTF_8))
+						.toArray(byte[][]::new)
+				));
+				return null;
+			});
+
+			int index = 0;
+			for (Map.Entry<Long, List<Long>> entry : members.entrySet()) {
+				List<?> scores = (List<?>) results.get(index++);
+				Set<Long> enterable = new HashSet<>();
+				for (int i = 0; i < entry.getValue().size(); i++) {
+					Object score = scores != null && i < scores.size() ? scores.get(i) : null;
+					if (score != null && Double.parseDouble(String.valueOf(score)) >= nowSeconds) {
+						enterable.add(entry.getValue().get(i));
+					}
+				}
+				valid.put(entry.getKey(), enterable);
+			}
+		}
+		return valid;
+	}
+
+	private Map<Long, Set<Long>> findValidEnterableUsersFallback(
+		Map<Long, ? extends Collection<Long>> userIdsByQueueId, Exception e) {
+		log.warn("Circuit Breaker activated - findValidEnterableUsers fallback for queues: {}",
+			userIdsByQueueId.size(), e);
+		return null;
+	}
+
+	/**
+	 * 여러 대기열의 WAITING/유효 ENTERABLE 인원 일괄 샘플링 (메트릭용, pipeline)
+	 *
+	 * 대기열별 WAITING ZCARD(샤드 수만큼) + ENTERABLE ZCOUNT(now, +inf)
+	 *
+	 * @param waitingShardCountByQueueId queueId → WAITING 샤드 수
+	 * @return queueId → 깊이 (조회 실패 시 null → 호출부는 갱신 보류)
+	 */
+	@CircuitBreaker(name = "queueRedis", fallbackMethod = "sampleQueueDepthsFallback")
+	public Map<Long, QueueDepth> sampleQueueDepths(Map<Long, Integer> waitingShardCountByQueueId) {
+		if (waitingShardCountByQueueId.isEmpty()) return Collections.emptyMap();
+
+		double nowSeconds = (double) (System.currentTimeMillis() / 1000);
+		List<Long> ordered = sortBySlot(waitingShardCountByQueueId.keySet(), this::getEnterableKey);
+
+		Map<Long, QueueDepth> depths = new LinkedHashMap<>();
+		for (List<Long> chunk : partition(ordered, cleanupPipelineSize)) {
+			Map<Long, List<String>> waitingKeys = new LinkedHashMap<>();
+			chunk.forEach(queueId -> waitingKeys.put(queueId,
+				getWaitingKeys(queueId, waitingShardCountByQueueId.get(queueId))));
+
+			List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+				waitingKeys.forEach((queueId, keys) -> {
+					keys.forEach(key -> connection.zSetCommands().zCard(key.getBytes(StandardCharsets.UTF_8)));
+					connection.zSetCommands().zCount(
+						getEnterableKey(queueId).getBytes(StandardCharsets.UTF_8),
+						nowSeconds,
+						Double.POSITIVE_INFINITY
+					);
+				});
+				return null;
+			});
+
+			int index = 0;
+			for (Map.Entry<Long, List<String>> entry : waitingKeys.entrySet()) {
+				long waiting = 0;
+				for (int i = 0; i < entry.getValue().size(); i++) {
+					Object result = index < results.size() ? results.get(index) : null;
+					waiting += result != null ? toLong(result) : 0L;
+					index++;
+				}
+				Object enterable = index < results.size() ? results.get(index) : null;
+				index++;
+				depths.put(entry.getKey(), new QueueDepth(waiting, enterable != null ? toLong(enterable) : 0L));
+			}
+		}
+		return depths;
+	}
+
+	private Map<Long, QueueDepth> sampleQueueDepthsFallback(Map<Long, Integer> waitingShardCountByQueueId,
+		Exception e) {
+		log.warn("Circuit Breaker activated - sampleQueueDepths fallback for queues: {}",
+			waitingShardCountByQueueId.size(), e);
+		return null;
+	}
+
+	/**
+	 * 클러스터 슬롯 순 정렬 (같은 노드 명령을 연속 배치)
+	 */
+	private List<Long> sortBySlot(Collection<Long> queueIds, Function<Long, String> keyOf) {
+		List<Long> ordered = new ArrayList<>(queueIds);
+		ordered.sort(Comparator.comparingInt(queueId -> ClusterSlotHashUtil.calculateSlot(keyOf.apply(queueId))));
+		return ordered;
+	}
+
+	private static <T> List<List<T>> partition(List<T> items, int size) {
+		int chunkSize = Math.max(1, size);
+		List<List<T>> chunks = new ArrayList<>();
+		for (int from = 0; from < items.size(); from += chunkSize) {
+			chunks.add(items.subList(from, Math.min(items.size(), from + chunkSize)));
+		}
+		return chunks;
+	}
+
 	@CircuitBreaker(name = "queueRedis", fallbackMethod = "getEnterableTtlSecondsApproxFallback")
 	public Long getEnterableTtlSecondsApprox(Long queueId, Long userId) {
 		String enterableKey = getEnterableKey(queueId);
@@ -394,6 +1181,305 @@ public class QueueRedisRepository {
 			"대기열 복구에 실패했습니다. 관리자에게 문의하세요.");
 	}
 
+	/* ==================== ACTIVE QUEUE REGISTRY ==================== */
+
+	/**
+	 * 활성 대기열 등록/갱신 (score=lastActivityMillis)
+	 *
+	 * WAITING 진입, ENTERABLE 승격 시 호출되어 스케줄러가 순회할 대상에 포함시킴
+	 * 레지스트리 갱신 실패는 진입/승격을 실패시키지 않음 (다음 활동 또는 부트스트랩에서 재등록)
+	 */
+	public void touchActiveQueue(Long queueId) {
+		try {
+			stringRedisTemplate.opsForZSet().add(getActiveQueuesKey(), queueId.toString(), System.currentTimeMillis());
+		} catch (Exception e) {
+			log.warn("활성 대기열 등록 실패 - queueId: {}", queueId, e);
+		}
+	}
+
+	/**
+	 * 스케줄러 순회 대상 (WAITING/ENTERABLE이 비어있지 않은 대기열)
+	 */
+	@CircuitBreaker(name = "queueRedis", fallbackMethod = "getActiveQueueIdsFallback")
+	public List<Long> getActiveQueueIds() {
+		Set<String> members = stringRedisTemplate.opsForZSet().range(getActiveQueuesKey(), 0, -1);
+		if (members == null || members.isEmpty()) return Collections.emptyList();
+
+		return members.stream().map(Long::parseLong).toList();
+	}
+
+	private List<Long> getActiveQueueIdsFallback(Exception e) {
+		log.warn("Circuit Breaker activated - getActiveQueueIds fallback", e);
+		return Collections.emptyList();
+	}
+
+	/**
+	 * 마지막 활동 시각이 기준 이전인 활성 대기열 (해제 후보)
+	 *
+	 * @return member=queueId, score=lastActivityMillis
+	 */
+	@CircuitBreaker(name = "queueRedis", fallbackMethod = "getIdleActiveQueuesFallback")
+	public Set<ZSetOperations.TypedTuple<String>> getIdleActiveQueues(long lastActivityBeforeMillis) {
+		Set<ZSetOperations.TypedTuple<String>> result = stringRedisTemplate.opsForZSet().rangeByScoreWithScores(
+			getActiveQueuesKey(),
+			Double.NEGATIVE_INFINITY,
+			(double) lastActivityBeforeMillis
+		);
+		return result != null ? result : Collections.emptySet();
+	}
+
+	private Set<ZSetOperations.TypedTuple<String>> getIdleActiveQueuesFallback(long lastActivityBeforeMillis,
+		Exception e) {
+		log.warn("Circuit Breaker activated - getIdleActiveQueues fallback", e);
+		return Collections.emptySet();
+	}
+
+	/**
+	 * WAITING/ENTERABLE 모두 비어있는지 (만료 정리 이후 호출 전제)
+	 */
+	@CircuitBreaker(name = "queueRedis", fallbackMethod = "isDrainedFallback")
+	public boolean isDrained(Long queueId, int waitingShardCount) {
+		for (String waitingKey : getWaitingKeys(queueId, waitingShardCount)) {
+			Long waiting = stringRedisTemplate.opsForZSet().zCard(waitingKey);
+			if (waiting != null && waiting > 0) return false;
+		}
+		Long enterable = stringRedisTemplate.opsForZSet().zCard(getEnterableKey(queueId));
+		return enterable == null || enterable == 0;
+	}
+
+	private boolean isDrainedFallback(Long queueId, int waitingShardCount, Exception e) {
+		log.warn("Circuit Breaker activated - isDrained fallback for queueId: {}", queueId, e);
+		return false; // 판단 불가 시 레지스트리 유지
+	}
+
+	/**
+	 * 조회 시점 이후 활동이 없을 때만 레지스트리에서 해제 (Lua 조건부 ZREM)
+	 */
+	@CircuitBreaker(name = "queueRedis", fallbackMethod = "deregisterActiveQueueIfIdleFallback")
+	public boolean deregisterActiveQueueIfIdle(Long queueId, long expectedLastActivityMillis) {
+		Long removed = stringRedisTemplate.execute(
+			deregisterActiveQueueScript,
+			Collections.singletonList(getActiveQueuesKey()),
+			queueId.toString(),
+			String.valueOf(expectedLastActivityMillis)
+		);
+		return removed != null && removed == 1L;
+	}
+
+	private boolean deregisterActiveQueueIfIdleFallback(Long queueId, long expectedLastActivityMillis, Exception e) {
+		log.warn("Circuit Breaker activated - deregisterActiveQueueIfIdle fallback for queueId: {}", queueId, e);
+		return false;
+	}
+
+	/**
+	 * 레지스트리에서 무조건 해제 (대기열 삭제 시)
+	 */
+	@CircuitBreaker(name = "queueRedis", fallbackMethod = "deregisterActiveQueueFallback")
+	public void deregisterActiveQueue(Long queueId) {
+		stringRedisTemplate.opsForZSet().remove(getActiveQueuesKey(), queueId.toString());
+	}
+
+	private void deregisterActiveQueueFallback(Long queueId, Exception e) {
+		log.warn("Circuit Breaker activated - deregisterActiveQueue fallback for queueId: {}", queueId, e);
+	}
+
+	/* ==================== ADMISSION THROUGHPUT ==================== */
+
+	/**
+	 * 승격 인원 누적 (bucket-seconds 단위 카운터, 윈도우 경과 후 자동 만료)
+	 */
+	@CircuitBreaker(name = "queueRedis", fallbackMethod = "recordAdmissionsFallback")
+	public void recordAdmissions(Long queueId, int count) {
+		if (count <= 0) return;
+
+		long bucket = Instant.now().getEpochSecond() / throughputBucketSeconds;
+		byte[] rawKey = getAdmittedBucketKey(queueId, bucket).getBytes(StandardCharsets.UTF_8);
+		long ttlSeconds = throughputWindowSeconds + throughputBucketSeconds * 2;
+
+		stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+			connection.stringCommands().incrBy(rawKey, count);
+			connection.keyCommands().expire(rawKey, ttlSeconds);
+			return null;
+		});
+	}
+
+	private void recordAdmissionsFallback(Long queueId, int count, Exception e) {
+		// 처리량 통계 유실은 예상 대기시간 정밀도만 낮춤
+		log.warn("Circuit Breaker activated - recordAdmissions fallback for queueId: {}", queueId, e);
+	}
+
+	/**
+	 * 최근 윈도우(완료된 bucket만) 초당 승격 인원
+	 *
+	 * 진행 중인 bucket은 과소 집계되므로 제외, 모든 키가 같은 {queueId} 슬롯이라 MGET 1회
+	 */
+	@CircuitBreaker(name = "queueRedis", fallbackMethod = "getAdmissionThroughputFallback")
+	public double getAdmissionThroughputPerSecond(Long queueId) {
+		long currentBucket = Instant.now().getEpochSecond() / throughputBucketSeconds;
+		int bucketCount = (int) Math.max(1, throughputWindowSeconds / throughputBucketSeconds);
+
+		List<String> keys = new ArrayList<>(bucketCount);
+		for (int i = 1; i <= bucketCount; i++) {
+			keys.add(getAdmittedBucketKey(queueId, currentBucket - i));
+		}
+
+		List<String> values = stringRedisTemplate.opsForValue().multiGet(keys);
+		if (values == null) return 0.0;
+
+		long admitted = 0L;
+		for (String value : values) {
+			if (value != null) admitted += Long.parseLong(value);
+		}
+		return (double) admitted / (bucketCount * throughputBucketSeconds);
+	}
+
+	private double getAdmissionThroughputFallback(Long queueId, Exception e) {
+		log.warn("Circuit Breaker activated - getAdmissionThroughputPerSecond fallback for queueId: {}", queueId, e);
+		return 0.0;
+	}
+
+	/* ==================== ADMISSION SIGNAL ==================== */
+
+	/**
+	 * 좌석 HOLD 신호 누적 (노드별 로컬 집계분을 주기적으로 가산)
+	 *
+	 * Hash fields: holds, errors, latencyMs (공연 단위, 마지막 가산 후 30분 뒤 만료)
+	 */
+	@CircuitBreaker(name = "queueRedis", fallbackMethod = "addSeatHoldSignalFallback")
+	public void addSeatHoldSignal(Long performanceId, SeatHoldSignal delta) {
+		String key = getSeatHoldSignalKey(performanceId);
+		stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+			byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+			connection.hashCommands().hIncrBy(rawKey, "holds".getBytes(StandardCharsets.UTF_8), delta.holds());
+			connection.hashCommands().hIncrBy(rawKey, "errors".getBytes(StandardCharsets.UTF_8), delta.errors());
+			connection.hashCommands().hIncrBy(rawKey, "latencyMs".getBytes(StandardCharsets.UTF_8),
+				delta.latencySumMillis());
+			connection.keyCommands().expire(rawKey, TimeUnit.MINUTES.toSeconds(SEAT_HOLD_SIGNAL_TTL_MINUTES));
+			return null;
+		});
+	}
+
+	private void addSeatHoldSignalFallback(Long performanceId, SeatHoldSignal delta, Exception e) {
+		// 신호 유실은 제어 정밀도만 낮춤 (입장 처리에는 영향 없음)
+		log.warn("Circuit Breaker activated - addSeatHoldSignal fallback for performanceId: {}", performanceId, e);
+	}
+
+	/**
+	 * 좌석 HOLD 신호 누적값 조회
+	 *
+	 * @return 누적값 (조회 실패 시 null → 컨트롤러는 신호 없음으로 처리)
+	 */
+	@CircuitBreaker(name = "queueRedis", fallbackMethod = "getSeatHoldSignalFallback")
+	public SeatHoldSignal getSeatHoldSignal(Long performanceId) {
+		Map<Object, Object> fields = stringRedisTemplate.opsForHash().entries(getSeatHoldSignalKey(performanceId));
+		if (fields.isEmpty()) return SeatHoldSignal.empty();
+
+		return new SeatHoldSignal(
+			toLong(fields.getOrDefault("holds", "0")),
+			toLong(fields.getOrDefault("errors", "0")),
+			toLong(fields.getOrDefault("latencyMs", "0"))
+		);
+	}
+
+	private SeatHoldSignal getSeatHoldSignalFallback(Long performanceId, Exception e) {
+		log.warn("Circuit Breaker activated - getSeatHoldSignal fallback for performanceId: {}", performanceId, e);
+		return null;
+	}
+
+	/* ==================== DEGRADED MODE RECONCILE ==================== */
+
+	/**
+	 * 장애 모드 로컬 대기열 Redis 복원 (pipeline)
+	 *
+	 * - WAITING: ZADD LT (이미 있으면 더 이른 진입 시각 유지)
+	 * - ENTERABLE: ZADD GT (이미 있으면 더 늦은 만료 유지)
+	 *
+	 * @return 복원 성공 여부 (실패 시 로컬 상태 유지 후 재시도)
+	 */
+	@CircuitBreaker(name = "queueRedis", fallbackMethod = "restoreLocalAdmissionsFallback")
+	public boolean restoreLocalAdmissions(Long queueId, int waitingShardCount, Map<Long, Long> waitingMillisByUser,
+		Map<Long, Long> expiresAtSecondsByUser) {
+		byte[] enterableKey = getEnterableKey(queueId).getBytes(StandardCharsets.UTF_8);
+		byte[] activeQueuesKey = getActiveQueuesKey().getBytes(StandardCharsets.UTF_8);
+
+		stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+			waitingMillisByUser.forEach((userId, enqueuedAtMillis) -> connection.zSetCommands().zAdd(
+				getWaitingKey(queueId, userId, waitingShardCount).getBytes(StandardCharsets.UTF_8),
+				enqueuedAtMillis,
+				userId.toString().getBytes(StandardCharsets.UTF_8),
+				RedisZSetCommands.ZAddArgs.empty().lt()
+			));
+			expiresAtSecondsByUser.forEach((userId, expiresAtSeconds) -> connection.zSetCommands().zAdd(
+				enterableKey,
+				expiresAtSeconds,
+				userId.toString().getBytes(StandardCharsets.UTF_8),
+				RedisZSetCommands.ZAddArgs.empty().gt()
+			));
+			connection.zSetCommands().zAdd(
+				activeQueuesKey,
+				System.currentTimeMillis(),
+				queueId.toString().getBytes(StandardCharsets.UTF_8)
+			);
+			return null;
+		});
+		return true;
+	}
+
+	private boolean restoreLocalAdmissionsFallback(Long queueId, int waitingShardCount,
+		Map<Long, Long> waitingMillisByUser,
+		Map<Long, Long> expiresAtSecondsByUser, Exception e) {
+		log.warn("Circuit Breaker activated - restoreLocalAdmissions fallback for queueId: {}", queueId, e);
+		return false;
+	}
+
+	/* ==================== QUEUE PASS REVOCATION ==================== */
+
+	/**
+	 * 입장권 폐기 기록 (member = "performanceId:userId", score = revokedAtMillis)
+	 *
+	 * 폐기 시각 이전에 발급된 입장권만 무효 (재입장 후 새 입장권은 유효)
+	 */
+	@CircuitBreaker(name = "queueRedis", fallbackMethod = "addPassRevocationFallback")
+	public void addPassRevocation(String member, long revokedAtMillis) {
+		stringRedisTemplate.opsForZSet().add(getPassRevocationKey(), member, revokedAtMillis);
+	}
+
+	private void addPassRevocationFallback(String member, long revokedAtMillis, Exception e) {
+		// 노드 간 전파(pub/sub)는 별도로 수행되므로 재기동 노드만 영향 (입장권 TTL 내 한정)
+		log.warn("Circuit Breaker activated - addPassRevocation fallback for member: {}", member, e);
+	}
+
+	@CircuitBreaker(name = "queueRedis", fallbackMethod = "getPassRevocationsSinceFallback")
+	public Set<ZSetOperations.TypedTuple<String>> getPassRevocationsSince(long sinceMillis) {
+		Set<ZSetOperations.TypedTuple<String>> result = stringRedisTemplate.opsForZSet().rangeByScoreWithScores(
+			getPassRevocationKey(),
+			(double) sinceMillis,
+			Double.POSITIVE_INFINITY
+		);
+		return result != null ? result : Collections.emptySet();
+	}
+
+	private Set<ZSetOperations.TypedTuple<String>> getPassRevocationsSinceFallback(long sinceMillis, Exception e) {
+		log.warn("Circuit Breaker activated - getPassRevocationsSince fallback", e);
+		return Collections.emptySet();
+	}
+
+	/**
+	 * 입장권 최대 수명이 지난 폐기 기록 정리
+	 */
+	@CircuitBreaker(name = "queueRedis", fallbackMethod = "prunePassRevocationsFallback")
+	public void prunePassRevocations(long beforeMillis) {
+		stringRedisTemplate.opsForZSet().removeRangeByScore(
+			getPassRevocationKey(),
+			Double.NEGATIVE_INFINITY,
+			(double) beforeMillis
+		);
+	}
+
+	private void prunePassRevocationsFallback(long beforeMillis, Exception e) {
+		log.warn("Circuit Breaker activated - prunePassRevocations fallback", e);
+	}
+
 	/* ==================== TEST ONLY ==================== */
 
 	@org.springframework.boot.autoconfigure.condition.ConditionalOnProperty(
@@ -402,27 +1488,28 @@ public class QueueRedisRepository {
 		matchIfMissing = false
 	)
 	@CircuitBreaker(name = "queueRedis", fallbackMethod = "clearAllFallback")
-	public void clearAll(Long queueId) {
-		String waitingKey = getWaitingKey(queueId);
+	public void clearAll(Long queueId, int waitingShardCount) {
 		String enterableKey = getEnterableKey(queueId);
 
-		stringRedisTemplate.delete(waitingKey);
+		getWaitingKeys(queueId, waitingShardCount).forEach(stringRedisTemplate::delete);
 		stringRedisTemplate.delete(enterableKey);
 
 		log.info("Cleared all queue data (TEST ONLY) - queueId: {}", queueId);
 	}
 
-	private void clearAllFallback(Long queueId, Exception e) {
+	private void clearAllFallback(Long queueId, int waitingShardCount, Exception e) {
 		log.warn("Circuit Breaker activated - clearAll fallback (TEST ONLY) for queueId: {}", queueId, e);
 	}
 
 	@CircuitBreaker(name = "queueRedis", fallbackMethod = "existsFallback")
-	public boolean exists(Long queueId) {
-		String key = getWaitingKey(queueId);
-		return Boolean.TRUE.equals(stringRedisTemplate.hasKey(key));
+	public boolean exists(Long queueId, int waitingShardCount) {
+		for (String key : getWaitingKeys(queueId, waitingShardCount)) {
+			if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(key))) return true;
+		}
+		return false;
 	}
 
-	private boolean existsFallback(Long queueId, Exception e) {
+	private boolean existsFallback(Long queueId, int waitingShardCount, Exception e) {
 		log.warn("Circuit Breaker activated - exists fallback for queueId: {}", queueId, e);
 		return false;
 	}
@@ -1,21 +1,29 @@
 package com.back.b2st.domain.queue.scheduler;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import com.back.b2st.domain.queue.entity.Queue;
+import com.back.b2st.domain.queue.metrics.QueueMetrics;
 import com.back.b2st.domain.queue.repository.QueueRedisRepository;
-import com.back.b2st.domain.queue.repository.QueueRepository;
+import com.back.b2st.domain.queue.service.QueuePolicyCache;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
- * ENTERABLE ZSET 만료(score < nowSeconds) 정리
+ * ENTERABLE ZSET 만료(score < nowSeconds) 정리 + 활성 대기열 레지스트리 해제
+ *
+ * 순회 대상은 활성 대기열 레지스트리로 한정하고,
+ * 일정 시간 활동이 없고 WAITING/ENTERABLE이 모두 빈 대기열은 레지스트리에서 해제
  */
 @Component
 @RequiredArgsConstructor
@@ -24,30 +32,73 @@ import lombok.extern.slf4j.Slf4j;
 @Profile("!test")
 public class QueueEnterableCleanupScheduler {
 
-	private final QueueRepository queueRepository;
 	private final QueueRedisRepository queueRedisRepository;
+	private final QueuePolicyCache queuePolicyCache;
 	private final SchedulerLeaderLockExecutor lockExecutor;
+	private final QueueMetrics queueMetrics;
+
+	@Value("${queue.active-registry.idle-ms:60000}")
+	private long idleMs;
 
 	@Scheduled(fixedDelayString = "${queue.cleanup.enterable.fixedDelayMs:5000}")
 	public void cleanupExpiredEnterable() {
 		lockExecutor.runWithLeaderLock("queue:scheduler:leader:redis-enterable-cleanup", () -> {
-			List<Queue> queues = queueRepository.findAll();
-			if (queues.isEmpty()) return;
+			List<Long> activeQueueIds = queueRedisRepository.getActiveQueueIds();
+			if (activeQueueIds.isEmpty()) return;
 
 			long totalRemoved = 0;
 
-			for (Queue queue : queues) {
-				try {
-					Long removed = queueRedisRepository.cleanupExpiredEnterable(queue.getId());
-					if (removed != null && removed > 0) totalRemoved += removed;
-				} catch (Exception e) {
-					log.warn("ENTERABLE ZSET 정리 실패 - queueId={}", queue.getId(), e);
+			try {
+				// 슬롯 순 pipeline 일괄 정리 (대기열 수와 무관하게 소수 왕복)
+				Map<Long, Long> removedByQueue = queueRedisRepository.cleanupExpiredEnterableBatch(activeQueueIds);
+				for (Map.Entry<Long, Long> entry : removedByQueue.entrySet()) {
+					Long removed = entry.getValue();
+					if (removed == null || removed <= 0) continue;
+
+					totalRemoved += removed;
+					queueMetrics.recordQueueExit(entry.getKey(), "EXPIRED", removed);
 				}
+			} catch (Exception e) {
+				log.warn("ENTERABLE ZSET 일괄 정리 실패 - 대기열: {}개", activeQueueIds.size(), e);
 			}
 
 			if (totalRemoved > 0) {
 				log.info("ENTERABLE ZSET 만료 정리 완료 - 총 제거: {}건", totalRemoved);
 			}
+
+			deregisterDrainedQueues();
 		});
 	}
+
+	/**
+	 * 활동이 끊기고 비어있는 대기열을 레지스트리에서 해제
+	 *
+	 * 확인 이후 새 진입이 있으면 score가 갱신되어 조건부 해제가 실패하므로 유실 없음
+	 */
+	private void deregisterDrainedQueues() {
+		long idleBefore = System.currentTimeMillis() - idleMs;
+		Set<ZSetOperations.TypedTuple<String>> candidates = queueRedisRepository.getIdleActiveQueues(idleBefore);
+
+		int deregistered = 0;
+		for (ZSetOperations.TypedTuple<String> candidate : candidates) {
+			if (candidate.getValue() == null || candidate.getScore() == null) continue;
+
+			Long queueId = Long.parseLong(candidate.getValue());
+			int waitingShardCount = queuePolicyCache.findById(queueId)
+				.map(Queue::getWaitingShardCount)
+				.orElse(1); // 삭제된 대기열은 clearAll로 WAITING 샤드가 이미 정리됨
+			try {
+				if (queueRedisRepository.isDrained(queueId, waitingShardCount)
+					&& queueRedisRepository.deregisterActiveQueueIfIdle(queueId, candidate.getScore().longValue())) {
+					deregistered++;
+				}
+			} catch (Exception e) {
+				log.warn("활성 대기열 해제 실패 - queueId={}", queueId, e);
+			}
+		}
+
+		if (deregistered > 0) {
+			log.info("활성 대기열 레지스트리 해제 - {}건", deregistered);
+		}
+	}
 }
@@ -2,7 +2,11 @@ package com.back.b2st.domain.queue.scheduler;
 
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -105,21 +109,31 @@ public class QueueEntryCleanupScheduler {
 
 				if (candidates.isEmpty()) return 0;
 
+				// 후보 전체를 대기열별 ZMSCORE로 일괄 확인 (행당 왕복 제거)
+				Map<Long, List<Long>> userIdsByQueueId = new HashMap<>();
+				for (QueueEntry entry : candidates) {
+					userIdsByQueueId.computeIfAbsent(entry.getQueueId(), id -> new ArrayList<>())
+						.add(entry.getUserId());
+				}
+
+				Map<Long, Set<Long>> enterableByQueueId;
+				try {
+					enterableByQueueId = queueRedisRepository.findValidEnterableUsers(userIdsByQueueId);
+				} catch (Exception e) {
+					log.warn("Redis check failed, skip stale cleanup - candidates: {}", candidates.size(), e);
+					return 0;
+				}
+
+				if (enterableByQueueId == null) {
+					log.warn("Redis unavailable, skip stale cleanup - candidates: {}", candidates.size());
+					return 0;
+				}
+
 				int expiredInBatch = 0;
 
 				for (QueueEntry entry : candidates) {
-					Long queueId = entry.getQueueId();
-					Long userId = entry.getUserId();
-
-					boolean inEnterable;
-					try {
-						inEnterable = queueRedisRepository.isInEnterable(queueId, userId);
-					} catch (Exception e) {
-						log.warn("Redis check failed, skip stale cleanup - queueId: {}, userId: {}", queueId, userId, e);
-						continue;
-					}
-
-					if (!inEnterable) {
+					Set<Long> enterable = enterableByQueueId.getOrDefault(entry.getQueueId(), Set.of());
+					if (!enterable.contains(entry.getUserId())) {
 						entry.updateToExpired();
 						expiredInBatch++;
 					}
@@ -4,11 +4,14 @@ import java.util.List;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import com.back.b2st.domain.queue.entity.Queue;
+import com.back.b2st.domain.queue.repository.QueueRedisRepository;
 import com.back.b2st.domain.queue.repository.QueueRepository;
 import com.back.b2st.domain.queue.service.QueueSchedulerService;
 
@@ -17,6 +20,10 @@ import lombok.extern.slf4j.Slf4j;
 
 /**
  * WAITING -> ENTERABLE 자동 처리 스케줄러
+ *
+ * 순회 대상은 활성 대기열 레지스트리(Redis ZSET)로 한정
+ * - 등록: WAITING 진입 / ENTERABLE 승격 시
+ * - 해제: QueueEnterableCleanupScheduler가 비어있는 대기열을 정리
  */
 @Component
 @RequiredArgsConstructor
@@ -26,6 +33,7 @@ import lombok.extern.slf4j.Slf4j;
 public class QueueEntryScheduler {
 
 	private final QueueRepository queueRepository;
+	private final QueueRedisRepository queueRedisRepository;
 	private final QueueSchedulerService queueSchedulerService;
 	private final SchedulerLeaderLockExecutor lockExecutor;
 
@@ -34,18 +42,44 @@ public class QueueEntryScheduler {
 
 	@Scheduled(fixedDelayString = "${queue.scheduler.fixed-delay:10000}")
 	public void autoProcessQueueEntries() {
-		lockExecutor.runWithLeaderLock("queue:scheduler:leader:entry", this::processAllQueues);
+		lockExecutor.runWithLeaderLock("queue:scheduler:leader:entry", this::processActiveQueues);
 	}
 
-	private void processAllQueues() {
-		List<Queue> activeQueues = queueRepository.findAll();
-		if (activeQueues.isEmpty()) return;
+	/**
+	 * 레지스트리 도입 이전부터 대기 인원이 남아있는 대기열을 기동 시 1회 등록
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void bootstrapActiveQueues() {
+		lockExecutor.runWithLeaderLock("queue:scheduler:leader:active-bootstrap", () -> {
+			List<Queue> queues = queueRepository.findAll();
+			int registered = 0;
 
-		for (Queue queue : activeQueues) {
+			for (Queue queue : queues) {
+				try {
+					if (!queueRedisRepository.isDrained(queue.getId(), queue.getWaitingShardCount())) {
+						queueRedisRepository.touchActiveQueue(queue.getId());
+						registered++;
+					}
+				} catch (Exception e) {
+					log.warn("활성 대기열 부트스트랩 실패 - queueId: {}", queue.getId(), e);
+				}
+			}
+
+			if (registered > 0) {
+				log.info("활성 대기열 부트스트랩 완료 - 등록: {}건", registered);
+			}
+		});
+	}
+
+	private void processActiveQueues() {
+		List<Long> activeQueueIds = queueRedisRepository.getActiveQueueIds();
+		if (activeQueueIds.isEmpty()) return;
+
+		for (Long queueId : activeQueueIds) {
 			try {
-				queueSchedulerService.processNextEntries(queue.getId(), batchSize);
+				queueSchedulerService.processNextEntries(queueId, batchSize);
 			} catch (Exception e) {
-				log.error("대기열 자동 입장 처리 실패 - queueId: {}", queue.getId(), e);
+				log.error("대기열 자동 입장 처리 실패 - queueId: {}", queueId, e);
 			}
 		}
 	}
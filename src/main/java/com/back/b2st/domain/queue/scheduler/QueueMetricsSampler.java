@@ -0,0 +1,63 @@
+package com.back.b2st.domain.queue.scheduler;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.back.b2st.domain.queue.dto.QueueDepth;
+import com.back.b2st.domain.queue.entity.Queue;
+import com.back.b2st.domain.queue.metrics.QueueRedisMetrics;
+import com.back.b2st.domain.queue.repository.QueueRedisRepository;
+import com.back.b2st.domain.queue.service.QueuePolicyCache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 대기열 깊이 메트릭 샘플러
+ *
+ * 노드별 증감 카운트 대신 리더가 Redis ZSET(WAITING ZCARD / ENTERABLE ZCOUNT)을 직접 샘플링
+ * → 어느 노드에서 진입/승격이 일어났는지와 무관하게 클러스터 전체 실제 인원
+ *
+ * 리더가 바뀌면 이전 노드 값은 queue.metrics.depth-stale-ms 이후 NaN (Grafana: max by (queue_id))
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "queue.enabled", havingValue = "true", matchIfMissing = false)
+@Profile("!test")
+public class QueueMetricsSampler {
+
+	private final QueueRedisRepository queueRedisRepository;
+	private final QueuePolicyCache queuePolicyCache;
+	private final QueueRedisMetrics queueRedisMetrics;
+	private final SchedulerLeaderLockExecutor lockExecutor;
+
+	@Scheduled(fixedDelayString = "${queue.metrics.sample-ms:5000}")
+	public void sampleQueueDepths() {
+		lockExecutor.runWithLeaderLock("queue:scheduler:leader:metrics-sample", () -> {
+			List<Long> activeQueueIds = queueRedisRepository.getActiveQueueIds();
+
+			// 레지스트리 조회 실패(fallback 빈 목록)와 실제 비어있음을 구분할 수 없으므로 빈 목록은 갱신 생략
+			if (activeQueueIds.isEmpty()) return;
+
+			Map<Long, Integer> waitingShardCounts = new LinkedHashMap<>();
+			activeQueueIds.forEach(queueId -> waitingShardCounts.put(queueId, queuePolicyCache.findById(queueId)
+				.map(Queue::getWaitingShardCount)
+				.orElse(1)));
+
+			Map<Long, QueueDepth> depths = queueRedisRepository.sampleQueueDepths(waitingShardCounts);
+			if (depths == null) {
+				log.debug("대기열 깊이 샘플링 보류 (Redis 조회 실패)");
+				return;
+			}
+
+			queueRedisMetrics.updateQueueDepths(depths);
+		});
+	}
+}
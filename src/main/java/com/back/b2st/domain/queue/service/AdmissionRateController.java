@@ -0,0 +1,220 @@
+package com.back.b2st.domain.queue.service;
+
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.back.b2st.domain.queue.dto.AdmissionDecision;
+import com.back.b2st.domain.queue.dto.SeatHoldSignal;
+import com.back.b2st.domain.queue.entity.Queue;
+import com.back.b2st.domain.queue.metrics.QueueMetrics;
+import com.back.b2st.domain.queue.repository.QueueRedisRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 적응형 입장 속도 제어 (AIMD, 대기열별)
+ *
+ * 입력 신호
+ * - 좌석 HOLD 평균 처리 시간 / 과부하성 실패율 (전 노드 누적, SeatHoldSignalCollector)
+ * - DB 커넥션 풀 포화도 (스케줄러 리더 노드의 Hikari 기준)
+ * - ENTERABLE 슬롯 사용률 / 반환 수 (직전 틱 이후 예매 완료·만료로 빠진 인원)
+ *
+ * 판단
+ * - 임계 초과, 또는 입장 인원이 있는데 stall-ticks 틱 연속 슬롯 반환 0 → batchSize × decrease-factor (승산 감소)
+ * - 직전 틱에 batchSize만큼 채워 승격했고 슬롯 여유 있으며 반환 수가 직전 승격 인원 이상 → batchSize + increase-step (가산 증가)
+ * - 그 외 유지 (반환이 승격을 따라오지 못하면 슬롯만 채우는 셈이므로 증가하지 않음)
+ *
+ * 상태는 스케줄러 리더 노드의 메모리에만 있으며, 리더 변경 시 설정값(batch-size)에서 다시 수렴
+ * queue.admission.adaptive.enabled=false면 고정 batch-size 그대로 사용
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "queue.enabled", havingValue = "true", matchIfMissing = false)
+public class AdmissionRateController {
+
+	private final QueueRedisRepository queueRedisRepository;
+	private final QueueMetrics queueMetrics;
+	private final DataSource dataSource;
+
+	@Value("${queue.admission.adaptive.enabled:false}")
+	private boolean enabled;
+
+	@Value("${queue.admission.adaptive.min-batch-size:10}")
+	private int minBatchSize;
+
+	@Value("${queue.admission.adaptive.max-batch-size:1000}")
+	private int maxBatchSize;
+
+	@Value("${queue.admission.adaptive.increase-step:10}")
+	private int increaseStep;
+
+	@Value("${queue.admission.adaptive.decrease-factor:0.5}")
+	private double decreaseFactor;
+
+	@Value("${queue.admission.adaptive.target-hold-latency-ms:300}")
+	private long targetHoldLatencyMs;
+
+	@Value("${queue.admission.adaptive.max-error-rate:0.05}")
+	private double maxErrorRate;
+
+	@Value("${queue.admission.adaptive.max-pool-saturation:0.9}")
+	private double maxPoolSaturation;
+
+	@Value("${queue.admission.adaptive.min-samples:20}")
+	private long minSamples;
+
+	@Value("${queue.admission.adaptive.stall-ticks:5}")
+	private int stallTicks;
+
+	/** queueId → 제어 상태 (스케줄러 스레드에서만 갱신) */
+	private final Map<Long, State> states = new ConcurrentHashMap<>();
+
+	/**
+	 * 이번 틱의 승격 인원 결정
+	 *
+	 * @param queue 대기열 (performanceId, maxActiveUsers)
+	 * @param defaultBatchSize 고정 모드 배치 크기 (적응형 초기값)
+	 */
+	public int nextBatchSize(Queue queue, int defaultBatchSize) {
+		if (!enabled) return defaultBatchSize;
+
+		State state = states.computeIfAbsent(queue.getId(), id -> new State(clamp(defaultBatchSize)));
+		AdmissionDecision decision = decide(queue, state);
+
+		state.batchSize = decision.batchSize();
+		queueMetrics.recordAdmissionDecision(queue.getId(), decision);
+
+		if (decision.type() != AdmissionDecision.Type.HOLD) {
+			log.debug("입장 속도 조정 - queueId: {}, decision: {}, batchSize: {}, holdLatencyMs: {}, errorRate: {}, "
+					+ "poolSaturation: {}, slotUtilization: {}",
+				queue.getId(), decision.type(), decision.batchSize(), decision.holdLatencyMillis(),
+				decision.holdErrorRate(), decision.dbPoolSaturation(), decision.slotUtilization());
+		}
+
+		return state.batchSize;
+	}
+
+	/**
+	 * 이번 틱의 실제 승격 인원 보고 (다음 틱의 증가 판단/슬롯 반환 계산용)
+	 */
+	public void onAdmitted(Long queueId, int admitted) {
+		State state = states.get(queueId);
+		if (state != null) {
+			state.lastAdmitted = admitted;
+		}
+	}
+
+	private AdmissionDecision decide(Queue queue, State state) {
+		// 1) 좌석 HOLD 신호 (직전 조회 대비 구간값)
+		SeatHoldSignal cumulative = queueRedisRepository.getSeatHoldSignal(queue.getPerformanceId());
+		SeatHoldSignal window = SeatHoldSignal.empty();
+		if (cumulative != null) {
+			if (state.previousSignal != null) {
+				window = cumulative.since(state.previousSignal);
+			}
+			state.previousSignal = cumulative;
+		}
+
+		boolean hasSamples = window.holds() >= minSamples;
+		double holdLatency = window.averageLatencyMillis();
+		double errorRate = window.errorRate();
+
+		// 2) DB 커넥션 풀
+		double poolSaturation = dbPoolSaturation();
+
+		// 3) ENTERABLE 슬롯
+		Long enterableCount = queueRedisRepository.getTotalEnterableCount(queue.getId());
+		long enterable = enterableCount != null ? enterableCount : 0L;
+		double slotUtilization = queue.getMaxActiveUsers() > 0
+			? (double) enterable / queue.getMaxActiveUsers()
+			: 1.0;
+		boolean turnoverKnown = state.previousEnterable >= 0;
+		long slotTurnover = turnoverKnown
+			? Math.max(0L, state.previousEnterable + state.lastAdmitted - enterable)
+			: 0L;
+		state.previousEnterable = enterable;
+
+		// 입장 인원이 있는데 슬롯이 반환되지 않는 틱 수 (좌석 선택 단계 정체)
+		if (turnoverKnown && enterable > 0 && slotTurnover == 0) {
+			state.stalledTicks++;
+		} else {
+			state.stalledTicks = 0;
+		}
+		boolean stalled = state.stalledTicks >= stallTicks;
+
+		boolean overloaded = poolSaturation >= maxPoolSaturation
+			|| (hasSamples && (holdLatency > targetHoldLatencyMs || errorRate > maxErrorRate));
+
+		AdmissionDecision.Type type;
+		int nextBatchSize;
+
+		if (overloaded || stalled) {
+			type = AdmissionDecision.Type.DECREASE;
+			nextBatchSize = clamp((int) Math.floor(state.batchSize * decreaseFactor));
+			state.stalledTicks = 0;
+		} else if (state.lastAdmitted >= state.batchSize && slotUtilization < 1.0
+			&& turnoverKnown && slotTurnover >= state.lastAdmitted) {
+			type = AdmissionDecision.Type.INCREASE;
+			nextBatchSize = clamp(state.batchSize + increaseStep);
+		} else {
+			type = AdmissionDecision.Type.HOLD;
+			nextBatchSize = state.batchSize;
+		}
+
+		return new AdmissionDecision(
+			type,
+			nextBatchSize,
+			holdLatency,
+			errorRate,
+			poolSaturation,
+			slotUtilization,
+			slotTurnover
+		);
+	}
+
+	/**
+	 * 대기 스레드가 있으면 1.0, 아니면 활성 커넥션 / 최대 풀 크기
+	 */
+	private double dbPoolSaturation() {
+		try {
+			if (!dataSource.isWrapperFor(HikariDataSource.class)) return 0.0;
+
+			HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+			HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+			if (pool == null || hikari.getMaximumPoolSize() <= 0) return 0.0;
+
+			if (pool.getThreadsAwaitingConnection() > 0) return 1.0;
+			return (double) pool.getActiveConnections() / hikari.getMaximumPoolSize();
+		} catch (SQLException e) {
+			log.debug("DB 커넥션 풀 상태 조회 실패", e);
+			return 0.0;
+		}
+	}
+
+	private int clamp(int batchSize) {
+		return Math.max(minBatchSize, Math.min(maxBatchSize, batchSize));
+	}
+
+	private static final class State {
+		private int batchSize;
+		private int lastAdmitted;
+		private long previousEnterable = -1L;
+		private int stalledTicks;
+		private SeatHoldSignal previousSignal;
+
+		State(int batchSize) {
+			this.batchSize = batchSize;
+		}
+	}
+}
@@ -0,0 +1,372 @@
+package com.back.b2st.domain.queue.service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.back.b2st.domain.queue.dto.QueueEntryTransition;
+import com.back.b2st.domain.queue.dto.QueueUserStatus;
+import com.back.b2st.domain.queue.entity.Queue;
+import com.back.b2st.domain.queue.error.QueueErrorCode;
+import com.back.b2st.domain.queue.metrics.QueueDegradedMetrics;
+import com.back.b2st.domain.queue.repository.QueueRedisRepository;
+import com.back.b2st.global.error.exception.BusinessException;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 대기열 Redis 장애 시 노드 로컬 입장 제어 (degraded mode, queue.degraded.enabled)
+ *
+ * - Redis 진입이 실패하면 노드 로컬 bounded FIFO(max-waiting)에 대기
+ * - 토큰 버킷으로 승격: 노드 상한 = maxActiveUsers × active-share, 보충 속도 = 상한 / 입장 TTL
+ * - 로컬 승격 이력은 write-behind로 DB 기록 → 다른 노드의 DB fallback 검증에서도 인정
+ * - 회로가 CLOSED로 돌아오면 로컬 WAITING/ENTERABLE을 Redis로 복원(reconcile) 후 로컬 상태 제거
+ *
+ * 노드 간 순서/상한은 조정하지 않음 (active-share는 노드 수를 고려해 보수적으로 설정)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "queue.enabled", havingValue = "true", matchIfMissing = false)
+public class DegradedAdmissionService {
+
+	private static final String CIRCUIT_NAME = "queueRedis";
+	private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+	private final CircuitBreakerRegistry circuitBreakerRegistry;
+	private final QueueRedisRepository queueRedisRepository;
+	private final QueueEntryWriteBehind queueEntryWriteBehind;
+	private final QueueDegradedMetrics degradedMetrics;
+
+	@Value("${queue.degraded.enabled:false}")
+	private boolean enabled;
+
+	@Value("${queue.degraded.active-share:0.1}")
+	private double activeShare;
+
+	@Value("${queue.degraded.max-waiting:5000}")
+	private int maxWaiting;
+
+	private final Map<Long, LocalQueue> queues = new ConcurrentHashMap<>();
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Redis 장애로 인한 실패인지 (로컬 진입으로 대체 가능한 오류)
+	 */
+	public boolean canTakeOver(BusinessException e) {
+		return enabled
+			&& (e.getErrorCode() == QueueErrorCode.QUEUE_SERVICE_UNAVAILABLE
+			|| e.getErrorCode() == QueueErrorCode.REDIS_OPERATION_FAILED);
+	}
+
+	/**
+	 * 로컬 대기열 진입
+	 *
+	 * 장애 이전에 이미 입장권을 받은 사용자는 (DB fallback 기준) ENTERABLE로 응답
+	 */
+	public QueueUserStatus enter(Queue queue, Long userId) {
+		if (!enabled) {
+			throw new BusinessException(QueueErrorCode.QUEUE_SERVICE_UNAVAILABLE);
+		}
+
+		if (queueRedisRepository.isInEnterable(queue.getId(), userId)) {
+			return QueueUserStatus.enterable(null);
+		}
+
+		// 빈 대기열 제거(tick)와 원자적으로 진입하도록 compute 안에서 처리
+		QueueUserStatus[] entered = new QueueUserStatus[1];
+		queues.compute(queue.getId(), (id, localQueue) -> {
+			LocalQueue target = localQueue != null ? localQueue : new LocalQueue(queue);
+			entered[0] = target.enter(userId, System.currentTimeMillis(), maxWaiting);
+			return target.isEmpty() ? null : target;
+		});
+
+		QueueUserStatus status = entered[0];
+		if (status == null) {
+			degradedMetrics.recordRejected();
+			throw new BusinessException(QueueErrorCode.QUEUE_SERVICE_UNAVAILABLE);
+		}
+
+		degradedMetrics.recordEntered();
+		return status;
+	}
+
+	/**
+	 * 로컬 대기열 상태 (Redis 복원 전까지는 로컬이 우선)
+	 */
+	public Optional<QueueUserStatus> findStatus(Long queueId, Long userId) {
+		if (queues.isEmpty()) return Optional.empty();
+
+		LocalQueue localQueue = queues.get(queueId);
+		return localQueue != null ? Optional.ofNullable(localQueue.status(userId)) : Optional.empty();
+	}
+
+	public boolean isLocallyEnterable(Long queueId, Long userId) {
+		return findStatus(queueId, userId).map(QueueUserStatus::isEnterable).orElse(false);
+	}
+
+	/**
+	 * 로컬 대기열에서 제거 (exit/complete)
+	 *
+	 * @return 제거 직전 상태 (로컬에 없으면 empty)
+	 */
+	public Optional<QueueUserStatus.State> remove(Long queueId, Long userId) {
+		if (queues.isEmpty()) return Optional.empty();
+
+		LocalQueue localQueue = queues.get(queueId);
+		return localQueue != null ? Optional.ofNullable(localQueue.remove(userId)) : Optional.empty();
+	}
+
+	/**
+	 * 회로 열림: 토큰 버킷 승격 / 회로 닫힘: Redis로 복원
+	 */
+	@Scheduled(fixedDelayString = "${queue.degraded.tick-ms:1000}")
+	public void tick() {
+		boolean circuitClosed = isCircuitClosed();
+
+		long waiting = 0;
+		long enterable = 0;
+		for (Map.Entry<Long, LocalQueue> entry : queues.entrySet()) {
+			Long queueId = entry.getKey();
+			LocalQueue localQueue = entry.getValue();
+
+			try {
+				if (circuitClosed) {
+					reconcile(queueId, localQueue);
+				} else {
+					admit(queueId, localQueue);
+				}
+			} catch (Exception e) {
+				log.warn("장애 모드 로컬 대기열 처리 실패 - queueId: {}", queueId, e);
+			}
+
+			// 진입(compute)과 원자적으로 빈 대기열 제거
+			queues.computeIfPresent(queueId, (id, current) -> current.isEmpty() ? null : current);
+			waiting += localQueue.waitingCount();
+			enterable += localQueue.enterableCount();
+		}
+
+		degradedMetrics.updateState(!queues.isEmpty(), waiting, enterable);
+	}
+
+	private void admit(Long queueId, LocalQueue localQueue) {
+		List<Long> admitted = localQueue.admit(System.currentTimeMillis(), activeShare);
+		if (admitted.isEmpty()) return;
+
+		LocalDateTime now = LocalDateTime.now(KST);
+		LocalDateTime expiresAt = now.plusMinutes(localQueue.entryTtlMinutes());
+		queueEntryWriteBehind.enqueueAll(admitted.stream()
+			.map(userId -> QueueEntryTransition.enterable(queueId, userId, now, expiresAt))
+			.toList());
+
+		degradedMetrics.recordAdmitted(admitted.size());
+		log.info("장애 모드 로컬 승격 - queueId: {}, 인원: {}명", queueId, admitted.size());
+	}
+
+	private void reconcile(Long queueId, LocalQueue localQueue) {
+		LocalQueue.Snapshot snapshot = localQueue.snapshot(System.currentTimeMillis());
+		if (snapshot.isEmpty()) return;
+
+		if (!queueRedisRepository.restoreLocalAdmissions(
+			queueId,
+			localQueue.waitingShardCount(),
+			snapshot.waitingMillisByUser(),
+			snapshot.expiresAtSecondsByUser()
+		)) {
+			return; // 다음 tick에 재시도
+		}
+
+		localQueue.clear(snapshot);
+		int restored = snapshot.waitingByUser().size() + snapshot.expiresAtMillisByUser().size();
+		degradedMetrics.recordReconciled(restored);
+		log.info("장애 모드 로컬 대기열 Redis 복원 - queueId: {}, WAITING: {}명, ENTERABLE: {}명",
+			queueId, snapshot.waitingByUser().size(), snapshot.expiresAtMillisByUser().size());
+	}
+
+	private boolean isCircuitClosed() {
+		CircuitBreaker.State state = circuitBreakerRegistry.circuitBreaker(CIRCUIT_NAME).getState();
+		return state == CircuitBreaker.State.CLOSED || state == CircuitBreaker.State.DISABLED;
+	}
+
+	/**
+	 * 노드 로컬 대기열 (대기열 단위 락)
+	 */
+	private static final class LocalQueue {
+
+		private final int maxActiveUsers;
+		private final int entryTtlMinutes;
+		private final int waitingShardCount;
+
+		/** userId → 진입 순번 (삽입 순서 = FIFO) */
+		private final LinkedHashMap<Long, Waiting> waiting = new LinkedHashMap<>();
+		/** userId → 만료 시각(ms) */
+		private final Map<Long, Long> enterable = new HashMap<>();
+
+		private long nextSeq;
+		private long admittedSeq;
+		private double tokens = -1;
+		private long lastRefillMillis;
+
+		private LocalQueue(Queue queue) {
+			this.maxActiveUsers = queue.getMaxActiveUsers();
+			this.entryTtlMinutes = queue.getEntryTtlMinutes();
+			this.waitingShardCount = queue.getWaitingShardCount();
+		}
+
+		private record Waiting(long seq, long enqueuedAtMillis) {
+		}
+
+		/**
+		 * 복원 시점 로컬 상태 (제거 시 같은 진입 순번/만료 시각인 항목만 제거하기 위해 원본 값 보관)
+		 */
+		private record Snapshot(Map<Long, Waiting> waitingByUser, Map<Long, Long> expiresAtMillisByUser) {
+			boolean isEmpty() {
+				return waitingByUser.isEmpty() && expiresAtMillisByUser.isEmpty();
+			}
+
+			Map<Long, Long> waitingMillisByUser() {
+				Map<Long, Long> waitingMillis = new LinkedHashMap<>();
+				waitingByUser.forEach((userId, entry) -> waitingMillis.put(userId, entry.enqueuedAtMillis()));
+				return waitingMillis;
+			}
+
+			Map<Long, Long> expiresAtSecondsByUser() {
+				Map<Long, Long> expiresAtSeconds = new HashMap<>();
+				expiresAtMillisByUser.forEach((userId, expiresAt) ->
+					expiresAtSeconds.put(userId, TimeUnit.MILLISECONDS.toSeconds(expiresAt)));
+				return expiresAtSeconds;
+			}
+		}
+
+		private int entryTtlMinutes() {
+			return entryTtlMinutes;
+		}
+
+		private int waitingShardCount() {
+			return waitingShardCount;
+		}
+
+		/**
+		 * @return 진입 후 상태 (로컬 상한 초과 시 null)
+		 */
+		private synchronized QueueUserStatus enter(Long userId, long nowMillis, int maxWaiting) {
+			QueueUserStatus current = status(userId);
+			if (current != null) return current;
+			if (waiting.size() >= maxWaiting) return null;
+
+			waiting.put(userId, new Waiting(nextSeq++, nowMillis));
+			return status(userId);
+		}
+
+		/**
+		 * 순번은 앞사람 이탈을 반영하지 않는 근사 (실제보다 크거나 같음)
+		 */
+		private synchronized QueueUserStatus status(Long userId) {
+			Waiting entry = waiting.get(userId);
+			if (entry != null) {
+				return new QueueUserStatus(
+					QueueUserStatus.State.WAITING,
+					Math.max(0L, entry.seq() - admittedSeq),
+					waiting.size(),
+					null
+				);
+			}
+
+			Long expiresAtMillis = enterable.get(userId);
+			long nowMillis = System.currentTimeMillis();
+			if (expiresAtMillis != null && expiresAtMillis > nowMillis) {
+				return QueueUserStatus.enterable(TimeUnit.MILLISECONDS.toSeconds(expiresAtMillis - nowMillis));
+			}
+			return null;
+		}
+
+		private synchronized QueueUserStatus.State remove(Long userId) {
+			if (waiting.remove(userId) != null) return QueueUserStatus.State.WAITING;
+			return enterable.remove(userId) != null ? QueueUserStatus.State.ENTERABLE : null;
+		}
+
+		/**
+		 * 토큰 버킷 승격 (노드 상한 = maxActiveUsers × share, 보충 = 상한 / TTL초)
+		 */
+		private synchronized List<Long> admit(long nowMillis, double share) {
+			enterable.values().removeIf(expiresAt -> expiresAt <= nowMillis);
+
+			int capacity = Math.max(1, (int) Math.floor(maxActiveUsers * share));
+			long ttlMillis = TimeUnit.MINUTES.toMillis(entryTtlMinutes);
+			if (tokens < 0) {
+				tokens = capacity;
+			} else {
+				double refill = (nowMillis - lastRefillMillis) * (double) capacity / Math.max(1L, ttlMillis);
+				tokens = Math.min(capacity, tokens + refill);
+			}
+			lastRefillMillis = nowMillis;
+
+			List<Long> admitted = new ArrayList<>();
+			Iterator<Map.Entry<Long, Waiting>> it = waiting.entrySet().iterator();
+			while (it.hasNext() && tokens >= 1 && enterable.size() < capacity) {
+				Map.Entry<Long, Waiting> head = it.next();
+				it.remove();
+				admittedSeq = head.getValue().seq() + 1;
+				enterable.put(head.getKey(), nowMillis + ttlMillis);
+				admitted.add(head.getKey());
+				tokens -= 1;
+			}
+			return admitted;
+		}
+
+		private synchronized Snapshot snapshot(long nowMillis) {
+			Map<Long, Waiting> waitingByUser = new LinkedHashMap<>(waiting);
+
+			Map<Long, Long> expiresAtMillis = new HashMap<>();
+			enterable.forEach((userId, expiresAt) -> {
+				if (expiresAt > nowMillis) {
+					expiresAtMillis.put(userId, expiresAt);
+				}
+			});
+			return new Snapshot(waitingByUser, expiresAtMillis);
+		}
+
+		/**
+		 * 복원된 항목만 제거
+		 *
+		 * 복원 중 이탈 후 재진입/승격한 사용자는 진입 순번·만료 시각이 달라지므로 유지 (다음 tick에 다시 복원)
+		 */
+		private synchronized void clear(Snapshot snapshot) {
+			snapshot.waitingByUser().forEach(waiting::remove);
+			snapshot.expiresAtMillisByUser().forEach(enterable::remove);
+			long nowMillis = System.currentTimeMillis();
+			enterable.values().removeIf(expiresAt -> expiresAt <= nowMillis);
+		}
+
+		private synchronized boolean isEmpty() {
+			return waiting.isEmpty() && enterable.isEmpty();
+		}
+
+		private synchronized int waitingCount() {
+			return waiting.size();
+		}
+
+		private synchronized int enterableCount() {
+			return enterable.size();
+		}
+	}
+}
@@ -17,4 +17,14 @@ public class NoOpQueueAccessService implements QueueAccessService {
 	public void assertEnterable(Long performanceId, Long userId) {
 		log.debug("[QUEUE-OFF] skip assertEnterable - performanceId: {}, userId: {}", performanceId, userId);
 	}
+
+	@Override
+	public void assertEnterable(Long performanceId, Long userId, String queuePass) {
+		log.debug("[QUEUE-OFF] skip assertEnterable(pass) - performanceId: {}, userId: {}", performanceId, userId);
+	}
+
+	@Override
+	public void recordSeatHold(Long performanceId, long latencyMillis, boolean overloaded) {
+		// 대기열 비활성 시 입장 제어 신호 불필요
+	}
 }
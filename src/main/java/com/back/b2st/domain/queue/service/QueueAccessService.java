@@ -9,4 +9,20 @@ public interface QueueAccessService {
 	 */
 	void assertEnterable(Long performanceId, Long userId);
 
+	/**
+	 * 서명 입장권 우선 검증 (좌석 HOLD 등 고빈도 경로)
+	 *
+	 * 입장권이 유효하면 로컬 검증만으로 통과, 없거나 무효면 assertEnterable(performanceId, userId)로 대체
+	 */
+	void assertEnterable(Long performanceId, Long userId, String queuePass);
+
+	/**
+	 * 좌석 HOLD 처리 결과 보고 (적응형 입장 제어 신호)
+	 *
+	 * @param performanceId 공연 ID
+	 * @param latencyMillis HOLD 처리 시간(ms)
+	 * @param overloaded 락 경합/인프라 오류 등 과부하성 실패 여부
+	 */
+	void recordSeatHold(Long performanceId, long latencyMillis, boolean overloaded);
+
 }
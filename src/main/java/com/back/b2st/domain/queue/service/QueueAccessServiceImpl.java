@@ -5,8 +5,8 @@ import org.springframework.stereotype.Service;
 
 import com.back.b2st.domain.queue.entity.Queue;
 import com.back.b2st.domain.queue.error.QueueErrorCode;
+import com.back.b2st.domain.queue.metrics.QueuePassMetrics;
 import com.back.b2st.domain.queue.repository.QueueRedisRepository;
-import com.back.b2st.domain.queue.repository.QueueRepository;
 import com.back.b2st.global.error.exception.BusinessException;
 
 import lombok.RequiredArgsConstructor;
@@ -21,8 +21,12 @@ import lombok.extern.slf4j.Slf4j;
 @ConditionalOnProperty(name = "queue.enabled", havingValue = "true", matchIfMissing = false)
 public class QueueAccessServiceImpl implements QueueAccessService {
 
-	private final QueueRepository queueRepository;
+	private final QueuePolicyCache queuePolicyCache;
 	private final QueueRedisRepository queueRedisRepository;
+	private final SeatHoldSignalCollector seatHoldSignalCollector;
+	private final QueuePassService queuePassService;
+	private final QueuePassMetrics queuePassMetrics;
+	private final DegradedAdmissionService degradedAdmissionService;
 
 	/**
 	 * (내부용) 사용자가 해당 공연의 대기열을 통과했는지 확인
@@ -32,8 +36,8 @@ public class QueueAccessServiceImpl implements QueueAccessService {
 	 * @return ENTERABLE 상태면 true, 아니면 false
 	 */
 	public boolean isEnterable(Long performanceId, Long userId) {
-		// 1. 공연의 큐가 존재하는지 확인
-		Queue queue = queueRepository.findByPerformanceId(performanceId)
+		// 1. 공연의 큐가 존재하는지 확인 (near cache)
+		Queue queue = queuePolicyCache.findByPerformanceId(performanceId)
 			.orElse(null);
 
 		if (queue == null) {
@@ -41,7 +45,12 @@ public class QueueAccessServiceImpl implements QueueAccessService {
 			return false;
 		}
 
-		// 2. Redis에서 ENTERABLE 상태 확인 (SoT)
+		// 2. Redis 장애 중 이 노드에서 로컬 승격된 사용자
+		if (degradedAdmissionService.isLocallyEnterable(queue.getId(), userId)) {
+			return true;
+		}
+
+		// 3. Redis에서 ENTERABLE 상태 확인 (SoT)
 		try {
 			boolean enterable = queueRedisRepository.isInEnterable(queue.getId(), userId);
 			log.debug("isEnterable check - performanceId: {}, userId: {}, queueId: {}, result: {}",
@@ -66,4 +75,28 @@ public class QueueAccessServiceImpl implements QueueAccessService {
 		}
 		log.debug("User enterable verified - performanceId: {}, userId: {}", performanceId, userId);
 	}
+
+	/**
+	 * 서명 입장권 우선 검증
+	 *
+	 * 대기열 존재 확인(near cache) + 입장권 로컬 검증으로 Redis 왕복 없이 통과
+	 */
+	@Override
+	public void assertEnterable(Long performanceId, Long userId, String queuePass) {
+		if (queuePass != null && !queuePass.isBlank()
+			&& queuePolicyCache.findByPerformanceId(performanceId).isPresent()
+			&& queuePassService.verify(queuePass, userId, performanceId)) {
+			queuePassMetrics.recordVerification(true);
+			log.debug("Queue pass verified - performanceId: {}, userId: {}", performanceId, userId);
+			return;
+		}
+
+		queuePassMetrics.recordVerification(false);
+		assertEnterable(performanceId, userId);
+	}
+
+	@Override
+	public void recordSeatHold(Long performanceId, long latencyMillis, boolean overloaded) {
+		seatHoldSignalCollector.record(performanceId, latencyMillis, overloaded);
+	}
 }
@@ -0,0 +1,227 @@
+package com.back.b2st.domain.queue.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.back.b2st.domain.queue.dto.QueueEntryTransition;
+import com.back.b2st.domain.queue.metrics.QueueWriteBehindMetrics;
+import com.back.b2st.domain.queue.repository.QueueEntryBatchRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * QueueEntry 상태 전이 write-behind (노드 로컬 bounded buffer → JDBC batch)
+ *
+ * - ENTERABLE의 SoT는 Redis이므로 DB 기록은 이력 용도 → 승격/완료/이탈 경로에서 DB 쓰기 제거
+ * - flush 주기마다 최대 batch-size건을 drain하여 한 트랜잭션으로 기록, 실패 시 재시도
+ * - 재시도 소진 시 배치를 폐기하지 않고 보관, 다음 flush에서 새 전이보다 먼저 다시 기록 (순서 유지)
+ *   보관 배치가 기록되기 전에는 새 전이를 drain하지 않으므로 DB 장애 동안 적체는 버퍼로 제한
+ * - 버퍼가 가득 차면 호출 스레드는 enqueue-timeout-ms까지만 대기(backpressure) 후 포기 (로그 + 지표)
+ *   요청 스레드에서 DB 기록/재시도 대기를 하지 않음. 누락된 DB ENTERABLE은 QueueEntryCleanupScheduler가 보정
+ *
+ * 한 배치 안에서 사용자별 전이 순서 보장: 같은 (queueId, userId)의 n번째 전이는 n번째 라운드에 기록
+ * - 라운드 안에서는 사용자당 1건이라 유형별(ENTERABLE/COMPLETED/EXPIRED) batch로 묶어도 순서 무관
+ * - 대부분 사용자당 1건이므로 보통 라운드 1개 (이탈 후 재진입 등 같은 주기 내 반복 전이만 라운드 추가)
+ * flush 주기만큼 DB 이력이 지연되므로 DB 상태 조회는 최대 flush-ms 만큼 이전 상태일 수 있음
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "queue.enabled", havingValue = "true", matchIfMissing = false)
+public class QueueEntryWriteBehind {
+
+	private final QueueEntryBatchRepository queueEntryBatchRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final QueueWriteBehindMetrics writeBehindMetrics;
+
+	@Value("${queue.write-behind.capacity:100000}")
+	private int capacity;
+
+	@Value("${queue.write-behind.batch-size:1000}")
+	private int batchSize;
+
+	@Value("${queue.write-behind.max-retries:3}")
+	private int maxRetries;
+
+	@Value("${queue.write-behind.retry-backoff-ms:200}")
+	private long retryBackoffMs;
+
+	@Value("${queue.write-behind.enqueue-timeout-ms:50}")
+	private long enqueueTimeoutMs;
+
+	private BlockingQueue<QueueEntryTransition> buffer;
+
+	/** 재시도 소진으로 보관 중인 배치 (flush 스레드 전용, 다음 flush에서 우선 기록) */
+	private List<QueueEntryTransition> retryBatch = List.of();
+
+	@PostConstruct
+	void initBuffer() {
+		buffer = new ArrayBlockingQueue<>(capacity);
+	}
+
+	/**
+	 * 종료 시 남은 전이 모두 기록 (기록 실패 시 남은 전이는 폐기)
+	 */
+	@PreDestroy
+	void drainOnShutdown() {
+		while (!retryBatch.isEmpty() || !buffer.isEmpty()) {
+			if (!flushOnce()) {
+				int remaining = retryBatch.size() + buffer.size();
+				writeBehindMetrics.recordDropped(remaining);
+				log.error("write-behind 종료 중 기록 실패, 남은 전이 폐기 - 건수: {}", remaining);
+				return;
+			}
+		}
+	}
+
+	/**
+	 * 전이 적재 (버퍼가 가득 차면 enqueue-timeout-ms까지만 대기)
+	 */
+	public void enqueue(QueueEntryTransition transition) {
+		try {
+			if (buffer.offer(transition, enqueueTimeoutMs, TimeUnit.MILLISECONDS)) return;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		writeBehindMetrics.recordDropped(1);
+		log.error("write-behind 버퍼 포화, 전이 기록 포기 - queueId: {}, userId: {}, type: {}",
+			transition.queueId(), transition.userId(), transition.type());
+	}
+
+	public void enqueueAll(List<QueueEntryTransition> transitions) {
+		for (QueueEntryTransition transition : transitions) {
+			enqueue(transition);
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${queue.write-behind.flush-ms:200}")
+	public void flush() {
+		// 적재량이 많으면 한 주기에 여러 배치 처리
+		while (buffer.size() >= batchSize) {
+			if (!flushOnce()) return;
+		}
+		flushOnce();
+	}
+
+	/**
+	 * 보관 배치가 있으면 그것부터, 없으면 버퍼에서 최대 batch-size건 기록
+	 *
+	 * @return 기록 성공 여부 (비어있으면 true)
+	 */
+	private boolean flushOnce() {
+		List<QueueEntryTransition> batch = retryBatch;
+		if (batch.isEmpty()) {
+			batch = new ArrayList<>(Math.min(buffer.size(), batchSize));
+			buffer.drainTo(batch, batchSize);
+		}
+
+		QueueEntryTransition head = batch.isEmpty() ? buffer.peek() : batch.getFirst();
+		writeBehindMetrics.updateState(
+			retryBatch.size() + buffer.size(),
+			head != null ? System.currentTimeMillis() - head.enqueuedAtMillis() : 0L
+		);
+		if (batch.isEmpty()) return true;
+
+		if (writeWithRetry(batch)) {
+			retryBatch = List.of();
+			return true;
+		}
+
+		if (retryBatch.isEmpty()) {
+			writeBehindMetrics.recordRequeued(batch.size());
+		}
+		retryBatch = batch;
+		return false;
+	}
+
+	private boolean writeWithRetry(List<QueueEntryTransition> transitions) {
+		for (int attempt = 1; attempt <= maxRetries; attempt++) {
+			try {
+				write(transitions);
+				writeBehindMetrics.recordFlushed(transitions.size());
+				return true;
+			} catch (Exception e) {
+				if (attempt == maxRetries) {
+					log.error("write-behind 기록 실패(재시도 소진), 다음 주기 재기록 - 건수: {}", transitions.size(), e);
+					return false;
+				}
+
+				writeBehindMetrics.recordRetry();
+				log.warn("write-behind 기록 실패, 재시도 {}/{} - 건수: {}", attempt, maxRetries, transitions.size(), e);
+				if (!sleepBackoff(attempt)) {
+					return false;
+				}
+			}
+		}
+		return false;
+	}
+
+	private void write(List<QueueEntryTransition> transitions) {
+		List<List<QueueEntryTransition>> rounds = new ArrayList<>();
+		Map<EntryKey, Integer> transitionCounts = new HashMap<>();
+		for (QueueEntryTransition transition : transitions) {
+			EntryKey key = new EntryKey(transition.queueId(), transition.userId());
+			int round = transitionCounts.merge(key, 1, Integer::sum) - 1;
+			if (round == rounds.size()) {
+				rounds.add(new ArrayList<>());
+			}
+			rounds.get(round).add(transition);
+		}
+
+		transactionTemplate.executeWithoutResult(status -> {
+			for (List<QueueEntryTransition> round : rounds) {
+				writeRound(round);
+			}
+		});
+	}
+
+	/**
+	 * 사용자당 최대 1건인 전이 묶음을 유형별 batch로 기록
+	 */
+	private void writeRound(List<QueueEntryTransition> transitions) {
+		List<QueueEntryTransition> enterables = new ArrayList<>();
+		List<QueueEntryTransition> completes = new ArrayList<>();
+		List<QueueEntryTransition> expires = new ArrayList<>();
+
+		for (QueueEntryTransition transition : transitions) {
+			switch (transition.type()) {
+				case ENTERABLE -> enterables.add(transition);
+				case COMPLETED -> completes.add(transition);
+				case EXPIRED -> expires.add(transition);
+			}
+		}
+
+		queueEntryBatchRepository.batchUpsertEnterable(enterables);
+		queueEntryBatchRepository.batchUpsertCompleted(completes);
+		queueEntryBatchRepository.batchExpireEnterable(expires);
+	}
+
+	private boolean sleepBackoff(int attempt) {
+		try {
+			Thread.sleep(retryBackoffMs * attempt);
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	/** 전이 순서 보장 단위 */
+	private record EntryKey(Long queueId, Long userId) {
+	}
+}
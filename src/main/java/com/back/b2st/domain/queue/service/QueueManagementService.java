@@ -5,12 +5,14 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.back.b2st.domain.queue.dto.QueueDefaultPolicy;
+import com.back.b2st.domain.queue.dto.event.QueuePolicyChangedEvent;
 import com.back.b2st.domain.queue.dto.request.CreateQueueReq;
 import com.back.b2st.domain.queue.dto.request.UpdateQueueReq;
 import com.back.b2st.domain.queue.dto.response.QueueRes;
@@ -38,6 +40,7 @@ public class QueueManagementService {
 
 	private final QueueRepository queueRepository;
 	private final QueueRedisRepository queueRedisRepository;
+	private final ApplicationEventPublisher eventPublisher;
 
 	@Transactional
 	public QueueRes createQueue(CreateQueueReq request) {
@@ -49,12 +52,14 @@ public class QueueManagementService {
 			.queueType(queueType)
 			.maxActiveUsers(request.maxActiveUsers())
 			.entryTtlMinutes(request.entryTtlMinutes())
+			.waitingShardCount(request.waitingShardCount())
 			.build();
 
 		try {
 			queue = queueRepository.save(queue);
 			log.info("Queue created - queueId: {}, performanceId: {}, type: {}",
 				queue.getId(), queue.getPerformanceId(), queue.getQueueType());
+			eventPublisher.publishEvent(QueuePolicyChangedEvent.of(queue.getId(), queue.getPerformanceId()));
 			return QueueRes.from(queue);
 		} catch (DataAccessException e) {
 			log.error("Failed to create queue", e);
@@ -88,6 +93,7 @@ public class QueueManagementService {
 
 					Queue saved = queueRepository.save(newQueue);
 					log.info("Queue created - queueId: {}, performanceId: {}", saved.getId(), performanceId);
+					eventPublisher.publishEvent(QueuePolicyChangedEvent.of(saved.getId(), performanceId));
 					return saved;
 				} catch (DataIntegrityViolationException e) {
 					// 3. 레이스 컨디션: 다른 스레드가 이미 생성함
@@ -105,7 +111,7 @@ public class QueueManagementService {
 		Queue queue = validateQueue(queueId);
 
 		int currentWaiting = getRedisCountWithFallback(() ->
-			queueRedisRepository.getTotalWaitingCount(queueId));
+			queueRedisRepository.getTotalWaitingCount(queueId, queue.getWaitingShardCount()));
 
 		int currentEnterable = getRedisCountWithFallback(() ->
 			queueRedisRepository.getTotalEnterableCount(queueId));
@@ -131,7 +137,7 @@ public class QueueManagementService {
 
 		Queue queue = queueOpt.get();
 		int currentWaiting = getRedisCountWithFallback(() ->
-			queueRedisRepository.getTotalWaitingCount(queue.getId()));
+			queueRedisRepository.getTotalWaitingCount(queue.getId(), queue.getWaitingShardCount()));
 		int currentEnterable = getRedisCountWithFallback(() ->
 			queueRedisRepository.getTotalEnterableCount(queue.getId()));
 
@@ -168,7 +174,7 @@ public class QueueManagementService {
 		return queues.stream()
 			.map(queue -> {
 				int currentWaiting = getRedisCountWithFallback(() ->
-					queueRedisRepository.getTotalWaitingCount(queue.getId()));
+					queueRedisRepository.getTotalWaitingCount(queue.getId(), queue.getWaitingShardCount()));
 				int currentEnterable = getRedisCountWithFallback(() ->
 					queueRedisRepository.getTotalEnterableCount(queue.getId()));
 				return QueueRes.of(queue, currentWaiting, currentEnterable);
@@ -191,6 +197,7 @@ public class QueueManagementService {
 			queue = queueRepository.save(queue);
 			log.info("Queue updated - queueId: {}, maxActiveUsers: {}, entryTtlMinutes: {}",
 				queueId, queue.getMaxActiveUsers(), queue.getEntryTtlMinutes());
+			eventPublisher.publishEvent(QueuePolicyChangedEvent.of(queueId, queue.getPerformanceId()));
 			return QueueRes.from(queue);
 		} catch (DataAccessException e) {
 			log.error("Failed to update queue - queueId: {}", queueId, e);
@@ -203,14 +210,21 @@ public class QueueManagementService {
 		Queue queue = validateQueue(queueId);
 
 		try {
-			queueRedisRepository.clearAll(queueId);
+			queueRedisRepository.clearAll(queueId, queue.getWaitingShardCount());
 		} catch (Exception e) {
 			log.warn("clearAll() 사용 불가 또는 실패, 개별 키 정리는 스케줄러/운영 정책에 위임 - queueId: {}", queueId, e);
 		}
 
+		try {
+			queueRedisRepository.deregisterActiveQueue(queueId);
+		} catch (Exception e) {
+			log.warn("활성 대기열 레지스트리 해제 실패 - queueId: {}", queueId, e);
+		}
+
 		try {
 			queueRepository.delete(queue);
 			log.info("Queue deleted - queueId: {}, performanceId: {}", queueId, queue.getPerformanceId());
+			eventPublisher.publishEvent(QueuePolicyChangedEvent.of(queueId, queue.getPerformanceId()));
 		} catch (DataAccessException e) {
 			log.error("Failed to delete queue - queueId: {}", queueId, e);
 			throw new BusinessException(QueueErrorCode.QUEUE_INTERNAL_ERROR);
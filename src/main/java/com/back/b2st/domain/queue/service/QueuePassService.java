@@ -0,0 +1,172 @@
+package com.back.b2st.domain.queue.service;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.back.b2st.domain.queue.metrics.QueuePassMetrics;
+import com.back.b2st.domain.queue.repository.QueueRedisRepository;
+import com.back.b2st.global.jwt.JwtTokenProvider;
+
+import io.jsonwebtoken.Claims;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 서명 입장권(queue pass) 발급/검증
+ *
+ * - ENTERABLE 확인 시 userId + performanceId + 만료를 담은 HMAC 토큰 발급 (JwtTokenProvider 서명키 재사용)
+ * - 좌석 HOLD는 입장권을 로컬 검증하여 Redis/DB 조회 없이 통과
+ * - 만료 = min(ENTERABLE 남은 시간, queue.pass.ttl-seconds)
+ * - exit/complete 시 폐기: Redis ZSET(재기동 복구용) + pub/sub(노드 로컬 폐기 목록 동기화)
+ *
+ * 폐기는 "폐기 시각 이전 발급분"에만 적용되어 재입장 후 새 입장권은 유효
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "queue.enabled", havingValue = "true", matchIfMissing = false)
+public class QueuePassService {
+
+	private static final String SCOPE = "queue-pass";
+	private static final String CLAIM_USER_ID = "uid";
+	private static final String CLAIM_PERFORMANCE_ID = "pid";
+	private static final String CLAIM_ISSUED_AT_MILLIS = "iatMs";
+	private static final String TOPIC_PATTERN = "%s:%s:queue:pass-revoke";
+
+	private final JwtTokenProvider jwtTokenProvider;
+	private final QueueRedisRepository queueRedisRepository;
+	private final RedissonClient redissonClient;
+	private final QueuePassMetrics queuePassMetrics;
+
+	@Value("${spring.application.name:b2st}")
+	private String appName;
+
+	@Value("${spring.profiles.active:local}")
+	private String profile;
+
+	@Value("${queue.pass.ttl-seconds:300}")
+	private long ttlSeconds;
+
+	/** "performanceId:userId" → 폐기 시각(ms) */
+	private final Map<String, Long> revokedAtMillis = new ConcurrentHashMap<>();
+
+	private RTopic topic;
+	private int listenerId;
+
+	@PostConstruct
+	void init() {
+		topic = redissonClient.getTopic(String.format(TOPIC_PATTERN, appName, profile), StringCodec.INSTANCE);
+		listenerId = topic.addListener(String.class, (channel, message) -> {
+			try {
+				int separator = message.lastIndexOf('@');
+				revokeLocal(message.substring(0, separator), Long.parseLong(message.substring(separator + 1)));
+			} catch (Exception e) {
+				log.warn("입장권 폐기 메시지 처리 실패 - message: {}", message, e);
+			}
+		});
+
+		// 재기동 노드는 입장권 수명 내 폐기 기록을 복구
+		long since = System.currentTimeMillis() - TimeUnit.SECONDS.toMillis(ttlSeconds);
+		Set<ZSetOperations.TypedTuple<String>> revocations = queueRedisRepository.getPassRevocationsSince(since);
+		for (ZSetOperations.TypedTuple<String> revocation : revocations) {
+			if (revocation.getValue() == null || revocation.getScore() == null) continue;
+			revokeLocal(revocation.getValue(), revocation.getScore().longValue());
+		}
+	}
+
+	@PreDestroy
+	void shutdown() {
+		if (topic != null) {
+			topic.removeListener(listenerId);
+		}
+	}
+
+	/**
+	 * 입장권 발급
+	 *
+	 * @param enterableTtlSeconds ENTERABLE 남은 시간(초)
+	 */
+	public String issue(Long userId, Long performanceId, long enterableTtlSeconds) {
+		long now = System.currentTimeMillis();
+		long validSeconds = Math.max(0L, Math.min(enterableTtlSeconds, ttlSeconds));
+
+		String pass = jwtTokenProvider.generateScopedToken(
+			SCOPE,
+			Map.of(
+				CLAIM_USER_ID, userId,
+				CLAIM_PERFORMANCE_ID, performanceId,
+				CLAIM_ISSUED_AT_MILLIS, now
+			),
+			now + TimeUnit.SECONDS.toMillis(validSeconds)
+		);
+		queuePassMetrics.recordIssued();
+		return pass;
+	}
+
+	/**
+	 * 입장권 로컬 검증 (서명/만료/사용자/공연/폐기 여부)
+	 */
+	public boolean verify(String pass, Long userId, Long performanceId) {
+		Claims claims = jwtTokenProvider.parseScopedToken(pass, SCOPE);
+		if (claims == null) return false;
+
+		Long passUserId = claims.get(CLAIM_USER_ID, Long.class);
+		Long passPerformanceId = claims.get(CLAIM_PERFORMANCE_ID, Long.class);
+		Long issuedAtMillis = claims.get(CLAIM_ISSUED_AT_MILLIS, Long.class);
+		if (!userId.equals(passUserId) || !performanceId.equals(passPerformanceId) || issuedAtMillis == null) {
+			return false;
+		}
+
+		Long revokedAt = revokedAtMillis.get(revocationMember(performanceId, userId));
+		return revokedAt == null || issuedAtMillis > revokedAt;
+	}
+
+	/**
+	 * 사용자의 해당 공연 입장권 폐기 (exit/complete)
+	 */
+	public void revoke(Long userId, Long performanceId) {
+		String member = revocationMember(performanceId, userId);
+		long now = System.currentTimeMillis();
+
+		revokeLocal(member, now);
+		queueRedisRepository.addPassRevocation(member, now);
+
+		try {
+			topic.publish(member + "@" + now);
+		} catch (Exception e) {
+			// 전파 실패 시 타 노드는 입장권 만료(ttl-seconds 이내)로 수렴
+			log.warn("입장권 폐기 전파 실패 - performanceId: {}, userId: {}", performanceId, userId, e);
+		}
+	}
+
+	/**
+	 * 입장권 수명이 지난 폐기 기록 정리 (로컬 + Redis)
+	 */
+	@Scheduled(fixedDelayString = "${queue.pass.revocation-prune-ms:60000}")
+	public void pruneRevocations() {
+		long before = System.currentTimeMillis() - TimeUnit.SECONDS.toMillis(ttlSeconds);
+		revokedAtMillis.values().removeIf(revokedAt -> revokedAt < before);
+		queueRedisRepository.prunePassRevocations(before);
+	}
+
+	private void revokeLocal(String member, long revokedAt) {
+		revokedAtMillis.merge(member, revokedAt, Math::max);
+	}
+
+	private String revocationMember(Long performanceId, Long userId) {
+		return performanceId + ":" + userId;
+	}
+}
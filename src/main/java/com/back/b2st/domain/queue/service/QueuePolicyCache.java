@@ -0,0 +1,166 @@
+package com.back.b2st.domain.queue.service;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.back.b2st.domain.queue.dto.event.QueuePolicyChangedEvent;
+import com.back.b2st.domain.queue.entity.Queue;
+import com.back.b2st.domain.queue.metrics.QueueMetrics;
+import com.back.b2st.domain.queue.repository.QueueRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Queue 정책 엔티티 near cache (노드 로컬)
+ *
+ * - queueId / performanceId 두 키로 조회
+ * - TTL 만료 시 DB 재조회 (queue.policy-cache.ttl-seconds)
+ * - 대기열이 없는 공연(performanceId)도 같은 TTL로 부재 결과를 캐시 (대기열 미적용 공연의 HOLD마다 DB 조회 방지)
+ * - Queue 생성/변경/삭제는 QueueManagementService 뿐이므로
+ *   커밋 이후 로컬 무효화(부재 결과 포함) + Redis pub/sub으로 타 노드 무효화
+ *
+ * 반환 엔티티는 준영속(detached) 상태의 공유 인스턴스이므로 읽기 전용으로만 사용
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "queue.enabled", havingValue = "true", matchIfMissing = false)
+public class QueuePolicyCache {
+
+	private static final String TOPIC_PATTERN = "%s:%s:queue:policy-invalidate";
+
+	private final QueueRepository queueRepository;
+	private final RedissonClient redissonClient;
+	private final QueueMetrics queueMetrics;
+
+	@Value("${spring.application.name:b2st}")
+	private String appName;
+
+	@Value("${spring.profiles.active:local}")
+	private String profile;
+
+	@Value("${queue.policy-cache.ttl-seconds:30}")
+	private long ttlSeconds;
+
+	private final Map<Long, CachedQueue> byQueueId = new ConcurrentHashMap<>();
+	private final Map<Long, Long> queueIdByPerformanceId = new ConcurrentHashMap<>();
+	/** 대기열 없는 performanceId → 부재 결과 만료 시각(nanoTime) */
+	private final Map<Long, Long> missingByPerformanceId = new ConcurrentHashMap<>();
+
+	private RTopic topic;
+	private int listenerId;
+
+	@PostConstruct
+	void subscribeTopic() {
+		topic = redissonClient.getTopic(String.format(TOPIC_PATTERN, appName, profile), StringCodec.INSTANCE);
+		listenerId = topic.addListener(String.class, (channel, message) -> {
+			try {
+				QueuePolicyChangedEvent event = QueuePolicyChangedEvent.fromMessage(message);
+				evictLocal(event.queueId(), event.performanceId());
+			} catch (Exception e) {
+				log.warn("Queue 정책 캐시 무효화 메시지 처리 실패 - message: {}", message, e);
+			}
+		});
+	}
+
+	@PreDestroy
+	void unsubscribeTopic() {
+		if (topic != null) {
+			topic.removeListener(listenerId);
+		}
+	}
+
+	public Optional<Queue> findById(Long queueId) {
+		CachedQueue cached = byQueueId.get(queueId);
+		if (cached != null && !cached.isExpired()) {
+			queueMetrics.recordPolicyCacheHit();
+			return Optional.of(cached.queue());
+		}
+
+		queueMetrics.recordPolicyCacheMiss();
+		Optional<Queue> loaded = queueRepository.findById(queueId);
+		loaded.ifPresent(this::put);
+		return loaded;
+	}
+
+	public Optional<Queue> findByPerformanceId(Long performanceId) {
+		Long queueId = queueIdByPerformanceId.get(performanceId);
+		if (queueId != null) {
+			CachedQueue cached = byQueueId.get(queueId);
+			if (cached != null && !cached.isExpired()) {
+				queueMetrics.recordPolicyCacheHit();
+				return Optional.of(cached.queue());
+			}
+		}
+
+		Long missingUntil = missingByPerformanceId.get(performanceId);
+		if (missingUntil != null && System.nanoTime() - missingUntil < 0) {
+			queueMetrics.recordPolicyCacheHit();
+			return Optional.empty();
+		}
+
+		queueMetrics.recordPolicyCacheMiss();
+		Optional<Queue> loaded = queueRepository.findByPerformanceId(performanceId);
+		if (loaded.isPresent()) {
+			put(loaded.get());
+		} else {
+			missingByPerformanceId.put(performanceId, expiresAtNanos());
+		}
+		return loaded;
+	}
+
+	public void put(Queue queue) {
+		if (queue == null || queue.getId() == null) return;
+
+		byQueueId.put(queue.getId(), new CachedQueue(queue, expiresAtNanos()));
+		queueIdByPerformanceId.put(queue.getPerformanceId(), queue.getId());
+		missingByPerformanceId.remove(queue.getPerformanceId());
+	}
+
+	/**
+	 * 커밋 이후 로컬 무효화 + 타 노드 전파
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onPolicyChanged(QueuePolicyChangedEvent event) {
+		evictLocal(event.queueId(), event.performanceId());
+
+		try {
+			topic.publish(event.toMessage());
+		} catch (Exception e) {
+			// 전파 실패 시 타 노드는 TTL 만료로 수렴
+			log.warn("Queue 정책 캐시 무효화 전파 실패 - queueId: {}", event.queueId(), e);
+		}
+	}
+
+	private void evictLocal(Long queueId, Long performanceId) {
+		byQueueId.remove(queueId);
+		if (performanceId != null) {
+			queueIdByPerformanceId.remove(performanceId, queueId);
+			missingByPerformanceId.remove(performanceId);
+		}
+		log.debug("Queue 정책 캐시 무효화 - queueId: {}, performanceId: {}", queueId, performanceId);
+	}
+
+	private long expiresAtNanos() {
+		return System.nanoTime() + ttlSeconds * 1_000_000_000L;
+	}
+
+	private record CachedQueue(Queue queue, long expiresAtNanos) {
+		boolean isExpired() {
+			return System.nanoTime() - expiresAtNanos > 0;
+		}
+	}
+}
@@ -0,0 +1,293 @@
+package com.back.b2st.domain.queue.service;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.back.b2st.domain.queue.dto.event.QueueAdmissionEvent;
+import com.back.b2st.domain.queue.dto.response.QueuePositionRes;
+import com.back.b2st.domain.queue.error.QueueErrorCode;
+import com.back.b2st.domain.queue.metrics.QueueMetrics;
+import com.back.b2st.global.error.exception.BusinessException;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 대기열 위치 실시간 스트림 (SSE)
+ *
+ * - 구독 시 1회만 Redis 조회(getMyPosition)하여 초기 순번 확보
+ * - 이후 순번은 승격 이벤트(admittedCount)만으로 로컬에서 차감 (사용자별 Redis 조회 없음)
+ * - 승격 이벤트는 Redis pub/sub(RTopic)으로 모든 인스턴스에 전파
+ * - 노드별 최대 스트림 수 제한 (queue.stream.max-connections)
+ * - 전송은 가상 스레드에서 수행하여 느린 클라이언트가 fan-out을 막지 않도록 함
+ *   (구독자별 직렬 큐로 한 번에 하나씩 보내 이벤트 순서 보장)
+ * - 순번 이벤트에 예상 대기시간, 입장 이벤트에 서명 입장권 포함 (클라이언트가 추가 조회 없이 바로 HOLD)
+ *
+ * 순번 근사: 앞사람의 이탈(exit)은 반영하지 않으므로 실제보다 크거나 같음 (보수적)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "queue.enabled", havingValue = "true", matchIfMissing = false)
+public class QueuePositionStreamService {
+
+	private static final String EVENT_POSITION = "position";
+	private static final String EVENT_ENTERABLE = "enterable";
+	private static final String TOPIC_PATTERN = "%s:%s:queue:admission";
+
+	private final QueueService queueService;
+	private final RedissonClient redissonClient;
+	private final QueueMetrics queueMetrics;
+
+	@Value("${spring.application.name:b2st}")
+	private String appName;
+
+	@Value("${spring.profiles.active:local}")
+	private String profile;
+
+	@Value("${queue.stream.max-connections:10000}")
+	private int maxConnections;
+
+	@Value("${queue.stream.timeout-ms:1800000}")
+	private long timeoutMs;
+
+	/** queueId → (userId → 구독자) */
+	private final Map<Long, Map<Long, Subscriber>> subscribers = new ConcurrentHashMap<>();
+	private final AtomicInteger openCount = new AtomicInteger(0);
+	private final ExecutorService sendExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+	private RTopic topic;
+	private int listenerId;
+
+	@PostConstruct
+	void subscribeTopic() {
+		topic = redissonClient.getTopic(String.format(TOPIC_PATTERN, appName, profile), StringCodec.INSTANCE);
+		listenerId = topic.addListener(String.class, (channel, message) -> {
+			try {
+				dispatch(QueueAdmissionEvent.fromMessage(message));
+			} catch (Exception e) {
+				log.warn("승격 이벤트 처리 실패 - message: {}", message, e);
+			}
+		});
+	}
+
+	@PreDestroy
+	void shutdown() {
+		if (topic != null) {
+			topic.removeListener(listenerId);
+		}
+		subscribers.values().forEach(users -> users.values().forEach(s -> s.emitter().complete()));
+		sendExecutor.shutdown();
+	}
+
+	/**
+	 * 위치 스트림 구독
+	 *
+	 * WAITING이 아니면 현재 상태 1회 전송 후 즉시 종료
+	 */
+	public SseEmitter subscribe(Long queueId, Long userId) {
+		if (openCount.incrementAndGet() > maxConnections) {
+			openCount.decrementAndGet();
+			queueMetrics.recordStreamRejected();
+			throw new BusinessException(QueueErrorCode.QUEUE_STREAM_LIMIT_EXCEEDED);
+		}
+
+		SseEmitter emitter = new SseEmitter(timeoutMs);
+		queueMetrics.recordStreamOpened();
+
+		QueuePositionRes position;
+		try {
+			position = queueService.getMyPosition(queueId, userId);
+		} catch (RuntimeException e) {
+			release();
+			throw e;
+		}
+
+		if (!"WAITING".equals(position.status())) {
+			sendAndComplete(emitter, position);
+			release();
+			return emitter;
+		}
+
+		Subscriber subscriber = new Subscriber(emitter, position.aheadCount());
+		// 초기 순번도 직렬 큐로 보내 등록 직후 도착한 승격 이벤트보다 앞서도록 함
+		subscriber.enqueue(sendExecutor, () -> send(emitter, EVENT_POSITION, position));
+
+		Subscriber previous = subscribers
+			.computeIfAbsent(queueId, id -> new ConcurrentHashMap<>())
+			.put(userId, subscriber);
+
+		if (previous != null) {
+			// 같은 사용자가 재연결하면 기존 스트림 종료 (카운트는 기존 스트림의 콜백에서 회수)
+			previous.emitter().complete();
+		}
+
+		Runnable cleanup = () -> unregister(queueId, userId, subscriber);
+		emitter.onCompletion(cleanup);
+		emitter.onTimeout(cleanup);
+		emitter.onError(e -> cleanup.run());
+
+		return emitter;
+	}
+
+	/**
+	 * 승격 이벤트 발행 (모든 인스턴스로 전파)
+	 */
+	public void publishAdmission(Long queueId, List<Long> admittedUserIds) {
+		if (admittedUserIds == null || admittedUserIds.isEmpty()) return;
+
+		try {
+			topic.publish(QueueAdmissionEvent.of(queueId, admittedUserIds).toMessage());
+		} catch (Exception e) {
+			// 스트림 갱신 실패는 비중요 (클라이언트는 재연결 시 최신 상태 수신)
+			log.warn("승격 이벤트 발행 실패 - queueId: {}, 인원: {}명", queueId, admittedUserIds.size(), e);
+		}
+	}
+
+	/**
+	 * 프록시/로드밸런서 idle timeout 방지용 heartbeat
+	 */
+	@Scheduled(fixedDelayString = "${queue.stream.heartbeat-ms:15000}")
+	public void sendHeartbeats() {
+		subscribers.forEach((queueId, users) -> users.forEach((userId, subscriber) ->
+			subscriber.enqueue(sendExecutor, () -> {
+				try {
+					subscriber.emitter().send(SseEmitter.event().comment("heartbeat"));
+				} catch (IOException | IllegalStateException e) {
+					subscriber.emitter().completeWithError(e);
+				}
+			})
+		));
+	}
+
+	private void dispatch(QueueAdmissionEvent event) {
+		Map<Long, Subscriber> users = subscribers.get(event.queueId());
+		if (users == null || users.isEmpty()) return;
+
+		Set<Long> admitted = new HashSet<>(event.admittedUserIds());
+		int admittedCount = event.admittedCount();
+
+		users.forEach((userId, subscriber) -> {
+			if (admitted.contains(userId)) {
+				users.remove(userId, subscriber);
+				subscriber.enqueue(sendExecutor, () ->
+					sendAndComplete(subscriber.emitter(), queueService.admittedPosition(event.queueId(), userId))
+				);
+				return;
+			}
+
+			int rank0 = subscriber.rank0().updateAndGet(r -> Math.max(0, r - admittedCount));
+			subscriber.enqueue(sendExecutor, () -> send(
+				subscriber.emitter(),
+				EVENT_POSITION,
+				queueService.waitingPosition(event.queueId(), userId, rank0)
+			));
+		});
+	}
+
+	private void send(SseEmitter emitter, String eventName, QueuePositionRes position) {
+		try {
+			emitter.send(SseEmitter.event().name(eventName).data(position));
+		} catch (IOException | IllegalStateException e) {
+			emitter.completeWithError(e);
+		}
+	}
+
+	private void sendAndComplete(SseEmitter emitter, QueuePositionRes position) {
+		String eventName = "ENTERABLE".equals(position.status()) ? EVENT_ENTERABLE : EVENT_POSITION;
+		send(emitter, eventName, position);
+		emitter.complete();
+	}
+
+	private void unregister(Long queueId, Long userId, Subscriber subscriber) {
+		if (!subscriber.released().compareAndSet(false, true)) return;
+
+		Map<Long, Subscriber> users = subscribers.get(queueId);
+		if (users != null) {
+			users.remove(userId, subscriber);
+		}
+		release();
+	}
+
+	private void release() {
+		openCount.decrementAndGet();
+		queueMetrics.recordStreamClosed();
+	}
+
+	/**
+	 * 구독자 상태 + 직렬 전송 큐
+	 *
+	 * SseEmitter는 동시 send를 허용하지 않고 가상 스레드 실행 순서도 보장되지 않으므로,
+	 * 전송 작업을 큐에 쌓고 구독자당 최대 1개의 가상 스레드가 순서대로 비움
+	 */
+	private static final class Subscriber {
+
+		private final SseEmitter emitter;
+		private final AtomicInteger rank0;
+		private final AtomicBoolean released = new AtomicBoolean(false);
+		private final ConcurrentLinkedQueue<Runnable> pending = new ConcurrentLinkedQueue<>();
+		private final AtomicBoolean draining = new AtomicBoolean(false);
+
+		Subscriber(SseEmitter emitter, int rank0) {
+			this.emitter = emitter;
+			this.rank0 = new AtomicInteger(rank0);
+		}
+
+		SseEmitter emitter() {
+			return emitter;
+		}
+
+		AtomicInteger rank0() {
+			return rank0;
+		}
+
+		AtomicBoolean released() {
+			return released;
+		}
+
+		void enqueue(Executor executor, Runnable task) {
+			pending.add(task);
+			if (draining.compareAndSet(false, true)) {
+				executor.execute(() -> drain(executor));
+			}
+		}
+
+		private void drain(Executor executor) {
+			Runnable task;
+			while ((task = pending.poll()) != null) {
+				try {
+					task.run();
+				} catch (RuntimeException e) {
+					log.warn("스트림 전송 실패", e);
+				}
+			}
+			draining.set(false);
+
+			// 비운 직후 추가된 작업이 있으면 다시 담당
+			if (!pending.isEmpty() && draining.compareAndSet(false, true)) {
+				executor.execute(() -> drain(executor));
+			}
+		}
+	}
+}
@@ -1,5 +1,6 @@
 package com.back.b2st.domain.queue.service;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
@@ -10,10 +11,10 @@ import org.redisson.api.RedissonClient;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
+import com.back.b2st.domain.queue.dto.MoveResult;
 import com.back.b2st.domain.queue.entity.Queue;
 import com.back.b2st.domain.queue.error.QueueErrorCode;
 import com.back.b2st.domain.queue.repository.QueueRedisRepository;
-import com.back.b2st.domain.queue.repository.QueueRepository;
 import com.back.b2st.global.error.exception.BusinessException;
 
 import lombok.RequiredArgsConstructor;
@@ -25,62 +26,39 @@ import lombok.extern.slf4j.Slf4j;
 @ConditionalOnProperty(name = "queue.enabled", havingValue = "true", matchIfMissing = false)
 public class QueueSchedulerService {
 
-	private final QueueRepository queueRepository;
+	private final QueuePolicyCache queuePolicyCache;
 	private final QueueRedisRepository queueRedisRepository;
 	private final QueueService queueService;
+	private final QueuePositionStreamService queuePositionStreamService;
 	private final RedissonClient redissonClient;
+	private final AdmissionRateController admissionRateController;
 
 	public void processNextEntries(Long queueId, int batchSize) {
 		processEntriesInternal(queueId, batchSize);
 	}
 
 	private void processEntriesInternal(Long queueId, int batchSize) {
-		Queue queue = queueRepository.findById(queueId)
+		Queue queue = queuePolicyCache.findById(queueId)
 			.orElseThrow(() -> new BusinessException(QueueErrorCode.QUEUE_NOT_FOUND));
 
-		Long totalWaiting = getTotalWaiting(queueId);
-		if (totalWaiting == null || totalWaiting == 0) return;
+		// 적응형 모드면 HOLD 지연/오류율, DB 풀, 슬롯 사용률 기반으로 이번 틱 인원 결정
+		int admitBatchSize = admissionRateController.nextBatchSize(queue, batchSize);
 
-		Long currentEnterable = getEnterableCount(queueId);
-		if (currentEnterable == null) return;
-
-		int availableSlots = queue.getMaxActiveUsers() - currentEnterable.intValue();
-		if (availableSlots <= 0) return;
-
-		int entryCount = Math.min(batchSize, Math.min(availableSlots, totalWaiting.intValue()));
-
-		Set<String> topWaitingUsers;
+		// 대기 인원/상한 확인 + 상위 N명 승격을 Lua 1회로 처리
+		List<Long> movedUserIds;
 		try {
-			topWaitingUsers = queueRedisRepository.getTopWaitingUsers(queueId, entryCount);
+			movedUserIds = queueService.moveToEnterableBatch(queue, admitBatchSize);
 		} catch (Exception e) {
-			log.error("Redis 상위 N명 추출 실패 - queueId: {}, entryCount: {}", queueId, entryCount, e);
+			log.error("배치 입장 처리 실패 - queueId: {}, batchSize: {}", queueId, admitBatchSize, e);
+			admissionRateController.onAdmitted(queueId, 0);
 			return;
 		}
 
-		if (topWaitingUsers == null || topWaitingUsers.isEmpty()) return;
-
-		List<Long> userIds = topWaitingUsers.stream()
-			.map(Long::parseLong)
-			.collect(Collectors.toList());
-
-		processBatchEntries(queueId, userIds);
-		log.info("자동 입장 처리 완료 - queueId: {}, 처리 인원: {}명", queueId, userIds.size());
-	}
-
-	public void processBatchEntries(Long queueId, List<Long> userIds) {
-		int success = 0;
-		int fail = 0;
+		admissionRateController.onAdmitted(queueId, movedUserIds.size());
+		if (movedUserIds.isEmpty()) return;
 
-		for (Long userId : userIds) {
-			try {
-				queueService.moveToEnterable(queueId, userId);
-				success++;
-			} catch (Exception e) {
-				fail++;
-				log.error("입장 처리 실패 - queueId: {}, userId: {}, error: {}", queueId, userId, e.getMessage());
-			}
-		}
-		log.info("배치 입장 처리 - queueId: {}, 성공: {}명, 실패: {}명", queueId, success, fail);
+		queuePositionStreamService.publishAdmission(queueId, movedUserIds);
+		log.info("자동 입장 처리 완료 - queueId: {}, 처리 인원: {}명", queueId, movedUserIds.size());
 	}
 
 	// ====== TEST UTIL (락 포함) ======
@@ -97,7 +75,8 @@ public class QueueSchedulerService {
 			if (totalWaiting == null || totalWaiting == 0) return 0;
 
 			int actualCount = Math.min(count, totalWaiting.intValue());
-			Set<String> topWaitingUsers = queueRedisRepository.getTopWaitingUsers(queueId, actualCount);
+			Set<String> topWaitingUsers = queueRedisRepository.getTopWaitingUsers(
+				queueId, waitingShardCount(queueId), actualCount);
 			if (topWaitingUsers == null || topWaitingUsers.isEmpty()) return 0;
 
 			List<Long> userIds = topWaitingUsers.stream()
@@ -123,11 +102,12 @@ public class QueueSchedulerService {
 			boolean acquired = lock.tryLock(3, 10, TimeUnit.SECONDS);
 			if (!acquired) return 0;
 
-			Long myRank0 = queueRedisRepository.getMyRank0InWaiting(queueId, userId);
+			int shards = waitingShardCount(queueId);
+			Long myRank0 = queueRedisRepository.getMyRank0InWaiting(queueId, shards, userId);
 			if (myRank0 == null || myRank0 <= 0) return 0; // 0이면 이미 1등(앞사람 0명)
 
 			int countToProcess = myRank0.intValue(); // 내 앞 사람 수 = rank0
-			Set<String> topWaitingUsers = queueRedisRepository.getTopWaitingUsers(queueId, countToProcess);
+			Set<String> topWaitingUsers = queueRedisRepository.getTopWaitingUsers(queueId, shards, countToProcess);
 			if (topWaitingUsers == null || topWaitingUsers.isEmpty()) return 0;
 
 			List<Long> userIds = topWaitingUsers.stream()
@@ -155,11 +135,12 @@ public class QueueSchedulerService {
 			boolean acquired = lock.tryLock(3, 10, TimeUnit.SECONDS);
 			if (!acquired) return 0;
 
-			Long myRank0 = queueRedisRepository.getMyRank0InWaiting(queueId, userId);
+			int shards = waitingShardCount(queueId);
+			Long myRank0 = queueRedisRepository.getMyRank0InWaiting(queueId, shards, userId);
 			if (myRank0 == null) return 0;
 
 			int countToProcess = myRank0.intValue() + 1; // 나 포함
-			Set<String> topWaitingUsers = queueRedisRepository.getTopWaitingUsers(queueId, countToProcess);
+			Set<String> topWaitingUsers = queueRedisRepository.getTopWaitingUsers(queueId, shards, countToProcess);
 			if (topWaitingUsers == null || topWaitingUsers.isEmpty()) return 0;
 
 			List<Long> userIds = topWaitingUsers.stream()
@@ -179,7 +160,7 @@ public class QueueSchedulerService {
 
 	private Long getTotalWaiting(Long queueId) {
 		try {
-			Long count = queueRedisRepository.getTotalWaitingCount(queueId);
+			Long count = queueRedisRepository.getTotalWaitingCount(queueId, waitingShardCount(queueId));
 			return count != null ? count : 0L;
 		} catch (Exception e) {
 			log.error("Redis 대기 인원 조회 실패 - queueId: {}", queueId, e);
@@ -187,13 +168,32 @@ public class QueueSchedulerService {
 		}
 	}
 
-	private Long getEnterableCount(Long queueId) {
-		try {
-			Long count = queueRedisRepository.getTotalEnterableCount(queueId);
-			return count != null ? count : 0L;
-		} catch (Exception e) {
-			log.error("Redis 입장 가능 인원 조회 실패 - queueId: {}", queueId, e);
-			return null;
+	private int waitingShardCount(Long queueId) {
+		return queuePolicyCache.findById(queueId)
+			.map(Queue::getWaitingShardCount)
+			.orElse(1);
+	}
+
+	/**
+	 * 지정 사용자 개별 승격 (*ForTest 테스트 유틸 전용, 운영 승격은 processNextEntries의 Lua 배치 사용)
+	 */
+	private void processBatchEntries(Long queueId, List<Long> userIds) {
+		int success = 0;
+		int fail = 0;
+		List<Long> movedUserIds = new ArrayList<>();
+
+		for (Long userId : userIds) {
+			try {
+				if (queueService.moveToEnterable(queueId, userId) == MoveResult.MOVED) {
+					movedUserIds.add(userId);
+				}
+				success++;
+			} catch (Exception e) {
+				fail++;
+				log.error("입장 처리 실패 - queueId: {}, userId: {}, error: {}", queueId, userId, e.getMessage());
+			}
 		}
+		queuePositionStreamService.publishAdmission(queueId, movedUserIds);
+		log.info("배치 입장 처리 - queueId: {}, 성공: {}명, 실패: {}명", queueId, success, fail);
 	}
 }
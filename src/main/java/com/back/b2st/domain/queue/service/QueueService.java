@@ -1,32 +1,34 @@
 package com.back.b2st.domain.queue.service;
 
+import com.back.b2st.domain.performanceschedule.service.ScheduleResolver;
 import com.back.b2st.domain.queue.dto.MoveResult;
 import com.back.b2st.domain.queue.dto.QueueDefaultPolicy;
 import com.back.b2st.domain.queue.dto.QueueEntryStatusCount;
+import com.back.b2st.domain.queue.dto.QueueEnterResult;
+import com.back.b2st.domain.queue.dto.QueueEntryTransition;
+import com.back.b2st.domain.queue.dto.QueueUserStatus;
 import com.back.b2st.domain.queue.dto.response.QueueEntryRes;
 import com.back.b2st.domain.queue.dto.response.QueuePositionRes;
 import com.back.b2st.domain.queue.dto.response.QueueStatisticsRes;
 import com.back.b2st.domain.queue.dto.response.StartBookingRes;
 import com.back.b2st.domain.queue.entity.Queue;
 import com.back.b2st.domain.queue.entity.QueueEntry;
-import com.back.b2st.domain.queue.entity.QueueEntryStatus;
 import com.back.b2st.domain.queue.error.QueueErrorCode;
+import com.back.b2st.domain.queue.metrics.QueueMetrics;
 import com.back.b2st.domain.queue.repository.QueueEntryRepository;
 import com.back.b2st.domain.queue.repository.QueueRedisRepository;
-import com.back.b2st.domain.queue.repository.QueueRepository;
 import com.back.b2st.global.error.exception.BusinessException;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.List;
 import java.util.Optional;
-import java.util.UUID;
 import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -38,11 +40,16 @@ public class QueueService {
 
 	private static final ZoneId KST = ZoneId.of("Asia/Seoul");
 
-	private final QueueRepository queueRepository;
 	private final QueueEntryRepository queueEntryRepository;
 	private final QueueRedisRepository queueRedisRepository;
 	private final QueueManagementService queueManagementService;
 	private final ScheduleResolver scheduleResolver;
+	private final QueuePolicyCache queuePolicyCache;
+	private final QueueEntryWriteBehind queueEntryWriteBehind;
+	private final QueueWaitEstimator queueWaitEstimator;
+	private final QueuePassService queuePassService;
+	private final DegradedAdmissionService degradedAdmissionService;
+	private final QueueMetrics queueMetrics;
 
 	private <T> T runRedis(String op, Long queueId, Long userId, Supplier<T> supplier) {
 		try {
@@ -77,29 +84,31 @@ public class QueueService {
 	 */
 	@Transactional
 	public QueueEntryRes enterQueue(Long queueId, Long performanceId, Long scheduleId, Long userId) {
-		validateQueue(queueId);
-		validateNotDuplicated(queueId, userId);
+		int shards = validateQueue(queueId).getWaitingShardCount();
+		validateNotDuplicated(queueId, shards, userId);
 
 		long timestamp = Instant.now().toEpochMilli();
 
 		runRedisVoid("addToWaitingQueue", queueId, userId,
-			() -> queueRedisRepository.addToWaitingQueue(queueId, userId, timestamp)
+			() -> queueRedisRepository.addToWaitingQueue(queueId, shards, userId, timestamp)
 		);
 
 		Long rank0 = runRedis("getMyRank0InWaiting", queueId, userId,
-			() -> queueRedisRepository.getMyRank0InWaiting(queueId, userId)
+			() -> queueRedisRepository.getMyRank0InWaiting(queueId, shards, userId)
 		);
 
 		if (rank0 == null) {
 			log.error("Redis 정합성 이슈: 방금 추가했는데 rank가 null - queueId: {}, userId: {}", queueId, userId);
 			try {
-				queueRedisRepository.removeFromWaitingQueue(queueId, userId);
+				queueRedisRepository.removeFromWaitingQueue(queueId, shards, userId);
 			} catch (Exception rollbackEx) {
 				log.error("enterQueue 롤백 실패 - queueId: {}, userId: {}", queueId, userId, rollbackEx);
 			}
 			throw new BusinessException(QueueErrorCode.QUEUE_DATA_INCONSISTENT);
 		}
 
+		queueMetrics.recordQueueEnter(queueId);
+
 		int aheadCount = rank0.intValue();
 		int myRank = rank0.intValue() + 1;
 
@@ -133,60 +142,84 @@ public class QueueService {
 	 * @param scheduleId 공연 회차 ID (프론트 UX용 진입 정보)
 	 * @param userId 사용자 ID
 	 * @return 예매 시작 응답 (queueId, performanceId, scheduleId, entry 포함)
+	 *
+	 * 오픈 직후 모든 사용자의 첫 요청이므로 DB 커넥션을 잡지 않음 (트랜잭션 미사용):
+	 * 회차/대기열은 로컬 캐시, Redis는 Lua 1회 왕복 (대기열 최초 생성 시에만 DB)
 	 */
-	@Transactional
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public StartBookingRes startBooking(Long scheduleId, Long userId) {
 		// 1. scheduleId → performanceId 변환
 		Long performanceId = scheduleResolver.resolvePerformanceId(scheduleId);
 		log.debug("Resolved scheduleId: {} -> performanceId: {}", scheduleId, performanceId);
 
-		// 2. 공연 단위 큐 조회 또는 생성 (멱등성 보장)
-		Queue queue = queueManagementService.getOrCreateByPerformanceId(
-			performanceId,
-			QueueDefaultPolicy.defaultBooking()
-		);
+		// 2. 공연 단위 큐 조회(near cache) 또는 생성 (멱등성 보장)
+		Queue queue = queuePolicyCache.findByPerformanceId(performanceId)
+			.orElseGet(() -> {
+				Queue created = queueManagementService.getOrCreateByPerformanceId(
+					performanceId,
+					QueueDefaultPolicy.defaultBooking()
+				);
+				queuePolicyCache.put(created);
+				return created;
+			});
 
 		Long queueId = queue.getId();
-		log.info("Queue resolved/created - queueId: {}, performanceId: {}, scheduleId: {}",
+		log.debug("Queue resolved/created - queueId: {}, performanceId: {}, scheduleId: {}",
 			queueId, performanceId, scheduleId);
 
-		// 3. 이미 WAITING 또는 ENTERABLE 상태인지 확인 (Idempotent)
-		boolean inWaiting = runRedis("isInWaitingQueue", queueId, userId,
-			() -> queueRedisRepository.isInWaitingQueue(queueId, userId)
-		);
-
-		boolean inEnterable = runRedis("isInEnterable", queueId, userId,
-			() -> queueRedisRepository.isInEnterable(queueId, userId)
-		);
-
-		// 4. 이미 대기 중이거나 입장 가능한 상태면 현재 상태 반환
-		if (inWaiting || inEnterable) {
-			log.debug("User already in queue (idempotent) - queueId: {}, userId: {}, inWaiting: {}, inEnterable: {}",
-				queueId, userId, inWaiting, inEnterable);
+		// 3. 진입 또는 현재 상태 조회 (Idempotent, Lua + 레지스트리 갱신 1회 왕복)
+		//    Redis 장애로 로컬 대기열에 있으면 복원 전까지 로컬 상태 우선
+		QueueEnterResult result = degradedAdmissionService.findStatus(queueId, userId)
+			.map(status -> new QueueEnterResult(false, status))
+			.orElseGet(() -> enterOrGetStatus(queue, userId));
 
-			QueuePositionRes position = getMyPosition(queueId, userId);
-			QueueEntryRes entry = convertPositionToEntry(position, performanceId, scheduleId);
+		QueueUserStatus userStatus = result.status();
 
+		// 4. 신규 진입이면 순번 응답
+		if (result.entered()) {
+			queueMetrics.recordQueueEnter(queueId);
+			int rank0 = userStatus.rank0().intValue();
 			return new StartBookingRes(
 				queueId,
 				performanceId,
 				scheduleId,
-				entry
+				QueueEntryRes.waiting(queueId, performanceId, scheduleId, userId, rank0, rank0 + 1)
 			);
 		}
 
-		// 5. 새로운 입장 처리
-		QueueEntryRes entry = enterQueue(queueId, performanceId, scheduleId, userId);
+		// 5. 이미 대기 중이거나 입장 가능한 상태면 현재 상태 반환
+		log.debug("User already in queue (idempotent) - queueId: {}, userId: {}, state: {}",
+			queueId, userId, userStatus.state());
 
-		// 6. StartBookingRes 반환
+		QueuePositionRes position = toPositionRes(queueId, userId, userStatus);
 		return new StartBookingRes(
 			queueId,
 			performanceId,
 			scheduleId,
-			entry
+			convertPositionToEntry(position, performanceId, scheduleId)
 		);
 	}
 
+	/**
+	 * Redis 진입-또는-상태 조회, Redis 장애 시 (degraded mode 활성이면) 로컬 대기열로 진입
+	 */
+	private QueueEnterResult enterOrGetStatus(Queue queue, Long userId) {
+		Long queueId = queue.getId();
+		int shards = queue.getWaitingShardCount();
+		long timestamp = Instant.now().toEpochMilli();
+		try {
+			return runRedis("enterOrGetStatus", queueId, userId,
+				() -> queueRedisRepository.enterOrGetStatus(queueId, shards, userId, timestamp)
+			);
+		} catch (BusinessException e) {
+			if (!degradedAdmissionService.canTakeOver(e)) throw e;
+
+			log.warn("Redis 장애 - 로컬 대기열로 진입 - queueId: {}, userId: {}", queueId, userId);
+			QueueUserStatus status = degradedAdmissionService.enter(queue, userId);
+			return new QueueEnterResult(status.isWaiting(), status);
+		}
+	}
+
 	/**
 	 * QueuePositionRes를 QueueEntryRes로 변환
 	 */
@@ -198,7 +231,8 @@ public class QueueService {
 			position.userId(),
 			position.status(),
 			position.aheadCount(),
-			position.myRank()
+			position.myRank(),
+			position.queuePass()
 		);
 	}
 
@@ -207,32 +241,32 @@ public class QueueService {
 	}
 
 	public QueuePositionRes getMyPosition(Long queueId, Long userId) {
-		validateQueue(queueId);
+		int shards = validateQueue(queueId).getWaitingShardCount();
 
-		boolean inWaiting = runRedis("isInWaitingQueue", queueId, userId,
-			() -> queueRedisRepository.isInWaitingQueue(queueId, userId)
-		);
+		Optional<QueueUserStatus> localStatus = degradedAdmissionService.findStatus(queueId, userId);
+		if (localStatus.isPresent()) {
+			return toPositionRes(queueId, userId, localStatus.get());
+		}
 
-		if (inWaiting) {
-			Long rank0 = runRedis("getMyRank0InWaiting", queueId, userId,
-				() -> queueRedisRepository.getMyRank0InWaiting(queueId, userId)
-			);
+		QueueUserStatus userStatus = runRedis("getUserStatus", queueId, userId,
+			() -> queueRedisRepository.getUserStatus(queueId, shards, userId)
+		);
 
-			if (rank0 == null) {
-				log.error("Redis 정합성 이슈: WAITING 큐에 있는데 rank가 null - queueId: {}, userId: {}",
-					queueId, userId);
-				throw new BusinessException(QueueErrorCode.QUEUE_DATA_INCONSISTENT);
-			}
+		return toPositionRes(queueId, userId, userStatus);
+	}
 
-			return QueuePositionRes.waiting(queueId, userId, rank0.intValue(), rank0.intValue() + 1);
+	/**
+	 * Redis 상태 스냅샷 → 위치 응답 변환
+	 *
+	 * NONE일 때만 DB 이력(EXPIRED/COMPLETED) 조회
+	 */
+	private QueuePositionRes toPositionRes(Long queueId, Long userId, QueueUserStatus userStatus) {
+		if (userStatus.isWaiting()) {
+			return waitingPosition(queueId, userId, userStatus.rank0().intValue());
 		}
 
-		boolean inEnterable = runRedis("isInEnterable", queueId, userId,
-			() -> queueRedisRepository.isInEnterable(queueId, userId)
-		);
-
-		if (inEnterable) {
-			return QueuePositionRes.enterable(queueId, userId);
+		if (userStatus.isEnterable()) {
+			return QueuePositionRes.enterable(queueId, userId, issuePass(queueId, userId, userStatus));
 		}
 
 		Optional<QueueEntry> entryOpt = queueEntryRepository.findByQueueIdAndUserId(queueId, userId);
@@ -243,13 +277,60 @@ public class QueueService {
 		return buildResponseByStatus(queueId, userId, entryOpt.get());
 	}
 
-	@Transactional
-	public void moveToEnterable(Long queueId, Long userId) {
+	/**
+	 * WAITING 응답 (처리량 기반 예상 대기시간 포함, 처리량은 노드 로컬 캐시 → 순번만 알면 Redis 조회 없음)
+	 */
+	public QueuePositionRes waitingPosition(Long queueId, Long userId, int rank0) {
+		QueueWaitEstimator.Estimate estimate = queueWaitEstimator.estimate(queueId, rank0);
+		return QueuePositionRes.waiting(
+			queueId,
+			userId,
+			rank0,
+			rank0 + 1,
+			estimate.waitSeconds(),
+			estimate.nextPollSeconds()
+		);
+	}
+
+	/**
+	 * 방금 승격된 사용자의 ENTERABLE 응답 (SSE 통지용)
+	 *
+	 * 승격 직후이므로 Redis TTL 조회 없이 정책의 입장 유효시간으로 서명 입장권 발급
+	 */
+	public QueuePositionRes admittedPosition(Long queueId, Long userId) {
+		String queuePass = queuePolicyCache.findById(queueId)
+			.filter(queue -> queue.getEntryTtlMinutes() != null && queue.getEntryTtlMinutes() > 0)
+			.map(queue -> queuePassService.issue(
+				userId, queue.getPerformanceId(), queue.getEntryTtlMinutes() * 60L))
+			.orElse(null);
+		return QueuePositionRes.enterable(queueId, userId, queuePass);
+	}
+
+	/**
+	 * ENTERABLE 사용자에게 서명 입장권 발급 (남은 시간을 모르면 발급하지 않음 → Redis 검증 경로)
+	 */
+	private String issuePass(Long queueId, Long userId, QueueUserStatus userStatus) {
+		Long ttlSeconds = userStatus.enterableTtlSeconds();
+		if (ttlSeconds == null || ttlSeconds <= 0) return null;
+
+		return queuePolicyCache.findById(queueId)
+			.map(queue -> queuePassService.issue(userId, queue.getPerformanceId(), ttlSeconds))
+			.orElse(null);
+	}
+
+	/**
+	 * WAITING → ENTERABLE 단건 승격
+	 *
+	 * Redis Lua 1회 + write-behind 적재만 하므로 DB 커넥션을 잡지 않음 (트랜잭션 미사용)
+	 */
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public MoveResult moveToEnterable(Long queueId, Long userId) {
 		Queue queue = validateQueue(queueId);
 
 		MoveResult result = runRedis("moveToEnterable", queueId, userId,
 			() -> queueRedisRepository.moveToEnterable(
 				queueId,
+				queue.getWaitingShardCount(),
 				userId,
 				queue.getEntryTtlMinutes(),
 				queue.getMaxActiveUsers()
@@ -257,69 +338,76 @@ public class QueueService {
 		);
 
 		if (result == MoveResult.REJECTED_FULL || result == MoveResult.SKIPPED) {
-			return;
+			return result;
 		}
 
 		LocalDateTime now = nowKst();
 		LocalDateTime expiresAt = now.plusMinutes(queue.getEntryTtlMinutes());
 
-		try {
-			QueueEntry entry = queueEntryRepository.findByQueueIdAndUserId(queueId, userId)
-				.orElseGet(() -> QueueEntry.builder()
-					.queueId(queueId)
-					.userId(userId)
-					.joinedAt(now)
-					.enterableAt(now)
-					.expiresAt(expiresAt)
-					.build()
-				);
-
-			entry.updateToEnterable(UUID.randomUUID(), now, now, expiresAt);
-			queueEntryRepository.save(entry);
+		// SoT=Redis, DB 이력은 write-behind
+		queueEntryWriteBehind.enqueue(QueueEntryTransition.enterable(queueId, userId, now, expiresAt));
+		queueRedisRepository.recordAdmissions(queueId, 1);
+		queueMetrics.recordMoveToEnterable(queueId, 1);
 
-		} catch (DataAccessException e) {
-			log.error("DB 저장 실패, Redis 롤백 시도 - queueId: {}, userId: {}", queueId, userId, e);
-			try {
-				queueRedisRepository.rollbackToWaiting(queueId, userId);
-			} catch (Exception rollbackException) {
-				log.error("Redis 롤백 실패(치명) - queueId: {}, userId: {}", queueId, userId, rollbackException);
-			}
-			throw new BusinessException(QueueErrorCode.QUEUE_INTERNAL_ERROR);
-		}
+		return result;
 	}
 
-	@Transactional
-	public void completeEntry(Long queueId, Long userId) {
-		validateQueue(queueId);
+	/**
+	 * WAITING 상위 N명 배치 승격 (스케줄러용)
+	 *
+	 * Redis Lua 1회(상한 게이트 + pop + ZADD)로 처리, DB 이력은 write-behind
+	 *
+	 * @param queue 대기열 (정책: maxActiveUsers, entryTtlMinutes)
+	 * @param batchSize 최대 승격 인원
+	 * @return 승격된 userId 목록
+	 */
+	public List<Long> moveToEnterableBatch(Queue queue, int batchSize) {
+		Long queueId = queue.getId();
 
-		boolean isEnterable = runRedis("isInEnterable", queueId, userId,
-			() -> queueRedisRepository.isInEnterable(queueId, userId)
+		List<Long> movedUserIds = runRedis("moveToEnterableBatch", queueId, null,
+			() -> queueRedisRepository.moveToEnterableBatch(
+				queueId,
+				queue.getWaitingShardCount(),
+				batchSize,
+				queue.getEntryTtlMinutes(),
+				queue.getMaxActiveUsers()
+			)
 		);
 
-		if (!isEnterable) {
-			throw new BusinessException(QueueErrorCode.QUEUE_ENTRY_EXPIRED);
+		if (movedUserIds.isEmpty()) {
+			return movedUserIds;
 		}
 
 		LocalDateTime now = nowKst();
+		LocalDateTime expiresAt = now.plusMinutes(queue.getEntryTtlMinutes());
 
-		QueueEntry entry = queueEntryRepository.findByQueueIdAndUserId(queueId, userId)
-			.orElseGet(() -> QueueEntry.builder()
-				.queueId(queueId)
-				.userId(userId)
-				.joinedAt(now)
-				.enterableAt(now)
-				.expiresAt(now) // 의미 없음(최소값), 즉시 COMPLETED로 전이됨
-				.build()
-			);
+		queueEntryWriteBehind.enqueueAll(movedUserIds.stream()
+			.map(userId -> QueueEntryTransition.enterable(queueId, userId, now, expiresAt))
+			.toList());
+		queueRedisRepository.recordAdmissions(queueId, movedUserIds.size());
+		queueMetrics.recordMoveToEnterable(queueId, movedUserIds.size());
+
+		return movedUserIds;
+	}
+
+	/** 입장 완료 (DB 이력은 write-behind, 트랜잭션 미사용) */
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public void completeEntry(Long queueId, Long userId) {
+		Queue queue = validateQueue(queueId);
 
-		entry.updateToCompleted(now);
+		boolean isEnterable = degradedAdmissionService.isLocallyEnterable(queueId, userId)
+			|| runRedis("isInEnterable", queueId, userId, () -> queueRedisRepository.isInEnterable(queueId, userId));
 
-		try {
-			queueEntryRepository.save(entry);
-		} catch (DataAccessException e) {
-			throw new BusinessException(QueueErrorCode.QUEUE_INTERNAL_ERROR);
+		if (!isEnterable) {
+			throw new BusinessException(QueueErrorCode.QUEUE_ENTRY_EXPIRED);
 		}
 
+		queueEntryWriteBehind.enqueue(QueueEntryTransition.completed(queueId, userId, nowKst()));
+		queuePassService.revoke(userId, queue.getPerformanceId());
+		degradedAdmissionService.remove(queueId, userId);
+		queueMetrics.recordEntryComplete(queueId);
+		queueMetrics.recordQueueExit(queueId, "COMPLETED");
+
 		try {
 			queueRedisRepository.removeFromEnterable(queueId, userId);
 		} catch (Exception e) {
@@ -327,36 +415,41 @@ public class QueueService {
 		}
 	}
 
-	@Transactional
+	/** 대기열 이탈 (DB 이력은 write-behind, 트랜잭션 미사용) */
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public void exitQueue(Long queueId, Long userId) {
-		validateQueue(queueId);
+		Queue queue = validateQueue(queueId);
 
-		boolean inWaiting = runRedis("isInWaitingQueue", queueId, userId,
-			() -> queueRedisRepository.isInWaitingQueue(queueId, userId)
+		// 장애 모드 로컬 대기열 우선 처리
+		Optional<QueueUserStatus.State> localState = degradedAdmissionService.remove(queueId, userId);
+		if (localState.isPresent()) {
+			if (localState.get() == QueueUserStatus.State.ENTERABLE) {
+				queueEntryWriteBehind.enqueue(QueueEntryTransition.expired(queueId, userId, nowKst()));
+				queuePassService.revoke(userId, queue.getPerformanceId());
+			}
+			return;
+		}
+
+		QueueUserStatus userStatus = runRedis("getUserStatus", queueId, userId,
+			() -> queueRedisRepository.getUserStatus(queueId, queue.getWaitingShardCount(), userId)
 		);
 
-		if (inWaiting) {
+		if (userStatus.isWaiting()) {
 			runRedisVoid("removeFromWaitingQueue", queueId, userId,
-				() -> queueRedisRepository.removeFromWaitingQueue(queueId, userId)
+				() -> queueRedisRepository.removeFromWaitingQueue(queueId, queue.getWaitingShardCount(), userId)
 			);
+			queueMetrics.recordQueueExit(queueId, "CANCELLED");
 			return;
 		}
 
-		boolean inEnterable = runRedis("isInEnterable", queueId, userId,
-			() -> queueRedisRepository.isInEnterable(queueId, userId)
-		);
-
-		if (inEnterable) {
+		if (userStatus.isEnterable()) {
 			runRedisVoid("removeFromEnterable", queueId, userId,
 				() -> queueRedisRepository.removeFromEnterable(queueId, userId)
 			);
 
-			queueEntryRepository.findByQueueIdAndUserId(queueId, userId).ifPresent(entry -> {
-				if (entry.getStatus() == QueueEntryStatus.ENTERABLE) {
-					entry.updateToExpired();
-					queueEntryRepository.save(entry);
-				}
-			});
+			queueEntryWriteBehind.enqueue(QueueEntryTransition.expired(queueId, userId, nowKst()));
+			queuePassService.revoke(userId, queue.getPerformanceId());
+			queueMetrics.recordQueueExit(queueId, "CANCELLED");
 		}
 	}
 
@@ -364,7 +457,7 @@ public class QueueService {
 		Queue queue = validateQueue(queueId);
 
 		Long totalWaiting = runRedis("getTotalWaitingCount", queueId, null,
-			() -> queueRedisRepository.getTotalWaitingCount(queueId)
+			() -> queueRedisRepository.getTotalWaitingCount(queueId, queue.getWaitingShardCount())
 		);
 
 		Long totalEnterable = runRedis("getTotalEnterableCount", queueId, null,
@@ -392,13 +485,13 @@ public class QueueService {
 	}
 
 	private Queue validateQueue(Long queueId) {
-		return queueRepository.findById(queueId)
+		return queuePolicyCache.findById(queueId)
 			.orElseThrow(() -> new BusinessException(QueueErrorCode.QUEUE_NOT_FOUND));
 	}
 
-	private void validateNotDuplicated(Long queueId, Long userId) {
+	private void validateNotDuplicated(Long queueId, int waitingShardCount, Long userId) {
 		boolean duplicated = runRedis("validateNotDuplicated(redis)", queueId, userId,
-			() -> queueRedisRepository.isInWaitingQueue(queueId, userId)
+			() -> queueRedisRepository.isInWaitingQueue(queueId, waitingShardCount, userId)
 				|| queueRedisRepository.isInEnterable(queueId, userId)
 		);
 
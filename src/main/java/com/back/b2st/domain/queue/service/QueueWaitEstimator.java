@@ -0,0 +1,92 @@
+package com.back.b2st.domain.queue.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.back.b2st.domain.queue.repository.QueueRedisRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 처리량 기반 예상 대기시간 / 권장 폴링 주기 계산
+ *
+ * - 처리량: Redis 슬라이딩 윈도우(전 노드 공유) 초당 승격 인원
+ * - 위치 조회마다 Redis를 읽지 않도록 대기열별 처리량을 cache-ms 동안 로컬 재사용
+ * - 권장 폴링 주기 = 예상 대기시간 × poll-ratio (min/max 범위) → 뒤쪽 사용자일수록 드물게 폴링
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "queue.enabled", havingValue = "true", matchIfMissing = false)
+public class QueueWaitEstimator {
+
+	private final QueueRedisRepository queueRedisRepository;
+
+	@Value("${queue.eta.cache-ms:2000}")
+	private long cacheMs;
+
+	@Value("${queue.eta.poll-ratio:0.1}")
+	private double pollRatio;
+
+	@Value("${queue.eta.min-poll-seconds:2}")
+	private int minPollSeconds;
+
+	@Value("${queue.eta.max-poll-seconds:30}")
+	private int maxPollSeconds;
+
+	/** queueId → 최근 조회한 처리량 */
+	private final Map<Long, CachedThroughput> throughputs = new ConcurrentHashMap<>();
+
+	/**
+	 * @param rank0 내 앞 대기 인원
+	 * @return 예상 대기시간(처리량 관측 전이면 null) + 권장 폴링 주기
+	 */
+	public Estimate estimate(Long queueId, long rank0) {
+		double perSecond = throughputPerSecond(queueId);
+
+		if (perSecond <= 0.0) {
+			// 관측된 처리량 없음 → 예상 불가, 최소 주기로 재확인
+			return new Estimate(null, minPollSeconds);
+		}
+
+		long waitSeconds = (long) Math.ceil((rank0 + 1) / perSecond);
+		int pollSeconds = (int) Math.max(minPollSeconds, Math.min(maxPollSeconds, Math.round(waitSeconds * pollRatio)));
+
+		return new Estimate(waitSeconds, pollSeconds);
+	}
+
+	private double throughputPerSecond(Long queueId) {
+		long now = System.currentTimeMillis();
+
+		CachedThroughput cached = throughputs.get(queueId);
+		if (cached != null && now - cached.loadedAtMillis() < cacheMs) {
+			return cached.perSecond();
+		}
+
+		double perSecond;
+		try {
+			perSecond = queueRedisRepository.getAdmissionThroughputPerSecond(queueId);
+		} catch (Exception e) {
+			log.warn("승격 처리량 조회 실패 - queueId: {}", queueId, e);
+			perSecond = cached != null ? cached.perSecond() : 0.0;
+		}
+
+		throughputs.put(queueId, new CachedThroughput(perSecond, now));
+		return perSecond;
+	}
+
+	/**
+	 * @param waitSeconds 예상 대기시간(초), 예측 불가 시 null
+	 * @param nextPollSeconds 권장 다음 폴링 주기(초)
+	 */
+	public record Estimate(Long waitSeconds, int nextPollSeconds) {
+	}
+
+	private record CachedThroughput(double perSecond, long loadedAtMillis) {
+	}
+}
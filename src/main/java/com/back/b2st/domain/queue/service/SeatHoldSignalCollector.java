@@ -0,0 +1,68 @@
+package com.back.b2st.domain.queue.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.back.b2st.domain.queue.dto.SeatHoldSignal;
+import com.back.b2st.domain.queue.repository.QueueRedisRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 좌석 HOLD 신호 수집기 (노드 로컬 집계 → Redis 주기 가산)
+ *
+ * HOLD 요청마다 Redis를 호출하지 않도록 로컬 LongAdder로 모은 뒤
+ * queue.admission.adaptive.signal-flush-ms 주기로 공연별 증가분만 가산
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "queue.enabled", havingValue = "true", matchIfMissing = false)
+public class SeatHoldSignalCollector {
+
+	private final QueueRedisRepository queueRedisRepository;
+
+	/** performanceId → 로컬 구간 집계 */
+	private final Map<Long, Window> windows = new ConcurrentHashMap<>();
+
+	public void record(Long performanceId, long latencyMillis, boolean overloaded) {
+		if (performanceId == null) return;
+
+		Window window = windows.computeIfAbsent(performanceId, id -> new Window());
+		window.holds.increment();
+		window.latencySumMillis.add(latencyMillis);
+		if (overloaded) {
+			window.errors.increment();
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${queue.admission.adaptive.signal-flush-ms:2000}")
+	public void flush() {
+		windows.forEach((performanceId, window) -> {
+			SeatHoldSignal delta = window.drain();
+			if (delta.holds() == 0) return;
+
+			try {
+				queueRedisRepository.addSeatHoldSignal(performanceId, delta);
+			} catch (Exception e) {
+				log.warn("좌석 HOLD 신호 가산 실패 - performanceId: {}", performanceId, e);
+			}
+		});
+	}
+
+	private static final class Window {
+		private final LongAdder holds = new LongAdder();
+		private final LongAdder errors = new LongAdder();
+		private final LongAdder latencySumMillis = new LongAdder();
+
+		SeatHoldSignal drain() {
+			return new SeatHoldSignal(holds.sumThenReset(), errors.sumThenReset(), latencySumMillis.sumThenReset());
+		}
+	}
+}
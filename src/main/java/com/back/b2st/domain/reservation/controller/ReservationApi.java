@@ -29,7 +29,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 @SecurityRequirement(name = "Authorization")
 public interface ReservationApi {
 
-	@Operation(summary = "예매 생성", description = "사용자가 예매를 생성합니다.")
+	@Operation(summary = "예매 생성", description = "사용자가 HOLD한 좌석(최대 4석)을 하나의 예매로 생성합니다.")
 	@ApiResponses({
 		@ApiResponse(responseCode = "201", description = "예매 생성 성공"),
 		@ApiResponse(responseCode = "401", description = "인증 실패 (로그인 필요)"),
@@ -25,7 +25,7 @@ public enum ReservationErrorCode implements ErrorCode {
 	RESERVATION_ALREADY_EXISTS(HttpStatus.CONFLICT, "R015", "이미 해당 좌석에 대한 예매가 존재합니다."),
 
 	/* ===== 좌석 선택 정책 ===== */
-	INVALID_SEAT_COUNT(HttpStatus.BAD_REQUEST, "R016", "선착순 예매는 좌석 1개만 선택할 수 있습니다.");
+	INVALID_SEAT_COUNT(HttpStatus.BAD_REQUEST, "R016", "선착순 예매 좌석 수가 올바르지 않습니다. (최대 4석, 중복 불가)");
 
 	private final HttpStatus status;
 	private final String code;
@@ -32,15 +32,35 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>,
 	@Query("SELECT r FROM Reservation r WHERE r.id = :reservationId")
 	Optional<Reservation> findByIdWithLock(@Param("reservationId") Long reservationId);
 
-	/** 만료 대상 예약 ID만 가져오기 */
+	/**
+	 * 만료 대상 PENDING 예약 ID 청크 잠금 조회
+	 *
+	 * PK 키셋 페이징 + SKIP LOCKED: 결제 처리 중 잠긴 예약은 기다리지 않고 건너뜀
+	 */
+	@Query(value = """
+		SELECT reservation_id
+		  FROM reservation
+		 WHERE status = 'PENDING'
+		   AND expires_at <= :now
+		   AND reservation_id > :afterId
+		 ORDER BY reservation_id
+		 LIMIT :limit
+		 FOR UPDATE SKIP LOCKED
+		""", nativeQuery = true)
+	List<Long> lockExpiredPendingIdChunk(
+		@Param("afterId") Long afterId,
+		@Param("now") LocalDateTime now,
+		@Param("limit") int limit
+	);
+
+	/** 남은 만료 대상 PENDING 예약 수 (backlog 메트릭용, status + expires_at 인덱스) */
 	@Query("""
-		select r.id
+		select count(r)
 		  from Reservation r
 		 where r.status = :pending
-		   and r.expiresAt is not null
 		   and r.expiresAt <= :now
 		""")
-	List<Long> findExpiredPendingIds(@Param("pending") ReservationStatus pending, @Param("now") LocalDateTime now);
+	long countExpiredPending(@Param("pending") ReservationStatus pending, @Param("now") LocalDateTime now);
 
 	@Query("""
 		select r.id
@@ -5,6 +5,7 @@ import org.springframework.stereotype.Component;
 
 import com.back.b2st.domain.reservation.service.ReservationService;
 import com.back.b2st.domain.scheduleseat.service.ScheduleSeatStateService;
+import com.back.b2st.global.scheduler.ExpiryChunkRunner;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,24 +17,42 @@ public class ReservationScheduler {
 
 	private final ReservationService reservationService;
 	private final ScheduleSeatStateService scheduleSeatStateService;
+	private final ExpiryChunkRunner expiryChunkRunner;
 
 	@Scheduled(fixedDelayString = "${scheduler.reservation-expire.delay-ms:5000}")
-	public void expireAndReleaseBatch() {
-		int expiredReservations = 0;
-		int releasedHolds = 0;
-
+	public void expireReservationBatch() {
 		try {
-			// 1) 예매 만료: Reservation만 EXPIRED
-			expiredReservations = reservationService.expirePendingReservationsBatch();
-
-			// 2) 좌석 만료: ScheduleSeat만 AVAILABLE + Redis 토큰 삭제
-			releasedHolds = scheduleSeatStateService.releaseExpiredHoldsBatch();
+			// 예매 만료: Reservation만 EXPIRED (좌석 HOLD 해제는 SeatHoldExpiryScheduler)
+			int expiredReservations = expiryChunkRunner.run(
+				"reservation",
+				reservationService::expirePendingReservationsChunk,
+				reservationService::countExpiredPendingReservations
+			);
+			if (expiredReservations > 0) {
+				log.info("스케줄러 처리 결과 - 만료된 예매={}건", expiredReservations);
+			}
+		} catch (Exception e) {
+			log.error("예매 만료 스케줄러 처리 중 오류가 발생했습니다.", e);
+		}
+	}
 
-			if (expiredReservations > 0 || releasedHolds > 0) {
-				log.info("스케줄러 처리 결과 - 만료된 예매={}건, 해제된 좌석 HOLD={}건", expiredReservations, releasedHolds);
+	/**
+	 * 좌석 HOLD 만료 보정 스윕 (만료 예정 큐 등록 누락/유실분)
+	 */
+	@Scheduled(fixedDelayString = "${scheduler.hold-expire-sweep.delay-ms:60000}")
+	public void sweepExpiredHolds() {
+		try {
+			// ScheduleSeat만 AVAILABLE + Redis 토큰 삭제
+			int releasedHolds = expiryChunkRunner.run(
+				"seat_hold",
+				scheduleSeatStateService::releaseExpiredHoldsChunk,
+				scheduleSeatStateService::countExpiredHolds
+			);
+			if (releasedHolds > 0) {
+				log.info("스케줄러 처리 결과 - 보정 해제된 좌석 HOLD={}건", releasedHolds);
 			}
 		} catch (Exception e) {
-			log.error("스케줄러 처리 중 오류가 발생했습니다. (만료된 예매={}건, 해제된 좌석 HOLD={}건)", expiredReservations, releasedHolds, e);
+			log.error("좌석 HOLD 만료 보정 스윕 중 오류가 발생했습니다.", e);
 		}
 	}
 }
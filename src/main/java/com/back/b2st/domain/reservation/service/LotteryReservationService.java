@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -13,6 +14,7 @@ import com.back.b2st.domain.reservation.entity.ReservationSeat;
 import com.back.b2st.domain.reservation.entity.ReservationStatus;
 import com.back.b2st.domain.reservation.repository.ReservationRepository;
 import com.back.b2st.domain.reservation.repository.ReservationSeatRepository;
+import com.back.b2st.domain.scheduleseat.dto.event.ScheduleSeatStatusChangedEvent;
 import com.back.b2st.domain.scheduleseat.entity.SeatStatus;
 import com.back.b2st.domain.scheduleseat.error.ScheduleSeatErrorCode;
 import com.back.b2st.domain.scheduleseat.repository.ScheduleSeatRepository;
@@ -27,6 +29,7 @@ public class LotteryReservationService {
 	private final ReservationRepository reservationRepository;
 	private final ReservationSeatRepository reservationSeatRepository;
 	private final ScheduleSeatRepository scheduleSeatRepository;
+	private final ApplicationEventPublisher eventPublisher;
 
 	/** === 추첨 예매 생성 (결제 완료 기준) === */
 	@Transactional
@@ -85,6 +88,10 @@ public class LotteryReservationService {
 			throw new BusinessException(ScheduleSeatErrorCode.SEAT_ALREADY_SOLD);
 		}
 
+		// 벌크 업데이트는 scheduleSeatId 기준이므로 seatId로 바꿔 좌석 상태 맵/잔여 좌석 카운터에 반영
+		List<Long> seatIds = scheduleSeatRepository.findSeatIdsByIdIn(scheduleSeatIds);
+		eventPublisher.publishEvent(ScheduleSeatStatusChangedEvent.of(scheduleId, seatIds, SeatStatus.SOLD));
+
 		// 2. 예매-좌석 매핑 생성
 		for (Long scheduleSeatId : scheduleSeatIds) {
 			reservationSeatRepository.save(
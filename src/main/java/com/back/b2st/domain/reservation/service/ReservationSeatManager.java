@@ -27,8 +27,8 @@ public class ReservationSeatManager {
 	private final ScheduleSeatService scheduleSeatService;
 	private final ScheduleSeatStateService scheduleSeatStateService;
 
-	/** === 예매 전 좌석 검사 === */
-	@Transactional(readOnly = true)
+	/** === 예매 전 좌석 검사 (플래시 세일 HOLD 선영속화 포함) === */
+	@Transactional
 	public SeatReservationResult prepareSeatReservation(
 		Long scheduleId,
 		List<Long> seatIds,
@@ -13,8 +13,10 @@ import com.back.b2st.domain.reservation.entity.Reservation;
 import com.back.b2st.domain.reservation.entity.ReservationStatus;
 import com.back.b2st.domain.reservation.error.ReservationErrorCode;
 import com.back.b2st.domain.reservation.repository.ReservationRepository;
+import com.back.b2st.domain.scheduleseat.service.ScheduleSeatStateService;
 import com.back.b2st.domain.ticket.service.TicketService;
 import com.back.b2st.global.error.exception.BusinessException;
+import com.back.b2st.global.scheduler.ExpiryChunk;
 
 import lombok.RequiredArgsConstructor;
 
@@ -34,7 +36,7 @@ public class ReservationService {
 		Long scheduleId = request.scheduleId();
 		List<Long> seatIds = request.seatIds();
 
-		// 1. 좌석은 1자리씩 예매 가능
+		// 1. 좌석 수 정책 (HOLD와 동일 상한, 중복 불가)
 		validateReservationPolicy(seatIds);
 
 		// 2. 좌석 검사 + 만료시각 확보
@@ -61,7 +63,9 @@ public class ReservationService {
 	}
 
 	private static void validateReservationPolicy(List<Long> seatIds) {
-		if (seatIds.size() != 1) {
+		if (seatIds.isEmpty()
+			|| seatIds.size() > ScheduleSeatStateService.MAX_HOLD_SEATS
+			|| seatIds.stream().distinct().count() != seatIds.size()) {
 			throw new BusinessException(ReservationErrorCode.INVALID_SEAT_COUNT);
 		}
 	}
@@ -113,21 +117,31 @@ public class ReservationService {
 		reservationSeatManager.releaseForceAllSeats(reservationId);
 	}
 
-	/** === PENDING 만료 배치 처리 (스케줄러) === */
+	/**
+	 * === PENDING 만료 청크 처리 (스케줄러) ===
+	 *
+	 * afterId 이후 만료 PENDING을 최대 chunkSize건 잠가(SKIP LOCKED) 만료, 청크마다 별도 트랜잭션
+	 */
 	@Transactional
-	public int expirePendingReservationsBatch() {
-		LocalDateTime now = LocalDateTime.now();
-
-		List<Long> expiredIds = reservationRepository.findExpiredPendingIds(ReservationStatus.PENDING, now);
+	public ExpiryChunk expirePendingReservationsChunk(Long afterId, int chunkSize) {
+		List<Long> expiredIds =
+			reservationRepository.lockExpiredPendingIdChunk(afterId, LocalDateTime.now(), chunkSize);
 		if (expiredIds.isEmpty()) {
-			return 0;
+			return ExpiryChunk.empty();
 		}
 
-		return reservationRepository.bulkExpirePendingByIds(
+		reservationRepository.bulkExpirePendingByIds(
 			expiredIds,
 			ReservationStatus.PENDING,
 			ReservationStatus.EXPIRED
 		);
+		return new ExpiryChunk(expiredIds.size(), expiredIds.getLast());
+	}
+
+	/** 남은 만료 대상 PENDING 예약 수 */
+	@Transactional(readOnly = true)
+	public long countExpiredPendingReservations() {
+		return reservationRepository.countExpiredPending(ReservationStatus.PENDING, LocalDateTime.now());
 	}
 
 	/** === 예매 만료 (일단 안 씀) === */
@@ -2,12 +2,21 @@ package com.back.b2st.domain.scheduleseat.controller;
 
 import java.util.List;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import com.back.b2st.domain.scheduleseat.dto.request.BestAvailableSeatReq;
+import com.back.b2st.domain.scheduleseat.dto.request.SeatHoldReq;
+import com.back.b2st.domain.scheduleseat.dto.response.BestAvailableSeatRes;
+import com.back.b2st.domain.scheduleseat.dto.response.ScheduleSeatMapRes;
+import com.back.b2st.domain.scheduleseat.dto.response.ScheduleSeatSummaryRes;
 import com.back.b2st.domain.scheduleseat.dto.response.ScheduleSeatViewRes;
 import com.back.b2st.domain.scheduleseat.entity.SeatStatus;
 import com.back.b2st.global.annotation.CurrentUser;
@@ -20,6 +29,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 
 @Tag(name = "좌석", description = "회차 좌석 조회 및 좌석 HOLD")
 @RequestMapping("/api/schedules")
@@ -42,6 +52,42 @@ public interface ScheduleSeatApi {
 		@RequestParam(required = false) SeatStatus status
 	);
 
+	@Operation(
+		summary = "회차 잔여 좌석 요약",
+		description = "등급별, 등급 내 구역별 잔여(AVAILABLE)/선점(HOLD)/판매(SOLD) 좌석 수를 조회합니다. 좌석 목록 없이 카운터만 조회합니다."
+	)
+	@ApiResponses({
+		@ApiResponse(responseCode = "200", description = "잔여 좌석 요약 조회 성공"),
+		@ApiResponse(responseCode = "404", description = "회차 정보 없음 (SCHEDULE_NOT_FOUND)")
+	})
+	@GetMapping("/{scheduleId}/seats/summary")
+	BaseResponse<ScheduleSeatSummaryRes> getScheduleSeatSummary(
+		@Parameter(description = "공연 회차 ID", example = "1")
+		@PathVariable Long scheduleId
+	);
+
+	@Operation(
+		summary = "회차 좌석 맵 조회 (증분)",
+		description = "sinceVersion 이후 변경된 좌석만 반환합니다. sinceVersion이 없거나 변경 로그 범위를 벗어나면 전체 좌석을 반환합니다(full=true). "
+			+ "응답 ETag를 If-None-Match로 보내면 변경이 없을 때 304를 반환합니다."
+	)
+	@ApiResponses({
+		@ApiResponse(responseCode = "200", description = "좌석 맵 조회 성공"),
+		@ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
+		@ApiResponse(responseCode = "404", description = "회차 정보 없음 (SCHEDULE_NOT_FOUND)")
+	})
+	@GetMapping("/{scheduleId}/seats/map")
+	ResponseEntity<BaseResponse<ScheduleSeatMapRes>> getScheduleSeatMap(
+		@Parameter(description = "공연 회차 ID", example = "1")
+		@PathVariable Long scheduleId,
+
+		@Parameter(description = "클라이언트가 가진 좌석 맵 버전 (이전 응답의 version)", example = "1024")
+		@RequestParam(required = false) Long sinceVersion,
+
+		@Parameter(hidden = true)
+		@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+	);
+
 	@Operation(
 		summary = "좌석 HOLD",
 		description = "좌석을 HOLD 상태로 변경합니다. (AVAILABLE → HOLD)"
@@ -65,6 +111,70 @@ public interface ScheduleSeatApi {
 		@PathVariable Long scheduleId,
 
 		@Parameter(description = "좌석 ID", example = "101")
-		@PathVariable Long seatId
+		@PathVariable Long seatId,
+
+		@Parameter(description = "대기열 서명 입장권 (위치 조회 ENTERABLE 응답의 queuePass, 없으면 서버에서 대기열 상태 확인)")
+		@RequestHeader(value = "X-Queue-Pass", required = false) String queuePass
+	);
+
+	@Operation(
+		summary = "다중 좌석 HOLD",
+		description = "여러 좌석을 한 번에 HOLD합니다. (최대 4석, 전부 성공 또는 전부 실패)\n\n"
+			+ "하나라도 HOLD할 수 없으면 아무 좌석도 HOLD하지 않으며, 응답 data에 충돌 좌석 ID 목록을 담습니다."
+	)
+	@SecurityRequirement(name = "Authorization")
+	@ApiResponses({
+		@ApiResponse(responseCode = "201", description = "좌석 HOLD 성공"),
+		@ApiResponse(responseCode = "400", description = "좌석 수 초과/중복 (INVALID_HOLD_SEAT_COUNT)"),
+		@ApiResponse(responseCode = "401", description = "인증 실패 (로그인 필요)"),
+		@ApiResponse(responseCode = "404", description = "좌석 정보 없음 (SEAT_NOT_FOUND, data: 없는 좌석 ID)"),
+		@ApiResponse(
+			responseCode = "409",
+			description = "상태 충돌/락 실패 (SEAT_ALREADY_HOLD / SEAT_ALREADY_SOLD / SEAT_LOCK_FAILED, data: 충돌 좌석 ID)"
+		)
+	})
+	@PostMapping("/{scheduleId}/seats/hold")
+	BaseResponse<Void> holdSeats(
+		@Parameter(hidden = true)
+		@CurrentUser UserPrincipal user,
+
+		@Parameter(description = "공연 회차 ID", example = "1")
+		@PathVariable Long scheduleId,
+
+		@Valid @RequestBody SeatHoldReq request,
+
+		@Parameter(description = "대기열 서명 입장권 (위치 조회 ENTERABLE 응답의 queuePass, 없으면 서버에서 대기열 상태 확인)")
+		@RequestHeader(value = "X-Queue-Pass", required = false) String queuePass
+	);
+
+	@Operation(
+		summary = "최선 좌석 자동 선택 HOLD",
+		description = "등급 내 잔여 좌석 중 최선 좌석을 서버가 골라 한 번에 HOLD합니다. (최대 4석)\n\n"
+			+ "앞 열 우선, 열 중앙에 가까운 연속 좌석을 우선 선택하며 연속 좌석이 없으면 흩어진 좌석을 선택합니다(contiguous=false). "
+			+ "선택한 좌석이 그 사이 선점되면 해당 좌석을 제외하고 다시 선택합니다."
+	)
+	@SecurityRequirement(name = "Authorization")
+	@ApiResponses({
+		@ApiResponse(responseCode = "201", description = "좌석 HOLD 성공 (data: HOLD한 좌석 ID)"),
+		@ApiResponse(responseCode = "400", description = "좌석 수 범위 밖 (INVALID_HOLD_SEAT_COUNT)"),
+		@ApiResponse(responseCode = "401", description = "인증 실패 (로그인 필요)"),
+		@ApiResponse(responseCode = "404", description = "회차 정보 없음 (SCHEDULE_NOT_FOUND)"),
+		@ApiResponse(
+			responseCode = "409",
+			description = "잔여 좌석 없음/재선택 후에도 충돌 (NO_AVAILABLE_SEATS / SEAT_ALREADY_HOLD / SEAT_LOCK_FAILED)"
+		)
+	})
+	@PostMapping("/{scheduleId}/seats/best-available/hold")
+	BaseResponse<BestAvailableSeatRes> holdBestAvailableSeats(
+		@Parameter(hidden = true)
+		@CurrentUser UserPrincipal user,
+
+		@Parameter(description = "공연 회차 ID", example = "1")
+		@PathVariable Long scheduleId,
+
+		@Valid @RequestBody BestAvailableSeatReq request,
+
+		@Parameter(description = "대기열 서명 입장권 (위치 조회 ENTERABLE 응답의 queuePass, 없으면 서버에서 대기열 상태 확인)")
+		@RequestHeader(value = "X-Queue-Pass", required = false) String queuePass
 	);
 }
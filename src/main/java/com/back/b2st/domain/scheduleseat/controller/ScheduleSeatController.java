@@ -2,21 +2,33 @@ package com.back.b2st.domain.scheduleseat.controller;
 
 import java.util.List;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.back.b2st.domain.scheduleseat.dto.request.BestAvailableSeatReq;
+import com.back.b2st.domain.scheduleseat.dto.request.SeatHoldReq;
+import com.back.b2st.domain.scheduleseat.dto.response.BestAvailableSeatRes;
+import com.back.b2st.domain.scheduleseat.dto.response.ScheduleSeatMapRes;
+import com.back.b2st.domain.scheduleseat.dto.response.ScheduleSeatSummaryRes;
 import com.back.b2st.domain.scheduleseat.dto.response.ScheduleSeatViewRes;
 import com.back.b2st.domain.scheduleseat.entity.SeatStatus;
+import com.back.b2st.domain.scheduleseat.service.BestAvailableSeatService;
 import com.back.b2st.domain.scheduleseat.service.ScheduleSeatService;
 import com.back.b2st.domain.scheduleseat.service.ScheduleSeatStateService;
 import com.back.b2st.global.annotation.CurrentUser;
 import com.back.b2st.global.common.BaseResponse;
 import com.back.b2st.security.UserPrincipal;
 
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
 @RestController
@@ -26,6 +38,7 @@ public class ScheduleSeatController implements ScheduleSeatApi {
 
 	private final ScheduleSeatService scheduleSeatService;
 	private final ScheduleSeatStateService scheduleSeatStateService;
+	private final BestAvailableSeatService bestAvailableSeatService;
 
 	@GetMapping("/{scheduleId}/seats")
 	public BaseResponse<List<ScheduleSeatViewRes>> getScheduleSeats(
@@ -38,17 +51,95 @@ public class ScheduleSeatController implements ScheduleSeatApi {
 		return BaseResponse.success(scheduleSeatService.getSeatsByStatus(scheduleId, status));
 	}
 
+	@GetMapping("/{scheduleId}/seats/summary")
+	public BaseResponse<ScheduleSeatSummaryRes> getScheduleSeatSummary(
+		@PathVariable Long scheduleId
+	) {
+		return BaseResponse.success(scheduleSeatService.getSeatSummary(scheduleId));
+	}
+
+	@GetMapping("/{scheduleId}/seats/map")
+	public ResponseEntity<BaseResponse<ScheduleSeatMapRes>> getScheduleSeatMap(
+		@PathVariable Long scheduleId,
+		@RequestParam(required = false) Long sinceVersion,
+		@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+	) {
+		// 조건부 요청: 클라이언트 버전이 최신이면 본문 없이 304
+		Long knownVersion = parseETag(ifNoneMatch);
+		if (knownVersion != null && scheduleSeatService.isSeatMapUnchanged(scheduleId, knownVersion)) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTagOf(knownVersion)).build();
+		}
+
+		ScheduleSeatMapRes seatMap = scheduleSeatService.getSeatMap(scheduleId, sinceVersion);
+		if (seatMap.version() < 0) {
+			return ResponseEntity.ok(BaseResponse.success(seatMap));
+		}
+		return ResponseEntity.ok().eTag(eTagOf(seatMap.version())).body(BaseResponse.success(seatMap));
+	}
+
 	@PostMapping("/{scheduleId}/seats/{seatId}/hold")
 	public BaseResponse<Void> holdSeat(
 		@CurrentUser UserPrincipal user,
 		@PathVariable Long scheduleId,
-		@PathVariable Long seatId
+		@PathVariable Long seatId,
+		@RequestHeader(value = "X-Queue-Pass", required = false) String queuePass
 	) {
 		scheduleSeatStateService.holdSeat(
 			user.getId(),
 			scheduleId,
-			seatId
+			seatId,
+			queuePass
 		);
 		return BaseResponse.created(null);
 	}
+
+	@PostMapping("/{scheduleId}/seats/hold")
+	public BaseResponse<Void> holdSeats(
+		@CurrentUser UserPrincipal user,
+		@PathVariable Long scheduleId,
+		@Valid @RequestBody SeatHoldReq request,
+		@RequestHeader(value = "X-Queue-Pass", required = false) String queuePass
+	) {
+		scheduleSeatStateService.holdSeats(
+			user.getId(),
+			scheduleId,
+			request.seatIds(),
+			queuePass
+		);
+		return BaseResponse.created(null);
+	}
+
+	@PostMapping("/{scheduleId}/seats/best-available/hold")
+	public BaseResponse<BestAvailableSeatRes> holdBestAvailableSeats(
+		@CurrentUser UserPrincipal user,
+		@PathVariable Long scheduleId,
+		@Valid @RequestBody BestAvailableSeatReq request,
+		@RequestHeader(value = "X-Queue-Pass", required = false) String queuePass
+	) {
+		BestAvailableSeatRes result = bestAvailableSeatService.holdBestAvailable(
+			user.getId(),
+			scheduleId,
+			request.grade(),
+			request.count(),
+			queuePass
+		);
+		return BaseResponse.created(result);
+	}
+
+	private static String eTagOf(long version) {
+		return "\"" + version + "\"";
+	}
+
+	private static Long parseETag(String eTag) {
+		if (eTag == null) {
+			return null;
+		}
+		String value = eTag.startsWith("W/") ? eTag.substring(2) : eTag;
+		value = value.replace("\"", "").trim();
+		try {
+			return Long.parseLong(value);
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
 }
@@ -7,6 +7,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.back.b2st.domain.scheduleseat.service.ScheduleSeatStateService;
 import com.back.b2st.global.common.BaseResponse;
+import com.back.b2st.global.scheduler.ExpiryChunkRunner;
 
 import lombok.RequiredArgsConstructor;
 
@@ -16,11 +17,16 @@ import lombok.RequiredArgsConstructor;
 public class ScheduleSeatTestController {
 
 	private final ScheduleSeatStateService scheduleSeatStateService;
+	private final ExpiryChunkRunner expiryChunkRunner;
 
 	/** === 만료된 HOLD 좌석 일괄 해제 (수동) === */
 	@PostMapping("/expired/release")
 	public BaseResponse<Integer> releaseExpiredHolds() {
-		int updated = scheduleSeatStateService.releaseExpiredHoldsBatch();
+		int updated = expiryChunkRunner.run(
+			"seat_hold",
+			scheduleSeatStateService::releaseExpiredHoldsChunk,
+			scheduleSeatStateService::countExpiredHolds
+		);
 		return BaseResponse.success(updated);
 	}
 
@@ -0,0 +1,21 @@
+package com.back.b2st.domain.scheduleseat.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 플래시 세일 HOLD 영속화 단위 (Redis 스트림 항목 → DB 배치 기록)
+ *
+ * @param recordId 스트림 항목 ID (기록 후 ACK/삭제, 예매 시점 선영속화는 null)
+ * @param scheduleId 회차 ID
+ * @param seatId 좌석 ID
+ * @param memberId HOLD 소유자
+ * @param expiresAt HOLD 만료 시각 (Redis 시계 기준)
+ */
+public record FlashSaleSeatHold(
+	String recordId,
+	Long scheduleId,
+	Long seatId,
+	Long memberId,
+	LocalDateTime expiresAt
+) {
+}
@@ -0,0 +1,114 @@
+package com.back.b2st.domain.scheduleseat.dto;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.back.b2st.domain.scheduleseat.dto.response.ScheduleSeatViewRes;
+import com.back.b2st.domain.scheduleseat.entity.SeatStatus;
+import com.back.b2st.domain.seat.grade.entity.SeatGradeType;
+import com.back.b2st.domain.seat.layout.dto.SeatLayout;
+
+/**
+ * 회차 좌석 정적 레이아웃
+ *
+ * 공연 좌석 레이아웃(SeatLayout, 공연 단위 공유) 위에 회차 좌석 ID만 덧붙인 원시 배열 뷰
+ * - position: 좌석 배치도 표시 순서 (구역명, 열, 번호)
+ * - ordinal: seatId 오름차순 순위 (노드 간 동일, Redis 상태 맵 인덱스)
+ * - version: 좌석 구성 지문 (구성이 바뀌면 다른 상태 맵 키를 사용)
+ */
+public record ScheduleSeatLayout(
+	SeatLayout seatLayout,
+	int[] layoutIndexes,
+	long[] scheduleSeatIds,
+	int[] ordinals,
+	int[] positionByOrdinal,
+	long[] sortedSeatIds,
+	String version
+) {
+
+	/**
+	 * @param scheduleSeatKeys 회차 좌석 (scheduleSeatId, seatId) 행
+	 */
+	public static ScheduleSeatLayout of(SeatLayout seatLayout, List<Object[]> scheduleSeatKeys) {
+		Map<Long, Long> scheduleSeatIdBySeatId = new HashMap<>(scheduleSeatKeys.size() * 2);
+		for (Object[] row : scheduleSeatKeys) {
+			scheduleSeatIdBySeatId.put((Long)row[1], (Long)row[0]);
+		}
+
+		int[] layoutIndexes = new int[scheduleSeatIdBySeatId.size()];
+		long[] scheduleSeatIds = new long[scheduleSeatIdBySeatId.size()];
+		int size = 0;
+		for (int i = 0; i < seatLayout.size(); i++) {
+			Long scheduleSeatId = scheduleSeatIdBySeatId.get(seatLayout.seatId(i));
+			if (scheduleSeatId != null) {
+				layoutIndexes[size] = i;
+				scheduleSeatIds[size] = scheduleSeatId;
+				size++;
+			}
+		}
+		layoutIndexes = Arrays.copyOf(layoutIndexes, size);
+		scheduleSeatIds = Arrays.copyOf(scheduleSeatIds, size);
+
+		long[] sortedSeatIds = new long[size];
+		for (int position = 0; position < size; position++) {
+			sortedSeatIds[position] = seatLayout.seatId(layoutIndexes[position]);
+		}
+		Arrays.sort(sortedSeatIds);
+
+		int[] ordinals = new int[size];
+		int[] positionByOrdinal = new int[size];
+		for (int position = 0; position < size; position++) {
+			int ordinal = Arrays.binarySearch(sortedSeatIds, seatLayout.seatId(layoutIndexes[position]));
+			ordinals[position] = ordinal;
+			positionByOrdinal[ordinal] = position;
+		}
+
+		long fingerprint = 1;
+		for (long seatId : sortedSeatIds) {
+			fingerprint = 31 * fingerprint + seatId;
+		}
+
+		return new ScheduleSeatLayout(
+			seatLayout,
+			layoutIndexes,
+			scheduleSeatIds,
+			ordinals,
+			positionByOrdinal,
+			sortedSeatIds,
+			Long.toHexString(fingerprint)
+		);
+	}
+
+	public int size() {
+		return layoutIndexes.length;
+	}
+
+	public Integer ordinalOf(Long seatId) {
+		int ordinal = Arrays.binarySearch(sortedSeatIds, seatId);
+		return ordinal < 0 ? null : ordinal;
+	}
+
+	public int positionOf(int ordinal) {
+		return positionByOrdinal[ordinal];
+	}
+
+	/** 표시 위치의 좌석 응답 생성 (상태는 상태 맵 값) */
+	public ScheduleSeatViewRes view(int position, SeatStatus status) {
+		int index = layoutIndexes[position];
+		SeatGradeType grade = seatLayout.grade(index);
+
+		return new ScheduleSeatViewRes(
+			scheduleSeatIds[position],
+			seatLayout.seatId(index),
+			seatLayout.sectionId(index),
+			seatLayout.sectionName(index),
+			seatLayout.rowLabel(index),
+			seatLayout.seatNumber(index),
+			status,
+			grade == null ? null : grade.name(),
+			seatLayout.price(index)
+		);
+	}
+}
@@ -0,0 +1,34 @@
+package com.back.b2st.domain.scheduleseat.dto.event;
+
+import java.util.List;
+
+import com.back.b2st.domain.scheduleseat.entity.SeatStatus;
+
+/**
+ * 회차 좌석 상태 전이 이벤트
+ *
+ * 커밋 이후 Redis 좌석 상태 맵 반영에 사용
+ * seatIds가 null이면 개별 반영 대신 회차 상태 맵 무효화 (다음 조회 시 DB에서 재구성)
+ */
+public record ScheduleSeatStatusChangedEvent(
+	Long scheduleId,
+	List<Long> seatIds,
+	SeatStatus status
+) {
+
+	public static ScheduleSeatStatusChangedEvent of(Long scheduleId, Long seatId, SeatStatus status) {
+		return new ScheduleSeatStatusChangedEvent(scheduleId, List.of(seatId), status);
+	}
+
+	public static ScheduleSeatStatusChangedEvent of(Long scheduleId, List<Long> seatIds, SeatStatus status) {
+		return new ScheduleSeatStatusChangedEvent(scheduleId, List.copyOf(seatIds), status);
+	}
+
+	public static ScheduleSeatStatusChangedEvent invalidate(Long scheduleId) {
+		return new ScheduleSeatStatusChangedEvent(scheduleId, null, null);
+	}
+
+	public boolean isInvalidation() {
+		return seatIds == null;
+	}
+}
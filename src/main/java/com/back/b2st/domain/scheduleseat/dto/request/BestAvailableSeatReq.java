@@ -0,0 +1,19 @@
+package com.back.b2st.domain.scheduleseat.dto.request;
+
+import com.back.b2st.domain.scheduleseat.service.ScheduleSeatStateService;
+import com.back.b2st.domain.seat.grade.entity.SeatGradeType;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+public record BestAvailableSeatReq(
+
+	@NotNull
+	SeatGradeType grade,
+
+	@Min(1)
+	@Max(ScheduleSeatStateService.MAX_HOLD_SEATS)
+	int count
+) {
+}
@@ -0,0 +1,17 @@
+package com.back.b2st.domain.scheduleseat.dto.request;
+
+import java.util.List;
+
+import com.back.b2st.domain.scheduleseat.service.ScheduleSeatStateService;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+public record SeatHoldReq(
+
+	@NotEmpty
+	@Size(max = ScheduleSeatStateService.MAX_HOLD_SEATS)
+	List<@NotNull Long> seatIds
+) {
+}
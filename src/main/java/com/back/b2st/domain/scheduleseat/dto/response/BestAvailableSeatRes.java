@@ -0,0 +1,15 @@
+package com.back.b2st.domain.scheduleseat.dto.response;
+
+import java.util.List;
+
+/**
+ * 최선 좌석 자동 선택 HOLD 결과
+ *
+ * @param seatIds HOLD한 좌석 ID
+ * @param contiguous 같은 열에서 번호가 이어지는 좌석인지 (false면 흩어진 좌석)
+ */
+public record BestAvailableSeatRes(
+	List<Long> seatIds,
+	boolean contiguous
+) {
+}
@@ -0,0 +1,25 @@
+package com.back.b2st.domain.scheduleseat.dto.response;
+
+import java.util.List;
+
+/**
+ * 회차 좌석 맵 응답 (버전 기반 증분)
+ *
+ * @param version 좌석 상태 버전 (다음 요청의 sinceVersion, -1이면 버전 없음)
+ * @param full true면 전체 좌석, false면 sinceVersion 이후 변경 좌석만
+ * @param seats 좌석 목록
+ */
+public record ScheduleSeatMapRes(
+	long version,
+	boolean full,
+	List<ScheduleSeatViewRes> seats
+) {
+
+	public static ScheduleSeatMapRes snapshot(long version, List<ScheduleSeatViewRes> seats) {
+		return new ScheduleSeatMapRes(version, true, seats);
+	}
+
+	public static ScheduleSeatMapRes changes(long version, List<ScheduleSeatViewRes> seats) {
+		return new ScheduleSeatMapRes(version, false, seats);
+	}
+}
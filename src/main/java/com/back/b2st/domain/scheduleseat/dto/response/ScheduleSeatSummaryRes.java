@@ -0,0 +1,31 @@
+package com.back.b2st.domain.scheduleseat.dto.response;
+
+import java.util.List;
+
+/**
+ * 회차 잔여 좌석 요약 (등급별, 등급 내 구역별)
+ *
+ * @param grades 등급별 좌석 수 (등급 미지정 좌석 제외)
+ */
+public record ScheduleSeatSummaryRes(
+	List<GradeSummary> grades
+) {
+
+	public record GradeSummary(
+		String grade,
+		long available,
+		long hold,
+		long sold,
+		List<SectionSummary> sections
+	) {
+	}
+
+	public record SectionSummary(
+		Long sectionId,
+		String sectionName,
+		long available,
+		long hold,
+		long sold
+	) {
+	}
+}
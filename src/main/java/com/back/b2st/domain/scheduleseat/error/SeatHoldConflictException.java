@@ -0,0 +1,24 @@
+package com.back.b2st.domain.scheduleseat.error;
+
+import java.util.List;
+
+import com.back.b2st.global.error.code.ErrorCode;
+import com.back.b2st.global.error.exception.BusinessException;
+
+import lombok.Getter;
+
+/**
+ * 다중 좌석 HOLD 충돌 (전부 성공 또는 전부 실패)
+ *
+ * 충돌 좌석 ID를 응답 data로 내려 클라이언트가 해당 좌석만 다시 고를 수 있도록 함
+ */
+@Getter
+public class SeatHoldConflictException extends BusinessException {
+
+	private final List<Long> conflictSeatIds;
+
+	public SeatHoldConflictException(ErrorCode errorCode, List<Long> conflictSeatIds) {
+		super(errorCode, "seatIds=" + conflictSeatIds);
+		this.conflictSeatIds = List.copyOf(conflictSeatIds);
+	}
+}
@@ -0,0 +1,89 @@
+package com.back.b2st.domain.scheduleseat.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.back.b2st.domain.scheduleseat.dto.FlashSaleSeatHold;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * ScheduleSeat JDBC 배치 기록
+ *
+ * - 플래시 세일 HOLD 영속화: 행마다 만료 시각이 달라 JPQL 벌크 대신 JDBC batch 사용
+ * - 회차 좌석 생성: 좌석 엔티티를 읽지 않고 INSERT ... SELECT 1건으로 생성
+ */
+@Repository
+@RequiredArgsConstructor
+public class ScheduleSeatBatchRepository {
+
+	/**
+	 * SOLD는 덮어쓰지 않고, 만료 시각이 더 늦은 HOLD만 반영 (스트림 항목 재전달/순서 역전 시 이전 HOLD 무시)
+	 */
+	private static final String HOLD_SQL = """
+		UPDATE schedule_seat
+		SET status = 'HOLD',
+		    hold_expired_at = ?,
+		    modified_at = ?
+		WHERE schedule_id = ?
+		  AND seat_id = ?
+		  AND status <> 'SOLD'
+		  AND (hold_expired_at IS NULL OR hold_expired_at < ?)
+		""";
+
+	/**
+	 * 공연장 전 좌석을 AVAILABLE로 생성, 이미 있는 좌석은 건너뜀 (재실행 시 중복 방지)
+	 * ID는 ScheduleSeat 엔티티와 같은 시퀀스에서 발급
+	 *
+	 * 시퀀스는 엔티티 allocationSize(50)에 맞춰 INCREMENT BY 50이므로 행마다 nextval을 호출하면 ID 블록 1개(50)를 소비
+	 * → 행당 ID 49개가 버려짐 (엔티티 pooled 할당과 겹치지는 않음, 회차 1만 석 기준 약 50만 소비로 BIGINT 범위 내 허용)
+	 */
+	private static final String INSERT_FOR_VENUE_SQL = """
+		INSERT INTO schedule_seat (
+		    schedule_seat_id, schedule_id, seat_id, status, hold_expired_at, created_at, modified_at
+		)
+		SELECT nextval('schedule_seat_seq'), CAST(? AS BIGINT), s.seat_id, 'AVAILABLE', NULL,
+		       CAST(? AS TIMESTAMP), CAST(? AS TIMESTAMP)
+		FROM seats s
+		WHERE s.venue_id = ?
+		  AND NOT EXISTS (
+		      SELECT 1
+		      FROM schedule_seat ss
+		      WHERE ss.schedule_id = ?
+		        AND ss.seat_id = s.seat_id
+		  )
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * @return 항목별 갱신 행 수 (0이면 SOLD이거나 더 늦은 HOLD가 이미 반영됨)
+	 */
+	public int[] batchHold(List<FlashSaleSeatHold> holds) {
+		if (holds.isEmpty()) return new int[0];
+
+		LocalDateTime now = LocalDateTime.now();
+		int[][] counts = jdbcTemplate.batchUpdate(HOLD_SQL, holds, holds.size(), (ps, hold) -> {
+			ps.setObject(1, hold.expiresAt());
+			ps.setObject(2, now);
+			ps.setLong(3, hold.scheduleId());
+			ps.setLong(4, hold.seatId());
+			ps.setObject(5, hold.expiresAt());
+		});
+
+		return counts.length == 0 ? new int[0] : counts[0];
+	}
+
+	/**
+	 * 회차 좌석 일괄 생성
+	 *
+	 * @return 생성 행 수
+	 */
+	public int insertForVenue(Long scheduleId, Long venueId) {
+		LocalDateTime now = LocalDateTime.now();
+		return jdbcTemplate.update(INSERT_FOR_VENUE_SQL, scheduleId, now, now, venueId, scheduleId);
+	}
+}
@@ -24,30 +24,62 @@ public interface ScheduleSeatRepository extends JpaRepository<ScheduleSeat, Long
 	/** scheduleId + seatId 로 특정 좌석 조회 */
 	Optional<ScheduleSeat> findByScheduleIdAndSeatId(Long scheduleId, Long seatId);
 
-	/** 만료된 HOLD 좌석 목록 조회(키 추출) */
-	@Query("""
-		select s.scheduleId, s.seatId
-		  from ScheduleSeat s
-		 where s.status = :hold
-		   and s.holdExpiredAt is not null
-		   and s.holdExpiredAt <= :now
-		""")
-	List<Object[]> findExpiredHoldKeys(@Param("hold") SeatStatus hold, @Param("now") LocalDateTime now);
+	/** 회차 좌석 상태만 조회 (Redis 좌석 상태 맵 재구성용, 조인 없음) */
+	@Query("select s.seatId, s.status from ScheduleSeat s where s.scheduleId = :scheduleId")
+	List<Object[]> findSeatStatuses(@Param("scheduleId") Long scheduleId);
 
-	/** HOLD 만료 좌석 -> AVAILABLE로 일괄 처리 */
+	/** 회차 좌석 상태 + HOLD 만료 시각 조회 (플래시 세일 Redis 상태 적재용, 조인 없음) */
+	@Query("select s.seatId, s.status, s.holdExpiredAt from ScheduleSeat s where s.scheduleId = :scheduleId")
+	List<Object[]> findSeatStatusesWithExpiry(@Param("scheduleId") Long scheduleId);
+
+	/** 회차 좌석 키 조회 (scheduleSeatId, seatId) - 회차 레이아웃 적재용, 조인 없음 */
+	@Query("select s.id, s.seatId from ScheduleSeat s where s.scheduleId = :scheduleId")
+	List<Object[]> findSeatKeys(@Param("scheduleId") Long scheduleId);
+
+	/**
+	 * 만료된 HOLD 좌석 청크 잠금 조회 (scheduleSeatId, scheduleId, seatId)
+	 *
+	 * PK 키셋 페이징 + SKIP LOCKED: 사용자 요청이 잡고 있는 행은 기다리지 않고 건너뜀
+	 */
+	@Query(value = """
+		SELECT schedule_seat_id, schedule_id, seat_id
+		  FROM schedule_seat
+		 WHERE status = 'HOLD'
+		   AND hold_expired_at <= :now
+		   AND schedule_seat_id > :afterId
+		 ORDER BY schedule_seat_id
+		 LIMIT :limit
+		 FOR UPDATE SKIP LOCKED
+		""", nativeQuery = true)
+	List<Object[]> lockExpiredHoldChunk(
+		@Param("afterId") Long afterId,
+		@Param("now") LocalDateTime now,
+		@Param("limit") int limit
+	);
+
+	/** 잠근 만료 HOLD 좌석 -> AVAILABLE (청크 단위) */
 	@Modifying(clearAutomatically = true, flushAutomatically = true)
 	@Query("""
 		update ScheduleSeat s
 		   set s.status = :available,
 		       s.holdExpiredAt = null
+		 where s.id in :ids
+		   and s.status = :hold
+		""")
+	int releaseHoldsByIds(
+		@Param("ids") List<Long> ids,
+		@Param("hold") SeatStatus hold,
+		@Param("available") SeatStatus available
+	);
+
+	/** 남은 만료 HOLD 좌석 수 (backlog 메트릭용, status + hold_expired_at 인덱스) */
+	@Query("""
+		select count(s)
+		  from ScheduleSeat s
 		 where s.status = :hold
-		   and s.holdExpiredAt is not null
 		   and s.holdExpiredAt <= :now
 		""")
-	int releaseExpiredHolds(
-		@Param("hold") SeatStatus hold,
-		@Param("available") SeatStatus available,
-		@Param("now") LocalDateTime now);
+	long countExpiredHolds(@Param("hold") SeatStatus hold, @Param("now") LocalDateTime now);
 
 	@Lock(LockModeType.PESSIMISTIC_WRITE)
 	@Query("SELECT s FROM ScheduleSeat s WHERE s.scheduleId = :scheduleId AND s.seatId = :seatId")
@@ -56,6 +88,46 @@ public interface ScheduleSeatRepository extends JpaRepository<ScheduleSeat, Long
 		@Param("seatId") Long seatId
 	);
 
+	/** 만료 예정 큐에서 꺼낸 좌석 중 HOLD인 좌석 락 조회 (만료 여부는 호출 측에서 판단) */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("""
+		SELECT s
+		  FROM ScheduleSeat s
+		 WHERE s.scheduleId = :scheduleId
+		   AND s.seatId IN :seatIds
+		   AND s.status = :hold
+		 ORDER BY s.seatId
+		""")
+	List<ScheduleSeat> findHoldsByScheduleIdAndSeatIdInWithLock(
+		@Param("scheduleId") Long scheduleId,
+		@Param("seatIds") List<Long> seatIds,
+		@Param("hold") SeatStatus hold
+	);
+
+	/** 다중 좌석 HOLD용 일괄 락 (seatId 오름차순으로 잠가 교착 방지) */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("""
+		SELECT s
+		  FROM ScheduleSeat s
+		 WHERE s.scheduleId = :scheduleId
+		   AND s.seatId IN :seatIds
+		 ORDER BY s.seatId
+		""")
+	List<ScheduleSeat> findAllByScheduleIdAndSeatIdInWithLock(
+		@Param("scheduleId") Long scheduleId,
+		@Param("seatIds") List<Long> seatIds
+	);
+
+	/** 예매 좌석(scheduleSeatId 목록) 일괄 락 (seatId 오름차순으로 잠가 교착 방지, 결제 확정용) */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("""
+		SELECT s
+		  FROM ScheduleSeat s
+		 WHERE s.id IN :scheduleSeatIds
+		 ORDER BY s.seatId
+		""")
+	List<ScheduleSeat> findAllByIdInWithLock(@Param("scheduleSeatIds") List<Long> scheduleSeatIds);
+
 	/** 특정 회차의 특정 등급 AVAILABLE 좌석 조회 */
 	@Query("""
 		SELECT s
@@ -84,6 +156,10 @@ public interface ScheduleSeatRepository extends JpaRepository<ScheduleSeat, Long
 		@Param("scheduleSeatIds") List<Long> scheduleSeatIds
 	);
 
+	/** scheduleSeatId(PK) 목록의 seatId 조회 (추첨 확정 좌석 상태 맵 반영용) */
+	@Query("select s.seatId from ScheduleSeat s where s.id in :scheduleSeatIds")
+	List<Long> findSeatIdsByIdIn(@Param("scheduleSeatIds") List<Long> scheduleSeatIds);
+
 	/** scheduleId + scheduleSeatId(PK) 목록을 SOLD로 일괄 업데이트 (추첨 확정용) */
 	@Modifying(clearAutomatically = true, flushAutomatically = true)
 	@Query("""
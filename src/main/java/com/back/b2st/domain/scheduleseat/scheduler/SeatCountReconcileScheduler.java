@@ -0,0 +1,33 @@
+package com.back.b2st.domain.scheduleseat.scheduler;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.back.b2st.domain.scheduleseat.service.ScheduleSeatStatusMap;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 좌석 상태 맵/잔여 좌석 카운터 DB 대조
+ *
+ * 이 노드에서 직전 주기 이후 전이/카운터 조회가 있었던 회차만 대조하고, 어긋난 회차는 무효화하여 DB에서 재구성
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatCountReconcileScheduler {
+
+	private final ScheduleSeatStatusMap scheduleSeatStatusMap;
+
+	@Scheduled(fixedDelayString = "${seat-map.count-reconcile-ms:60000}")
+	public void reconcile() {
+		for (Long scheduleId : scheduleSeatStatusMap.drainTouchedSchedules()) {
+			try {
+				scheduleSeatStatusMap.reconcile(scheduleId);
+			} catch (Exception e) {
+				log.warn("잔여 좌석 카운터 대조 실패 - scheduleId: {}", scheduleId, e);
+			}
+		}
+	}
+}
@@ -0,0 +1,70 @@
+package com.back.b2st.domain.scheduleseat.scheduler;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.back.b2st.domain.scheduleseat.service.ScheduleSeatStateService;
+import com.back.b2st.domain.scheduleseat.service.SeatHoldExpiryQueue;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 좌석 HOLD 만료 처리 (만료 예정 큐 기반)
+ *
+ * - 만료 시각이 지난 좌석만 큐에서 꺼내 회차 단위로 해제 (테이블 스캔 없음)
+ * - 꺼내기가 원자적이므로 여러 노드가 동시에 실행해도 좌석별로 한 노드만 처리
+ * - 처리 실패 시 retry-delay 이후 다시 꺼내도록 재등록
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatHoldExpiryScheduler {
+
+	/** 한 주기 최대 배치 수 (적체 시에도 주기를 길게 점유하지 않도록) */
+	private static final int MAX_ROUNDS = 20;
+
+	private final SeatHoldExpiryQueue seatHoldExpiryQueue;
+	private final ScheduleSeatStateService scheduleSeatStateService;
+
+	@Value("${seat-hold.expiry.batch-size:500}")
+	private int batchSize;
+
+	@Value("${seat-hold.expiry.retry-delay-ms:1000}")
+	private long retryDelayMs;
+
+	@Scheduled(fixedDelayString = "${seat-hold.expiry.poll-ms:1000}")
+	public void releaseDueHolds() {
+		int released = 0;
+		try {
+			for (int round = 0; round < MAX_ROUNDS; round++) {
+				Map<Long, List<Long>> due = seatHoldExpiryQueue.pollDue(System.currentTimeMillis(), batchSize);
+				due.forEach(this::releaseSchedule);
+
+				int polled = due.values().stream().mapToInt(List::size).sum();
+				released += polled;
+				if (polled < batchSize) {
+					break;
+				}
+			}
+		} catch (Exception e) {
+			log.error("좌석 HOLD 만료 큐 처리 중 오류가 발생했습니다. (꺼낸 좌석={}건)", released, e);
+		}
+	}
+
+	private void releaseSchedule(Long scheduleId, List<Long> seatIds) {
+		try {
+			int count = scheduleSeatStateService.releaseExpiredHolds(scheduleId, seatIds);
+			if (count > 0) {
+				log.info("좌석 HOLD 만료 해제 - scheduleId: {}, 해제={}건", scheduleId, count);
+			}
+		} catch (Exception e) {
+			seatHoldExpiryQueue.requeue(scheduleId, seatIds, System.currentTimeMillis() + retryDelayMs);
+			log.warn("좌석 HOLD 만료 해제 실패, 재시도 예정 - scheduleId: {}, seatIds: {}", scheduleId, seatIds, e);
+		}
+	}
+}
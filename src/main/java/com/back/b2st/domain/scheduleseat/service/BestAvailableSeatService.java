@@ -0,0 +1,118 @@
+package com.back.b2st.domain.scheduleseat.service;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.back.b2st.domain.scheduleseat.dto.ScheduleSeatLayout;
+import com.back.b2st.domain.scheduleseat.dto.response.BestAvailableSeatRes;
+import com.back.b2st.domain.scheduleseat.error.ScheduleSeatErrorCode;
+import com.back.b2st.domain.scheduleseat.error.SeatHoldConflictException;
+import com.back.b2st.domain.seat.grade.entity.SeatGradeType;
+import com.back.b2st.global.error.exception.BusinessException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 최선 잔여 좌석 자동 선택 + HOLD
+ *
+ * 사용자가 같은 앞열 좌석을 반복 선택하며 충돌하는 대신, 서버가 잔여 좌석 인덱스에서 골라 한 번에 HOLD
+ * - 인덱스는 회차별 노드 메모리에 두고 좌석 상태 맵 변경 로그로 증분 갱신 (로그 범위 밖이면 스냅샷 재구성)
+ *   (회차 수 상한 초과 시 오래된 인덱스부터 제거)
+ * - HOLD는 다중 좌석 HOLD(전부 성공/전부 실패)를 그대로 사용, 충돌 좌석만 제외하고 재선택
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BestAvailableSeatService {
+
+	/** 충돌 시 재선택 횟수 상한 */
+	static final int MAX_ATTEMPTS = 3;
+
+	private final ScheduleSeatLayoutCache scheduleSeatLayoutCache;
+	private final ScheduleSeatStatusMap scheduleSeatStatusMap;
+	private final ScheduleSeatStateService scheduleSeatStateService;
+
+	@Value("${seat-map.layout-cache-max-size:1000}")
+	private int maxCacheSize;
+
+	private Cache<Long, SeatAvailabilityIndex> indexes;
+
+	@PostConstruct
+	void initCache() {
+		indexes = Caffeine.newBuilder()
+			.maximumSize(maxCacheSize)
+			.build();
+	}
+
+	/**
+	 * 등급 내 최선 좌석 count석 선택 후 HOLD
+	 *
+	 * @throws BusinessException 좌석 수 범위 밖, 조건에 맞는 잔여 좌석 없음, 재선택 후에도 충돌
+	 */
+	public BestAvailableSeatRes holdBestAvailable(
+		Long memberId,
+		Long scheduleId,
+		SeatGradeType grade,
+		int count,
+		String queuePass
+	) {
+		if (count < 1 || count > ScheduleSeatStateService.MAX_HOLD_SEATS) {
+			throw new BusinessException(ScheduleSeatErrorCode.INVALID_HOLD_SEAT_COUNT);
+		}
+
+		Set<Long> excluded = new HashSet<>();
+		SeatHoldConflictException lastConflict = null;
+		for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+			SeatAvailabilityIndex index = currentIndex(scheduleId);
+
+			SeatAvailabilityIndex.Selection selection;
+			synchronized (index) {
+				selection = index.select(grade, count, excluded);
+			}
+			if (selection == null) {
+				throw new BusinessException(ScheduleSeatErrorCode.NO_AVAILABLE_SEATS);
+			}
+
+			try {
+				scheduleSeatStateService.holdSeats(memberId, scheduleId, selection.seatIds(), queuePass);
+				return new BestAvailableSeatRes(selection.seatIds(), selection.contiguous());
+			} catch (SeatHoldConflictException e) {
+				// 상태 맵 반영 전 좌석 → 이번 요청에서만 제외하고 재선택
+				excluded.addAll(e.getConflictSeatIds());
+				lastConflict = e;
+				log.debug("최선 좌석 HOLD 충돌, 재선택 - scheduleId: {}, attempt: {}, conflicts: {}",
+					scheduleId, attempt + 1, e.getConflictSeatIds());
+			}
+		}
+		throw lastConflict;
+	}
+
+	/**
+	 * 회차 잔여 좌석 인덱스 (변경 로그 증분 반영, 불가 시 스냅샷 재구성)
+	 */
+	private SeatAvailabilityIndex currentIndex(Long scheduleId) {
+		ScheduleSeatLayout layout = scheduleSeatLayoutCache.get(scheduleId);
+
+		SeatAvailabilityIndex index = indexes.getIfPresent(scheduleId);
+		if (index != null && index.layout() == layout && index.version() >= 0) {
+			synchronized (index) {
+				ScheduleSeatStatusMap.Changes changes = scheduleSeatStatusMap.changesSince(scheduleId, index.version());
+				if (changes != null && changes.complete() && index.apply(changes)) {
+					return index;
+				}
+			}
+		}
+
+		ScheduleSeatStatusMap.Snapshot snapshot = scheduleSeatStatusMap.load(scheduleId, layout);
+		SeatAvailabilityIndex rebuilt = SeatAvailabilityIndex.of(layout, snapshot);
+		indexes.put(scheduleId, rebuilt);
+		return rebuilt;
+	}
+}
@@ -0,0 +1,376 @@
+package com.back.b2st.domain.scheduleseat.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.back.b2st.domain.scheduleseat.dto.FlashSaleSeatHold;
+import com.back.b2st.domain.scheduleseat.dto.event.ScheduleSeatStatusChangedEvent;
+import com.back.b2st.domain.scheduleseat.entity.SeatStatus;
+import com.back.b2st.domain.scheduleseat.error.ScheduleSeatErrorCode;
+import com.back.b2st.domain.scheduleseat.error.SeatHoldConflictException;
+import com.back.b2st.domain.scheduleseat.repository.ScheduleSeatBatchRepository;
+import com.back.b2st.domain.scheduleseat.repository.ScheduleSeatRepository;
+import com.back.b2st.global.error.exception.BusinessException;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 플래시 세일 좌석 HOLD (Redis 우선, DB 비동기 영속화)
+ *
+ * - seat-hold.flash-sale.enabled=true일 때만 사용 (기본은 Redis 락 + DB 비관적 락 경로)
+ * - 회차 좌석 상태 HASH(seatId → A / S / H:{memberId}:{expiresAtMillis})가 판매 중 상태의 기준
+ * - 스크립트 1회로 상태 확인 + HOLD + 영속화 스트림 기록 (락/DB 왕복 없음)
+ * - DB 반영은 FlashSaleSeatHoldWriter가 스트림을 배치로 읽어 수행 (DB는 영속 기록으로 유지)
+ *
+ * HASH는 회차별 첫 HOLD 시 DB 상태로 1회 적재
+ * 만료된 HOLD는 별도 정리 없이 만료 시각 비교로 AVAILABLE 취급 (시각은 Redis TIME 기준)
+ * 결제 확정/취소 등 DB 전이는 커밋 이후 이벤트로 HASH에 반영
+ * 예매 시점에는 영속화 배치를 기다리지 않고 본인 HOLD를 DB에 먼저 반영 (예매/결제 검증은 DB HOLD 기준)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FlashSaleSeatHoldService {
+
+	public static final String WRITER_GROUP = "seat-hold-writer";
+
+	private static final String ACTIVE_SCHEDULES_KEY = "seat:flash:schedules";
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final ScheduleSeatRepository scheduleSeatRepository;
+	private final ScheduleSeatBatchRepository scheduleSeatBatchRepository;
+	private final SeatHoldTokenService seatHoldTokenService;
+
+	/**
+	 * HOLD (상태 확인 + HOLD + 영속화 스트림 기록)
+	 * return: {result, 충돌 seatId...}
+	 */
+	@Autowired
+	@SuppressWarnings("rawtypes")
+	private RedisScript<List> flashSaleHoldScript;
+
+	/** 상태 적재 (DB 스냅샷), return: 1 적재, 0 이미 존재 */
+	@Autowired
+	private RedisScript<Long> flashSaleSeedScript;
+
+	/** DB 전이 반영 (A / S) */
+	@Autowired
+	private RedisScript<Long> flashSaleMirrorScript;
+
+	/** 영속화 실패 HOLD 무효화 (HASH가 아직 해당 HOLD일 때만), return: 1 무효화, 0 이미 바뀜 */
+	@Autowired
+	private RedisScript<Long> flashSaleRevokeHoldScript;
+
+	@Value("${seat-hold.flash-sale.enabled:false}")
+	private boolean enabled;
+
+	@Value("${seat-hold.flash-sale.state-ttl-seconds:86400}")
+	private long stateTtlSeconds;
+
+	/** HOLD 유지 시간 (소유권 토큰 TTL과 동일) */
+	private Duration holdTtl = SeatHoldTokenService.HOLD_TTL;
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * 좌석 HOLD (Redis 원자 처리 + 영속화 스트림 기록)
+	 *
+	 * @throws SeatHoldConflictException 회차 좌석이 아니거나 이미 HOLD/SOLD일 때
+	 */
+	public void hold(Long scheduleId, Long seatId, Long memberId) {
+		hold(scheduleId, List.of(seatId), memberId);
+	}
+
+	/**
+	 * 좌석 묶음 HOLD (전부 성공 또는 전부 실패)
+	 *
+	 * @throws SeatHoldConflictException 하나라도 회차 좌석이 아니거나 이미 HOLD/SOLD일 때 (충돌 좌석 포함)
+	 */
+	public void hold(Long scheduleId, List<Long> seatIds, Long memberId) {
+		List<Object> result = executeHold(scheduleId, seatIds, memberId);
+		if ((Long)result.get(0) == -1) {
+			seed(scheduleId);
+			result = executeHold(scheduleId, seatIds, memberId);
+		}
+
+		int code = ((Long)result.get(0)).intValue();
+		if (code != 0) {
+			List<Long> conflictSeatIds = new ArrayList<>(result.size() - 1);
+			for (int i = 1; i < result.size(); i++) {
+				conflictSeatIds.add(Long.valueOf(result.get(i).toString()));
+			}
+			throw new SeatHoldConflictException(errorCodeOf(code), conflictSeatIds);
+		}
+
+		// 소유권 검증(SeatHoldTokenService)은 기존 키를 그대로 사용
+		for (Long seatId : seatIds) {
+			seatHoldTokenService.save(scheduleId, seatId, memberId);
+		}
+	}
+
+	/**
+	 * HOLD 해제 (본인 취소/운영 강제 해제, 유효 HOLD도 AVAILABLE로)
+	 */
+	public void release(Long scheduleId, Long seatId) {
+		if (!enabled) {
+			return;
+		}
+		mirror(scheduleId, List.of(seatId), "A", true);
+	}
+
+	/**
+	 * 영속화 충돌 보정 (DB가 이미 SOLD인 좌석의 Redis HOLD 무효화)
+	 */
+	public void revoke(Long scheduleId, Long seatId) {
+		mirror(scheduleId, List.of(seatId), "S", true);
+		seatHoldTokenService.remove(scheduleId, seatId);
+	}
+
+	/**
+	 * 영속화 실패 보정 (DB가 다른 HOLD이거나 좌석이 없어 반영되지 않은 HOLD 무효화)
+	 *
+	 * HASH가 아직 이 HOLD일 때만 DB 상태로 되돌리고 소유권 토큰 제거
+	 * 그 사이 만료 후 다른 회원이 다시 HOLD했다면 HASH/토큰 모두 새 소유자 것이므로 유지
+	 *
+	 * @param dbStatus DB 좌석 상태 (좌석이 없으면 null)
+	 * @return 무효화 여부
+	 */
+	public boolean revokeUnpersisted(FlashSaleSeatHold hold, SeatStatus dbStatus, LocalDateTime dbHoldExpiredAt) {
+		String replacement = dbStatus != null ? value(dbStatus, dbHoldExpiredAt) : "A";
+		Long revoked = stringRedisTemplate.execute(flashSaleRevokeHoldScript, List.of(statusKey(hold.scheduleId())),
+			holdValue(hold.memberId(), hold.expiresAt()), replacement, hold.seatId().toString());
+		if (revoked == null || revoked == 0) {
+			return false;
+		}
+
+		seatHoldTokenService.remove(hold.scheduleId(), hold.seatId());
+		return true;
+	}
+
+	/**
+	 * 예매 전 HOLD 선영속화 (본인 유효 HOLD를 영속화 배치 전에 DB에 반영)
+	 *
+	 * 예매/결제/확정은 DB HOLD를 검증하므로 스트림 기록이 아직 DB에 반영되지 않은 구간에도 예매 가능하도록 함
+	 * 같은 HOLD가 이후 배치로 다시 기록되면 만료 시각이 같아 갱신 0건 → 영속화 배치에서 반영 완료로 처리
+	 */
+	public void persistHold(Long scheduleId, Long seatId, Long memberId) {
+		if (!enabled) {
+			return;
+		}
+
+		LocalDateTime expiresAt = liveHolds(scheduleId, List.of(seatId), memberId).get(seatId);
+		if (expiresAt == null) {
+			return;
+		}
+		scheduleSeatBatchRepository.batchHold(
+			List.of(new FlashSaleSeatHold(null, scheduleId, seatId, memberId, expiresAt)));
+	}
+
+	/**
+	 * 유효 HOLD가 걸린 좌석 조회 (HMGET 1회, 만료 정리가 재선점된 좌석을 해제하지 않도록)
+	 *
+	 * @return seatId → HOLD 만료 시각 (비활성화 또는 HASH 미적재 시 빈 맵)
+	 */
+	public Map<Long, LocalDateTime> liveHoldSeats(Long scheduleId, List<Long> seatIds) {
+		if (!enabled || seatIds.isEmpty()) {
+			return Map.of();
+		}
+		return liveHolds(scheduleId, seatIds, null);
+	}
+
+	/**
+	 * DB 상태 전이 반영 (커밋 이후)
+	 *
+	 * HOLD는 이 경로로 들어오지 않으며(Redis 선반영), 무효화(추첨 일괄 확정)는 영속화 시 SOLD 검사로 보정
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onStatusChanged(ScheduleSeatStatusChangedEvent event) {
+		if (!enabled || event.isInvalidation() || event.status() == SeatStatus.HOLD) {
+			return;
+		}
+
+		try {
+			// SOLD는 스크립트에서 유효 HOLD 여부와 무관하게 덮어씀
+			mirror(event.scheduleId(), event.seatIds(), event.status() == SeatStatus.SOLD ? "S" : "A", false);
+		} catch (DataAccessException e) {
+			log.warn("플래시 세일 좌석 상태 반영 실패: scheduleId={}, seatIds={}, status={}, error={}",
+				event.scheduleId(), event.seatIds(), event.status(), e.getMessage());
+		}
+	}
+
+	/** 영속화 대기 스트림이 있는 회차 목록 */
+	public Set<Long> activeScheduleIds() {
+		Set<String> members = stringRedisTemplate.opsForSet().members(ACTIVE_SCHEDULES_KEY);
+		if (members == null) {
+			return Set.of();
+		}
+		return members.stream().map(Long::valueOf).collect(Collectors.toSet());
+	}
+
+	/** 상태 HASH가 만료되고 스트림도 비었으면 회차를 목록에서 제거 */
+	public void deactivateIfIdle(Long scheduleId) {
+		String streamKey = streamKey(scheduleId);
+		Long pending = stringRedisTemplate.opsForStream().size(streamKey);
+		boolean seeded = Boolean.TRUE.equals(stringRedisTemplate.hasKey(statusKey(scheduleId)));
+		if ((pending == null || pending == 0) && !seeded) {
+			stringRedisTemplate.opsForSet().remove(ACTIVE_SCHEDULES_KEY, scheduleId.toString());
+			stringRedisTemplate.delete(streamKey);
+		}
+	}
+
+	public static String streamKey(Long scheduleId) {
+		return "seat:flash:{" + scheduleId + "}:stream";
+	}
+
+	private static String statusKey(Long scheduleId) {
+		return "seat:flash:{" + scheduleId + "}:status";
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<Object> executeHold(Long scheduleId, List<Long> seatIds, Long memberId) {
+		List<String> args = new ArrayList<>(seatIds.size() + 3);
+		args.add(memberId.toString());
+		args.add(Long.toString(holdTtl.toMillis()));
+		args.add(Long.toString(stateTtlSeconds));
+		for (Long seatId : seatIds) {
+			args.add(seatId.toString());
+		}
+
+		List<Object> result = stringRedisTemplate.execute(
+			flashSaleHoldScript, List.of(statusKey(scheduleId), streamKey(scheduleId)), args.toArray());
+
+		if (result == null || result.isEmpty()) {
+			throw new IllegalStateException("플래시 세일 HOLD 스크립트 결과 없음: scheduleId=" + scheduleId);
+		}
+		return result;
+	}
+
+	/**
+	 * 회차 좌석 상태를 DB에서 적재하고 영속화 스트림/컨슈머 그룹 준비
+	 *
+	 * 적재 중 커밋된 DB 전이는 반영 이벤트가 적재보다 먼저 도착하면 누락될 수 있으나,
+	 * SOLD 좌석은 영속화 단계에서 걸러지므로 DB 기록은 틀어지지 않음
+	 */
+	private void seed(Long scheduleId) {
+		List<Object[]> statuses = scheduleSeatRepository.findSeatStatusesWithExpiry(scheduleId);
+		if (statuses.isEmpty()) {
+			throw new BusinessException(ScheduleSeatErrorCode.SEAT_NOT_FOUND);
+		}
+
+		List<String> args = new ArrayList<>(statuses.size() * 2 + 1);
+		args.add(Long.toString(stateTtlSeconds));
+		for (Object[] row : statuses) {
+			args.add(row[0].toString());
+			args.add(value((SeatStatus)row[1], (LocalDateTime)row[2]));
+		}
+
+		Long seeded = stringRedisTemplate.execute(
+			flashSaleSeedScript, List.of(statusKey(scheduleId)), args.toArray());
+		if (seeded == null || seeded == 0) {
+			return;
+		}
+
+		createWriterGroup(scheduleId);
+		stringRedisTemplate.opsForSet().add(ACTIVE_SCHEDULES_KEY, scheduleId.toString());
+		log.info("플래시 세일 좌석 상태 적재: scheduleId={}, seats={}", scheduleId, statuses.size());
+	}
+
+	private static ScheduleSeatErrorCode errorCodeOf(int code) {
+		return switch (code) {
+			case 1 -> ScheduleSeatErrorCode.SEAT_ALREADY_HOLD;
+			case 2 -> ScheduleSeatErrorCode.SEAT_ALREADY_SOLD;
+			default -> ScheduleSeatErrorCode.SEAT_NOT_FOUND;
+		};
+	}
+
+	private void createWriterGroup(Long scheduleId) {
+		try {
+			byte[] streamKey = streamKey(scheduleId).getBytes(StandardCharsets.UTF_8);
+			stringRedisTemplate.execute((RedisCallback<String>)connection ->
+				connection.streamCommands().xGroupCreate(streamKey, WRITER_GROUP, ReadOffset.from("0-0"), true));
+		} catch (DataAccessException e) {
+			// 다른 노드가 먼저 만든 경우 (BUSYGROUP)
+			if (e.getMessage() == null || !e.getMessage().contains("BUSYGROUP")) {
+				throw e;
+			}
+		}
+	}
+
+	private void mirror(Long scheduleId, List<Long> seatIds, String value, boolean force) {
+		List<String> args = new ArrayList<>(seatIds.size() + 2);
+		args.add(value);
+		args.add(force ? "1" : "0");
+		for (Long seatId : seatIds) {
+			args.add(seatId.toString());
+		}
+
+		stringRedisTemplate.execute(flashSaleMirrorScript, List.of(statusKey(scheduleId)), args.toArray());
+	}
+
+	/**
+	 * HASH에서 유효 HOLD 조회 (만료 시각은 노드 시계 기준으로 비교)
+	 *
+	 * @param memberId 지정하면 해당 회원의 HOLD만
+	 */
+	private Map<Long, LocalDateTime> liveHolds(Long scheduleId, List<Long> seatIds, Long memberId) {
+		List<Object> values = stringRedisTemplate.opsForHash()
+			.multiGet(statusKey(scheduleId), seatIds.stream().map(seatId -> (Object)seatId.toString()).toList());
+
+		long now = System.currentTimeMillis();
+		Map<Long, LocalDateTime> holds = new HashMap<>();
+		for (int i = 0; i < seatIds.size(); i++) {
+			Object value = values != null ? values.get(i) : null;
+			if (value == null || !value.toString().startsWith("H:")) {
+				continue;
+			}
+			String[] parts = value.toString().split(":");
+			long expiresAt = Long.parseLong(parts[2]);
+			if (expiresAt > now && (memberId == null || memberId.toString().equals(parts[1]))) {
+				holds.put(seatIds.get(i), toDateTime(expiresAt));
+			}
+		}
+		return holds;
+	}
+
+	/** HOLD → HASH 값 */
+	private static String holdValue(Long memberId, LocalDateTime expiresAt) {
+		return "H:" + memberId + ":" + expiresAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+	}
+
+	/** DB 상태 → HASH 값 (DB HOLD는 소유자를 모르므로 0으로 두고 만료 시각만 보존) */
+	private static String value(SeatStatus status, LocalDateTime holdExpiredAt) {
+		return switch (status) {
+			case AVAILABLE -> "A";
+			case SOLD -> "S";
+			case HOLD -> holdExpiredAt == null ? "A" : holdValue(0L, holdExpiredAt);
+		};
+	}
+
+	/** HOLD 만료 시각(ms) → DB 시각 (ScheduleSeat.holdExpiredAt과 같은 시스템 기본 시간대) */
+	public static LocalDateTime toDateTime(long epochMillis) {
+		return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+	}
+}
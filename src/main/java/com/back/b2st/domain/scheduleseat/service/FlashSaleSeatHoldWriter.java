@@ -0,0 +1,199 @@
+package com.back.b2st.domain.scheduleseat.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.back.b2st.domain.scheduleseat.dto.FlashSaleSeatHold;
+import com.back.b2st.domain.scheduleseat.entity.ScheduleSeat;
+import com.back.b2st.domain.scheduleseat.entity.SeatStatus;
+import com.back.b2st.domain.scheduleseat.repository.ScheduleSeatBatchRepository;
+import com.back.b2st.domain.scheduleseat.repository.ScheduleSeatRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 플래시 세일 HOLD 영속화 (Redis 스트림 → ScheduleSeat JDBC batch)
+ *
+ * - 회차별 스트림을 컨슈머 그룹으로 읽어 노드 간 중복 기록 없이 분담
+ * - 기록 성공 후 ACK + 삭제, 실패 시 pending으로 남겨 다음 주기에 재시도 (at-least-once)
+ * - 일정 시간 ACK되지 않은 타 노드 pending은 회수하여 처리 (노드 장애 대비)
+ * - DB가 이미 SOLD인 좌석은 Redis HOLD를 무효화 (추첨 확정 등 DB 직접 전이와의 충돌 보정)
+ * - 예매 시점에 먼저 영속화된 HOLD(만료 시각 동일)는 반영 완료로 처리
+ * - 그 외 반영되지 않은 HOLD(DB에 다른 유효 HOLD, 좌석 없음)도 조용히 버리지 않고 무효화 + 경고 로그
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "seat-hold.flash-sale.enabled", havingValue = "true", matchIfMissing = false)
+public class FlashSaleSeatHoldWriter {
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final FlashSaleSeatHoldService flashSaleSeatHoldService;
+	private final ScheduleSeatBatchRepository scheduleSeatBatchRepository;
+	private final ScheduleSeatRepository scheduleSeatRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final SeatHoldExpiryQueue seatHoldExpiryQueue;
+
+	private final String consumerName = "writer-" + UUID.randomUUID();
+
+	/**
+	 * DB에 반영되지 않은 HOLD
+	 *
+	 * @param status DB 좌석 상태 (좌석이 없으면 null)
+	 */
+	private record Conflict(FlashSaleSeatHold hold, SeatStatus status, LocalDateTime holdExpiredAt) {
+	}
+
+	@Value("${seat-hold.flash-sale.batch-size:500}")
+	private int batchSize;
+
+	@Value("${seat-hold.flash-sale.claim-idle-ms:30000}")
+	private long claimIdleMs;
+
+	@Scheduled(fixedDelayString = "${seat-hold.flash-sale.flush-ms:200}")
+	public void flush() {
+		for (Long scheduleId : flashSaleSeatHoldService.activeScheduleIds()) {
+			try {
+				flushSchedule(scheduleId);
+			} catch (Exception e) {
+				log.warn("플래시 세일 HOLD 영속화 실패, 다음 주기 재시도 - scheduleId: {}", scheduleId, e);
+			}
+		}
+	}
+
+	private void flushSchedule(Long scheduleId) {
+		String streamKey = FlashSaleSeatHoldService.streamKey(scheduleId);
+		claimStale(streamKey);
+
+		// 1) 이전 주기 실패/회수분(pending) 우선, 2) 신규 항목
+		List<MapRecord<String, Object, Object>> records = read(streamKey, ReadOffset.from("0"));
+		if (records.isEmpty()) {
+			records = read(streamKey, ReadOffset.lastConsumed());
+		}
+		if (records.isEmpty()) {
+			flashSaleSeatHoldService.deactivateIfIdle(scheduleId);
+			return;
+		}
+
+		List<FlashSaleSeatHold> holds = new ArrayList<>(records.size());
+		for (MapRecord<String, Object, Object> record : records) {
+			holds.add(toHold(scheduleId, record));
+		}
+
+		for (Conflict conflict : write(holds)) {
+			FlashSaleSeatHold hold = conflict.hold();
+			if (conflict.status() == SeatStatus.SOLD) {
+				flashSaleSeatHoldService.revoke(scheduleId, hold.seatId());
+				log.info("플래시 세일 HOLD 무효화(DB SOLD) - scheduleId: {}, seatId: {}, memberId: {}",
+					scheduleId, hold.seatId(), hold.memberId());
+				continue;
+			}
+			boolean revoked =
+				flashSaleSeatHoldService.revokeUnpersisted(hold, conflict.status(), conflict.holdExpiredAt());
+			log.warn("플래시 세일 HOLD 영속화 실패 - scheduleId: {}, seatId: {}, memberId: {}, dbStatus: {}, revoked: {}",
+				scheduleId, hold.seatId(), hold.memberId(), conflict.status(), revoked);
+		}
+
+		RecordId[] recordIds = records.stream().map(MapRecord::getId).toArray(RecordId[]::new);
+		stringRedisTemplate.opsForStream().acknowledge(streamKey, FlashSaleSeatHoldService.WRITER_GROUP, recordIds);
+		stringRedisTemplate.opsForStream().delete(streamKey, recordIds);
+	}
+
+	/**
+	 * @return DB에 반영되지 않은 HOLD (SOLD, 다른 유효 HOLD, 좌석 없음)
+	 */
+	private List<Conflict> write(List<FlashSaleSeatHold> holds) {
+		List<Conflict> conflicts = transactionTemplate.execute(status -> {
+			int[] counts = scheduleSeatBatchRepository.batchHold(holds);
+
+			List<Conflict> unapplied = new ArrayList<>();
+			for (int i = 0; i < counts.length; i++) {
+				FlashSaleSeatHold hold = holds.get(i);
+				if (counts[i] == 0) {
+					ScheduleSeat seat = scheduleSeatRepository
+						.findByScheduleIdAndSeatId(hold.scheduleId(), hold.seatId())
+						.orElse(null);
+					if (seat == null) {
+						unapplied.add(new Conflict(hold, null, null));
+						continue;
+					}
+					// 예매 시점에 먼저 영속화된 HOLD (FlashSaleSeatHoldService.persistHold)
+					boolean persisted = seat.getStatus() == SeatStatus.HOLD
+						&& hold.expiresAt().equals(seat.getHoldExpiredAt());
+					if (!persisted) {
+						unapplied.add(new Conflict(hold, seat.getStatus(), seat.getHoldExpiredAt()));
+						continue;
+					}
+				}
+				// DB 기록된 HOLD는 만료 예정 큐로 해제
+				seatHoldExpiryQueue.register(hold.scheduleId(), hold.seatId(), hold.expiresAt());
+			}
+			return unapplied;
+		});
+		return conflicts != null ? conflicts : List.of();
+	}
+
+	private List<MapRecord<String, Object, Object>> read(String streamKey, ReadOffset offset) {
+		List<MapRecord<String, Object, Object>> records = stringRedisTemplate.opsForStream().read(
+			Consumer.from(FlashSaleSeatHoldService.WRITER_GROUP, consumerName),
+			StreamReadOptions.empty().count(batchSize),
+			StreamOffset.create(streamKey, offset)
+		);
+		return records != null ? records : List.of();
+	}
+
+	/** 장애 노드가 남긴 pending 회수 */
+	private void claimStale(String streamKey) {
+		PendingMessages pending = stringRedisTemplate.opsForStream()
+			.pending(streamKey, FlashSaleSeatHoldService.WRITER_GROUP, Range.unbounded(), batchSize);
+		if (pending == null || pending.isEmpty()) {
+			return;
+		}
+
+		Duration minIdle = Duration.ofMillis(claimIdleMs);
+		RecordId[] staleIds = pending.stream()
+			.filter(message -> !consumerName.equals(message.getConsumerName()))
+			.filter(message -> message.getElapsedTimeSinceLastDelivery().compareTo(minIdle) >= 0)
+			.map(PendingMessage::getId)
+			.toArray(RecordId[]::new);
+		if (staleIds.length == 0) {
+			return;
+		}
+
+		stringRedisTemplate.opsForStream()
+			.claim(streamKey, FlashSaleSeatHoldService.WRITER_GROUP, consumerName, minIdle, staleIds);
+		log.info("플래시 세일 HOLD pending 회수 - stream: {}, count: {}", streamKey, staleIds.length);
+	}
+
+	private static FlashSaleSeatHold toHold(Long scheduleId, MapRecord<String, Object, Object> record) {
+		Map<Object, Object> value = record.getValue();
+		return new FlashSaleSeatHold(
+			record.getId().getValue(),
+			scheduleId,
+			Long.valueOf(value.get("seatId").toString()),
+			Long.valueOf(value.get("memberId").toString()),
+			FlashSaleSeatHoldService.toDateTime(Long.parseLong(value.get("expiresAt").toString()))
+		);
+	}
+}
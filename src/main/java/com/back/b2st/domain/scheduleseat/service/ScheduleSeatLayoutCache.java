@@ -0,0 +1,72 @@
+package com.back.b2st.domain.scheduleseat.service;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.back.b2st.domain.performanceschedule.service.ScheduleResolver;
+import com.back.b2st.domain.scheduleseat.dto.ScheduleSeatLayout;
+import com.back.b2st.domain.scheduleseat.repository.ScheduleSeatRepository;
+import com.back.b2st.domain.seat.layout.dto.SeatLayout;
+import com.back.b2st.domain.seat.layout.service.SeatLayoutCache;
+import com.back.b2st.global.error.exception.BusinessException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 회차 좌석 정적 레이아웃 노드 로컬 캐시
+ *
+ * 공연 좌석 레이아웃(SeatLayoutCache)에 회차 좌석 ID만 덧붙여 TTL 동안 재사용 (상한 초과 시 오래된 항목부터 제거)
+ * 공연 레이아웃이 무효화되면(isCurrent=false) 함께 재적재
+ * 좌석 상태는 레이아웃이 아닌 Redis 상태 맵(ScheduleSeatStatusMap)에서 합성
+ */
+@Component
+@RequiredArgsConstructor
+public class ScheduleSeatLayoutCache {
+
+	private final ScheduleSeatRepository scheduleSeatRepository;
+	private final ScheduleResolver scheduleResolver;
+	private final SeatLayoutCache seatLayoutCache;
+
+	@Value("${seat-map.layout-ttl-seconds:300}")
+	private long layoutTtlSeconds;
+
+	@Value("${seat-map.layout-cache-max-size:1000}")
+	private int maxCacheSize;
+
+	private Cache<Long, ScheduleSeatLayout> layouts;
+
+	@PostConstruct
+	void initCache() {
+		layouts = Caffeine.newBuilder()
+			.maximumSize(maxCacheSize)
+			.expireAfterWrite(Duration.ofSeconds(layoutTtlSeconds))
+			.build();
+	}
+
+	/**
+	 * 회차 레이아웃 조회 (캐시 미스 시 회차 좌석 키만 DB 적재)
+	 *
+	 * @throws BusinessException 회차가 존재하지 않을 때
+	 */
+	public ScheduleSeatLayout get(Long scheduleId) {
+		ScheduleSeatLayout cached = layouts.getIfPresent(scheduleId);
+		if (cached != null && seatLayoutCache.isCurrent(cached.seatLayout())) {
+			return cached;
+		}
+
+		SeatLayout seatLayout = seatLayoutCache.get(scheduleResolver.resolvePerformanceId(scheduleId));
+		ScheduleSeatLayout layout = ScheduleSeatLayout.of(seatLayout, scheduleSeatRepository.findSeatKeys(scheduleId));
+		layouts.put(scheduleId, layout);
+
+		return layout;
+	}
+
+	public void evict(Long scheduleId) {
+		layouts.invalidate(scheduleId);
+	}
+}
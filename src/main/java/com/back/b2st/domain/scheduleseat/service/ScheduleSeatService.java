@@ -1,18 +1,24 @@
 package com.back.b2st.domain.scheduleseat.service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.back.b2st.domain.performanceschedule.error.PerformanceScheduleErrorCode;
-import com.back.b2st.domain.performanceschedule.repository.PerformanceScheduleRepository;
+import com.back.b2st.domain.scheduleseat.dto.ScheduleSeatLayout;
+import com.back.b2st.domain.scheduleseat.dto.response.ScheduleSeatMapRes;
+import com.back.b2st.domain.scheduleseat.dto.response.ScheduleSeatSummaryRes;
 import com.back.b2st.domain.scheduleseat.dto.response.ScheduleSeatViewRes;
 import com.back.b2st.domain.scheduleseat.entity.ScheduleSeat;
 import com.back.b2st.domain.scheduleseat.entity.SeatStatus;
 import com.back.b2st.domain.scheduleseat.error.ScheduleSeatErrorCode;
 import com.back.b2st.domain.scheduleseat.repository.ScheduleSeatRepository;
+import com.back.b2st.domain.seat.grade.entity.SeatGradeType;
 import com.back.b2st.global.error.exception.BusinessException;
 
 import lombok.RequiredArgsConstructor;
@@ -22,11 +28,16 @@ import lombok.RequiredArgsConstructor;
 public class ScheduleSeatService {
 
 	private final ScheduleSeatRepository scheduleSeatRepository;
-	private final PerformanceScheduleRepository performanceScheduleRepository;
 	private final SeatHoldTokenService seatHoldTokenService;
-
-	/** === 좌석 상태 유효한지 검사 === */
-	@Transactional(readOnly = true)
+	private final ScheduleSeatLayoutCache scheduleSeatLayoutCache;
+	private final ScheduleSeatStatusMap scheduleSeatStatusMap;
+	private final FlashSaleSeatHoldService flashSaleSeatHoldService;
+
+	/**
+	 * === 좌석 상태 유효한지 검사 ===
+	 * 플래시 세일 HOLD는 영속화 배치 전일 수 있으므로 본인 유효 HOLD를 먼저 DB에 반영 (읽기 전용 아님)
+	 */
+	@Transactional
 	public ScheduleSeat validateAndGetAttachableSeat(
 		Long scheduleId,
 		Long seatId,
@@ -34,6 +45,7 @@ public class ScheduleSeatService {
 	) {
 		// 1. HOLD 소유권 (Redis)
 		seatHoldTokenService.validateOwnership(scheduleId, seatId, memberId);
+		flashSaleSeatHoldService.persistHold(scheduleId, seatId, memberId);
 
 		// 2. ScheduleSeat 조회
 		ScheduleSeat scheduleSeat =
@@ -53,26 +65,124 @@ public class ScheduleSeatService {
 		return scheduleSeat;
 	}
 
-	/** === 특정 회차 전체 좌석 조회 === */
-	@Transactional(readOnly = true)
+	/**
+	 * === 특정 회차 전체 좌석 조회 ===
+	 * 정적 레이아웃(노드 캐시) + 좌석 상태(Redis 상태 맵) 합성, 캐시 적중 시 DB 조회 없음
+	 */
 	public List<ScheduleSeatViewRes> getSeats(Long scheduleId) {
+		return composeSeats(scheduleId, null);
+	}
+
+	/** === 특정 회차에서 상태별 좌석 조회 === */
+	public List<ScheduleSeatViewRes> getSeatsByStatus(Long scheduleId, SeatStatus status) {
+		return composeSeats(scheduleId, status);
+	}
 
-		if (!performanceScheduleRepository.existsById(scheduleId)) {
-			throw new BusinessException(PerformanceScheduleErrorCode.SCHEDULE_NOT_FOUND);
+	/**
+	 * === 회차 좌석 맵 조회 (버전 기반 증분) ===
+	 * sinceVersion 이후 변경 좌석만 반환, 변경 로그 범위 밖이거나 sinceVersion이 없으면 전체 스냅샷
+	 */
+	public ScheduleSeatMapRes getSeatMap(Long scheduleId, Long sinceVersion) {
+		ScheduleSeatLayout layout = scheduleSeatLayoutCache.get(scheduleId);
+
+		if (sinceVersion != null) {
+			ScheduleSeatStatusMap.Changes changes = scheduleSeatStatusMap.changesSince(scheduleId, sinceVersion);
+			if (changes != null && changes.complete()) {
+				List<ScheduleSeatViewRes> changed = changedSeats(layout, changes.statusBySeatId());
+				if (changed != null) {
+					return ScheduleSeatMapRes.changes(changes.version(), changed);
+				}
+			}
 		}
 
-		return scheduleSeatRepository.findSeats(scheduleId);
+		ScheduleSeatStatusMap.Snapshot snapshot = scheduleSeatStatusMap.load(scheduleId, layout);
+		return ScheduleSeatMapRes.snapshot(snapshot.version(), compose(layout, snapshot.states(), null));
 	}
 
-	/** === 특정 회차에서 상태별 좌석 조회 === */
-	@Transactional(readOnly = true)
-	public List<ScheduleSeatViewRes> getSeatsByStatus(Long scheduleId, SeatStatus status) {
+	/**
+	 * === 회차 잔여 좌석 요약 (등급별, 등급 내 구역별) ===
+	 * Redis 잔여 좌석 카운터만 조회 (좌석 목록 조회/집계 없음)
+	 */
+	public ScheduleSeatSummaryRes getSeatSummary(Long scheduleId) {
+		ScheduleSeatLayout layout = scheduleSeatLayoutCache.get(scheduleId);
+
+		Map<SeatGradeType, Map<Long, long[]>> countsByGrade = new EnumMap<>(SeatGradeType.class);
+		for (ScheduleSeatStatusMap.SeatCount count : scheduleSeatStatusMap.counts(scheduleId, layout)) {
+			if (count.grade() == null) {
+				continue;
+			}
+			long[] byStatus = countsByGrade
+				.computeIfAbsent(count.grade(), grade -> new TreeMap<>())
+				.computeIfAbsent(count.sectionId(), sectionId -> new long[SeatStatus.values().length]);
+			byStatus[count.status().ordinal()] += count.count();
+		}
+
+		List<ScheduleSeatSummaryRes.GradeSummary> grades = new ArrayList<>(countsByGrade.size());
+		countsByGrade.forEach((grade, bySection) -> {
+			long[] gradeTotal = new long[SeatStatus.values().length];
+			List<ScheduleSeatSummaryRes.SectionSummary> sections = new ArrayList<>(bySection.size());
+			bySection.forEach((sectionId, byStatus) -> {
+				for (int i = 0; i < byStatus.length; i++) {
+					gradeTotal[i] += byStatus[i];
+				}
+				sections.add(new ScheduleSeatSummaryRes.SectionSummary(
+					sectionId,
+					layout.seatLayout().sectionNameOf(sectionId),
+					byStatus[SeatStatus.AVAILABLE.ordinal()],
+					byStatus[SeatStatus.HOLD.ordinal()],
+					byStatus[SeatStatus.SOLD.ordinal()]
+				));
+			});
+			grades.add(new ScheduleSeatSummaryRes.GradeSummary(
+				grade.name(),
+				gradeTotal[SeatStatus.AVAILABLE.ordinal()],
+				gradeTotal[SeatStatus.HOLD.ordinal()],
+				gradeTotal[SeatStatus.SOLD.ordinal()],
+				sections
+			));
+		});
+
+		return new ScheduleSeatSummaryRes(grades);
+	}
+
+	/** === 클라이언트가 가진 좌석 맵 버전이 최신인지 확인 (조건부 요청) === */
+	public boolean isSeatMapUnchanged(Long scheduleId, long knownVersion) {
+		Long currentVersion = scheduleSeatStatusMap.currentVersion(scheduleId);
+		return currentVersion != null && currentVersion == knownVersion;
+	}
+
+	private List<ScheduleSeatViewRes> composeSeats(Long scheduleId, SeatStatus filter) {
+		ScheduleSeatLayout layout = scheduleSeatLayoutCache.get(scheduleId);
+		ScheduleSeatStatusMap.Snapshot snapshot = scheduleSeatStatusMap.load(scheduleId, layout);
+		return compose(layout, snapshot.states(), filter);
+	}
+
+	private List<ScheduleSeatViewRes> compose(ScheduleSeatLayout layout, byte[] states, SeatStatus filter) {
+		int[] ordinals = layout.ordinals();
+
+		List<ScheduleSeatViewRes> result = new ArrayList<>(layout.size());
+		for (int position = 0; position < layout.size(); position++) {
+			SeatStatus status = ScheduleSeatStatusMap.decode(states, ordinals[position]);
+			if (filter == null || filter == status) {
+				result.add(layout.view(position, status));
+			}
+		}
+
+		return result;
+	}
 
-		if (!performanceScheduleRepository.existsById(scheduleId)) {
-			throw new BusinessException(PerformanceScheduleErrorCode.SCHEDULE_NOT_FOUND);
+	/** 변경 좌석을 레이아웃 행으로 변환 (레이아웃에 없는 좌석이 있으면 null → 전체 스냅샷) */
+	private List<ScheduleSeatViewRes> changedSeats(ScheduleSeatLayout layout, Map<Long, SeatStatus> statusBySeatId) {
+		List<ScheduleSeatViewRes> result = new ArrayList<>(statusBySeatId.size());
+		for (Map.Entry<Long, SeatStatus> entry : statusBySeatId.entrySet()) {
+			Integer ordinal = layout.ordinalOf(entry.getKey());
+			if (ordinal == null) {
+				return null;
+			}
+			result.add(layout.view(layout.positionOf(ordinal), entry.getValue()));
 		}
 
-		return scheduleSeatRepository.findSeatsByStatus(scheduleId, status);
+		return result;
 	}
 
 }
@@ -1,18 +1,27 @@
 package com.back.b2st.domain.scheduleseat.service;
 
 import java.time.LocalDateTime;
-
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.back.b2st.domain.performanceschedule.error.PerformanceScheduleErrorCode;
-import com.back.b2st.domain.performanceschedule.repository.PerformanceScheduleRepository;
+import com.back.b2st.domain.performanceschedule.service.ScheduleResolver;
 import com.back.b2st.domain.queue.service.QueueAccessService;
+import com.back.b2st.domain.scheduleseat.dto.event.ScheduleSeatStatusChangedEvent;
 import com.back.b2st.domain.scheduleseat.entity.ScheduleSeat;
 import com.back.b2st.domain.scheduleseat.entity.SeatStatus;
 import com.back.b2st.domain.scheduleseat.error.ScheduleSeatErrorCode;
+import com.back.b2st.domain.scheduleseat.error.SeatHoldConflictException;
 import com.back.b2st.domain.scheduleseat.repository.ScheduleSeatRepository;
 import com.back.b2st.global.error.exception.BusinessException;
+import com.back.b2st.global.scheduler.ExpiryChunk;
 
 import lombok.RequiredArgsConstructor;
 
@@ -20,24 +29,79 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class ScheduleSeatStateService {
 
+	/** 한 번에 HOLD/예매할 수 있는 최대 좌석 수 */
+	public static final int MAX_HOLD_SEATS = 4;
+
 	private final ScheduleSeatLockService scheduleSeatLockService;
 	private final SeatHoldTokenService seatHoldTokenService;
 	private final QueueAccessService queueAccessService;
+	private final FlashSaleSeatHoldService flashSaleSeatHoldService;
+	private final SeatHoldExpiryQueue seatHoldExpiryQueue;
+	private final ScheduleResolver scheduleResolver;
 
 	private final ScheduleSeatRepository scheduleSeatRepository;
-	private final PerformanceScheduleRepository performanceScheduleRepository;
+
+	private final ApplicationEventPublisher eventPublisher;
 
 	/** === 좌석 잡기 (HOLD) === */
 	@Transactional
 	public void holdSeat(Long memberId, Long scheduleId, Long seatId) {
+		holdSeat(memberId, scheduleId, seatId, null);
+	}
+
+	/**
+	 * 좌석 HOLD (서명 입장권 제출 시 대기열 검증을 로컬에서 처리)
+	 */
+	@Transactional
+	public void holdSeat(Long memberId, Long scheduleId, Long seatId, String queuePass) {
+		holdWithQueueCheck(memberId, scheduleId, queuePass, () -> holdSeatInternal(memberId, scheduleId, seatId));
+	}
+
+	/**
+	 * 다중 좌석 HOLD (전부 성공 또는 전부 실패)
+	 *
+	 * seatId 오름차순으로 락/행 잠금을 잡아 교착을 피하고,
+	 * 하나라도 잡을 수 없으면 아무것도 HOLD하지 않고 충돌 좌석과 함께 즉시 실패
+	 *
+	 * @throws SeatHoldConflictException 충돌 좌석 포함
+	 */
+	@Transactional
+	public void holdSeats(Long memberId, Long scheduleId, List<Long> seatIds, String queuePass) {
+		List<Long> sortedSeatIds = seatIds.stream().distinct().sorted().toList();
+		if (sortedSeatIds.isEmpty() || sortedSeatIds.size() != seatIds.size()
+			|| sortedSeatIds.size() > MAX_HOLD_SEATS) {
+			throw new BusinessException(ScheduleSeatErrorCode.INVALID_HOLD_SEAT_COUNT);
+		}
 
-		// 0. 대기열 통과 검증 (락 이전)
-		Long performanceId = performanceScheduleRepository.findPerformanceIdByScheduleId(scheduleId)
-			.orElseThrow(() -> new BusinessException(PerformanceScheduleErrorCode.SCHEDULE_NOT_FOUND));
+		holdWithQueueCheck(memberId, scheduleId, queuePass,
+			() -> holdSeatsInternal(memberId, scheduleId, sortedSeatIds));
+	}
 
-		queueAccessService.assertEnterable(performanceId, memberId);
+	private void holdWithQueueCheck(Long memberId, Long scheduleId, String queuePass, Runnable hold) {
+		// 0. 대기열 통과 검증 (락 이전, 회차 → 공연 ID는 노드 로컬 캐시)
+		Long performanceId = scheduleResolver.resolvePerformanceId(scheduleId);
 
-		holdSeatInternal(memberId, scheduleId, seatId);
+		if (queuePass == null) {
+			queueAccessService.assertEnterable(performanceId, memberId);
+		} else {
+			queueAccessService.assertEnterable(performanceId, memberId, queuePass);
+		}
+
+		// 처리 시간/과부하성 실패를 대기열 입장 제어 신호로 보고
+		long startedAt = System.nanoTime();
+		boolean overloaded = false;
+		try {
+			hold.run();
+		} catch (BusinessException e) {
+			overloaded = e.getErrorCode() == ScheduleSeatErrorCode.SEAT_LOCK_FAILED;
+			throw e;
+		} catch (RuntimeException e) {
+			overloaded = true;
+			throw e;
+		} finally {
+			long latencyMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+			queueAccessService.recordSeatHold(performanceId, latencyMillis, overloaded);
+		}
 	}
 
 	/**
@@ -50,6 +114,13 @@ public class ScheduleSeatStateService {
 	}
 
 	private void holdSeatInternal(Long memberId, Long scheduleId, Long seatId) {
+		// 플래시 세일 모드: Redis 스크립트 1회로 HOLD, DB 반영은 FlashSaleSeatHoldWriter가 비동기 처리
+		if (flashSaleSeatHoldService.isEnabled()) {
+			flashSaleSeatHoldService.hold(scheduleId, seatId, memberId);
+			eventPublisher.publishEvent(ScheduleSeatStatusChangedEvent.of(scheduleId, seatId, SeatStatus.HOLD));
+			return;
+		}
+
 		// 1. 좌석 락 획득
 		String lockValue = scheduleSeatLockService.tryLock(scheduleId, seatId, memberId);
 		if (lockValue == null) {
@@ -69,40 +140,152 @@ public class ScheduleSeatStateService {
 		}
 	}
 
-	/** === 만료된 HOLD 좌석을 AVAILABLE로 일괄 복구 === */
+	private void holdSeatsInternal(Long memberId, Long scheduleId, List<Long> sortedSeatIds) {
+		if (flashSaleSeatHoldService.isEnabled()) {
+			flashSaleSeatHoldService.hold(scheduleId, sortedSeatIds, memberId);
+			eventPublisher.publishEvent(ScheduleSeatStatusChangedEvent.of(scheduleId, sortedSeatIds, SeatStatus.HOLD));
+			return;
+		}
+
+		Map<Long, String> lockValues = new LinkedHashMap<>();
+		try {
+			// 1. 좌석 락 획득 (오름차순, 하나라도 실패하면 즉시 중단)
+			for (Long seatId : sortedSeatIds) {
+				String lockValue = scheduleSeatLockService.tryLock(scheduleId, seatId, memberId);
+				if (lockValue == null) {
+					throw new SeatHoldConflictException(ScheduleSeatErrorCode.SEAT_LOCK_FAILED, List.of(seatId));
+				}
+				lockValues.put(seatId, lockValue);
+			}
+
+			// 2. AVAILABLE → HOLD (전부 가능할 때만)
+			changeToHold(scheduleId, sortedSeatIds);
+
+			// 3. HOLD 소유권 저장 (Redis TTL)
+			for (Long seatId : sortedSeatIds) {
+				seatHoldTokenService.save(scheduleId, seatId, memberId);
+			}
+
+		} finally {
+			// 4. 획득한 락 모두 해제
+			lockValues.forEach((seatId, lockValue) -> scheduleSeatLockService.unlock(scheduleId, seatId, lockValue));
+		}
+	}
+
+	/**
+	 * === 만료된 HOLD 좌석을 AVAILABLE로 청크 복구 ===
+	 *
+	 * afterId 이후 만료 HOLD를 최대 chunkSize건 잠가(SKIP LOCKED) 해제, 청크마다 별도 트랜잭션
+	 * 플래시 세일에서 Redis로 재선점됐지만 아직 DB에 반영되지 않은 좌석은 제외 (새 소유자 토큰 보존)
+	 */
 	@Transactional
-	public int releaseExpiredHoldsBatch() {
-		LocalDateTime now = LocalDateTime.now();
+	public ExpiryChunk releaseExpiredHoldsChunk(Long afterId, int chunkSize) {
+		List<Object[]> rows = scheduleSeatRepository.lockExpiredHoldChunk(afterId, LocalDateTime.now(), chunkSize);
+		if (rows.isEmpty()) {
+			return ExpiryChunk.empty();
+		}
+
+		// scheduleId → (seatId → scheduleSeatId)
+		Map<Long, Map<Long, Long>> expiredBySchedule = new LinkedHashMap<>();
+		for (Object[] row : rows) {
+			Long scheduleId = ((Number)row[1]).longValue();
+			expiredBySchedule.computeIfAbsent(scheduleId, id -> new LinkedHashMap<>())
+				.put(((Number)row[2]).longValue(), ((Number)row[0]).longValue());
+		}
 
-		var expiredKeys = scheduleSeatRepository.findExpiredHoldKeys(SeatStatus.HOLD, now);
+		List<Long> scheduleSeatIds = new ArrayList<>(rows.size());
+		Map<Long, List<Long>> releasedBySchedule = new LinkedHashMap<>();
+		expiredBySchedule.forEach((scheduleId, seats) -> {
+			Set<Long> liveFlashHolds = flashSaleSeatHoldService
+				.liveHoldSeats(scheduleId, new ArrayList<>(seats.keySet())).keySet();
+			seats.forEach((seatId, scheduleSeatId) -> {
+				if (!liveFlashHolds.contains(seatId)) {
+					scheduleSeatIds.add(scheduleSeatId);
+					releasedBySchedule.computeIfAbsent(scheduleId, id -> new ArrayList<>()).add(seatId);
+				}
+			});
+		});
+
+		if (!scheduleSeatIds.isEmpty()) {
+			scheduleSeatRepository.releaseHoldsByIds(scheduleSeatIds, SeatStatus.HOLD, SeatStatus.AVAILABLE);
+		}
 
-		int updated = scheduleSeatRepository.releaseExpiredHolds(SeatStatus.HOLD, SeatStatus.AVAILABLE, now);
+		releasedBySchedule.forEach((scheduleId, seatIds) -> {
+			seatHoldTokenService.removeAll(scheduleId, seatIds);
+			eventPublisher.publishEvent(ScheduleSeatStatusChangedEvent.of(scheduleId, seatIds, SeatStatus.AVAILABLE));
+		});
 
-		for (Object[] row : expiredKeys) {
-			Long scheduleId = (Long)row[0];
-			Long seatId = (Long)row[1];
-			seatHoldTokenService.remove(scheduleId, seatId);
+		return new ExpiryChunk(rows.size(), ((Number)rows.getLast()[0]).longValue());
+	}
+
+	/** 남은 만료 HOLD 좌석 수 */
+	@Transactional(readOnly = true)
+	public long countExpiredHolds() {
+		return scheduleSeatRepository.countExpiredHolds(SeatStatus.HOLD, LocalDateTime.now());
+	}
+
+	/**
+	 * 만료 예정 큐에서 꺼낸 좌석 해제 (정확히 만료된 HOLD만)
+	 *
+	 * 큐 항목이 오래된 경우(해제/확정/재선점)를 위해 DB에서 HOLD + 만료 여부를 다시 확인하고,
+	 * 아직 만료되지 않은 HOLD(재선점)는 현재 만료 시각으로 다시 등록
+	 * 플래시 세일에서 Redis로 재선점됐지만 아직 DB에 반영되지 않은 좌석도 해제하지 않음
+	 * (해제하면 새 소유자의 토큰까지 지워짐) → Redis 만료 시각으로 다시 등록
+	 *
+	 * @return 해제된 좌석 수
+	 */
+	@Transactional
+	public int releaseExpiredHolds(Long scheduleId, List<Long> seatIds) {
+		List<Long> sortedSeatIds = seatIds.stream().distinct().sorted().toList();
+		List<ScheduleSeat> holds = scheduleSeatRepository.findHoldsByScheduleIdAndSeatIdInWithLock(
+			scheduleId, sortedSeatIds, SeatStatus.HOLD);
+		Map<Long, LocalDateTime> liveFlashHolds = flashSaleSeatHoldService.liveHoldSeats(
+			scheduleId, holds.stream().map(ScheduleSeat::getSeatId).toList());
+
+		LocalDateTime now = LocalDateTime.now();
+		List<Long> released = new ArrayList<>(holds.size());
+		for (ScheduleSeat seat : holds) {
+			if (seat.getHoldExpiredAt() != null && seat.getHoldExpiredAt().isAfter(now)) {
+				seatHoldExpiryQueue.register(scheduleId, seat.getSeatId(), seat.getHoldExpiredAt());
+				continue;
+			}
+			LocalDateTime flashExpiresAt = liveFlashHolds.get(seat.getSeatId());
+			if (flashExpiresAt != null) {
+				seatHoldExpiryQueue.register(scheduleId, seat.getSeatId(), flashExpiresAt);
+				continue;
+			}
+			seat.release();
+			released.add(seat.getSeatId());
 		}
 
-		return updated;
+		if (!released.isEmpty()) {
+			seatHoldTokenService.removeAll(scheduleId, released);
+			eventPublisher.publishEvent(ScheduleSeatStatusChangedEvent.of(scheduleId, released, SeatStatus.AVAILABLE));
+		}
+		return released.size();
 	}
 
 	@Transactional
 	public void releaseHold(Long scheduleId, Long seatId) {
 		changeToAvailable(scheduleId, seatId);
 		seatHoldTokenService.remove(scheduleId, seatId);
+		seatHoldExpiryQueue.remove(scheduleId, seatId);
+		flashSaleSeatHoldService.release(scheduleId, seatId);
 	}
 
 	@Transactional
 	public void releaseForceHold(Long scheduleId, Long seatId) {
 		forceToAvailable(scheduleId, seatId);
 		seatHoldTokenService.remove(scheduleId, seatId);
+		seatHoldExpiryQueue.remove(scheduleId, seatId);
+		flashSaleSeatHoldService.release(scheduleId, seatId);
 	}
 
 	@Transactional
 	public void confirmHold(Long scheduleId, Long seatId) {
 		changeToSold(scheduleId, seatId);
 		seatHoldTokenService.remove(scheduleId, seatId);
+		seatHoldExpiryQueue.remove(scheduleId, seatId);
 	}
 
 	// === 상태 변경 AVAILABLE → HOLD === //
@@ -120,6 +303,45 @@ public class ScheduleSeatStateService {
 		LocalDateTime expiredAt = LocalDateTime.now().plus(SeatHoldTokenService.HOLD_TTL);
 
 		seat.hold(expiredAt);
+		seatHoldExpiryQueue.register(scheduleId, seatId, expiredAt);
+		eventPublisher.publishEvent(ScheduleSeatStatusChangedEvent.of(scheduleId, seatId, SeatStatus.HOLD));
+	}
+
+	// === 상태 변경 AVAILABLE → HOLD (다중, 전부 또는 전무) === //
+	private void changeToHold(Long scheduleId, List<Long> sortedSeatIds) {
+		List<ScheduleSeat> seats =
+			scheduleSeatRepository.findAllByScheduleIdAndSeatIdInWithLock(scheduleId, sortedSeatIds);
+
+		if (seats.size() != sortedSeatIds.size()) {
+			List<Long> found = seats.stream().map(ScheduleSeat::getSeatId).toList();
+			List<Long> missing = sortedSeatIds.stream().filter(seatId -> !found.contains(seatId)).toList();
+			throw new SeatHoldConflictException(ScheduleSeatErrorCode.SEAT_NOT_FOUND, missing);
+		}
+
+		List<Long> sold = new ArrayList<>();
+		List<Long> held = new ArrayList<>();
+		for (ScheduleSeat seat : seats) {
+			if (seat.getStatus() == SeatStatus.SOLD) {
+				sold.add(seat.getSeatId());
+			} else if (seat.getStatus() == SeatStatus.HOLD) {
+				held.add(seat.getSeatId());
+			}
+		}
+		if (!sold.isEmpty() || !held.isEmpty()) {
+			List<Long> conflicts = new ArrayList<>(sold);
+			conflicts.addAll(held);
+			throw new SeatHoldConflictException(
+				sold.isEmpty() ? ScheduleSeatErrorCode.SEAT_ALREADY_HOLD : ScheduleSeatErrorCode.SEAT_ALREADY_SOLD,
+				conflicts
+			);
+		}
+
+		LocalDateTime expiredAt = LocalDateTime.now().plus(SeatHoldTokenService.HOLD_TTL);
+		for (ScheduleSeat seat : seats) {
+			seat.hold(expiredAt);
+		}
+		seatHoldExpiryQueue.register(scheduleId, sortedSeatIds, expiredAt);
+		eventPublisher.publishEvent(ScheduleSeatStatusChangedEvent.of(scheduleId, sortedSeatIds, SeatStatus.HOLD));
 	}
 
 	// === 상태 변경 HOLD → AVAILABLE === //
@@ -136,6 +358,7 @@ public class ScheduleSeatStateService {
 		}
 
 		seat.release();
+		eventPublisher.publishEvent(ScheduleSeatStatusChangedEvent.of(scheduleId, seatId, SeatStatus.AVAILABLE));
 	}
 
 	@Transactional
@@ -149,6 +372,7 @@ public class ScheduleSeatStateService {
 
 		// SOLD든 HOLD든 운영 복구 목적으로 AVAILABLE로 강제
 		seat.release();
+		eventPublisher.publishEvent(ScheduleSeatStatusChangedEvent.of(scheduleId, seatId, SeatStatus.AVAILABLE));
 
 		seatHoldTokenService.remove(scheduleId, seatId);
 	}
@@ -167,6 +391,7 @@ public class ScheduleSeatStateService {
 		}
 
 		seat.sold();
+		eventPublisher.publishEvent(ScheduleSeatStatusChangedEvent.of(scheduleId, seatId, SeatStatus.SOLD));
 	}
 
 	// === 좌석 조회 공통 로직 (락) === //
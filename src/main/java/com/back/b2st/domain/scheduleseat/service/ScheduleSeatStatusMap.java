@@ -0,0 +1,504 @@
+package com.back.b2st.domain.scheduleseat.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.back.b2st.domain.scheduleseat.dto.ScheduleSeatLayout;
+import com.back.b2st.domain.scheduleseat.dto.event.ScheduleSeatStatusChangedEvent;
+import com.back.b2st.domain.scheduleseat.entity.SeatStatus;
+import com.back.b2st.domain.scheduleseat.repository.ScheduleSeatRepository;
+import com.back.b2st.domain.seat.grade.entity.SeatGradeType;
+import com.back.b2st.domain.seat.layout.dto.SeatLayout;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 회차 좌석 상태 맵 (Redis, 좌석당 2bit 패킹 비트필드)
+ *
+ * - 인덱스: ScheduleSeatLayout ordinal (seatId 오름차순 순위)
+ * - 값: 0=AVAILABLE, 1=HOLD, 2=SOLD
+ * - 상태 전이는 커밋 이후 이벤트로 BITFIELD 반영, 키가 없으면 다음 조회 시 DB에서 재구성
+ * - 전이마다 회차 버전(단조 증가)을 올리고 상한 있는 변경 로그에 기록 → 클라이언트 증분 조회
+ *
+ * 재구성 경쟁: 키가 없는 동안의 전이는 epoch를 올려, 전이 이전에 읽은 DB 스냅샷이 저장되지 않도록 함
+ * 반영 누락(Redis 장애 등)은 상태 맵 TTL 안에서만 남음
+ *
+ * 잔여 좌석 카운터: (등급, 구역, 상태)별 좌석 수 HASH, 상태 맵과 같은 스크립트에서 갱신
+ * - 필드: "{등급}:{sectionId}:{상태 코드}" (등급 미지정은 NONE)
+ * - 비트필드 이전 값과 다를 때만 이전 상태 -1, 새 상태 +1 → 중복 이벤트에도 정확
+ * - 상태 맵과 함께 생성/만료/무효화, 주기적으로 DB와 대조(reconcile)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScheduleSeatStatusMap {
+
+	private static final byte[] INITIAL_EPOCH = "0".getBytes(StandardCharsets.UTF_8);
+
+	private static final String NO_GRADE = "NONE";
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final ScheduleSeatRepository scheduleSeatRepository;
+	private final ScheduleSeatLayoutCache scheduleSeatLayoutCache;
+
+	/** 상태 반영 (버전 증가 + 변경 로그 기록 + 비트필드 반영), return: 반영 후 버전 */
+	@Autowired
+	private RedisScript<Long> seatStateApplyScript;
+
+	/** 상태 맵 초기화 (DB 스냅샷 + 카운터 저장), return: 1 저장, 0 건너뜀 */
+	@Autowired
+	private RedisScript<Long> seatStateInitScript;
+
+	/** 상태 맵 무효화 (버전 증가 + 변경 로그 비움) */
+	@Autowired
+	private RedisScript<Long> seatStateInvalidateScript;
+
+	/** 변경 로그 조회, return: {version, complete, entry...} */
+	@Autowired
+	@SuppressWarnings("rawtypes")
+	private RedisScript<List> seatStateChangesScript;
+
+	/** 상태 맵 + 카운터 조회, return: {state, field, value, ...} */
+	@Autowired
+	@SuppressWarnings("rawtypes")
+	private RedisScript<List> seatStateReadWithCountsScript;
+
+	@Value("${seat-map.state-ttl-seconds:300}")
+	private long stateTtlSeconds;
+
+	@Value("${seat-map.version-ttl-seconds:86400}")
+	private long versionTtlSeconds;
+
+	@Value("${seat-map.change-log-size:1000}")
+	private int changeLogSize;
+
+	/** 이 노드에서 전이/카운터 조회가 있었던 회차 (대조 대상, 대조 주기마다 비움) */
+	private final Set<Long> touchedSchedules = ConcurrentHashMap.newKeySet();
+
+	/** 이전 대조에서 DB와 달랐던 좌석 ordinal (다음 대조에도 같은 좌석이 다르면 무효화) */
+	private final Map<Long, BitSet> driftSuspects = new ConcurrentHashMap<>();
+
+	/**
+	 * 좌석 상태 스냅샷
+	 *
+	 * @param states 패킹 비트필드
+	 * @param version 스냅샷이 반영한 버전 하한 (Redis 장애로 DB 스냅샷을 쓴 경우 -1)
+	 */
+	public record Snapshot(byte[] states, long version) {
+	}
+
+	/**
+	 * (등급, 구역, 상태)별 좌석 수
+	 *
+	 * @param grade 등급 (미지정이면 null)
+	 */
+	public record SeatCount(SeatGradeType grade, long sectionId, SeatStatus status, long count) {
+	}
+
+	/**
+	 * sinceVersion 이후 변경분
+	 *
+	 * @param version 현재 버전
+	 * @param complete false면 로그 범위 밖 (전체 스냅샷 필요)
+	 * @param statusBySeatId 변경 좌석의 최신 상태
+	 */
+	public record Changes(long version, boolean complete, Map<Long, SeatStatus> statusBySeatId) {
+	}
+
+	/**
+	 * 회차 좌석 상태 조회
+	 *
+	 * Redis 상태 맵이 없으면 DB 상태만 읽어 재구성, Redis 장애 시 DB 스냅샷으로 응답
+	 * 상태/버전은 MGET 1회로 함께 읽어 스냅샷이 해당 버전까지의 전이를 포함하도록 함
+	 */
+	public Snapshot load(Long scheduleId, ScheduleSeatLayout layout) {
+		String stateKey = stateKey(scheduleId, layout);
+		String epochKey = epochKey(scheduleId);
+
+		List<byte[]> cached;
+		try {
+			cached = stringRedisTemplate.execute((RedisCallback<List<byte[]>>)connection ->
+				connection.stringCommands().mGet(
+					bytes(stateKey), bytes(epochKey), bytes(versionKey(scheduleId))));
+		} catch (DataAccessException e) {
+			log.warn("좌석 상태 맵 조회 실패, DB 스냅샷으로 응답: scheduleId={}, error={}", scheduleId, e.getMessage());
+			return new Snapshot(snapshot(scheduleId, layout), -1);
+		}
+
+		if (cached == null) {
+			return new Snapshot(snapshot(scheduleId, layout), -1);
+		}
+
+		long version = cached.get(2) != null ? parseLong(cached.get(2)) : 0;
+		if (layout.size() == 0) {
+			return new Snapshot(new byte[0], version);
+		}
+		if (cached.get(0) != null) {
+			return new Snapshot(cached.get(0), version);
+		}
+
+		byte[] epoch = cached.get(1) != null ? cached.get(1) : INITIAL_EPOCH;
+		byte[] states = snapshot(scheduleId, layout);
+
+		List<byte[]> args = new ArrayList<>();
+		args.add(epoch);
+		args.add(states);
+		args.add(bytes(stateTtlSeconds));
+		countStates(layout, states).forEach((field, count) -> {
+			args.add(field.getBytes(StandardCharsets.UTF_8));
+			args.add(bytes(count));
+		});
+
+		try {
+			execute(seatStateInitScript, List.of(stateKey, epochKey, countsKey(scheduleId, layout)), args);
+		} catch (DataAccessException e) {
+			log.warn("좌석 상태 맵 저장 실패: scheduleId={}, error={}", scheduleId, e.getMessage());
+		}
+
+		return new Snapshot(states, version);
+	}
+
+	/**
+	 * 회차 잔여 좌석 카운터 조회 (HGETALL 1회, 좌석 수와 무관)
+	 *
+	 * 카운터가 없으면(상태 맵 만료/무효화/Redis 장애) 상태 맵 스냅샷에서 계산 (스냅샷 적재 시 카운터도 함께 저장)
+	 */
+	public List<SeatCount> counts(Long scheduleId, ScheduleSeatLayout layout) {
+		touchedSchedules.add(scheduleId);
+
+		Map<String, Long> counts = new HashMap<>();
+		try {
+			stringRedisTemplate.<String, String>opsForHash()
+				.entries(countsKey(scheduleId, layout))
+				.forEach((field, count) -> counts.put(field, Long.parseLong(count)));
+		} catch (DataAccessException e) {
+			log.warn("잔여 좌석 카운터 조회 실패, 상태 맵에서 계산: scheduleId={}, error={}", scheduleId, e.getMessage());
+		}
+		if (counts.isEmpty()) {
+			counts.putAll(countStates(layout, load(scheduleId, layout).states()));
+		}
+
+		List<SeatCount> result = new ArrayList<>(counts.size());
+		counts.forEach((field, count) -> {
+			if (count > 0) {
+				String[] parts = field.split(":");
+				SeatGradeType grade = NO_GRADE.equals(parts[0]) ? null : SeatGradeType.valueOf(parts[0]);
+				result.add(new SeatCount(grade, Long.parseLong(parts[1]), statusOf(Integer.parseInt(parts[2])), count));
+			}
+		});
+		return result;
+	}
+
+	/**
+	 * 상태 맵/카운터를 DB와 대조 (주기 실행)
+	 *
+	 * 1) 카운터가 비트필드와 다르면 즉시 무효화 (반영 유실/중복)
+	 * 2) 비트필드가 DB와 다르면, 이전 대조에서도 같은 좌석이 달랐을 때만 무효화 (커밋 ~ 반영 사이 일시 차이 제외)
+	 * 무효화된 상태 맵/카운터는 다음 조회 시 DB에서 재구성
+	 *
+	 * @return 무효화 여부
+	 */
+	public boolean reconcile(Long scheduleId) {
+		ScheduleSeatLayout layout = scheduleSeatLayoutCache.get(scheduleId);
+
+		List<byte[]> cached = execute(seatStateReadWithCountsScript,
+			List.of(stateKey(scheduleId, layout), countsKey(scheduleId, layout)), List.of());
+		if (cached == null || cached.isEmpty()) {
+			driftSuspects.remove(scheduleId);
+			return false;
+		}
+
+		byte[] states = cached.get(0);
+		Map<String, Long> counts = new HashMap<>();
+		for (int i = 1; i + 1 < cached.size(); i += 2) {
+			long count = parseLong(cached.get(i + 1));
+			if (count != 0) {
+				counts.put(new String(cached.get(i), StandardCharsets.UTF_8), count);
+			}
+		}
+		if (!counts.equals(countStates(layout, states))) {
+			log.warn("잔여 좌석 카운터 불일치, 상태 맵 무효화: scheduleId={}", scheduleId);
+			driftSuspects.remove(scheduleId);
+			invalidate(scheduleId, layout);
+			return true;
+		}
+
+		byte[] dbStates = snapshot(scheduleId, layout);
+		BitSet differing = new BitSet();
+		for (int ordinal = 0; ordinal < layout.size(); ordinal++) {
+			if (decode(states, ordinal) != decode(dbStates, ordinal)) {
+				differing.set(ordinal);
+			}
+		}
+
+		BitSet previous = differing.isEmpty()
+			? driftSuspects.remove(scheduleId)
+			: driftSuspects.put(scheduleId, differing);
+		if (previous != null && previous.intersects(differing)) {
+			log.warn("좌석 상태 맵이 DB와 불일치, 상태 맵 무효화: scheduleId={}, seats={}",
+				scheduleId, differing.cardinality());
+			driftSuspects.remove(scheduleId);
+			invalidate(scheduleId, layout);
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * 대조 대상 회차를 꺼냄 (이후 다시 전이/조회된 회차만 다음 주기 대상)
+	 */
+	public Set<Long> drainTouchedSchedules() {
+		Set<Long> drained = new HashSet<>(touchedSchedules);
+		touchedSchedules.removeAll(drained);
+		driftSuspects.keySet().retainAll(drained);
+		return drained;
+	}
+
+	/**
+	 * sinceVersion 이후 변경 좌석 조회 (변경 로그 기반, 좌석 수와 무관하게 변경량에 비례)
+	 *
+	 * @return 변경분 (Redis 장애 시 null)
+	 */
+	public Changes changesSince(Long scheduleId, long sinceVersion) {
+		List<Object> result;
+		try {
+			result = execute(seatStateChangesScript, List.of(versionKey(scheduleId), changeLogKey(scheduleId)),
+				List.of(bytes(sinceVersion), bytes(changeLogSize)));
+		} catch (DataAccessException e) {
+			log.warn("좌석 변경 로그 조회 실패: scheduleId={}, error={}", scheduleId, e.getMessage());
+			return null;
+		}
+
+		if (result == null || result.size() < 2) {
+			return null;
+		}
+
+		long version = (Long)result.get(0);
+		if ((Long)result.get(1) == 0) {
+			return new Changes(version, false, Map.of());
+		}
+
+		// 최신순 항목이므로 먼저 나온 좌석 상태가 최종 상태
+		Map<Long, SeatStatus> statusBySeatId = new LinkedHashMap<>();
+		long expectedVersion = version;
+		for (int i = 2; i < result.size(); i++) {
+			String[] entry = new String((byte[])result.get(i), StandardCharsets.UTF_8).split(":", 3);
+			if (Long.parseLong(entry[0]) != expectedVersion--) {
+				return new Changes(version, false, Map.of());
+			}
+			SeatStatus status = statusOf(Integer.parseInt(entry[1]));
+			for (String seatId : entry[2].split(",")) {
+				if (!seatId.isEmpty()) {
+					statusBySeatId.putIfAbsent(Long.parseLong(seatId), status);
+				}
+			}
+		}
+
+		return new Changes(version, true, statusBySeatId);
+	}
+
+	/**
+	 * 현재 버전 조회 (조건부 요청 확인용)
+	 *
+	 * @return 현재 버전 (버전 없음 0, Redis 장애 시 null)
+	 */
+	public Long currentVersion(Long scheduleId) {
+		try {
+			String version = stringRedisTemplate.opsForValue().get(versionKey(scheduleId));
+			return version != null ? Long.parseLong(version) : 0L;
+		} catch (DataAccessException e) {
+			log.warn("좌석 상태 버전 조회 실패: scheduleId={}, error={}", scheduleId, e.getMessage());
+			return null;
+		}
+	}
+
+	/**
+	 * 좌석 상태 전이 반영 (커밋 이후)
+	 *
+	 * 실패해도 DB 전이는 이미 확정이므로 로그만 남김 (상태 맵 TTL 이후 재구성)
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onStatusChanged(ScheduleSeatStatusChangedEvent event) {
+		try {
+			if (event.isInvalidation()) {
+				invalidate(event.scheduleId());
+				return;
+			}
+			apply(event.scheduleId(), event.seatIds(), event.status());
+		} catch (RuntimeException e) {
+			log.warn("좌석 상태 맵 반영 실패: scheduleId={}, seatIds={}, status={}, error={}",
+				event.scheduleId(), event.seatIds(), event.status(), e.getMessage());
+		}
+	}
+
+	private void apply(Long scheduleId, List<Long> seatIds, SeatStatus status) {
+		ScheduleSeatLayout layout = scheduleSeatLayoutCache.get(scheduleId);
+
+		List<byte[]> args = new ArrayList<>(seatIds.size() * 2 + 6);
+		args.add(bytes(code(status)));
+		args.add(bytes(stateTtlSeconds));
+		args.add(bytes(versionTtlSeconds));
+		args.add(bytes(changeLogSize));
+		args.add(bytes(System.currentTimeMillis()));
+		args.add(seatIds.stream().map(String::valueOf).collect(Collectors.joining(","))
+			.getBytes(StandardCharsets.UTF_8));
+
+		for (Long seatId : seatIds) {
+			Integer ordinal = layout.ordinalOf(seatId);
+			if (ordinal == null) {
+				// 레이아웃에 없는 좌석 → 구성 변경으로 보고 재구성 유도
+				scheduleSeatLayoutCache.evict(scheduleId);
+				invalidate(scheduleId, layout);
+				return;
+			}
+			args.add(bytes(ordinal));
+			args.add(countGroup(layout, layout.positionOf(ordinal)).getBytes(StandardCharsets.UTF_8));
+		}
+
+		execute(seatStateApplyScript, List.of(
+			stateKey(scheduleId, layout), epochKey(scheduleId), versionKey(scheduleId), changeLogKey(scheduleId),
+			countsKey(scheduleId, layout)), args);
+		touchedSchedules.add(scheduleId);
+	}
+
+	private void invalidate(Long scheduleId) {
+		ScheduleSeatLayout layout = scheduleSeatLayoutCache.get(scheduleId);
+		scheduleSeatLayoutCache.evict(scheduleId);
+		invalidate(scheduleId, layout);
+	}
+
+	private void invalidate(Long scheduleId, ScheduleSeatLayout layout) {
+		execute(seatStateInvalidateScript, List.of(
+			stateKey(scheduleId, layout), epochKey(scheduleId), versionKey(scheduleId), changeLogKey(scheduleId),
+			countsKey(scheduleId, layout)),
+			List.of(bytes(stateTtlSeconds), bytes(versionTtlSeconds), bytes(System.currentTimeMillis())));
+	}
+
+	/**
+	 * 스크립트 실행 (EVALSHA, 캐시에 없으면 EVAL)
+	 *
+	 * 인자/결과는 바이트 그대로 주고받음 (비트필드 스냅샷은 UTF-8 문자열로 직렬화하면 깨짐)
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private <T> T execute(RedisScript<T> script, List<String> keys, List<byte[]> args) {
+		RedisSerializer resultSerializer = RedisSerializer.byteArray();
+		return stringRedisTemplate.execute(script, RedisSerializer.byteArray(), resultSerializer, keys, args.toArray());
+	}
+
+	/** DB 상태를 비트필드로 인코딩 (좌석 상태만 조회, 조인 없음) */
+	private byte[] snapshot(Long scheduleId, ScheduleSeatLayout layout) {
+		byte[] states = new byte[(layout.size() + 3) / 4];
+		if (layout.size() == 0) {
+			return states;
+		}
+
+		for (Object[] row : scheduleSeatRepository.findSeatStatuses(scheduleId)) {
+			Integer ordinal = layout.ordinalOf((Long)row[0]);
+			if (ordinal == null) {
+				continue;
+			}
+			int shift = 6 - 2 * (ordinal % 4);
+			states[ordinal / 4] |= (byte)(code((SeatStatus)row[1]) << shift);
+		}
+
+		return states;
+	}
+
+	/** 비트필드를 카운터 필드별 좌석 수로 집계 (0인 필드 없음) */
+	private static Map<String, Long> countStates(ScheduleSeatLayout layout, byte[] states) {
+		int[] ordinals = layout.ordinals();
+		Map<String, Long> counts = new HashMap<>();
+		for (int position = 0; position < layout.size(); position++) {
+			int code = code(decode(states, ordinals[position]));
+			counts.merge(countGroup(layout, position) + ":" + code, 1L, Long::sum);
+		}
+		return counts;
+	}
+
+	/** 카운터 그룹 "{등급}:{sectionId}" */
+	private static String countGroup(ScheduleSeatLayout layout, int position) {
+		SeatLayout seatLayout = layout.seatLayout();
+		int index = layout.layoutIndexes()[position];
+		SeatGradeType grade = seatLayout.grade(index);
+		return (grade == null ? NO_GRADE : grade.name()) + ":" + seatLayout.sectionId(index);
+	}
+
+	/** 비트필드에서 ordinal 좌석 상태 복원 (범위 밖은 AVAILABLE) */
+	public static SeatStatus decode(byte[] states, int ordinal) {
+		int index = ordinal / 4;
+		if (index >= states.length) {
+			return SeatStatus.AVAILABLE;
+		}
+
+		return statusOf((states[index] >> (6 - 2 * (ordinal % 4))) & 0b11);
+	}
+
+	private static SeatStatus statusOf(int code) {
+		return switch (code) {
+			case 1 -> SeatStatus.HOLD;
+			case 2 -> SeatStatus.SOLD;
+			default -> SeatStatus.AVAILABLE;
+		};
+	}
+
+	private static int code(SeatStatus status) {
+		return switch (status) {
+			case AVAILABLE -> 0;
+			case HOLD -> 1;
+			case SOLD -> 2;
+		};
+	}
+
+	private static String stateKey(Long scheduleId, ScheduleSeatLayout layout) {
+		return "seat:state:{" + scheduleId + "}:" + layout.version();
+	}
+
+	private static String countsKey(Long scheduleId, ScheduleSeatLayout layout) {
+		return "seat:state:{" + scheduleId + "}:" + layout.version() + ":counts";
+	}
+
+	private static String epochKey(Long scheduleId) {
+		return "seat:state:{" + scheduleId + "}:epoch";
+	}
+
+	private static String versionKey(Long scheduleId) {
+		return "seat:state:{" + scheduleId + "}:version";
+	}
+
+	private static String changeLogKey(Long scheduleId) {
+		return "seat:state:{" + scheduleId + "}:changes";
+	}
+
+	private static byte[] bytes(long value) {
+		return bytes(Long.toString(value));
+	}
+
+	private static byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static long parseLong(byte[] value) {
+		return Long.parseLong(new String(value, StandardCharsets.UTF_8));
+	}
+}
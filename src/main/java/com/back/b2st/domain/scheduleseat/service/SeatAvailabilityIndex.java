@@ -0,0 +1,309 @@
+package com.back.b2st.domain.scheduleseat.service;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import com.back.b2st.domain.scheduleseat.dto.ScheduleSeatLayout;
+import com.back.b2st.domain.scheduleseat.entity.SeatStatus;
+import com.back.b2st.domain.seat.grade.entity.SeatGradeType;
+import com.back.b2st.domain.seat.layout.dto.SeatLayout;
+
+/**
+ * 회차 잔여 좌석 인덱스 (열 단위 비트셋, 노드 메모리)
+ *
+ * - 열: 레이아웃 표시 순서에서 같은 구역 + 같은 열 이름이 이어지는 위치 구간
+ * - 열 선호 순위: 구역 내 열 순서(앞 열 우선) → 구역 순서 (공연장 배치에서 계산, 레이아웃 교체 시 재계산)
+ *   열 순서는 열 이름의 숫자 부분을 수로 비교 (표시 순서는 문자열 정렬이라 "10"이 "2"보다 앞섬)
+ * - 비트: 열 내 오프셋의 AVAILABLE 여부, 좌석 상태 맵 스냅샷으로 만들고 변경 로그로 증분 반영
+ *
+ * 동기화는 호출 측(BestAvailableSeatService)에서 인덱스 단위로 처리
+ */
+final class SeatAvailabilityIndex {
+
+	/** 열 이름 비교 (숫자 부분은 수로 비교: "2" < "10", "A2" < "A10") */
+	static final Comparator<String> ROW_LABEL_ORDER = SeatAvailabilityIndex::compareRowLabels;
+
+	private final ScheduleSeatLayout layout;
+
+	/** 열 r의 위치 구간: [rowStarts[r], rowStarts[r + 1]) */
+	private final int[] rowStarts;
+
+	/** 선호 순으로 정렬한 열 번호 */
+	private final int[] rowsByPreference;
+
+	/** 위치 → 열 번호 */
+	private final int[] rowOfPosition;
+
+	/** 앞 좌석과 번호가 이어지지 않는 위치 (통로/결번) */
+	private final BitSet gapBefore;
+
+	private final BitSet[] availableByRow;
+
+	private long version;
+
+	private SeatAvailabilityIndex(ScheduleSeatLayout layout) {
+		this.layout = layout;
+
+		SeatLayout seatLayout = layout.seatLayout();
+		int[] layoutIndexes = layout.layoutIndexes();
+		int size = layout.size();
+
+		List<Integer> starts = new ArrayList<>();
+		List<String> rowLabels = new ArrayList<>();
+		List<Integer> sectionOrders = new ArrayList<>();
+		this.rowOfPosition = new int[size];
+		this.gapBefore = new BitSet(size);
+
+		int sectionOrder = -1;
+		for (int position = 0; position < size; position++) {
+			int index = layoutIndexes[position];
+			int previous = position == 0 ? -1 : layoutIndexes[position - 1];
+
+			boolean newSection = previous < 0 || seatLayout.sectionId(previous) != seatLayout.sectionId(index);
+			boolean newRow = newSection || !seatLayout.rowLabel(previous).equals(seatLayout.rowLabel(index));
+			if (newSection) {
+				sectionOrder++;
+			}
+			if (newRow) {
+				starts.add(position);
+				rowLabels.add(seatLayout.rowLabel(index));
+				sectionOrders.add(sectionOrder);
+			} else if (seatLayout.seatNumber(index) - seatLayout.seatNumber(previous) != 1) {
+				gapBefore.set(position);
+			}
+			rowOfPosition[position] = starts.size() - 1;
+		}
+
+		int rowCount = starts.size();
+		int[] rowRanks = rowRanks(rowLabels, sectionOrders);
+		this.rowStarts = new int[rowCount + 1];
+		for (int row = 0; row < rowCount; row++) {
+			rowStarts[row] = starts.get(row);
+		}
+		rowStarts[rowCount] = size;
+
+		this.rowsByPreference = IntStream.range(0, rowCount).boxed()
+			.sorted(Comparator.<Integer>comparingInt(row -> rowRanks[row]).thenComparingInt(sectionOrders::get))
+			.mapToInt(Integer::intValue)
+			.toArray();
+
+		this.availableByRow = new BitSet[rowCount];
+		for (int row = 0; row < rowCount; row++) {
+			availableByRow[row] = new BitSet(rowStarts[row + 1] - rowStarts[row]);
+		}
+	}
+
+	/**
+	 * 구역 내 열 순위 (열 이름 수 비교, 앞 열이 0)
+	 */
+	private static int[] rowRanks(List<String> rowLabels, List<Integer> sectionOrders) {
+		int[] ranks = new int[rowLabels.size()];
+		int sectionStart = 0;
+		for (int row = 1; row <= rowLabels.size(); row++) {
+			if (row < rowLabels.size() && sectionOrders.get(row).equals(sectionOrders.get(sectionStart))) {
+				continue;
+			}
+			// 구역 [sectionStart, row)의 열을 열 이름 순으로 정렬해 순위 부여
+			int[] sorted = IntStream.range(sectionStart, row).boxed()
+				.sorted(Comparator.comparing(rowLabels::get, ROW_LABEL_ORDER))
+				.mapToInt(Integer::intValue)
+				.toArray();
+			for (int rank = 0; rank < sorted.length; rank++) {
+				ranks[sorted[rank]] = rank;
+			}
+			sectionStart = row;
+		}
+		return ranks;
+	}
+
+	private static int compareRowLabels(String left, String right) {
+		int i = 0;
+		int j = 0;
+		while (i < left.length() && j < right.length()) {
+			if (Character.isDigit(left.charAt(i)) && Character.isDigit(right.charAt(j))) {
+				int leftEnd = digitEnd(left, i);
+				int rightEnd = digitEnd(right, j);
+				String leftNumber = stripLeadingZeros(left.substring(i, leftEnd));
+				String rightNumber = stripLeadingZeros(right.substring(j, rightEnd));
+				int compared = leftNumber.length() != rightNumber.length()
+					? Integer.compare(leftNumber.length(), rightNumber.length())
+					: leftNumber.compareTo(rightNumber);
+				if (compared != 0) {
+					return compared;
+				}
+				i = leftEnd;
+				j = rightEnd;
+			} else {
+				if (left.charAt(i) != right.charAt(j)) {
+					return Character.compare(left.charAt(i), right.charAt(j));
+				}
+				i++;
+				j++;
+			}
+		}
+		return Integer.compare(left.length() - i, right.length() - j);
+	}
+
+	private static int digitEnd(String value, int start) {
+		int end = start;
+		while (end < value.length() && Character.isDigit(value.charAt(end))) {
+			end++;
+		}
+		return end;
+	}
+
+	private static String stripLeadingZeros(String digits) {
+		int start = 0;
+		while (start < digits.length() - 1 && digits.charAt(start) == '0') {
+			start++;
+		}
+		return digits.substring(start);
+	}
+
+	/**
+	 * 좌석 상태 맵 스냅샷으로 생성
+	 */
+	static SeatAvailabilityIndex of(ScheduleSeatLayout layout, ScheduleSeatStatusMap.Snapshot snapshot) {
+		SeatAvailabilityIndex index = new SeatAvailabilityIndex(layout);
+		int[] ordinals = layout.ordinals();
+		for (int position = 0; position < layout.size(); position++) {
+			if (ScheduleSeatStatusMap.decode(snapshot.states(), ordinals[position]) == SeatStatus.AVAILABLE) {
+				index.set(position, true);
+			}
+		}
+		index.version = snapshot.version();
+		return index;
+	}
+
+	ScheduleSeatLayout layout() {
+		return layout;
+	}
+
+	/** 인덱스가 반영한 좌석 상태 버전 (-1이면 버전 없는 DB 스냅샷) */
+	long version() {
+		return version;
+	}
+
+	/**
+	 * 변경 로그 반영
+	 *
+	 * @return false면 레이아웃에 없는 좌석 포함 (재구성 필요)
+	 */
+	boolean apply(ScheduleSeatStatusMap.Changes changes) {
+		for (Map.Entry<Long, SeatStatus> entry : changes.statusBySeatId().entrySet()) {
+			Integer ordinal = layout.ordinalOf(entry.getKey());
+			if (ordinal == null) {
+				return false;
+			}
+			set(layout.positionOf(ordinal), entry.getValue() == SeatStatus.AVAILABLE);
+		}
+		version = changes.version();
+		return true;
+	}
+
+	/**
+	 * 등급 내 최선 좌석 선택
+	 *
+	 * 1) 선호 순으로 열을 보며 번호가 이어지는 count석 중 열 중앙에 가장 가까운 구간
+	 * 2) 이어진 구간이 없으면 선호 순 열에서 중앙에 가까운 좌석부터 count석
+	 *
+	 * @param excluded 이번 요청에서 HOLD에 실패한 좌석 (상태 맵 반영 전)
+	 * @return 선택 결과 (잔여 좌석 부족 시 null)
+	 */
+	Selection select(SeatGradeType grade, int count, Set<Long> excluded) {
+		for (int row : rowsByPreference) {
+			int offset = bestContiguousOffset(row, grade, count, excluded);
+			if (offset >= 0) {
+				List<Long> seatIds = new ArrayList<>(count);
+				for (int k = 0; k < count; k++) {
+					seatIds.add(seatIdAt(rowStarts[row] + offset + k));
+				}
+				return new Selection(seatIds, true);
+			}
+		}
+
+		List<Long> seatIds = new ArrayList<>(count);
+		for (int row : rowsByPreference) {
+			int start = rowStarts[row];
+			double center = (rowStarts[row + 1] - start - 1) / 2.0;
+			BitSet available = availableByRow[row];
+			List<Integer> offsets = available.stream()
+				.filter(offset -> isEligible(start + offset, grade, excluded))
+				.boxed()
+				.sorted(Comparator.comparingDouble(offset -> Math.abs(offset - center)))
+				.toList();
+			for (int offset : offsets) {
+				seatIds.add(seatIdAt(start + offset));
+				if (seatIds.size() == count) {
+					return new Selection(seatIds, false);
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * 열 내 번호가 이어지는 count석 구간 중 중앙에 가장 가까운 시작 오프셋 (없으면 -1)
+	 */
+	private int bestContiguousOffset(int row, SeatGradeType grade, int count, Set<Long> excluded) {
+		int start = rowStarts[row];
+		int length = rowStarts[row + 1] - start;
+		BitSet available = availableByRow[row];
+		double idealStart = (length - count) / 2.0;
+
+		int best = -1;
+		double bestDistance = Double.MAX_VALUE;
+		int runStart = -1;
+		for (int offset = 0; offset <= length; offset++) {
+			boolean eligible = offset < length && available.get(offset) && isEligible(start + offset, grade, excluded);
+			boolean continues = eligible && runStart >= 0 && !gapBefore.get(start + offset);
+
+			// 이어진 구간 [runStart, offset) 종료 → 구간 안에서 중앙에 가장 가까운 시작 위치
+			if (runStart >= 0 && !continues) {
+				int lastStart = offset - count;
+				if (lastStart >= runStart) {
+					int candidate = (int)Math.max(runStart, Math.min(lastStart, Math.round(idealStart)));
+					double distance = Math.abs(candidate - idealStart);
+					if (distance < bestDistance) {
+						best = candidate;
+						bestDistance = distance;
+					}
+				}
+				runStart = -1;
+			}
+			if (eligible && runStart < 0) {
+				runStart = offset;
+			}
+		}
+		return best;
+	}
+
+	private boolean isEligible(int position, SeatGradeType grade, Set<Long> excluded) {
+		return gradeAt(position) == grade && !excluded.contains(seatIdAt(position));
+	}
+
+	private void set(int position, boolean available) {
+		int row = rowOfPosition[position];
+		availableByRow[row].set(position - rowStarts[row], available);
+	}
+
+	private long seatIdAt(int position) {
+		return layout.seatLayout().seatId(layout.layoutIndexes()[position]);
+	}
+
+	private SeatGradeType gradeAt(int position) {
+		return layout.seatLayout().grade(layout.layoutIndexes()[position]);
+	}
+
+	/**
+	 * @param seatIds 선택 좌석 (선호 순)
+	 * @param contiguous 같은 열에서 번호가 이어지는 좌석인지
+	 */
+	record Selection(List<Long> seatIds, boolean contiguous) {
+	}
+}
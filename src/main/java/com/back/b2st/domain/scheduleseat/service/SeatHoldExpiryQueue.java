@@ -0,0 +1,121 @@
+package com.back.b2st.domain.scheduleseat.service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 좌석 HOLD 만료 예정 큐 (Redis ZSET, score=만료 시각 ms)
+ *
+ * - member: "{scheduleId}:{seatId}" → 좌석당 1개, 재선점 시 ZADD로 만료 시각만 갱신
+ * - 만료된 항목만 원자적으로 꺼내(ZRANGEBYSCORE + ZREM) 한 노드만 처리
+ * - 해제/확정 이후 남은 항목은 무해 (해제 시 DB에서 HOLD + 만료 여부를 다시 확인)
+ *
+ * 등록 실패는 로그만 남김 (해당 좌석은 DB 만료 스윕이 보정)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatHoldExpiryQueue {
+
+	private static final String EXPIRY_KEY = "seat:hold:expiry";
+
+	/**
+	 * 만료 항목 꺼내기 (조회 + 제거 원자 처리)
+	 *
+	 * KEYS[1]: expiryKey
+	 * ARGV[1]: nowMillis, ARGV[2]: limit
+	 *
+	 * Return: 꺼낸 member 목록 (만료 시각 오름차순)
+	 */
+	@SuppressWarnings("rawtypes")
+	private static final RedisScript<List> POLL_DUE_SCRIPT = RedisScript.of("""
+		local due = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, tonumber(ARGV[2]))
+		if #due > 0 then
+			redis.call('ZREM', KEYS[1], unpack(due))
+		end
+		return due
+		""", List.class);
+
+	private final StringRedisTemplate stringRedisTemplate;
+
+	public void register(Long scheduleId, Long seatId, LocalDateTime expiresAt) {
+		register(scheduleId, List.of(seatId), expiresAt);
+	}
+
+	public void register(Long scheduleId, List<Long> seatIds, LocalDateTime expiresAt) {
+		long score = expiresAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+		try {
+			stringRedisTemplate.opsForZSet().add(EXPIRY_KEY, tuples(scheduleId, seatIds, score));
+		} catch (DataAccessException e) {
+			log.warn("좌석 HOLD 만료 등록 실패: scheduleId={}, seatIds={}, error={}", scheduleId, seatIds, e.getMessage());
+		}
+	}
+
+	/** 해제/확정된 좌석 항목 제거 (실패해도 해제 시 재확인하므로 무해) */
+	public void remove(Long scheduleId, Long seatId) {
+		try {
+			stringRedisTemplate.opsForZSet().remove(EXPIRY_KEY, member(scheduleId, seatId));
+		} catch (DataAccessException e) {
+			log.debug("좌석 HOLD 만료 항목 제거 실패: scheduleId={}, seatId={}", scheduleId, seatId);
+		}
+	}
+
+	/**
+	 * 만료된 좌석을 최대 limit건 꺼내 회차별로 묶어 반환
+	 */
+	@SuppressWarnings("unchecked")
+	public Map<Long, List<Long>> pollDue(long nowMillis, int limit) {
+		List<String> due = stringRedisTemplate.execute(
+			POLL_DUE_SCRIPT,
+			List.of(EXPIRY_KEY),
+			String.valueOf(nowMillis),
+			String.valueOf(limit)
+		);
+
+		Map<Long, List<Long>> seatIdsBySchedule = new LinkedHashMap<>();
+		if (due == null) {
+			return seatIdsBySchedule;
+		}
+		for (String member : due) {
+			int separator = member.indexOf(':');
+			Long scheduleId = Long.valueOf(member.substring(0, separator));
+			Long seatId = Long.valueOf(member.substring(separator + 1));
+			seatIdsBySchedule.computeIfAbsent(scheduleId, id -> new ArrayList<>()).add(seatId);
+		}
+		return seatIdsBySchedule;
+	}
+
+	/**
+	 * 처리 실패 항목 재등록 (retryAtMillis 이후 다시 꺼냄)
+	 */
+	public void requeue(Long scheduleId, List<Long> seatIds, long retryAtMillis) {
+		stringRedisTemplate.opsForZSet().add(EXPIRY_KEY, tuples(scheduleId, seatIds, retryAtMillis));
+	}
+
+	private static Set<TypedTuple<String>> tuples(Long scheduleId, List<Long> seatIds, long scoreMillis) {
+		Set<TypedTuple<String>> tuples = new HashSet<>(seatIds.size() * 2);
+		for (Long seatId : seatIds) {
+			tuples.add(TypedTuple.of(member(scheduleId, seatId), (double)scoreMillis));
+		}
+		return tuples;
+	}
+
+	private static String member(Long scheduleId, Long seatId) {
+		return scheduleId + ":" + seatId;
+	}
+}
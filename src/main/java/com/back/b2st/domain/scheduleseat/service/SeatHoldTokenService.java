@@ -1,7 +1,10 @@
 package com.back.b2st.domain.scheduleseat.service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.List;
 
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
@@ -51,6 +54,20 @@ public class SeatHoldTokenService {
 		redisTemplate.delete(getKey(scheduleId, seatId));
 	}
 
+	/** === HOLD 소유권 일괄 제거 (파이프라인 1회 왕복) === */
+	public void removeAll(Long scheduleId, List<Long> seatIds) {
+		if (seatIds.isEmpty()) {
+			return;
+		}
+
+		redisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+			for (Long seatId : seatIds) {
+				connection.keyCommands().del(getKey(scheduleId, seatId).getBytes(StandardCharsets.UTF_8));
+			}
+			return null;
+		});
+	}
+
 	private String getKey(Long scheduleId, Long seatId) {
 		return "seat:hold:" + scheduleId + ":" + seatId;
 	}
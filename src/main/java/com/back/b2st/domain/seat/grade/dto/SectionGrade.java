@@ -0,0 +1,17 @@
+package com.back.b2st.domain.seat.grade.dto;
+
+import com.back.b2st.domain.seat.grade.entity.SeatGradeType;
+
+/**
+ * 구역 단위 일괄 등급 지정 (구역 내 전 좌석 동일 등급/가격)
+ *
+ * @param sectionName 구역 이름
+ * @param grade 등급
+ * @param price 가격
+ */
+public record SectionGrade(
+	String sectionName,
+	SeatGradeType grade,
+	int price
+) {
+}
@@ -0,0 +1,70 @@
+package com.back.b2st.domain.seat.grade.repository;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.back.b2st.domain.seat.grade.dto.SectionGrade;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * SeatGrade 일괄 생성 (INSERT ... SELECT)
+ *
+ * 공연 생성 시 기본 등급 전용. 좌석 엔티티를 읽지 않고 구역당 SQL 1건으로 생성
+ * ID는 SeatGrade 엔티티와 같은 시퀀스(seat_id_gen → seat_seq)에서 발급
+ */
+@Repository
+@RequiredArgsConstructor
+public class SeatGradeBatchRepository {
+
+	/**
+	 * 이미 등급이 있는 좌석은 건너뜀 (재실행 시 중복 방지)
+	 *
+	 * seat_seq는 INCREMENT BY 50(엔티티 allocationSize)이므로 행마다 nextval이 ID 블록 1개(50)를 소비
+	 * → 행당 ID 49개가 버려짐 (엔티티 pooled 할당과 겹치지는 않음, 공연당 좌석 수 × 50으로 BIGINT 범위 내 허용)
+	 */
+	private static final String INSERT_BY_SECTION_SQL = """
+		INSERT INTO seat_grades (seat_grade_id, performance_id, seat_id, grade, price, created_at, modified_at)
+		SELECT nextval('seat_seq'), CAST(? AS BIGINT), s.seat_id, CAST(? AS VARCHAR(20)), CAST(? AS INTEGER),
+		       CAST(? AS TIMESTAMP), CAST(? AS TIMESTAMP)
+		FROM seats s
+		WHERE s.venue_id = ?
+		  AND s.section_name = ?
+		  AND NOT EXISTS (
+		      SELECT 1
+		      FROM seat_grades g
+		      WHERE g.performance_id = ?
+		        AND g.seat_id = s.seat_id
+		  )
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * 공연장 좌석에 구역별 등급 일괄 생성
+	 *
+	 * @return 생성 행 수
+	 */
+	public int insertBySection(Long performanceId, Long venueId, List<SectionGrade> sectionGrades) {
+		if (sectionGrades.isEmpty()) return 0;
+
+		LocalDateTime now = LocalDateTime.now();
+		int[][] counts = jdbcTemplate.batchUpdate(INSERT_BY_SECTION_SQL, sectionGrades, sectionGrades.size(),
+			(ps, sectionGrade) -> {
+				ps.setLong(1, performanceId);
+				ps.setString(2, sectionGrade.grade().name());
+				ps.setInt(3, sectionGrade.price());
+				ps.setObject(4, now);
+				ps.setObject(5, now);
+				ps.setLong(6, venueId);
+				ps.setString(7, sectionGrade.sectionName());
+				ps.setLong(8, performanceId);
+			});
+
+		return Arrays.stream(counts).flatMapToInt(Arrays::stream).filter(count -> count > 0).sum();
+	}
+}
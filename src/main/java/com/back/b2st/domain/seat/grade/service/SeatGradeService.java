@@ -1,5 +1,6 @@
 package com.back.b2st.domain.seat.grade.service;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import com.back.b2st.domain.performance.repository.PerformanceRepository;
@@ -9,6 +10,7 @@ import com.back.b2st.domain.seat.grade.entity.SeatGrade;
 import com.back.b2st.domain.seat.grade.entity.SeatGradeType;
 import com.back.b2st.domain.seat.grade.error.SeatGradeErrorCode;
 import com.back.b2st.domain.seat.grade.repository.SeatGradeRepository;
+import com.back.b2st.domain.seat.layout.dto.event.SeatLayoutChangedEvent;
 import com.back.b2st.domain.seat.seat.repository.SeatRepository;
 import com.back.b2st.global.error.exception.BusinessException;
 
@@ -21,6 +23,7 @@ public class SeatGradeService {
 	private final SeatGradeRepository seatGradeRepository;
 	private final PerformanceRepository performanceRepository;
 	private final SeatRepository seatRepository;
+	private final ApplicationEventPublisher eventPublisher;
 
 	// 생성 - 단건?
 	public SeatGradeInfoRes createSeatGradeInfo(Long performanceId, CreateSeatGradeReq request) {
@@ -35,7 +38,10 @@ public class SeatGradeService {
 			.price(request.price())
 			.build();
 
-		return SeatGradeInfoRes.from(seatGradeRepository.save(seatGrade));
+		SeatGrade saved = seatGradeRepository.save(seatGrade);
+		eventPublisher.publishEvent(SeatLayoutChangedEvent.ofPerformance(performanceId));
+
+		return SeatGradeInfoRes.from(saved);
 	}
 
 	private void validateSeat(Long seatId) {
@@ -0,0 +1,170 @@
+package com.back.b2st.domain.seat.layout.dto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.back.b2st.domain.seat.grade.entity.SeatGradeType;
+import com.back.b2st.domain.seat.seat.dto.response.SeatInfoRes;
+
+/**
+ * 공연 좌석 레이아웃 (불변, 원시 배열 저장)
+ *
+ * 공연장 좌석 구성 + 공연별 등급/가격을 배치도 표시 순서(구역명, 열, 번호)의 병렬 배열로 보관
+ * - 구역명/열 문자열은 레이아웃 내에서 중복 제거(동일 인스턴스 공유)
+ * - 등급 미지정 좌석: grades = -1, prices 무의미
+ *
+ * 배열은 외부로 노출하지 않으며 인덱스 접근자만 제공
+ */
+public final class SeatLayout {
+
+	private static final byte NO_GRADE = -1;
+	private static final SeatGradeType[] GRADE_TYPES = SeatGradeType.values();
+
+	private final long performanceId;
+	private final long venueId;
+
+	private final long[] seatIds;
+	private final long[] sectionIds;
+	private final String[] sectionNames;
+	private final String[] rowLabels;
+	private final int[] seatNumbers;
+	private final byte[] grades;
+	private final int[] prices;
+
+	/** seatId 오름차순 정렬본 + 표시 인덱스 (seatId → 인덱스 이분 탐색) */
+	private final long[] sortedSeatIds;
+	private final int[] indexBySorted;
+
+	/** 구역 ID → 구역명 (구역 수만큼) */
+	private final Map<Long, String> sectionNameById = new HashMap<>();
+
+	private SeatLayout(long performanceId, long venueId, int size) {
+		this.performanceId = performanceId;
+		this.venueId = venueId;
+		this.seatIds = new long[size];
+		this.sectionIds = new long[size];
+		this.sectionNames = new String[size];
+		this.rowLabels = new String[size];
+		this.seatNumbers = new int[size];
+		this.grades = new byte[size];
+		this.prices = new int[size];
+		this.sortedSeatIds = new long[size];
+		this.indexBySorted = new int[size];
+	}
+
+	/**
+	 * 레이아웃 행으로 생성 (SeatRepository.findLayoutRows 결과, 좌석당 첫 행만 사용)
+	 */
+	public static SeatLayout of(long performanceId, long venueId, List<Object[]> rows) {
+		List<Object[]> distinct = new ArrayList<>(rows.size());
+		long previousSeatId = Long.MIN_VALUE;
+		for (Object[] row : rows) {
+			long seatId = (Long)row[0];
+			if (seatId != previousSeatId) {
+				distinct.add(row);
+				previousSeatId = seatId;
+			}
+		}
+
+		SeatLayout layout = new SeatLayout(performanceId, venueId, distinct.size());
+		Map<String, String> strings = new HashMap<>();
+
+		for (int i = 0; i < distinct.size(); i++) {
+			Object[] row = distinct.get(i);
+			layout.seatIds[i] = (Long)row[0];
+			layout.sectionIds[i] = (Long)row[1];
+			layout.sectionNames[i] = strings.computeIfAbsent((String)row[2], value -> value);
+			layout.sectionNameById.putIfAbsent(layout.sectionIds[i], layout.sectionNames[i]);
+			layout.rowLabels[i] = strings.computeIfAbsent((String)row[3], value -> value);
+			layout.seatNumbers[i] = (Integer)row[4];
+
+			SeatGradeType grade = (SeatGradeType)row[5];
+			layout.grades[i] = grade == null ? NO_GRADE : (byte)grade.ordinal();
+			layout.prices[i] = grade == null || row[6] == null ? 0 : (Integer)row[6];
+		}
+
+		Integer[] order = new Integer[distinct.size()];
+		for (int i = 0; i < order.length; i++) {
+			order[i] = i;
+		}
+		Arrays.sort(order, (a, b) -> Long.compare(layout.seatIds[a], layout.seatIds[b]));
+		for (int i = 0; i < order.length; i++) {
+			layout.sortedSeatIds[i] = layout.seatIds[order[i]];
+			layout.indexBySorted[i] = order[i];
+		}
+
+		return layout;
+	}
+
+	public long performanceId() {
+		return performanceId;
+	}
+
+	public long venueId() {
+		return venueId;
+	}
+
+	public int size() {
+		return seatIds.length;
+	}
+
+	/** seatId의 표시 인덱스 (없으면 -1) */
+	public int indexOf(long seatId) {
+		int position = Arrays.binarySearch(sortedSeatIds, seatId);
+		return position < 0 ? -1 : indexBySorted[position];
+	}
+
+	public long seatId(int index) {
+		return seatIds[index];
+	}
+
+	public long sectionId(int index) {
+		return sectionIds[index];
+	}
+
+	public String sectionName(int index) {
+		return sectionNames[index];
+	}
+
+	/** 구역명 (레이아웃에 없는 구역이면 null) */
+	public String sectionNameOf(long sectionId) {
+		return sectionNameById.get(sectionId);
+	}
+
+	public String rowLabel(int index) {
+		return rowLabels[index];
+	}
+
+	public int seatNumber(int index) {
+		return seatNumbers[index];
+	}
+
+	/** 등급 (미지정이면 null) */
+	public SeatGradeType grade(int index) {
+		return grades[index] == NO_GRADE ? null : GRADE_TYPES[grades[index]];
+	}
+
+	/** 가격 (등급 미지정이면 null) */
+	public Integer price(int index) {
+		return grades[index] == NO_GRADE ? null : prices[index];
+	}
+
+	/**
+	 * 등급이 지정된 좌석만 SeatInfoRes로 변환 (배치도 응답용)
+	 */
+	public List<SeatInfoRes> toSeatInfos() {
+		List<SeatInfoRes> result = new ArrayList<>(seatIds.length);
+		for (int i = 0; i < seatIds.length; i++) {
+			if (grades[i] == NO_GRADE) {
+				continue;
+			}
+			result.add(new SeatInfoRes(
+				seatIds[i], sectionNames[i], rowLabels[i], seatNumbers[i], grade(i), prices[i]
+			));
+		}
+		return result;
+	}
+}
@@ -0,0 +1,45 @@
+package com.back.b2st.domain.seat.layout.dto.event;
+
+/**
+ * 좌석 레이아웃 변경 이벤트 (좌석/등급 관리 API)
+ *
+ * 커밋 이후 로컬 캐시 무효화 및 타 인스턴스 전파(Redis pub/sub)에 사용
+ * - venueId: 공연장 좌석 구성 변경 (해당 공연장의 모든 공연 레이아웃 무효화)
+ * - performanceId: 공연 등급/가격 변경
+ * 메시지 포맷: "{venueId}|{performanceId}" (없는 값은 빈 문자열)
+ */
+public record SeatLayoutChangedEvent(
+	Long venueId,
+	Long performanceId
+) {
+
+	private static final String DELIMITER = "|";
+
+	public static SeatLayoutChangedEvent ofVenue(Long venueId) {
+		return new SeatLayoutChangedEvent(venueId, null);
+	}
+
+	public static SeatLayoutChangedEvent ofPerformance(Long performanceId) {
+		return new SeatLayoutChangedEvent(null, performanceId);
+	}
+
+	public String toMessage() {
+		return toText(venueId) + DELIMITER + toText(performanceId);
+	}
+
+	public static SeatLayoutChangedEvent fromMessage(String message) {
+		int idx = message.indexOf(DELIMITER);
+		return new SeatLayoutChangedEvent(
+			toLong(message.substring(0, idx)),
+			toLong(message.substring(idx + 1))
+		);
+	}
+
+	private static String toText(Long value) {
+		return value == null ? "" : value.toString();
+	}
+
+	private static Long toLong(String value) {
+		return value.isEmpty() ? null : Long.parseLong(value);
+	}
+}
@@ -0,0 +1,152 @@
+package com.back.b2st.domain.seat.layout.service;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.back.b2st.domain.performance.error.PerformanceErrorCode;
+import com.back.b2st.domain.performance.repository.PerformanceRepository;
+import com.back.b2st.domain.seat.layout.dto.SeatLayout;
+import com.back.b2st.domain.seat.layout.dto.event.SeatLayoutChangedEvent;
+import com.back.b2st.domain.seat.seat.repository.SeatRepository;
+import com.back.b2st.global.error.exception.BusinessException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 공연 좌석 레이아웃 near cache (노드 로컬)
+ *
+ * - 좌석 구성/등급/가격은 판매 시작 이후 바뀌지 않으므로 1회 적재 후 재사용
+ * - 좌석/등급 관리 API 변경 시 커밋 이후 로컬 무효화 + Redis pub/sub으로 타 노드 무효화
+ *   (RedissonClient가 없으면 로컬 무효화만, 타 노드는 TTL 만료로 수렴)
+ * - 상한 초과 시 오래된 항목부터 제거
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SeatLayoutCache {
+
+	private static final String TOPIC_PATTERN = "%s:%s:seat:layout-invalidate";
+
+	private final SeatRepository seatRepository;
+	private final PerformanceRepository performanceRepository;
+	private final ObjectProvider<RedissonClient> redissonClientProvider;
+
+	@Value("${spring.application.name:b2st}")
+	private String appName;
+
+	@Value("${spring.profiles.active:local}")
+	private String profile;
+
+	@Value("${seat-layout.ttl-seconds:3600}")
+	private long ttlSeconds;
+
+	@Value("${seat-layout.max-size:500}")
+	private int maxCacheSize;
+
+	private Cache<Long, SeatLayout> byPerformanceId;
+
+	private RTopic topic;
+	private int listenerId;
+
+	@PostConstruct
+	void init() {
+		byPerformanceId = Caffeine.newBuilder()
+			.maximumSize(maxCacheSize)
+			.expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+			.build();
+
+		RedissonClient redissonClient = redissonClientProvider.getIfAvailable();
+		if (redissonClient == null) {
+			return;
+		}
+
+		topic = redissonClient.getTopic(String.format(TOPIC_PATTERN, appName, profile), StringCodec.INSTANCE);
+		listenerId = topic.addListener(String.class, (channel, message) -> {
+			try {
+				evictLocal(SeatLayoutChangedEvent.fromMessage(message));
+			} catch (Exception e) {
+				log.warn("좌석 레이아웃 캐시 무효화 메시지 처리 실패 - message: {}", message, e);
+			}
+		});
+	}
+
+	@PreDestroy
+	void unsubscribeTopic() {
+		if (topic != null) {
+			topic.removeListener(listenerId);
+		}
+	}
+
+	/**
+	 * 공연 좌석 레이아웃 조회 (캐시 미스 시 DB 1회 적재)
+	 *
+	 * @throws BusinessException 공연이 존재하지 않을 때
+	 */
+	public SeatLayout get(Long performanceId) {
+		SeatLayout cached = byPerformanceId.getIfPresent(performanceId);
+		if (cached != null) {
+			return cached;
+		}
+
+		Long venueId = performanceRepository.findVenueIdByPerformanceId(performanceId)
+			.orElseThrow(() -> new BusinessException(PerformanceErrorCode.PERFORMANCE_NOT_FOUND));
+
+		List<Object[]> rows = seatRepository.findLayoutRows(venueId, performanceId);
+		SeatLayout layout = SeatLayout.of(performanceId, venueId, rows);
+
+		byPerformanceId.put(performanceId, layout);
+
+		log.debug("좌석 레이아웃 적재 - performanceId: {}, venueId: {}, seats: {}", performanceId, venueId, layout.size());
+		return layout;
+	}
+
+	/**
+	 * 레이아웃이 아직 캐시의 현재 인스턴스인지 (파생 캐시의 무효화 전파 확인용)
+	 */
+	public boolean isCurrent(SeatLayout layout) {
+		return byPerformanceId.getIfPresent(layout.performanceId()) == layout;
+	}
+
+	/**
+	 * 커밋 이후 로컬 무효화 + 타 노드 전파
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onLayoutChanged(SeatLayoutChangedEvent event) {
+		evictLocal(event);
+
+		if (topic == null) {
+			return;
+		}
+		try {
+			topic.publish(event.toMessage());
+		} catch (Exception e) {
+			// 전파 실패 시 타 노드는 TTL 만료로 수렴
+			log.warn("좌석 레이아웃 캐시 무효화 전파 실패 - event: {}", event, e);
+		}
+	}
+
+	private void evictLocal(SeatLayoutChangedEvent event) {
+		if (event.performanceId() != null) {
+			byPerformanceId.invalidate(event.performanceId());
+		}
+		if (event.venueId() != null) {
+			long venueId = event.venueId();
+			byPerformanceId.asMap().values().removeIf(layout -> layout.venueId() == venueId);
+		}
+		log.debug("좌석 레이아웃 캐시 무효화 - venueId: {}, performanceId: {}", event.venueId(), event.performanceId());
+	}
+}
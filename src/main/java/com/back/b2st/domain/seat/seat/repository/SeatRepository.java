@@ -14,6 +14,9 @@ public interface SeatRepository extends JpaRepository<Seat, Long> {
 
 	List<Seat> findByVenueId(Long venueId);
 
+	@Query("SELECT DISTINCT s.sectionName FROM Seat s WHERE s.venueId = :venueId")
+	List<String> findDistinctSectionNamesByVenueId(@Param("venueId") Long venueId);
+
 	@Query(value = """
 			SELECT new com.back.b2st.domain.seat.seat.dto.response.SeatInfoRes(
 				s.id, s.sectionName, s.rowLabel, s.seatNumber, g.grade, g.price
@@ -46,4 +49,18 @@ public interface SeatRepository extends JpaRepository<Seat, Long> {
 			WHERE s.id = :id
 		""")
 	Optional<SeatInfoRes> findSeatInfoResById(@Param("id") Long id);
+
+	/**
+	 * 공연 좌석 레이아웃 행 조회 (좌석 + 해당 공연 등급/가격, 배치도 표시 순서)
+	 * row: seatId, sectionId, sectionName, rowLabel, seatNumber, grade, price
+	 * 등급 중복 시 최신(seatGradeId 큰 것)이 먼저 오도록 정렬
+	 */
+	@Query("""
+			SELECT s.id, s.sectionId, s.sectionName, s.rowLabel, s.seatNumber, g.grade, g.price
+			FROM Seat s
+			LEFT JOIN SeatGrade g ON g.seatId = s.id AND g.performanceId = :performanceId
+			WHERE s.venueId = :venueId
+			ORDER BY s.sectionName, s.rowLabel, s.seatNumber, s.id, g.id DESC
+		""")
+	List<Object[]> findLayoutRows(@Param("venueId") Long venueId, @Param("performanceId") Long performanceId);
 }
@@ -2,8 +2,10 @@ package com.back.b2st.domain.seat.seat.service;
 
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import com.back.b2st.domain.seat.layout.dto.event.SeatLayoutChangedEvent;
 import com.back.b2st.domain.seat.seat.dto.request.CreateSeatReq;
 import com.back.b2st.domain.seat.seat.dto.response.CreateSeatRes;
 import com.back.b2st.domain.seat.seat.dto.response.SeatInfoRes;
@@ -26,6 +28,7 @@ public class SeatService {
 	private final SeatRepository seatRepository;
 	private final SectionService sectionService;
 	private final VenueRepository venueRepository;
+	private final ApplicationEventPublisher eventPublisher;
 
 	// 생성
 	public CreateSeatRes createSeatInfo(Long venueId, CreateSeatReq request) {
@@ -42,7 +45,10 @@ public class SeatService {
 			.seatNumber(request.seatNumber())
 			.build();
 
-		return CreateSeatRes.from(seatRepository.save(seat));
+		Seat saved = seatRepository.save(seat);
+		eventPublisher.publishEvent(SeatLayoutChangedEvent.ofVenue(venueId));
+
+		return CreateSeatRes.from(saved);
 	}
 
 	// 기등록 검증
@@ -1,5 +1,7 @@
 package com.back.b2st.global.config;
 
+import java.util.List;
+
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -67,4 +69,217 @@ public class RedisScriptConfig {
 
 		return RedisScript.of(script, Long.class);
 	}
+
+	/**
+	 * WAITING → ENTERABLE 배치 이동 스크립트 (상위 N명 원자적 승격 + 상한 게이트 1회)
+	 *
+	 * KEYS[1]: waitingKey (ZSET)
+	 * KEYS[2]: enterableKey (ZSET, score=expiresAtSeconds)
+	 *
+	 * ARGV[1]: expiresAtSeconds
+	 * ARGV[2]: nowSeconds
+	 * ARGV[3]: maxActiveUsers
+	 * ARGV[4]: batchSize
+	 *
+	 * Return:
+	 *  승격된 userId 목록 (빈 목록이면 대기 인원 없음 또는 상한 초과)
+	 */
+	@Bean
+	@SuppressWarnings("rawtypes")
+	public RedisScript<List> batchMoveToEnterableScript() {
+		String script = """
+			local expiresAt = tonumber(ARGV[1])
+			local now = tonumber(ARGV[2])
+			local maxActive = tonumber(ARGV[3])
+			local batchSize = tonumber(ARGV[4])
+
+			-- 1) ENTERABLE 유효 인원 게이트 (배치당 1회)
+			local activeCount = redis.call('ZCOUNT', KEYS[2], now, '+inf')
+			local slots = math.min(maxActive - activeCount, batchSize)
+			if slots <= 0 then
+				return {}
+			end
+
+			-- 2) WAITING 상위 slots명 pop (score 오름차순 = 순번 보존)
+			local popped = redis.call('ZPOPMIN', KEYS[1], slots)
+			local moved = {}
+
+			-- ZPOPMIN 결과: {member1, score1, member2, score2, ...}
+			for i = 1, #popped, 2 do
+				local userId = popped[i]
+				local current = redis.call('ZSCORE', KEYS[2], userId)
+				-- 이미 유효 ENTERABLE이면 idempotent skip (WAITING 잔여만 정리)
+				if not (current and tonumber(current) >= now) then
+					redis.call('ZADD', KEYS[2], expiresAt, userId)
+					table.insert(moved, userId)
+				end
+			end
+
+			return moved
+			""";
+
+		return RedisScript.of(script, List.class);
+	}
+
+	/**
+	 * 사용자 상태 조회 스크립트 (읽기 전용, 1회 왕복)
+	 *
+	 * KEYS[1]: waitingKey (ZSET)
+	 * KEYS[2]: enterableKey (ZSET, score=expiresAtSeconds)
+	 *
+	 * ARGV[1]: userId
+	 * ARGV[2]: nowSeconds
+	 *
+	 * Return: {status, rank0, totalWaiting, enterableTtlSeconds}
+	 *  status 1: WAITING (rank0 유효)
+	 *  status 2: ENTERABLE (enterableTtlSeconds 유효)
+	 *  status 0: NONE
+	 *  (해당 없는 값은 -1)
+	 */
+	@Bean
+	@SuppressWarnings("rawtypes")
+	public RedisScript<List> queueUserStatusScript() {
+		String script = """
+			local userId = ARGV[1]
+			local now = tonumber(ARGV[2])
+
+			local totalWaiting = redis.call('ZCARD', KEYS[1])
+
+			local rank = redis.call('ZRANK', KEYS[1], userId)
+			if rank then
+				return {1, rank, totalWaiting, -1}
+			end
+
+			local score = redis.call('ZSCORE', KEYS[2], userId)
+			if score and tonumber(score) >= now then
+				return {2, -1, totalWaiting, tonumber(score) - now}
+			end
+
+			return {0, -1, totalWaiting, -1}
+			""";
+
+		return RedisScript.of(script, List.class);
+	}
+
+	/**
+	 * 활성 대기열 레지스트리 조건부 해제 스크립트
+	 *
+	 * 비어있는 대기열을 레지스트리에서 제거하되, 확인 이후 새 활동(score 갱신)이 있었다면 유지
+	 *
+	 * KEYS[1]: activeQueuesKey (ZSET, member=queueId, score=lastActivityMillis)
+	 *
+	 * ARGV[1]: queueId
+	 * ARGV[2]: expectedScore (조회 시점의 lastActivityMillis)
+	 *
+	 * Return:
+	 *  1: 제거됨
+	 *  0: 유지 (score 변경 또는 이미 없음)
+	 */
+	@Bean
+	public RedisScript<Long> deregisterActiveQueueScript() {
+		String script = """
+			local current = redis.call('ZSCORE', KEYS[1], ARGV[1])
+			if current and tonumber(current) == tonumber(ARGV[2]) then
+				redis.call('ZREM', KEYS[1], ARGV[1])
+				return 1
+			end
+			return 0
+			""";
+
+		return RedisScript.of(script, Long.class);
+	}
+
+	/**
+	 * 샤드 모드 승격 게이트 스크립트 (ENTERABLE 키 단독 실행)
+	 *
+	 * WAITING 샤드들은 슬롯이 달라 한 스크립트에 묶을 수 없으므로,
+	 * 애플리케이션이 k-way merge로 고른 후보(도착 순)를 받아 상한 게이트 + ZADD만 원자적으로 수행
+	 *
+	 * KEYS[1]: enterableKey (ZSET, score=expiresAtSeconds)
+	 *
+	 * ARGV[1]: expiresAtSeconds
+	 * ARGV[2]: nowSeconds
+	 * ARGV[3]: maxActiveUsers
+	 * ARGV[4..]: 후보 userId (도착 순)
+	 *
+	 * Return: {admitted, alreadyEnterable}
+	 *  admitted: 승격된 userId 목록 (앞에서부터 빈 슬롯 수만큼)
+	 *  alreadyEnterable: 이미 유효 ENTERABLE이라 건너뛴 userId (WAITING 잔여 정리 대상)
+	 */
+	@Bean
+	@SuppressWarnings("rawtypes")
+	public RedisScript<List> admitCandidatesScript() {
+		String script = """
+			local expiresAt = tonumber(ARGV[1])
+			local now = tonumber(ARGV[2])
+			local maxActive = tonumber(ARGV[3])
+
+			local activeCount = redis.call('ZCOUNT', KEYS[1], now, '+inf')
+			local slots = maxActive - activeCount
+			local admitted = {}
+			local alreadyEnterable = {}
+
+			for i = 4, #ARGV do
+				if slots <= 0 then
+					break
+				end
+				local userId = ARGV[i]
+				local current = redis.call('ZSCORE', KEYS[1], userId)
+				if current and tonumber(current) >= now then
+					table.insert(alreadyEnterable, userId)
+				else
+					redis.call('ZADD', KEYS[1], expiresAt, userId)
+					table.insert(admitted, userId)
+					slots = slots - 1
+				end
+			end
+
+			return {admitted, alreadyEnterable}
+			""";
+
+		return RedisScript.of(script, List.class);
+	}
+
+	/**
+	 * 예매 시작(startBooking) 진입-또는-상태 조회 스크립트 (멱등, 1회 왕복)
+	 *
+	 * KEYS[1]: waitingKey (ZSET, 샤드 모드면 사용자 샤드 키)
+	 * KEYS[2]: enterableKey (선택, 샤드 모드는 슬롯이 달라 생략하고 호출 측에서 선확인)
+	 *
+	 * ARGV[1]: userId
+	 * ARGV[2]: timestampMillis (신규 진입 score)
+	 * ARGV[3]: nowSeconds
+	 *
+	 * Return: {status, rank0, totalWaiting, enterableTtlSeconds, entered}
+	 *  status 1: WAITING (rank0 유효), status 2: ENTERABLE (enterableTtlSeconds 유효)
+	 *  entered 1: 이번 호출로 WAITING 신규 진입
+	 *  (해당 없는 값은 -1)
+	 */
+	@Bean
+	@SuppressWarnings("rawtypes")
+	public RedisScript<List> enterOrGetStatusScript() {
+		String script = """
+			local userId = ARGV[1]
+			local timestamp = tonumber(ARGV[2])
+			local now = tonumber(ARGV[3])
+
+			local rank = redis.call('ZRANK', KEYS[1], userId)
+			if rank then
+				return {1, rank, redis.call('ZCARD', KEYS[1]), -1, 0}
+			end
+
+			if #KEYS >= 2 then
+				local score = redis.call('ZSCORE', KEYS[2], userId)
+				if score and tonumber(score) >= now then
+					return {2, -1, redis.call('ZCARD', KEYS[1]), tonumber(score) - now, 0}
+				end
+			end
+
+			redis.call('ZADD', KEYS[1], timestamp, userId)
+			rank = redis.call('ZRANK', KEYS[1], userId)
+			return {1, rank, redis.call('ZCARD', KEYS[1]), -1, 1}
+			""";
+
+		return RedisScript.of(script, List.class);
+	}
 }
@@ -0,0 +1,305 @@
+package com.back.b2st.global.config;
+
+import java.util.List;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.script.RedisScript;
+
+/**
+ * 좌석 Redis Lua Script 설정
+ *
+ * 좌석 상태 맵/선착순 선점은 대기열 사용 여부(queue.enabled)와 무관하게 동작하므로 RedisScriptConfig와 분리
+ */
+@Configuration
+public class SeatRedisScriptConfig {
+
+	/**
+	 * 상태 반영 스크립트 (버전 증가 + 변경 로그 기록 + 비트필드 반영)
+	 *
+	 * KEYS[1]: stateKey, KEYS[2]: epochKey, KEYS[3]: versionKey, KEYS[4]: changeLogKey, KEYS[5]: countsKey
+	 * ARGV[1]: 상태 코드, ARGV[2]: epoch TTL(초), ARGV[3]: 버전/로그 TTL(초), ARGV[4]: 로그 상한
+	 * ARGV[5]: 버전 초기값 (버전 키가 없을 때, 이전 버전보다 커야 하므로 현재 시각 ms)
+	 * ARGV[6]: seatId 목록 (쉼표 구분, 로그 기록용), ARGV[7..]: (ordinal, 카운터 그룹) 쌍
+	 *
+	 * 로그 항목: "{version}:{code}:{seatId,seatId,...}" (LPUSH, 최신이 앞)
+	 *
+	 * Return: 반영 후 버전
+	 */
+	@Bean
+	public RedisScript<Long> seatStateApplyScript() {
+		String script = """
+			if redis.call('EXISTS', KEYS[3]) == 0 then
+				redis.call('SET', KEYS[3], ARGV[5])
+			end
+			local version = redis.call('INCR', KEYS[3])
+			redis.call('EXPIRE', KEYS[3], ARGV[3])
+			redis.call('LPUSH', KEYS[4], version .. ':' .. ARGV[1] .. ':' .. ARGV[6])
+			redis.call('LTRIM', KEYS[4], 0, tonumber(ARGV[4]) - 1)
+			redis.call('EXPIRE', KEYS[4], ARGV[3])
+
+			if redis.call('EXISTS', KEYS[1]) == 0 then
+				redis.call('INCR', KEYS[2])
+				redis.call('EXPIRE', KEYS[2], ARGV[2])
+				return version
+			end
+			local code = tonumber(ARGV[1])
+			local counted = redis.call('EXISTS', KEYS[5]) == 1
+			for i = 7, #ARGV, 2 do
+				local old = redis.call('BITFIELD', KEYS[1], 'SET', 'u2', '#' .. ARGV[i], code)[1]
+				if counted and old ~= code then
+					redis.call('HINCRBY', KEYS[5], ARGV[i + 1] .. ':' .. old, -1)
+					redis.call('HINCRBY', KEYS[5], ARGV[i + 1] .. ':' .. code, 1)
+				end
+			end
+			return version
+			""";
+
+		return RedisScript.of(script, Long.class);
+	}
+
+	/**
+	 * 상태 맵 초기화 스크립트 (DB 스냅샷 + 카운터 저장)
+	 *
+	 * KEYS[1]: stateKey, KEYS[2]: epochKey, KEYS[3]: countsKey
+	 * ARGV[1]: 스냅샷 이전에 읽은 epoch, ARGV[2]: 스냅샷, ARGV[3]: TTL(초), ARGV[4..]: (카운터 필드, 값) 쌍
+	 *
+	 * Return: 1 저장, 0 이미 존재하거나 스냅샷 이후 전이 발생
+	 */
+	@Bean
+	public RedisScript<Long> seatStateInitScript() {
+		String script = """
+			if redis.call('EXISTS', KEYS[1]) == 1 then
+				return 0
+			end
+			local epoch = redis.call('GET', KEYS[2]) or '0'
+			if epoch ~= ARGV[1] then
+				return 0
+			end
+			redis.call('SET', KEYS[1], ARGV[2], 'EX', ARGV[3])
+			redis.call('DEL', KEYS[3])
+			if #ARGV > 3 then
+				redis.call('HSET', KEYS[3], unpack(ARGV, 4))
+				redis.call('EXPIRE', KEYS[3], ARGV[3])
+			end
+			return 1
+			""";
+
+		return RedisScript.of(script, Long.class);
+	}
+
+	/**
+	 * 상태 맵 무효화 스크립트 (버전을 올리고 변경 로그를 비워 증분 조회 클라이언트를 전체 재조회로 유도)
+	 *
+	 * KEYS[1]: stateKey, KEYS[2]: epochKey, KEYS[3]: versionKey, KEYS[4]: changeLogKey, KEYS[5]: countsKey
+	 * ARGV[1]: epoch TTL(초), ARGV[2]: 버전 TTL(초), ARGV[3]: 버전 초기값
+	 */
+	@Bean
+	public RedisScript<Long> seatStateInvalidateScript() {
+		String script = """
+			redis.call('DEL', KEYS[1], KEYS[5])
+			redis.call('INCR', KEYS[2])
+			redis.call('EXPIRE', KEYS[2], ARGV[1])
+			if redis.call('EXISTS', KEYS[3]) == 0 then
+				redis.call('SET', KEYS[3], ARGV[3])
+			end
+			redis.call('INCR', KEYS[3])
+			redis.call('EXPIRE', KEYS[3], ARGV[2])
+			redis.call('DEL', KEYS[4])
+			return 1
+			""";
+
+		return RedisScript.of(script, Long.class);
+	}
+
+	/**
+	 * 변경 로그 조회 스크립트 (읽기 전용)
+	 *
+	 * KEYS[1]: versionKey, KEYS[2]: changeLogKey
+	 * ARGV[1]: sinceVersion, ARGV[2]: 로그 상한
+	 *
+	 * Return: {version, complete, entry...}
+	 *  complete 1: sinceVersion 이후 변경이 모두 로그에 있음 (entry는 최신순)
+	 *  complete 0: 로그 범위 밖 → 전체 스냅샷 필요
+	 */
+	@Bean
+	@SuppressWarnings("rawtypes")
+	public RedisScript<List> seatStateChangesScript() {
+		String script = """
+			local version = tonumber(redis.call('GET', KEYS[1]) or '0')
+			local since = tonumber(ARGV[1])
+			if since == version then
+				return {version, 1}
+			end
+			local count = version - since
+			if count < 0 or count > tonumber(ARGV[2]) then
+				return {version, 0}
+			end
+			local entries = redis.call('LRANGE', KEYS[2], 0, count - 1)
+			if #entries < count then
+				return {version, 0}
+			end
+			local result = {version, 1}
+			for i = 1, #entries do
+				table.insert(result, entries[i])
+			end
+			return result
+			""";
+
+		return RedisScript.of(script, List.class);
+	}
+
+	/**
+	 * 상태 맵 + 카운터 조회 스크립트 (읽기 전용, 대조용 일관 스냅샷)
+	 *
+	 * KEYS[1]: stateKey, KEYS[2]: countsKey
+	 *
+	 * Return: {state, field, value, ...} (상태 맵이 없으면 빈 배열)
+	 */
+	@Bean
+	@SuppressWarnings("rawtypes")
+	public RedisScript<List> seatStateReadWithCountsScript() {
+		String script = """
+			local state = redis.call('GET', KEYS[1])
+			if not state then
+				return {}
+			end
+			local result = {state}
+			local counts = redis.call('HGETALL', KEYS[2])
+			for i = 1, #counts do
+				table.insert(result, counts[i])
+			end
+			return result
+			""";
+
+		return RedisScript.of(script, List.class);
+	}
+
+	/**
+	 * 플래시 세일 HOLD 스크립트 (좌석 묶음 전부 HOLD 또는 전부 실패)
+	 *
+	 * KEYS[1]: statusKey (HASH), KEYS[2]: streamKey
+	 * ARGV[1]: memberId, ARGV[2]: HOLD 유지 시간(ms), ARGV[3]: HASH TTL(초), ARGV[4..]: seatId
+	 *
+	 * Return: {result, 충돌 seatId...}
+	 *  result 0: HOLD 성공, 1: 이미 HOLD, 2: 이미 SOLD, 3: 회차 좌석 아님, -1: 상태 미적재
+	 *  (충돌이 섞이면 3 > 2 > 1 순으로 대표 결과를 고르고 충돌 좌석은 모두 반환)
+	 */
+	@Bean
+	@SuppressWarnings("rawtypes")
+	public RedisScript<List> flashSaleHoldScript() {
+		String script = """
+			if redis.call('EXISTS', KEYS[1]) == 0 then
+				return {-1}
+			end
+			local time = redis.call('TIME')
+			local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+			local result = {0}
+			for i = 4, #ARGV do
+				local current = redis.call('HGET', KEYS[1], ARGV[i])
+				local code = 0
+				if not current then
+					code = 3
+				elseif current == 'S' then
+					code = 2
+				elseif current ~= 'A' and tonumber(string.match(current, '(%d+)$')) > now then
+					code = 1
+				end
+				if code > 0 then
+					result[1] = math.max(result[1], code)
+					table.insert(result, ARGV[i])
+				end
+			end
+			if result[1] > 0 then
+				return result
+			end
+			local expiresAt = now + tonumber(ARGV[2])
+			for i = 4, #ARGV do
+				redis.call('HSET', KEYS[1], ARGV[i], 'H:' .. ARGV[1] .. ':' .. expiresAt)
+				redis.call('XADD', KEYS[2], '*', 'seatId', ARGV[i], 'memberId', ARGV[1], 'expiresAt', expiresAt)
+			end
+			redis.call('EXPIRE', KEYS[1], ARGV[3])
+			return result
+			""";
+
+		return RedisScript.of(script, List.class);
+	}
+
+	/**
+	 * 플래시 세일 상태 적재 스크립트 (DB 스냅샷, 이미 있으면 유지)
+	 *
+	 * KEYS[1]: statusKey
+	 * ARGV[1]: TTL(초), ARGV[2..]: seatId, 상태 값 쌍
+	 *
+	 * Return: 1 적재, 0 이미 존재
+	 */
+	@Bean
+	public RedisScript<Long> flashSaleSeedScript() {
+		String script = """
+			if redis.call('EXISTS', KEYS[1]) == 1 then
+				return 0
+			end
+			for i = 2, #ARGV, 2 do
+				redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+			end
+			redis.call('EXPIRE', KEYS[1], ARGV[1])
+			return 1
+			""";
+
+		return RedisScript.of(script, Long.class);
+	}
+
+	/**
+	 * 플래시 세일 DB 전이 반영 스크립트
+	 *
+	 * KEYS[1]: statusKey
+	 * ARGV[1]: 상태 값 (A / S), ARGV[2]: 1이면 유효 HOLD도 덮어씀, ARGV[3..]: seatId
+	 *
+	 * AVAILABLE 반영은 강제가 아니면 유효 HOLD 유지 (만료 정리 배치가 이미 재선점된 좌석을 되돌리지 않도록)
+	 * SOLD는 항상 덮어씀 (결제 확정 좌석이 구매자 HOLD로 남으면 HOLD 만료 후 다른 회원이 선점 가능)
+	 */
+	@Bean
+	public RedisScript<Long> flashSaleMirrorScript() {
+		String script = """
+			if redis.call('EXISTS', KEYS[1]) == 0 then
+				return 0
+			end
+			local time = redis.call('TIME')
+			local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+			for i = 3, #ARGV do
+				local current = redis.call('HGET', KEYS[1], ARGV[i])
+				if current then
+					local live = ARGV[1] ~= 'S' and ARGV[2] ~= '1' and current ~= 'A' and current ~= 'S'
+						and tonumber(string.match(current, '(%d+)$')) > now
+					if not live then
+						redis.call('HSET', KEYS[1], ARGV[i], ARGV[1])
+					end
+				end
+			end
+			return 1
+			""";
+
+		return RedisScript.of(script, Long.class);
+	}
+
+	/**
+	 * 플래시 세일 HOLD 무효화 스크립트 (영속화 실패 보정, HASH가 아직 해당 HOLD일 때만)
+	 *
+	 * KEYS[1]: statusKey
+	 * ARGV[1]: 무효화할 HOLD 값 (H:{memberId}:{expiresAtMillis}), ARGV[2]: 대체 값 (DB 상태), ARGV[3]: seatId
+	 *
+	 * Return: 1 무효화, 0 이미 다른 값
+	 */
+	@Bean
+	public RedisScript<Long> flashSaleRevokeHoldScript() {
+		String script = """
+			if redis.call('HGET', KEYS[1], ARGV[3]) ~= ARGV[1] then
+				return 0
+			end
+			redis.call('HSET', KEYS[1], ARGV[3], ARGV[2])
+			return 1
+			""";
+
+		return RedisScript.of(script, Long.class);
+	}
+}
@@ -1,5 +1,7 @@
 package com.back.b2st.global.error.handler;
 
+import java.util.List;
+
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.security.access.AccessDeniedException;
@@ -11,6 +13,7 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import com.back.b2st.domain.auth.error.AuthErrorCode;
+import com.back.b2st.domain.scheduleseat.error.SeatHoldConflictException;
 import com.back.b2st.global.common.BaseResponse;
 import com.back.b2st.global.error.code.CommonErrorCode;
 import com.back.b2st.global.error.exception.BusinessException;
@@ -33,6 +36,20 @@ public class GlobalExceptionHandler {
 			.body(BaseResponse.error(ex.getErrorCode())); // data = null
 	}
 
+	/* 다중 좌석 HOLD 충돌: 충돌 좌석 ID를 data로 반환 */
+	@ExceptionHandler(SeatHoldConflictException.class)
+	public ResponseEntity<BaseResponse<List<Long>>> handleSeatHoldConflict(SeatHoldConflictException ex) {
+		log.warn("SeatHoldConflictException: {}", ex.getMessage());
+
+		return ResponseEntity
+			.status(ex.getErrorCode().getStatus())
+			.body(new BaseResponse<>(
+				ex.getErrorCode().getStatus().value(),
+				ex.getErrorCode().getMessage(),
+				ex.getConflictSeatIds()
+			));
+	}
+
 	/* =========================
 	   검증/바인딩 예외
 	   ========================= */
@@ -3,6 +3,7 @@ package com.back.b2st.global.jwt;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import javax.crypto.SecretKey;
@@ -34,6 +35,8 @@ import lombok.extern.slf4j.Slf4j;
 @Component
 public class JwtTokenProvider {
 
+	private static final String SCOPE_CLAIM = "typ";
+
 	private final SecretKey key;
 	private final long accessTokenValidity;
 	private final long refreshTokenValidity;
@@ -139,6 +142,35 @@ public class JwtTokenProvider {
 		}
 	}
 
+	/**
+	 * 용도 한정 단기 서명 토큰 발급 (typ 클레임으로 Access Token과 구분)
+	 *
+	 * 대기열 입장권처럼 인증 이외 용도로 서버가 로컬 검증하는 토큰에 사용
+	 */
+	public String generateScopedToken(String scope, Map<String, ?> claims, long expiresAtMillis) {
+		return Jwts.builder()
+			.claims(claims)
+			.claim(SCOPE_CLAIM, scope)
+			.expiration(new Date(expiresAtMillis))
+			.signWith(key)
+			.compact();
+	}
+
+	/**
+	 * 용도 한정 토큰 검증
+	 *
+	 * @return 서명/만료/용도가 모두 유효하면 Claims, 아니면 null
+	 */
+	public Claims parseScopedToken(String token, String scope) {
+		try {
+			Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+			return scope.equals(claims.get(SCOPE_CLAIM, String.class)) ? claims : null;
+		} catch (Exception e) {
+			log.debug("용도 한정 토큰 검증 실패 - scope: {}, reason: {}", scope, e.getMessage());
+			return null;
+		}
+	}
+
 	private Claims parseClaims(String accessToken) {
 		try {
 			return jwtParser.parseSignedClaims(accessToken).getPayload();
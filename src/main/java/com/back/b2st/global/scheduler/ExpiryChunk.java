@@ -0,0 +1,16 @@
+package com.back.b2st.global.scheduler;
+
+/**
+ * 만료 처리 청크 결과
+ *
+ * @param count  이번 청크에서 잠그고 처리한 행 수
+ * @param lastId 처리한 마지막 PK (다음 청크 키셋 시작점, 빈 청크면 null)
+ */
+public record ExpiryChunk(int count, Long lastId) {
+
+	private static final ExpiryChunk EMPTY = new ExpiryChunk(0, null);
+
+	public static ExpiryChunk empty() {
+		return EMPTY;
+	}
+}
@@ -0,0 +1,98 @@
+package com.back.b2st.global.scheduler;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 만료 행 청크 처리기 (PK 키셋 페이징)
+ *
+ * - 청크마다 별도 트랜잭션(처리 함수 쪽 @Transactional)으로 잠금 범위를 chunk-size 행으로 제한
+ * - 처리 함수는 FOR UPDATE SKIP LOCKED로 잠그므로, 사용자 요청이 잡고 있는 행은 건너뛰고 다음 실행에서 처리
+ * - 한 실행의 청크 수를 max-chunks로 제한하고, 남은 만료 행 수를 backlog 게이지로 노출
+ *
+ * 메트릭 (target 태그: 처리 대상)
+ * - expiry_chunk_duration: 청크 처리 시간
+ * - expiry_processed_total: 처리 행 수
+ * - expiry_backlog: 실행 종료 시점 남은 만료 행 수
+ */
+@Slf4j
+@Component
+public class ExpiryChunkRunner {
+
+	private final MeterRegistry registry;
+	private final Map<String, AtomicLong> backlogs = new ConcurrentHashMap<>();
+
+	@Value("${scheduler.expiry.chunk-size:500}")
+	private int chunkSize;
+
+	@Value("${scheduler.expiry.max-chunks:100}")
+	private int maxChunks;
+
+	public ExpiryChunkRunner(MeterRegistry registry) {
+		this.registry = registry;
+	}
+
+	/**
+	 * @param target         메트릭 태그 (예: seat_hold, reservation)
+	 * @param chunkProcessor (afterId, chunkSize) → 청크 결과
+	 * @param backlogCounter 남은 만료 행 수 조회
+	 * @return 처리 행 수
+	 */
+	public int run(
+		String target,
+		BiFunction<Long, Integer, ExpiryChunk> chunkProcessor,
+		LongSupplier backlogCounter
+	) {
+		Timer chunkTimer = Timer.builder("expiry_chunk_duration")
+			.tag("target", target)
+			.description("만료 청크 처리 시간")
+			.register(registry);
+
+		long afterId = 0L;
+		int processed = 0;
+		for (int chunk = 0; chunk < maxChunks; chunk++) {
+			Timer.Sample sample = Timer.start(registry);
+			ExpiryChunk result = chunkProcessor.apply(afterId, chunkSize);
+			sample.stop(chunkTimer);
+
+			processed += result.count();
+			if (result.count() < chunkSize) {
+				break;
+			}
+			afterId = result.lastId();
+		}
+
+		if (processed > 0) {
+			Counter.builder("expiry_processed_total")
+				.tag("target", target)
+				.description("만료 처리 행 수")
+				.register(registry)
+				.increment(processed);
+		}
+		backlog(target).set(backlogCounter.getAsLong());
+		return processed;
+	}
+
+	private AtomicLong backlog(String target) {
+		return backlogs.computeIfAbsent(target, key -> {
+			AtomicLong value = new AtomicLong();
+			Gauge.builder("expiry_backlog", value, AtomicLong::get)
+				.tag("target", key)
+				.description("남은 만료 대상 행 수")
+				.register(registry);
+			return value;
+		});
+	}
+}
@@ -98,6 +98,8 @@ public class SecurityConfig {
 
 		configuration.setAllowedMethods(List.of("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
 		configuration.setAllowedHeaders(List.of("*"));
+		// 좌석 맵 조건부 요청(If-None-Match)용
+		configuration.setExposedHeaders(List.of("ETag"));
 		// 쿠키나 인증헤더
 		configuration.setAllowCredentials(true);
 		// 캐시 시간 1시간
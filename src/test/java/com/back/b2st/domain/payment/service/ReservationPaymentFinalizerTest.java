@@ -107,6 +107,34 @@ class ReservationPaymentFinalizerTest {
 		assertThat(ticket.getReservationId()).isEqualTo(reservation.getId());
 	}
 
+	@Test
+	@DisplayName("다중 좌석 예매 결제 확정 시 모든 좌석 판매 + 좌석별 티켓 발급")
+	void finalizePayment_multiSeat_sellsAllSeats() {
+		// given
+		ScheduleSeat firstSeat = createScheduleSeat(seatId, SeatStatus.HOLD);
+		ScheduleSeat secondSeat = createScheduleSeat(seatId + 1, SeatStatus.HOLD);
+		Reservation reservation = createReservation(ReservationStatus.PENDING);
+		createReservationSeat(reservation, secondSeat);
+		createReservationSeat(reservation, firstSeat);
+		Payment payment = createDonePayment(reservation.getId());
+
+		// when
+		finalizer.finalizePayment(payment);
+		entityManager.flush();
+		entityManager.clear();
+
+		// then
+		assertThat(scheduleSeatRepository.findById(firstSeat.getId()).orElseThrow().getStatus())
+			.isEqualTo(SeatStatus.SOLD);
+		assertThat(scheduleSeatRepository.findById(secondSeat.getId()).orElseThrow().getStatus())
+			.isEqualTo(SeatStatus.SOLD);
+
+		assertThat(ticketRepository.findByReservationIdAndMemberIdAndSeatId(reservation.getId(), memberId, seatId))
+			.isPresent();
+		assertThat(ticketRepository.findByReservationIdAndMemberIdAndSeatId(reservation.getId(), memberId, seatId + 1))
+			.isPresent();
+	}
+
 	@Test
 	@DisplayName("멱등: 이미 확정된 예매는 다시 처리해도 안전")
 	void finalizePayment_idempotent_whenAlreadyCompleted() {
@@ -227,6 +255,10 @@ class ReservationPaymentFinalizerTest {
 	}
 
 	private ScheduleSeat createScheduleSeat(SeatStatus status) {
+		return createScheduleSeat(seatId, status);
+	}
+
+	private ScheduleSeat createScheduleSeat(Long seatId, SeatStatus status) {
 		ScheduleSeat seat = ScheduleSeat.builder()
 			.scheduleId(scheduleId)
 			.seatId(seatId)
@@ -112,6 +112,58 @@ class ReservationPaymentHandlerTest {
 		assertThat(target.expectedAmount()).isEqualTo(expectedPrice);
 	}
 
+	@Test
+	@DisplayName("loadAndValidate: 다중 좌석 예매는 좌석별 등급 가격 합계를 결제 금액으로 반환")
+	void loadAndValidate_multiSeat_sumsSeatPrices() {
+		// Given
+		Long reservationId = 1L;
+		Long memberId = 100L;
+		Long scheduleId = 10L;
+		Long performanceId = 5L;
+
+		Reservation reservation =
+			createReservation(reservationId, memberId, scheduleId, ReservationStatus.PENDING);
+
+		ReservationSeat firstSeat = mock(ReservationSeat.class);
+		when(firstSeat.getScheduleSeatId()).thenReturn(91L);
+		ReservationSeat secondSeat = mock(ReservationSeat.class);
+		when(secondSeat.getScheduleSeatId()).thenReturn(92L);
+
+		ScheduleSeat firstScheduleSeat = mock(ScheduleSeat.class);
+		when(firstScheduleSeat.getStatus()).thenReturn(SeatStatus.HOLD);
+		when(firstScheduleSeat.getScheduleId()).thenReturn(scheduleId);
+		when(firstScheduleSeat.getSeatId()).thenReturn(21L);
+		ScheduleSeat secondScheduleSeat = mock(ScheduleSeat.class);
+		when(secondScheduleSeat.getStatus()).thenReturn(SeatStatus.HOLD);
+		when(secondScheduleSeat.getScheduleId()).thenReturn(scheduleId);
+		when(secondScheduleSeat.getSeatId()).thenReturn(22L);
+
+		PerformanceSchedule schedule = createPerformanceSchedule(scheduleId, performanceId);
+		SeatGrade vip = createSeatGrade(performanceId, 21L, 50000L);
+		SeatGrade standard = createSeatGrade(performanceId, 22L, 30000L);
+
+		when(reservationRepository.findById(reservationId))
+			.thenReturn(Optional.of(reservation));
+		when(reservationSeatRepository.findByReservationId(reservationId))
+			.thenReturn(List.of(firstSeat, secondSeat));
+		when(scheduleSeatRepository.findById(91L)).thenReturn(Optional.of(firstScheduleSeat));
+		when(scheduleSeatRepository.findById(92L)).thenReturn(Optional.of(secondScheduleSeat));
+		when(performanceScheduleRepository.findById(scheduleId))
+			.thenReturn(Optional.of(schedule));
+		when(seatGradeRepository.findTopByPerformanceIdAndSeatIdOrderByIdDesc(performanceId, 21L))
+			.thenReturn(Optional.of(vip));
+		when(seatGradeRepository.findTopByPerformanceIdAndSeatIdOrderByIdDesc(performanceId, 22L))
+			.thenReturn(Optional.of(standard));
+
+		// When
+		PaymentTarget target = handler.loadAndValidate(reservationId, memberId);
+
+		// Then
+		assertThat(target.expectedAmount()).isEqualTo(80000L);
+		verify(seatHoldTokenService).validateOwnership(scheduleId, 21L, memberId);
+		verify(seatHoldTokenService).validateOwnership(scheduleId, 22L, memberId);
+	}
+
 	@Test
 	@DisplayName("loadAndValidate: 예매를 찾을 수 없는 경우 DOMAIN_NOT_FOUND 예외")
 	void loadAndValidate_throwsException_whenReservationNotFound() {
@@ -25,10 +25,8 @@ import com.back.b2st.domain.performanceschedule.entity.PerformanceSchedule;
 import com.back.b2st.domain.performanceschedule.error.PerformanceScheduleErrorCode;
 import com.back.b2st.domain.performanceschedule.repository.PerformanceScheduleRepository;
 import com.back.b2st.domain.prereservation.policy.service.PrereservationTimeTableService;
-import com.back.b2st.domain.scheduleseat.entity.ScheduleSeat;
+import com.back.b2st.domain.scheduleseat.repository.ScheduleSeatBatchRepository;
 import com.back.b2st.domain.scheduleseat.repository.ScheduleSeatRepository;
-import com.back.b2st.domain.seat.seat.entity.Seat;
-import com.back.b2st.domain.seat.seat.repository.SeatRepository;
 import com.back.b2st.domain.venue.venue.entity.Venue;
 import com.back.b2st.global.error.exception.BusinessException;
 
@@ -42,10 +40,10 @@ class PerformanceScheduleServiceTest {
 	private PerformanceScheduleRepository performanceScheduleRepository;
 
 	@Mock
-	private SeatRepository seatRepository;
+	private ScheduleSeatRepository scheduleSeatRepository;
 
 	@Mock
-	private ScheduleSeatRepository scheduleSeatRepository;
+	private ScheduleSeatBatchRepository scheduleSeatBatchRepository;
 
 	@Mock
 	private PrereservationTimeTableService prereservationTimeTableService;
@@ -89,11 +87,7 @@ class PerformanceScheduleServiceTest {
 		// createScheduleSeats() 흐름 mocking
 		given(scheduleSeatRepository.existsByScheduleId(35L)).willReturn(false);
 
-		Seat seat = mock(Seat.class);
-		given(seat.getId()).willReturn(1L);
-		given(seatRepository.findByVenueId(10L)).willReturn(List.of(seat));
-
-		given(scheduleSeatRepository.saveAll(any(List.class))).willReturn(List.of(mock(ScheduleSeat.class)));
+		given(scheduleSeatBatchRepository.insertForVenue(35L, 10L)).willReturn(1);
 
 		// when
 		PerformanceScheduleCreateRes res = performanceScheduleService.createSchedule(performanceId, req);
@@ -104,6 +98,7 @@ class PerformanceScheduleServiceTest {
 		assertThat(res.roundNo()).isEqualTo(req.roundNo());
 
 		then(performanceScheduleRepository).should().save(any(PerformanceSchedule.class));
+		then(scheduleSeatBatchRepository).should().insertForVenue(35L, 10L);
 	}
 
 	@Test
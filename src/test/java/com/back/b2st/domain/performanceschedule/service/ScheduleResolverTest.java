@@ -0,0 +1,69 @@
+package com.back.b2st.domain.performanceschedule.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.back.b2st.domain.performanceschedule.error.PerformanceScheduleErrorCode;
+import com.back.b2st.domain.performanceschedule.repository.PerformanceScheduleRepository;
+import com.back.b2st.global.error.exception.BusinessException;
+
+@ExtendWith(MockitoExtension.class)
+class ScheduleResolverTest {
+
+	@Mock
+	private PerformanceScheduleRepository performanceScheduleRepository;
+
+	@InjectMocks
+	private ScheduleResolver scheduleResolver;
+
+	private static final Long SCHEDULE_ID = 10L;
+	private static final Long PERFORMANCE_ID = 99L;
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(scheduleResolver, "maxCacheSize", 100);
+		scheduleResolver.initCache();
+	}
+
+	@Test
+	@DisplayName("resolvePerformanceId(): 같은 회차 반복 조회 시 DB는 최초 1회만 조회")
+	void resolvePerformanceId_cachesLookup() {
+		// given
+		when(performanceScheduleRepository.findPerformanceIdByScheduleId(SCHEDULE_ID))
+			.thenReturn(Optional.of(PERFORMANCE_ID));
+
+		// when
+		Long first = scheduleResolver.resolvePerformanceId(SCHEDULE_ID);
+		Long second = scheduleResolver.resolvePerformanceId(SCHEDULE_ID);
+
+		// then
+		assertThat(first).isEqualTo(PERFORMANCE_ID);
+		assertThat(second).isEqualTo(PERFORMANCE_ID);
+		verify(performanceScheduleRepository, times(1)).findPerformanceIdByScheduleId(SCHEDULE_ID);
+	}
+
+	@Test
+	@DisplayName("resolvePerformanceId(): 존재하지 않는 회차면 SCHEDULE_NOT_FOUND")
+	void resolvePerformanceId_notFound_throw() {
+		// given
+		when(performanceScheduleRepository.findPerformanceIdByScheduleId(SCHEDULE_ID))
+			.thenReturn(Optional.empty());
+
+		// when & then
+		assertThatThrownBy(() -> scheduleResolver.resolvePerformanceId(SCHEDULE_ID))
+			.isInstanceOf(BusinessException.class)
+			.extracting(e -> ((BusinessException)e).getErrorCode())
+			.isEqualTo(PerformanceScheduleErrorCode.SCHEDULE_NOT_FOUND);
+	}
+}
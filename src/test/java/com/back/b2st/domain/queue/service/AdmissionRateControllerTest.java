@@ -0,0 +1,185 @@
+package com.back.b2st.domain.queue.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.back.b2st.domain.queue.dto.AdmissionDecision;
+import com.back.b2st.domain.queue.dto.SeatHoldSignal;
+import com.back.b2st.domain.queue.entity.Queue;
+import com.back.b2st.domain.queue.metrics.QueueMetrics;
+import com.back.b2st.domain.queue.repository.QueueRedisRepository;
+
+@ExtendWith(MockitoExtension.class)
+class AdmissionRateControllerTest {
+
+	@Mock
+	private QueueRedisRepository queueRedisRepository;
+
+	@Mock
+	private QueueMetrics queueMetrics;
+
+	@Mock
+	private DataSource dataSource;
+
+	@InjectMocks
+	private AdmissionRateController admissionRateController;
+
+	private static final Long QUEUE_ID = 1L;
+	private static final Long PERFORMANCE_ID = 99L;
+	private static final int DEFAULT_BATCH_SIZE = 100;
+
+	private Queue queue;
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(admissionRateController, "enabled", true);
+		ReflectionTestUtils.setField(admissionRateController, "minBatchSize", 10);
+		ReflectionTestUtils.setField(admissionRateController, "maxBatchSize", 1000);
+		ReflectionTestUtils.setField(admissionRateController, "increaseStep", 10);
+		ReflectionTestUtils.setField(admissionRateController, "decreaseFactor", 0.5);
+		ReflectionTestUtils.setField(admissionRateController, "targetHoldLatencyMs", 300L);
+		ReflectionTestUtils.setField(admissionRateController, "maxErrorRate", 0.05);
+		ReflectionTestUtils.setField(admissionRateController, "maxPoolSaturation", 0.9);
+		ReflectionTestUtils.setField(admissionRateController, "minSamples", 20L);
+		ReflectionTestUtils.setField(admissionRateController, "stallTicks", 3);
+
+		queue = mock(Queue.class);
+		lenient().when(queue.getId()).thenReturn(QUEUE_ID);
+		lenient().when(queue.getPerformanceId()).thenReturn(PERFORMANCE_ID);
+		lenient().when(queue.getMaxActiveUsers()).thenReturn(500);
+	}
+
+	@Test
+	@DisplayName("nextBatchSize(): 채워 승격한 인원만큼 슬롯이 반환되면 가산 증가")
+	void nextBatchSize_increase() {
+		// given: 1틱에 100명 승격, 2틱까지 전원 예매 완료로 슬롯 반환
+		when(queueRedisRepository.getSeatHoldSignal(PERFORMANCE_ID)).thenReturn(SeatHoldSignal.empty());
+		when(queueRedisRepository.getTotalEnterableCount(QUEUE_ID)).thenReturn(0L);
+
+		// when
+		int first = admissionRateController.nextBatchSize(queue, DEFAULT_BATCH_SIZE);
+		admissionRateController.onAdmitted(QUEUE_ID, first);
+		int second = admissionRateController.nextBatchSize(queue, DEFAULT_BATCH_SIZE);
+
+		// then
+		assertThat(first).isEqualTo(100);
+		assertThat(second).isEqualTo(110);
+		verify(queueMetrics).recordAdmissionDecision(eq(QUEUE_ID),
+			argThat(d -> d.type() == AdmissionDecision.Type.INCREASE && d.slotTurnover() == 100));
+	}
+
+	@Test
+	@DisplayName("nextBatchSize(): 반환 수가 직전 승격 인원보다 적으면 증가하지 않음")
+	void nextBatchSize_holdWhenTurnoverLags() {
+		// given: 100명 승격했지만 40명만 빠짐
+		when(queueRedisRepository.getSeatHoldSignal(PERFORMANCE_ID)).thenReturn(SeatHoldSignal.empty());
+		when(queueRedisRepository.getTotalEnterableCount(QUEUE_ID)).thenReturn(0L, 60L);
+
+		// when
+		admissionRateController.onAdmitted(QUEUE_ID, admissionRateController.nextBatchSize(queue, DEFAULT_BATCH_SIZE));
+		int second = admissionRateController.nextBatchSize(queue, DEFAULT_BATCH_SIZE);
+
+		// then
+		assertThat(second).isEqualTo(100);
+		verify(queueMetrics, never()).recordAdmissionDecision(eq(QUEUE_ID),
+			argThat(d -> d.type() != AdmissionDecision.Type.HOLD));
+	}
+
+	@Test
+	@DisplayName("nextBatchSize(): 구간 평균 HOLD 처리 시간이 목표를 넘으면 승산 감소")
+	void nextBatchSize_decreaseOnHoldLatency() {
+		// given: 직전 대비 100건, 평균 500ms
+		when(queueRedisRepository.getSeatHoldSignal(PERFORMANCE_ID))
+			.thenReturn(new SeatHoldSignal(1_000L, 0L, 100_000L), new SeatHoldSignal(1_100L, 0L, 150_000L));
+		when(queueRedisRepository.getTotalEnterableCount(QUEUE_ID)).thenReturn(0L);
+
+		// when
+		admissionRateController.nextBatchSize(queue, DEFAULT_BATCH_SIZE);
+		int second = admissionRateController.nextBatchSize(queue, DEFAULT_BATCH_SIZE);
+
+		// then
+		assertThat(second).isEqualTo(50);
+		verify(queueMetrics).recordAdmissionDecision(eq(QUEUE_ID),
+			argThat(d -> d.type() == AdmissionDecision.Type.DECREASE && d.holdLatencyMillis() == 500.0));
+	}
+
+	@Test
+	@DisplayName("nextBatchSize(): 표본이 min-samples 미만이면 지연/실패율로 감소하지 않음")
+	void nextBatchSize_ignoresSignalBelowMinSamples() {
+		// given: 직전 대비 10건 전부 실패
+		when(queueRedisRepository.getSeatHoldSignal(PERFORMANCE_ID))
+			.thenReturn(SeatHoldSignal.empty(), new SeatHoldSignal(10L, 10L, 10_000L));
+		when(queueRedisRepository.getTotalEnterableCount(QUEUE_ID)).thenReturn(0L);
+
+		// when
+		admissionRateController.nextBatchSize(queue, DEFAULT_BATCH_SIZE);
+		int second = admissionRateController.nextBatchSize(queue, DEFAULT_BATCH_SIZE);
+
+		// then
+		assertThat(second).isEqualTo(100);
+	}
+
+	@Test
+	@DisplayName("nextBatchSize(): 입장 인원이 있는데 stall-ticks 연속 슬롯 반환이 없으면 감소")
+	void nextBatchSize_decreaseOnStall() {
+		// given: ENTERABLE 50명이 빠지지 않고 그대로 유지, 신규 승격 없음
+		when(queueRedisRepository.getSeatHoldSignal(PERFORMANCE_ID)).thenReturn(SeatHoldSignal.empty());
+		when(queueRedisRepository.getTotalEnterableCount(QUEUE_ID)).thenReturn(50L);
+
+		// when: 1틱은 기준값, 2~4틱 정체
+		int[] batchSizes = new int[4];
+		for (int tick = 0; tick < batchSizes.length; tick++) {
+			batchSizes[tick] = admissionRateController.nextBatchSize(queue, DEFAULT_BATCH_SIZE);
+			admissionRateController.onAdmitted(QUEUE_ID, 0);
+		}
+
+		// then
+		assertThat(batchSizes).containsExactly(100, 100, 100, 50);
+		verify(queueMetrics).recordAdmissionDecision(eq(QUEUE_ID),
+			argThat(d -> d.type() == AdmissionDecision.Type.DECREASE));
+	}
+
+	@Test
+	@DisplayName("nextBatchSize(): 감소해도 min-batch-size 아래로 내려가지 않음")
+	void nextBatchSize_clampedToMin() {
+		// given
+		ReflectionTestUtils.setField(admissionRateController, "stallTicks", 1);
+		when(queueRedisRepository.getSeatHoldSignal(PERFORMANCE_ID)).thenReturn(SeatHoldSignal.empty());
+		when(queueRedisRepository.getTotalEnterableCount(QUEUE_ID)).thenReturn(50L);
+
+		// when
+		int last = 0;
+		for (int tick = 0; tick < 6; tick++) {
+			last = admissionRateController.nextBatchSize(queue, DEFAULT_BATCH_SIZE);
+		}
+
+		// then
+		assertThat(last).isEqualTo(10);
+	}
+
+	@Test
+	@DisplayName("nextBatchSize(): 비활성화면 고정 batch-size 그대로 사용")
+	void nextBatchSize_disabled() {
+		// given
+		ReflectionTestUtils.setField(admissionRateController, "enabled", false);
+
+		// when
+		int batchSize = admissionRateController.nextBatchSize(queue, DEFAULT_BATCH_SIZE);
+
+		// then
+		assertThat(batchSize).isEqualTo(DEFAULT_BATCH_SIZE);
+		verifyNoInteractions(queueRedisRepository, queueMetrics);
+	}
+}
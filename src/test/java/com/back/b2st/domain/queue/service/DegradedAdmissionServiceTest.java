@@ -0,0 +1,237 @@
+package com.back.b2st.domain.queue.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.back.b2st.domain.queue.dto.QueueEntryTransition;
+import com.back.b2st.domain.queue.dto.QueueUserStatus;
+import com.back.b2st.domain.queue.entity.Queue;
+import com.back.b2st.domain.queue.error.QueueErrorCode;
+import com.back.b2st.domain.queue.metrics.QueueDegradedMetrics;
+import com.back.b2st.domain.queue.repository.QueueRedisRepository;
+import com.back.b2st.global.error.exception.BusinessException;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class DegradedAdmissionServiceTest {
+
+	@Mock
+	private CircuitBreakerRegistry circuitBreakerRegistry;
+
+	@Mock
+	private QueueRedisRepository queueRedisRepository;
+
+	@Mock
+	private QueueEntryWriteBehind queueEntryWriteBehind;
+
+	@Mock
+	private QueueDegradedMetrics degradedMetrics;
+
+	@Mock
+	private CircuitBreaker circuitBreaker;
+
+	@InjectMocks
+	private DegradedAdmissionService degradedAdmissionService;
+
+	private static final Long QUEUE_ID = 1L;
+
+	private Queue queue;
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(degradedAdmissionService, "enabled", true);
+		ReflectionTestUtils.setField(degradedAdmissionService, "activeShare", 0.1);
+		ReflectionTestUtils.setField(degradedAdmissionService, "maxWaiting", 3);
+
+		// 노드 상한 = 20 × 0.1 = 2명
+		queue = mock(Queue.class);
+		lenient().when(queue.getId()).thenReturn(QUEUE_ID);
+		lenient().when(queue.getMaxActiveUsers()).thenReturn(20);
+		lenient().when(queue.getEntryTtlMinutes()).thenReturn(10);
+		lenient().when(queue.getWaitingShardCount()).thenReturn(1);
+
+		lenient().when(circuitBreakerRegistry.circuitBreaker("queueRedis")).thenReturn(circuitBreaker);
+	}
+
+	@Test
+	@DisplayName("enter(): 비활성화면 QUEUE_SERVICE_UNAVAILABLE")
+	void enter_disabled_throw() {
+		// given
+		ReflectionTestUtils.setField(degradedAdmissionService, "enabled", false);
+
+		// when & then
+		assertThatThrownBy(() -> degradedAdmissionService.enter(queue, 1L))
+			.isInstanceOf(BusinessException.class)
+			.extracting(e -> ((BusinessException)e).getErrorCode())
+			.isEqualTo(QueueErrorCode.QUEUE_SERVICE_UNAVAILABLE);
+	}
+
+	@Test
+	@DisplayName("enter(): 장애 이전에 입장권을 받은 사용자는 로컬 대기 없이 ENTERABLE")
+	void enter_alreadyEnterable() {
+		// given
+		when(queueRedisRepository.isInEnterable(QUEUE_ID, 1L)).thenReturn(true);
+
+		// when
+		QueueUserStatus status = degradedAdmissionService.enter(queue, 1L);
+
+		// then
+		assertThat(status.isEnterable()).isTrue();
+		assertThat(degradedAdmissionService.findStatus(QUEUE_ID, 1L)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("enter(): 로컬 FIFO에 대기, 재진입은 기존 상태 반환, max-waiting 초과 시 거부")
+	void enter_localFifo() {
+		// when
+		QueueUserStatus first = degradedAdmissionService.enter(queue, 1L);
+		degradedAdmissionService.enter(queue, 2L);
+		QueueUserStatus third = degradedAdmissionService.enter(queue, 3L);
+		QueueUserStatus again = degradedAdmissionService.enter(queue, 1L);
+
+		// then
+		assertThat(first.state()).isEqualTo(QueueUserStatus.State.WAITING);
+		assertThat(first.rank0()).isZero();
+		assertThat(third.rank0()).isEqualTo(2L);
+		assertThat(again.rank0()).isZero();
+		assertThat(again.totalWaiting()).isEqualTo(3L);
+
+		assertThatThrownBy(() -> degradedAdmissionService.enter(queue, 4L))
+			.isInstanceOf(BusinessException.class)
+			.extracting(e -> ((BusinessException)e).getErrorCode())
+			.isEqualTo(QueueErrorCode.QUEUE_SERVICE_UNAVAILABLE);
+		verify(degradedMetrics).recordRejected();
+	}
+
+	@Test
+	@DisplayName("tick(): 회로 열림이면 노드 상한까지 앞에서부터 로컬 승격 후 write-behind 기록")
+	void tick_circuitOpen_admitsUpToCapacity() {
+		// given
+		when(circuitBreaker.getState()).thenReturn(CircuitBreaker.State.OPEN);
+		degradedAdmissionService.enter(queue, 1L);
+		degradedAdmissionService.enter(queue, 2L);
+		degradedAdmissionService.enter(queue, 3L);
+
+		// when
+		degradedAdmissionService.tick();
+
+		// then
+		assertThat(degradedAdmissionService.isLocallyEnterable(QUEUE_ID, 1L)).isTrue();
+		assertThat(degradedAdmissionService.isLocallyEnterable(QUEUE_ID, 2L)).isTrue();
+		assertThat(degradedAdmissionService.findStatus(QUEUE_ID, 3L))
+			.get()
+			.extracting(QueueUserStatus::rank0)
+			.isEqualTo(0L);
+
+		verify(queueEntryWriteBehind).enqueueAll(argThat((List<QueueEntryTransition> transitions) ->
+			transitions.stream().map(QueueEntryTransition::userId).toList().equals(List.of(1L, 2L))
+				&& transitions.stream().allMatch(t -> t.type() == QueueEntryTransition.Type.ENTERABLE)));
+		verify(degradedMetrics).recordAdmitted(2);
+		verify(degradedMetrics).updateState(true, 1L, 2L);
+		verify(queueRedisRepository, never()).restoreLocalAdmissions(anyLong(), anyInt(), any(), any());
+	}
+
+	@Test
+	@DisplayName("tick(): 회로 닫힘이면 로컬 WAITING/ENTERABLE을 Redis로 복원 후 로컬 상태 제거")
+	void tick_circuitClosed_reconciles() {
+		// given
+		when(circuitBreaker.getState()).thenReturn(CircuitBreaker.State.OPEN, CircuitBreaker.State.CLOSED);
+		degradedAdmissionService.enter(queue, 1L);
+		degradedAdmissionService.enter(queue, 2L);
+		degradedAdmissionService.enter(queue, 3L);
+		degradedAdmissionService.tick();
+		when(queueRedisRepository.restoreLocalAdmissions(eq(QUEUE_ID), eq(1), any(), any())).thenReturn(true);
+
+		// when
+		degradedAdmissionService.tick();
+
+		// then
+		verify(queueRedisRepository).restoreLocalAdmissions(
+			eq(QUEUE_ID),
+			eq(1),
+			argThat(waiting -> waiting.keySet().equals(Set.of(3L))),
+			argThat(enterable -> enterable.keySet().equals(Set.of(1L, 2L)))
+		);
+		assertThat(degradedAdmissionService.findStatus(QUEUE_ID, 1L)).isEmpty();
+		assertThat(degradedAdmissionService.findStatus(QUEUE_ID, 3L)).isEmpty();
+		verify(degradedMetrics).recordReconciled(3);
+		verify(degradedMetrics).updateState(false, 0L, 0L);
+	}
+
+	@Test
+	@DisplayName("tick(): Redis 복원 실패 시 로컬 상태 유지 (다음 tick 재시도)")
+	void tick_reconcileFailed_keepsLocalState() {
+		// given
+		when(circuitBreaker.getState()).thenReturn(CircuitBreaker.State.CLOSED);
+		when(queueRedisRepository.restoreLocalAdmissions(eq(QUEUE_ID), eq(1), any(), any())).thenReturn(false);
+		degradedAdmissionService.enter(queue, 1L);
+
+		// when
+		degradedAdmissionService.tick();
+
+		// then
+		assertThat(degradedAdmissionService.findStatus(QUEUE_ID, 1L)).isPresent();
+		verify(degradedMetrics, never()).recordReconciled(anyInt());
+	}
+
+	@Test
+	@DisplayName("tick(): 복원 중 이탈 후 재진입한 사용자는 진입 순번이 달라 로컬에 유지")
+	void tick_reconcile_keepsReenteredUser() {
+		// given
+		when(circuitBreaker.getState()).thenReturn(CircuitBreaker.State.CLOSED);
+		degradedAdmissionService.enter(queue, 1L);
+		degradedAdmissionService.enter(queue, 2L);
+		when(queueRedisRepository.restoreLocalAdmissions(eq(QUEUE_ID), eq(1), any(), any())).thenAnswer(invocation -> {
+			degradedAdmissionService.remove(QUEUE_ID, 2L);
+			degradedAdmissionService.enter(queue, 2L);
+			return true;
+		});
+
+		// when
+		degradedAdmissionService.tick();
+
+		// then
+		assertThat(degradedAdmissionService.findStatus(QUEUE_ID, 1L)).isEmpty();
+		assertThat(degradedAdmissionService.findStatus(QUEUE_ID, 2L))
+			.get()
+			.extracting(QueueUserStatus::state)
+			.isEqualTo(QueueUserStatus.State.WAITING);
+	}
+
+	@Test
+	@DisplayName("remove(): 로컬 대기열에서 제거하고 직전 상태 반환")
+	void remove_returnsPreviousState() {
+		// given
+		degradedAdmissionService.enter(queue, 1L);
+
+		// when & then
+		assertThat(degradedAdmissionService.remove(QUEUE_ID, 1L)).contains(QueueUserStatus.State.WAITING);
+		assertThat(degradedAdmissionService.remove(QUEUE_ID, 1L)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("canTakeOver(): Redis 장애성 오류만 로컬 진입으로 대체")
+	void canTakeOver() {
+		assertThat(degradedAdmissionService.canTakeOver(
+			new BusinessException(QueueErrorCode.QUEUE_SERVICE_UNAVAILABLE))).isTrue();
+		assertThat(degradedAdmissionService.canTakeOver(
+			new BusinessException(QueueErrorCode.REDIS_OPERATION_FAILED))).isTrue();
+		assertThat(degradedAdmissionService.canTakeOver(
+			new BusinessException(QueueErrorCode.QUEUE_NOT_FOUND))).isFalse();
+	}
+}
@@ -0,0 +1,187 @@
+package com.back.b2st.domain.queue.service;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.back.b2st.domain.queue.dto.QueueEntryTransition;
+import com.back.b2st.domain.queue.metrics.QueueWriteBehindMetrics;
+import com.back.b2st.domain.queue.repository.QueueEntryBatchRepository;
+
+@ExtendWith(MockitoExtension.class)
+class QueueEntryWriteBehindTest {
+
+	@Mock
+	private QueueEntryBatchRepository queueEntryBatchRepository;
+
+	@Mock
+	private TransactionTemplate transactionTemplate;
+
+	@Mock
+	private QueueWriteBehindMetrics writeBehindMetrics;
+
+	@InjectMocks
+	private QueueEntryWriteBehind queueEntryWriteBehind;
+
+	private static final Long QUEUE_ID = 1L;
+	private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 1, 20, 0);
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(queueEntryWriteBehind, "capacity", 100);
+		ReflectionTestUtils.setField(queueEntryWriteBehind, "batchSize", 100);
+		ReflectionTestUtils.setField(queueEntryWriteBehind, "maxRetries", 2);
+		ReflectionTestUtils.setField(queueEntryWriteBehind, "retryBackoffMs", 0L);
+		ReflectionTestUtils.setField(queueEntryWriteBehind, "enqueueTimeoutMs", 0L);
+		queueEntryWriteBehind.initBuffer();
+
+		lenient().doAnswer(invocation -> {
+			Consumer<TransactionStatus> action = invocation.getArgument(0);
+			action.accept(null);
+			return null;
+		}).when(transactionTemplate).executeWithoutResult(any());
+	}
+
+	@Test
+	@DisplayName("flush(): 버퍼의 전이를 한 트랜잭션에서 유형별 batch로 기록")
+	void flush_writesByType() {
+		// given
+		QueueEntryTransition enterable = QueueEntryTransition.enterable(QUEUE_ID, 1L, NOW, NOW.plusMinutes(10));
+		QueueEntryTransition completed = QueueEntryTransition.completed(QUEUE_ID, 2L, NOW);
+		QueueEntryTransition expired = QueueEntryTransition.expired(QUEUE_ID, 3L, NOW);
+		queueEntryWriteBehind.enqueueAll(List.of(enterable, completed, expired));
+
+		// when
+		queueEntryWriteBehind.flush();
+
+		// then
+		verify(transactionTemplate, times(1)).executeWithoutResult(any());
+		verify(queueEntryBatchRepository).batchUpsertEnterable(List.of(enterable));
+		verify(queueEntryBatchRepository).batchUpsertCompleted(List.of(completed));
+		verify(queueEntryBatchRepository).batchExpireEnterable(List.of(expired));
+		verify(writeBehindMetrics).recordFlushed(3);
+	}
+
+	@Test
+	@DisplayName("flush(): 같은 사용자의 반복 전이는 발생 순서대로 라운드를 나눠 기록")
+	void flush_keepsPerUserOrder() {
+		// given: 1번 사용자 승격 → 완료 → 재진입 승격, 2번 사용자 승격
+		QueueEntryTransition firstEnterable = QueueEntryTransition.enterable(QUEUE_ID, 1L, NOW, NOW.plusMinutes(10));
+		QueueEntryTransition completed = QueueEntryTransition.completed(QUEUE_ID, 1L, NOW.plusMinutes(1));
+		QueueEntryTransition otherEnterable = QueueEntryTransition.enterable(QUEUE_ID, 2L, NOW, NOW.plusMinutes(10));
+		QueueEntryTransition reEnterable =
+			QueueEntryTransition.enterable(QUEUE_ID, 1L, NOW.plusMinutes(2), NOW.plusMinutes(12));
+		queueEntryWriteBehind.enqueueAll(List.of(firstEnterable, completed, otherEnterable, reEnterable));
+
+		// when
+		queueEntryWriteBehind.flush();
+
+		// then
+		InOrder inOrder = inOrder(queueEntryBatchRepository);
+		inOrder.verify(queueEntryBatchRepository).batchUpsertEnterable(List.of(firstEnterable, otherEnterable));
+		inOrder.verify(queueEntryBatchRepository).batchUpsertCompleted(List.of(completed));
+		inOrder.verify(queueEntryBatchRepository).batchUpsertEnterable(List.of(reEnterable));
+		verify(writeBehindMetrics).recordFlushed(4);
+	}
+
+	@Test
+	@DisplayName("flush(): 재시도 소진 배치는 보관 후 다음 flush에서 새 전이보다 먼저 기록")
+	void flush_requeuesExhaustedBatchBeforeNewTransitions() {
+		// given: 첫 두 flush(각 2회 시도) 실패 후 복구
+		QueueEntryTransition first = QueueEntryTransition.enterable(QUEUE_ID, 1L, NOW, NOW.plusMinutes(10));
+		QueueEntryTransition second = QueueEntryTransition.enterable(QUEUE_ID, 2L, NOW, NOW.plusMinutes(10));
+		RuntimeException dbDown = new IllegalStateException("db down");
+		doThrow(dbDown).doThrow(dbDown).doThrow(dbDown).doThrow(dbDown).doNothing()
+			.when(queueEntryBatchRepository).batchUpsertEnterable(anyList());
+
+		queueEntryWriteBehind.enqueue(first);
+		queueEntryWriteBehind.flush();
+		queueEntryWriteBehind.enqueue(second);
+
+		// when
+		queueEntryWriteBehind.flush();
+		queueEntryWriteBehind.flush();
+		queueEntryWriteBehind.flush();
+
+		// then: 보관 배치 [first]만 4회 실패 후 기록, second는 별도 배치
+		InOrder inOrder = inOrder(queueEntryBatchRepository);
+		inOrder.verify(queueEntryBatchRepository, times(5)).batchUpsertEnterable(List.of(first));
+		inOrder.verify(queueEntryBatchRepository).batchUpsertEnterable(List.of(second));
+		verify(queueEntryBatchRepository, never()).batchUpsertEnterable(List.of(first, second));
+
+		verify(writeBehindMetrics, times(1)).recordRequeued(1);
+		verify(writeBehindMetrics, times(2)).recordRetry();
+		verify(writeBehindMetrics, times(2)).recordFlushed(1);
+		verify(writeBehindMetrics, never()).recordDropped(anyInt());
+	}
+
+	@Test
+	@DisplayName("enqueue(): 버퍼가 가득 차면 대기 시간 후 전이를 폐기")
+	void enqueue_dropsWhenFull() {
+		// given
+		ReflectionTestUtils.setField(queueEntryWriteBehind, "capacity", 1);
+		queueEntryWriteBehind.initBuffer();
+		QueueEntryTransition buffered = QueueEntryTransition.completed(QUEUE_ID, 1L, NOW);
+		queueEntryWriteBehind.enqueue(buffered);
+
+		// when
+		queueEntryWriteBehind.enqueue(QueueEntryTransition.completed(QUEUE_ID, 2L, NOW));
+		queueEntryWriteBehind.flush();
+
+		// then
+		verify(writeBehindMetrics).recordDropped(1);
+		verify(queueEntryBatchRepository).batchUpsertCompleted(List.of(buffered));
+	}
+
+	@Test
+	@DisplayName("drainOnShutdown(): 남은 전이를 batch-size 단위로 모두 기록")
+	void drainOnShutdown_flushesAll() {
+		// given
+		ReflectionTestUtils.setField(queueEntryWriteBehind, "batchSize", 2);
+		for (long userId = 1; userId <= 5; userId++) {
+			queueEntryWriteBehind.enqueue(QueueEntryTransition.completed(QUEUE_ID, userId, NOW));
+		}
+
+		// when
+		queueEntryWriteBehind.drainOnShutdown();
+
+		// then
+		verify(writeBehindMetrics, times(2)).recordFlushed(2);
+		verify(writeBehindMetrics).recordFlushed(1);
+		verify(writeBehindMetrics, never()).recordDropped(anyInt());
+	}
+
+	@Test
+	@DisplayName("drainOnShutdown(): 기록 실패 시 보관 배치와 버퍼의 남은 전이를 폐기")
+	void drainOnShutdown_dropsOnFailure() {
+		// given
+		ReflectionTestUtils.setField(queueEntryWriteBehind, "batchSize", 2);
+		doThrow(new IllegalStateException("db down"))
+			.when(queueEntryBatchRepository).batchUpsertCompleted(anyList());
+		for (long userId = 1; userId <= 3; userId++) {
+			queueEntryWriteBehind.enqueue(QueueEntryTransition.completed(QUEUE_ID, userId, NOW));
+		}
+
+		// when
+		queueEntryWriteBehind.drainOnShutdown();
+
+		// then
+		verify(writeBehindMetrics).recordRequeued(2);
+		verify(writeBehindMetrics).recordDropped(3);
+	}
+}
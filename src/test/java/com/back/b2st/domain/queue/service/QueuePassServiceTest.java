@@ -0,0 +1,189 @@
+package com.back.b2st.domain.queue.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.listener.MessageListener;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.back.b2st.domain.queue.metrics.QueuePassMetrics;
+import com.back.b2st.domain.queue.repository.QueueRedisRepository;
+import com.back.b2st.global.jwt.JwtTokenProvider;
+
+@ExtendWith(MockitoExtension.class)
+class QueuePassServiceTest {
+
+	private static final String SECRET = "testSecretKeyForUnitTestingMustBeLongEnoughToSatisfyHS256BitRequirement";
+
+	@Mock
+	private QueueRedisRepository queueRedisRepository;
+
+	@Mock
+	private RedissonClient redissonClient;
+
+	@Mock
+	private QueuePassMetrics queuePassMetrics;
+
+	@Mock
+	private RTopic topic;
+
+	private JwtTokenProvider jwtTokenProvider;
+	private QueuePassService queuePassService;
+	private MessageListener<String> listener;
+
+	private static final Long USER_ID = 1L;
+	private static final Long PERFORMANCE_ID = 99L;
+	private static final String MEMBER = PERFORMANCE_ID + ":" + USER_ID;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		jwtTokenProvider = new JwtTokenProvider(SECRET, 60_000L, 60_000L);
+		queuePassService = new QueuePassService(jwtTokenProvider, queueRedisRepository, redissonClient,
+			queuePassMetrics);
+		ReflectionTestUtils.setField(queuePassService, "appName", "b2st");
+		ReflectionTestUtils.setField(queuePassService, "profile", "test");
+		ReflectionTestUtils.setField(queuePassService, "ttlSeconds", 300L);
+
+		when(redissonClient.getTopic(eq("b2st:test:queue:pass-revoke"), any())).thenReturn(topic);
+		ArgumentCaptor<MessageListener<String>> captor = ArgumentCaptor.forClass(MessageListener.class);
+		when(topic.addListener(eq(String.class), captor.capture())).thenReturn(1);
+		queuePassService.init();
+		listener = captor.getValue();
+	}
+
+	@Test
+	@DisplayName("verify(): 발급한 입장권은 같은 사용자/공연에서만 통과")
+	void verify_matchesUserAndPerformance() {
+		// given
+		String pass = queuePassService.issue(USER_ID, PERFORMANCE_ID, 600L);
+
+		// when & then
+		assertThat(queuePassService.verify(pass, USER_ID, PERFORMANCE_ID)).isTrue();
+		assertThat(queuePassService.verify(pass, USER_ID + 1, PERFORMANCE_ID)).isFalse();
+		assertThat(queuePassService.verify(pass, USER_ID, PERFORMANCE_ID + 1)).isFalse();
+		verify(queuePassMetrics).recordIssued();
+	}
+
+	@Test
+	@DisplayName("issue(): 만료는 ENTERABLE 남은 시간과 ttl-seconds 중 짧은 쪽")
+	void issue_expiryCappedByTtl() {
+		// given
+		long now = System.currentTimeMillis();
+
+		// when
+		String capped = queuePassService.issue(USER_ID, PERFORMANCE_ID, 3_600L);
+		String shorter = queuePassService.issue(USER_ID, PERFORMANCE_ID, 60L);
+
+		// then
+		assertThat(expiresAtMillis(capped)).isBetween(now + 299_000L, now + 301_000L);
+		assertThat(expiresAtMillis(shorter)).isBetween(now + 59_000L, now + 61_000L);
+	}
+
+	@Test
+	@DisplayName("verify(): 만료된 입장권은 거부")
+	void verify_expired() {
+		// given
+		long now = System.currentTimeMillis();
+		String expired = jwtTokenProvider.generateScopedToken(
+			"queue-pass",
+			Map.of("uid", USER_ID, "pid", PERFORMANCE_ID, "iatMs", now - 600_000L),
+			now - 300_000L
+		);
+
+		// when & then
+		assertThat(queuePassService.verify(expired, USER_ID, PERFORMANCE_ID)).isFalse();
+	}
+
+	@Test
+	@DisplayName("verify(): 다른 용도의 서명 토큰은 거부")
+	void verify_otherScope() {
+		// given
+		long now = System.currentTimeMillis();
+		String otherScope = jwtTokenProvider.generateScopedToken(
+			"other",
+			Map.of("uid", USER_ID, "pid", PERFORMANCE_ID, "iatMs", now),
+			now + 60_000L
+		);
+
+		// when & then
+		assertThat(queuePassService.verify(otherScope, USER_ID, PERFORMANCE_ID)).isFalse();
+	}
+
+	@Test
+	@DisplayName("revoke(): 폐기 이전 발급분은 거부, Redis 기록 + 타 노드 전파")
+	void revoke_rejectsEarlierPass() {
+		// given
+		String pass = queuePassService.issue(USER_ID, PERFORMANCE_ID, 600L);
+
+		// when
+		queuePassService.revoke(USER_ID, PERFORMANCE_ID);
+
+		// then
+		assertThat(queuePassService.verify(pass, USER_ID, PERFORMANCE_ID)).isFalse();
+		verify(queueRedisRepository).addPassRevocation(eq(MEMBER), anyLong());
+		verify(topic).publish(startsWith(MEMBER + "@"));
+	}
+
+	@Test
+	@DisplayName("revoke(): 전파 실패해도 로컬 폐기는 유지")
+	void revoke_publishFailure() {
+		// given
+		String pass = queuePassService.issue(USER_ID, PERFORMANCE_ID, 600L);
+		when(topic.publish(anyString())).thenThrow(new IllegalStateException("redis down"));
+
+		// when & then
+		assertThatNoException().isThrownBy(() -> queuePassService.revoke(USER_ID, PERFORMANCE_ID));
+		assertThat(queuePassService.verify(pass, USER_ID, PERFORMANCE_ID)).isFalse();
+	}
+
+	@Test
+	@DisplayName("타 노드 폐기 메시지는 폐기 시각 이전 발급분에만 적용 (재입장 후 입장권 유효)")
+	void remoteRevocation_appliesOnlyToEarlierPasses() {
+		// given
+		String pass = queuePassService.issue(USER_ID, PERFORMANCE_ID, 600L);
+		long now = System.currentTimeMillis();
+
+		// when & then: 발급 전 폐기 → 유효
+		listener.onMessage("channel", MEMBER + "@" + (now - 60_000L));
+		assertThat(queuePassService.verify(pass, USER_ID, PERFORMANCE_ID)).isTrue();
+
+		// when & then: 발급 후 폐기 → 거부
+		listener.onMessage("channel", MEMBER + "@" + (now + 60_000L));
+		assertThat(queuePassService.verify(pass, USER_ID, PERFORMANCE_ID)).isFalse();
+	}
+
+	@Test
+	@DisplayName("init(): 재기동 시 입장권 수명 내 폐기 기록을 Redis에서 복구")
+	void init_restoresRevocations() {
+		// given
+		long revokedAt = System.currentTimeMillis() + 60_000L;
+		when(queueRedisRepository.getPassRevocationsSince(anyLong()))
+			.thenReturn(Set.of(new DefaultTypedTuple<>(MEMBER, (double) revokedAt)));
+		String pass = queuePassService.issue(USER_ID, PERFORMANCE_ID, 600L);
+
+		// when
+		queuePassService.init();
+
+		// then
+		assertThat(queuePassService.verify(pass, USER_ID, PERFORMANCE_ID)).isFalse();
+	}
+
+	private long expiresAtMillis(String pass) {
+		return jwtTokenProvider.parseScopedToken(pass, "queue-pass").getExpiration().getTime();
+	}
+}
@@ -0,0 +1,175 @@
+package com.back.b2st.domain.queue.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.listener.MessageListener;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.back.b2st.domain.queue.dto.event.QueuePolicyChangedEvent;
+import com.back.b2st.domain.queue.entity.Queue;
+import com.back.b2st.domain.queue.metrics.QueueMetrics;
+import com.back.b2st.domain.queue.repository.QueueRepository;
+
+@ExtendWith(MockitoExtension.class)
+class QueuePolicyCacheTest {
+
+	@Mock
+	private QueueRepository queueRepository;
+
+	@Mock
+	private RedissonClient redissonClient;
+
+	@Mock
+	private QueueMetrics queueMetrics;
+
+	@Mock
+	private RTopic topic;
+
+	@InjectMocks
+	private QueuePolicyCache queuePolicyCache;
+
+	private static final Long QUEUE_ID = 1L;
+	private static final Long PERFORMANCE_ID = 99L;
+
+	private Queue queue;
+	private MessageListener<String> listener;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		ReflectionTestUtils.setField(queuePolicyCache, "appName", "b2st");
+		ReflectionTestUtils.setField(queuePolicyCache, "profile", "test");
+		ReflectionTestUtils.setField(queuePolicyCache, "ttlSeconds", 60L);
+
+		when(redissonClient.getTopic(eq("b2st:test:queue:policy-invalidate"), any())).thenReturn(topic);
+		ArgumentCaptor<MessageListener<String>> captor = ArgumentCaptor.forClass(MessageListener.class);
+		when(topic.addListener(eq(String.class), captor.capture())).thenReturn(1);
+		queuePolicyCache.subscribeTopic();
+		listener = captor.getValue();
+
+		queue = mock(Queue.class);
+		lenient().when(queue.getId()).thenReturn(QUEUE_ID);
+		lenient().when(queue.getPerformanceId()).thenReturn(PERFORMANCE_ID);
+	}
+
+	@Test
+	@DisplayName("findById(): TTL 안에서는 DB를 다시 조회하지 않음")
+	void findById_cached() {
+		// given
+		when(queueRepository.findById(QUEUE_ID)).thenReturn(Optional.of(queue));
+
+		// when
+		Optional<Queue> first = queuePolicyCache.findById(QUEUE_ID);
+		Optional<Queue> second = queuePolicyCache.findById(QUEUE_ID);
+
+		// then
+		assertThat(first).containsSame(queue);
+		assertThat(second).containsSame(queue);
+		verify(queueRepository, times(1)).findById(QUEUE_ID);
+		verify(queueMetrics).recordPolicyCacheMiss();
+		verify(queueMetrics).recordPolicyCacheHit();
+	}
+
+	@Test
+	@DisplayName("findByPerformanceId(): queueId로 적재된 항목을 performanceId로도 조회")
+	void findByPerformanceId_sharesEntry() {
+		// given
+		when(queueRepository.findById(QUEUE_ID)).thenReturn(Optional.of(queue));
+		queuePolicyCache.findById(QUEUE_ID);
+
+		// when
+		Optional<Queue> found = queuePolicyCache.findByPerformanceId(PERFORMANCE_ID);
+
+		// then
+		assertThat(found).containsSame(queue);
+		verify(queueRepository, never()).findByPerformanceId(anyLong());
+	}
+
+	@Test
+	@DisplayName("findByPerformanceId(): 대기열 없는 공연은 부재 결과를 캐시")
+	void findByPerformanceId_cachesMissing() {
+		// given
+		when(queueRepository.findByPerformanceId(PERFORMANCE_ID)).thenReturn(Optional.empty());
+
+		// when
+		Optional<Queue> first = queuePolicyCache.findByPerformanceId(PERFORMANCE_ID);
+		Optional<Queue> second = queuePolicyCache.findByPerformanceId(PERFORMANCE_ID);
+
+		// then
+		assertThat(first).isEmpty();
+		assertThat(second).isEmpty();
+		verify(queueRepository, times(1)).findByPerformanceId(PERFORMANCE_ID);
+	}
+
+	@Test
+	@DisplayName("onPolicyChanged(): 로컬 항목(부재 결과 포함)을 무효화하고 타 노드로 전파")
+	void onPolicyChanged_evictsAndPublishes() {
+		// given: 대기열 없던 공연에 대기열 생성
+		when(queueRepository.findByPerformanceId(PERFORMANCE_ID))
+			.thenReturn(Optional.empty())
+			.thenReturn(Optional.of(queue));
+		queuePolicyCache.findByPerformanceId(PERFORMANCE_ID);
+		QueuePolicyChangedEvent event = QueuePolicyChangedEvent.of(QUEUE_ID, PERFORMANCE_ID);
+
+		// when
+		queuePolicyCache.onPolicyChanged(event);
+		Optional<Queue> found = queuePolicyCache.findByPerformanceId(PERFORMANCE_ID);
+
+		// then
+		assertThat(found).containsSame(queue);
+		verify(topic).publish(event.toMessage());
+	}
+
+	@Test
+	@DisplayName("onPolicyChanged(): 전파 실패해도 로컬 무효화는 유지")
+	void onPolicyChanged_publishFailure() {
+		// given
+		when(queueRepository.findById(QUEUE_ID)).thenReturn(Optional.of(queue));
+		queuePolicyCache.findById(QUEUE_ID);
+		when(topic.publish(anyString())).thenThrow(new IllegalStateException("redis down"));
+
+		// when
+		assertThatNoException().isThrownBy(() ->
+			queuePolicyCache.onPolicyChanged(QueuePolicyChangedEvent.of(QUEUE_ID, PERFORMANCE_ID)));
+		queuePolicyCache.findById(QUEUE_ID);
+
+		// then
+		verify(queueRepository, times(2)).findById(QUEUE_ID);
+	}
+
+	@Test
+	@DisplayName("타 노드 무효화 메시지 수신 시 로컬 항목 제거")
+	void remoteInvalidation_evicts() {
+		// given
+		when(queueRepository.findById(QUEUE_ID)).thenReturn(Optional.of(queue));
+		queuePolicyCache.findById(QUEUE_ID);
+
+		// when
+		listener.onMessage("channel", QueuePolicyChangedEvent.of(QUEUE_ID, PERFORMANCE_ID).toMessage());
+		queuePolicyCache.findById(QUEUE_ID);
+
+		// then
+		verify(queueRepository, times(2)).findById(QUEUE_ID);
+		verify(topic, never()).publish(any());
+	}
+
+	@Test
+	@DisplayName("잘못된 무효화 메시지는 무시")
+	void remoteInvalidation_malformedIgnored() {
+		assertThatNoException().isThrownBy(() -> listener.onMessage("channel", "not-a-message"));
+	}
+}
@@ -0,0 +1,110 @@
+package com.back.b2st.domain.queue.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.back.b2st.domain.queue.repository.QueueRedisRepository;
+
+@ExtendWith(MockitoExtension.class)
+class QueueWaitEstimatorTest {
+
+	@Mock
+	private QueueRedisRepository queueRedisRepository;
+
+	@InjectMocks
+	private QueueWaitEstimator queueWaitEstimator;
+
+	private static final Long QUEUE_ID = 1L;
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(queueWaitEstimator, "cacheMs", 60_000L);
+		ReflectionTestUtils.setField(queueWaitEstimator, "pollRatio", 0.1);
+		ReflectionTestUtils.setField(queueWaitEstimator, "minPollSeconds", 2);
+		ReflectionTestUtils.setField(queueWaitEstimator, "maxPollSeconds", 30);
+	}
+
+	@Test
+	@DisplayName("estimate(): 앞 대기 인원과 처리량으로 예상 대기시간/폴링 주기 계산")
+	void estimate_fromThroughput() {
+		// given: 초당 10명
+		when(queueRedisRepository.getAdmissionThroughputPerSecond(QUEUE_ID)).thenReturn(10.0);
+
+		// when
+		QueueWaitEstimator.Estimate estimate = queueWaitEstimator.estimate(QUEUE_ID, 999L);
+
+		// then: (999 + 1) / 10 = 100초, 폴링 100 × 0.1 = 10초
+		assertThat(estimate.waitSeconds()).isEqualTo(100L);
+		assertThat(estimate.nextPollSeconds()).isEqualTo(10);
+	}
+
+	@Test
+	@DisplayName("estimate(): 폴링 주기는 min/max 범위로 제한")
+	void estimate_pollClamped() {
+		// given
+		when(queueRedisRepository.getAdmissionThroughputPerSecond(QUEUE_ID)).thenReturn(10.0);
+
+		// when
+		QueueWaitEstimator.Estimate front = queueWaitEstimator.estimate(QUEUE_ID, 0L);
+		QueueWaitEstimator.Estimate back = queueWaitEstimator.estimate(QUEUE_ID, 99_999L);
+
+		// then
+		assertThat(front.nextPollSeconds()).isEqualTo(2);
+		assertThat(back.waitSeconds()).isEqualTo(10_000L);
+		assertThat(back.nextPollSeconds()).isEqualTo(30);
+	}
+
+	@Test
+	@DisplayName("estimate(): 관측된 처리량이 없으면 예상 불가, 최소 주기로 재확인")
+	void estimate_noThroughput() {
+		// given
+		when(queueRedisRepository.getAdmissionThroughputPerSecond(QUEUE_ID)).thenReturn(0.0);
+
+		// when
+		QueueWaitEstimator.Estimate estimate = queueWaitEstimator.estimate(QUEUE_ID, 10L);
+
+		// then
+		assertThat(estimate.waitSeconds()).isNull();
+		assertThat(estimate.nextPollSeconds()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("estimate(): cache-ms 동안 처리량을 로컬 재사용")
+	void estimate_cachesThroughput() {
+		// given
+		when(queueRedisRepository.getAdmissionThroughputPerSecond(QUEUE_ID)).thenReturn(10.0);
+
+		// when
+		queueWaitEstimator.estimate(QUEUE_ID, 10L);
+		queueWaitEstimator.estimate(QUEUE_ID, 20L);
+
+		// then
+		verify(queueRedisRepository, times(1)).getAdmissionThroughputPerSecond(QUEUE_ID);
+	}
+
+	@Test
+	@DisplayName("estimate(): 처리량 조회 실패 시 직전 값 유지")
+	void estimate_keepsPreviousOnFailure() {
+		// given: 캐시 즉시 만료
+		ReflectionTestUtils.setField(queueWaitEstimator, "cacheMs", 0L);
+		when(queueRedisRepository.getAdmissionThroughputPerSecond(QUEUE_ID))
+			.thenReturn(10.0)
+			.thenThrow(new IllegalStateException("redis down"));
+
+		// when
+		queueWaitEstimator.estimate(QUEUE_ID, 99L);
+		QueueWaitEstimator.Estimate estimate = queueWaitEstimator.estimate(QUEUE_ID, 99L);
+
+		// then
+		assertThat(estimate.waitSeconds()).isEqualTo(10L);
+	}
+}
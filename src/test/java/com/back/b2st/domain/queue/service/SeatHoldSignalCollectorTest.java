@@ -0,0 +1,69 @@
+package com.back.b2st.domain.queue.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.back.b2st.domain.queue.dto.SeatHoldSignal;
+import com.back.b2st.domain.queue.repository.QueueRedisRepository;
+
+@ExtendWith(MockitoExtension.class)
+class SeatHoldSignalCollectorTest {
+
+	@Mock
+	private QueueRedisRepository queueRedisRepository;
+
+	@InjectMocks
+	private SeatHoldSignalCollector seatHoldSignalCollector;
+
+	private static final Long PERFORMANCE_ID = 99L;
+
+	@Test
+	@DisplayName("flush(): 공연별 로컬 집계를 증가분 하나로 가산하고 구간을 비움")
+	void flush_addsDeltaAndResets() {
+		// given
+		seatHoldSignalCollector.record(PERFORMANCE_ID, 100L, false);
+		seatHoldSignalCollector.record(PERFORMANCE_ID, 300L, true);
+		seatHoldSignalCollector.record(PERFORMANCE_ID, 200L, false);
+
+		// when
+		seatHoldSignalCollector.flush();
+		seatHoldSignalCollector.flush();
+
+		// then: 두 번째 flush는 증가분이 없어 가산하지 않음
+		verify(queueRedisRepository, times(1)).addSeatHoldSignal(PERFORMANCE_ID, new SeatHoldSignal(3L, 1L, 600L));
+	}
+
+	@Test
+	@DisplayName("flush(): Redis 가산 실패는 다른 공연 가산을 막지 않음")
+	void flush_failureIsolatedPerPerformance() {
+		// given
+		Long otherPerformanceId = PERFORMANCE_ID + 1;
+		seatHoldSignalCollector.record(PERFORMANCE_ID, 100L, false);
+		seatHoldSignalCollector.record(otherPerformanceId, 100L, false);
+		doThrow(new IllegalStateException("redis down"))
+			.when(queueRedisRepository).addSeatHoldSignal(eq(PERFORMANCE_ID), any());
+
+		// when & then
+		assertThatNoException().isThrownBy(() -> seatHoldSignalCollector.flush());
+		verify(queueRedisRepository).addSeatHoldSignal(otherPerformanceId, new SeatHoldSignal(1L, 0L, 100L));
+	}
+
+	@Test
+	@DisplayName("record(): performanceId가 없으면 집계하지 않음")
+	void record_nullPerformanceIgnored() {
+		// when
+		seatHoldSignalCollector.record(null, 100L, true);
+		seatHoldSignalCollector.flush();
+
+		// then
+		verifyNoInteractions(queueRedisRepository);
+	}
+}
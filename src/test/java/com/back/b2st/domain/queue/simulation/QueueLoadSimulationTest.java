@@ -0,0 +1,380 @@
+package com.back.b2st.domain.queue.simulation;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import com.back.b2st.domain.performance.entity.Performance;
+import com.back.b2st.domain.performance.repository.PerformanceRepository;
+import com.back.b2st.domain.performanceschedule.entity.BookingType;
+import com.back.b2st.domain.performanceschedule.entity.PerformanceSchedule;
+import com.back.b2st.domain.performanceschedule.repository.PerformanceScheduleRepository;
+import com.back.b2st.domain.queue.dto.request.CreateQueueReq;
+import com.back.b2st.domain.queue.dto.response.QueuePositionRes;
+import com.back.b2st.domain.queue.dto.response.StartBookingRes;
+import com.back.b2st.domain.queue.service.QueueManagementService;
+import com.back.b2st.domain.queue.service.QueueSchedulerService;
+import com.back.b2st.domain.queue.service.QueueService;
+import com.back.b2st.domain.scheduleseat.entity.ScheduleSeat;
+import com.back.b2st.domain.scheduleseat.repository.ScheduleSeatRepository;
+import com.back.b2st.domain.scheduleseat.service.ScheduleSeatStateService;
+import com.back.b2st.domain.venue.venue.entity.Venue;
+import com.back.b2st.domain.venue.venue.repository.VenueRepository;
+import com.back.b2st.global.error.exception.BusinessException;
+import com.back.b2st.support.TestFixture;
+
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * 티켓 오픈 부하 시뮬레이션 (수동 실행 전용)
+ *
+ * ./gradlew queueSimulation -Dqueue.simulation.users=500000
+ *
+ * - 사용자당 가상 스레드 1개: startBooking → getMyPosition 폴링 → holdSeat → completeEntry
+ * - 승격 루프: QueueSchedulerService.processNextEntries를 admission-tick-ms 주기로 호출 (QueueEntryScheduler 대체)
+ * - Redis: Testcontainers (또는 -Dqueue.simulation.redis-host/port 지정 시 전용 로컬 Redis, 시작 시 FLUSHDB)
+ * - DB: PostgreSQL Testcontainers (운영과 같은 ON CONFLICT/gen_random_uuid 경로), 쿼리 수는 pg_stat_statements 기준
+ *
+ * 결과는 queue.simulation.summary-path에 JSON으로 기록 (릴리스 간 비교용)
+ */
+@Tag("simulation")
+@EnabledIfSystemProperty(named = "queue.simulation.enabled", matches = "true")
+@SpringBootTest(properties = {
+	"queue.enabled=true",
+	"logging.level.com.back.b2st=info",
+	"logging.level.org.hibernate.SQL=warn",
+	"logging.level.org.hibernate.orm.jdbc.bind=warn",
+	"spring.jpa.properties.hibernate.format_sql=false",
+	"spring.datasource.hikari.maximum-pool-size=${queue.simulation.db-pool-size:20}"
+})
+@ActiveProfiles("test")
+class QueueLoadSimulationTest {
+
+	private static final Logger log = LoggerFactory.getLogger(QueueLoadSimulationTest.class);
+
+	private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>(
+		DockerImageName.parse("postgres:16-alpine"))
+		.withCommand("postgres", "-c", "shared_preload_libraries=pg_stat_statements");
+
+	private static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+		.withExposedPorts(6379);
+
+	@DynamicPropertySource
+	static void postgresProps(DynamicPropertyRegistry registry) {
+		POSTGRES.start();
+		registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+		registry.add("spring.datasource.username", POSTGRES::getUsername);
+		registry.add("spring.datasource.password", POSTGRES::getPassword);
+		registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+		registry.add("spring.jpa.properties.hibernate.dialect", () -> "org.hibernate.dialect.PostgreSQLDialect");
+	}
+
+	@DynamicPropertySource
+	static void redisProps(DynamicPropertyRegistry registry) {
+		String host = System.getProperty("queue.simulation.redis-host");
+		if (host != null) {
+			registry.add("spring.data.redis.host", () -> host);
+			registry.add("spring.data.redis.port", () -> System.getProperty("queue.simulation.redis-port", "6379"));
+			return;
+		}
+
+		REDIS.start();
+		registry.add("spring.data.redis.host", REDIS::getHost);
+		registry.add("spring.data.redis.port", () -> String.valueOf(REDIS.getFirstMappedPort()));
+	}
+
+	@Autowired
+	private QueueService queueService;
+
+	@Autowired
+	private QueueSchedulerService queueSchedulerService;
+
+	@Autowired
+	private QueueManagementService queueManagementService;
+
+	@Autowired
+	private ScheduleSeatStateService scheduleSeatStateService;
+
+	@Autowired
+	private VenueRepository venueRepository;
+
+	@Autowired
+	private PerformanceRepository performanceRepository;
+
+	@Autowired
+	private PerformanceScheduleRepository performanceScheduleRepository;
+
+	@Autowired
+	private ScheduleSeatRepository scheduleSeatRepository;
+
+	@Autowired
+	private StringRedisTemplate stringRedisTemplate;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Test
+	@DisplayName("티켓 오픈 시뮬레이션 - 처리량/지연/사용자당 Redis·DB 호출 수 요약")
+	void ticketOpen() throws Exception {
+		QueueSimulationConfig config = QueueSimulationConfig.fromSystemProperties();
+		QueueSimulationRecorder recorder = new QueueSimulationRecorder();
+
+		// given: 공연/회차/좌석 + 대기열 정책
+		stringRedisTemplate.execute((RedisCallback<Object>)connection -> {
+			connection.serverCommands().flushDb();
+			return null;
+		});
+
+		Venue venue = TestFixture.createVenue("시뮬레이션 공연장", venueRepository);
+		Performance performance = TestFixture.createPerformance(venue, performanceRepository);
+		PerformanceSchedule schedule = TestFixture.createSchedules(
+			performance, 1, BookingType.FIRST_COME, performanceScheduleRepository).getFirst();
+		Long scheduleId = schedule.getPerformanceScheduleId();
+
+		scheduleSeatRepository.saveAll(LongStream.rangeClosed(1, config.seats())
+			.mapToObj(seatId -> ScheduleSeat.builder().scheduleId(scheduleId).seatId(seatId).build())
+			.toList());
+
+		Long queueId = queueManagementService.createQueue(new CreateQueueReq(
+			performance.getPerformanceId(),
+			"BOOKING_ORDER",
+			config.maxActiveUsers(),
+			config.entryTtlMinutes(),
+			config.waitingShardCount()
+		)).queueId();
+
+		resetResourceCounters();
+		long startedAt = System.nanoTime();
+
+		// when: 승격 루프 + 가상 사용자
+		ScheduledExecutorService admissionLoop = Executors.newSingleThreadScheduledExecutor();
+		admissionLoop.scheduleWithFixedDelay(() -> {
+			try {
+				recorder.time(QueueSimulationRecorder.ADMISSION_TICK,
+					() -> queueSchedulerService.processNextEntries(queueId, config.admissionBatchSize()));
+			} catch (RuntimeException ignored) {
+				// 오류 수는 recorder에 집계, 다음 틱 계속
+			}
+		}, 0, config.admissionTickMs(), TimeUnit.MILLISECONDS);
+
+		try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (int i = 0; i < config.users(); i++) {
+				long userId = i + 1;
+				long arrivalDelayMs = TimeUnit.SECONDS.toMillis(config.rampUpSeconds()) * i / config.users();
+				users.submit(() -> runUser(config, recorder, scheduleId, userId, arrivalDelayMs));
+			}
+		} finally {
+			admissionLoop.shutdownNow();
+		}
+
+		long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+		// then: 요약 기록
+		Map<String, Object> summary = buildSummary(config, recorder, elapsedMillis);
+		Path path = Path.of(config.summaryPath());
+		if (path.getParent() != null) {
+			Files.createDirectories(path.getParent());
+		}
+		Files.writeString(path, objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(summary));
+		log.info("대기열 시뮬레이션 요약 기록: {}", path.toAbsolutePath());
+
+		long finished = recorder.outcomeSummary().values().stream().mapToLong(Long::longValue).sum();
+		assertThat(finished).isEqualTo(config.users());
+	}
+
+	/**
+	 * 가상 사용자 1명의 예매 흐름
+	 */
+	private void runUser(
+		QueueSimulationConfig config,
+		QueueSimulationRecorder recorder,
+		Long scheduleId,
+		Long userId,
+		long arrivalDelayMs
+	) {
+		try {
+			Thread.sleep(arrivalDelayMs);
+
+			long enteredAt = System.nanoTime();
+			long deadline = enteredAt + TimeUnit.SECONDS.toNanos(config.timeoutSeconds());
+
+			StartBookingRes started = recorder.time(QueueSimulationRecorder.START_BOOKING,
+				() -> queueService.startBooking(scheduleId, userId));
+			Long queueId = started.queueId();
+			String status = started.entry().status();
+			String queuePass = started.entry().queuePass();
+			Integer nextPollSeconds = null;
+
+			while ("WAITING".equals(status)) {
+				if (System.nanoTime() > deadline) {
+					recorder.outcome("timeout");
+					return;
+				}
+				Thread.sleep(pollDelayMillis(config, nextPollSeconds));
+
+				QueuePositionRes position = recorder.time(QueueSimulationRecorder.GET_MY_POSITION,
+					() -> queueService.getMyPosition(queueId, userId));
+				status = position.status();
+				queuePass = position.queuePass();
+				nextPollSeconds = position.nextPollSeconds();
+			}
+
+			if (!"ENTERABLE".equals(status)) {
+				recorder.outcome(status.toLowerCase());
+				return;
+			}
+			recorder.admitted(enteredAt);
+
+			if (config.holdEnabled()) {
+				recorder.outcome(holdRandomSeat(config, recorder, scheduleId, userId, queuePass));
+			} else {
+				recorder.outcome("enterable");
+			}
+
+			recorder.time(QueueSimulationRecorder.COMPLETE_ENTRY, () -> queueService.completeEntry(queueId, userId));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			recorder.outcome("interrupted");
+		} catch (Exception e) {
+			recorder.outcome("failed");
+		}
+	}
+
+	private String holdRandomSeat(
+		QueueSimulationConfig config,
+		QueueSimulationRecorder recorder,
+		Long scheduleId,
+		Long userId,
+		String queuePass
+	) {
+		long seatId = ThreadLocalRandom.current().nextLong(1, config.seats() + 1L);
+		try {
+			recorder.time(QueueSimulationRecorder.HOLD_SEAT,
+				() -> scheduleSeatStateService.holdSeat(userId, scheduleId, seatId, queuePass));
+			return "held";
+		} catch (BusinessException e) {
+			// 이미 선점된 좌석/락 경합은 정상적인 오픈 상황
+			return "hold_rejected";
+		}
+	}
+
+	/**
+	 * 서버 권장 주기를 따르되 설정 범위로 제한
+	 */
+	private long pollDelayMillis(QueueSimulationConfig config, Integer nextPollSeconds) {
+		long suggested = nextPollSeconds != null ? TimeUnit.SECONDS.toMillis(nextPollSeconds) : 0L;
+		return Math.min(config.maxPollIntervalMs(), Math.max(config.pollIntervalMs(), suggested));
+	}
+
+	/* ==================== Redis/DB 호출 수 ==================== */
+
+	private void resetResourceCounters() {
+		stringRedisTemplate.execute((RedisCallback<Object>)connection -> {
+			connection.serverCommands().resetConfigStats();
+			return null;
+		});
+
+		// PostgreSQL: 시드 데이터 적재 쿼리 제외
+		jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pg_stat_statements");
+		jdbcTemplate.execute("SELECT pg_stat_statements_reset()");
+	}
+
+	/**
+	 * INFO commandstats → 명령별 호출 수 (cmdstat_zadd: calls=123,usec=...)
+	 */
+	private Map<String, Long> redisCommandCalls() {
+		Properties info = stringRedisTemplate.execute(
+			(RedisCallback<Properties>)connection -> connection.serverCommands().info("commandstats"));
+
+		Map<String, Long> calls = new LinkedHashMap<>();
+		if (info == null) return calls;
+
+		for (String name : info.stringPropertyNames()) {
+			if (!name.startsWith("cmdstat_")) continue;
+			String value = info.getProperty(name);
+			int start = value.indexOf("calls=") + "calls=".length();
+			int end = value.indexOf(',', start);
+			calls.put(name.substring("cmdstat_".length()), Long.parseLong(value.substring(start, end)));
+		}
+		return calls;
+	}
+
+	private long dbQueryCount() {
+		// 집계용 pg_stat_statements 조회 제외
+		Long count = jdbcTemplate.queryForObject(
+			"SELECT COALESCE(SUM(calls), 0) FROM pg_stat_statements WHERE query NOT LIKE '%pg_stat_statements%'",
+			Long.class);
+		return count != null ? count : 0L;
+	}
+
+	private Map<String, Object> buildSummary(
+		QueueSimulationConfig config,
+		QueueSimulationRecorder recorder,
+		long elapsedMillis
+	) {
+		Map<String, Long> redisCalls = redisCommandCalls();
+		redisCalls.remove("info"); // 집계용 INFO 제외
+		long redisTotal = redisCalls.values().stream().mapToLong(Long::longValue).sum();
+		long dbTotal = dbQueryCount();
+
+		Map<String, Long> topRedisCommands = new LinkedHashMap<>();
+		List<Map.Entry<String, Long>> sortedCalls = redisCalls.entrySet().stream()
+			.sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+			.limit(10)
+			.toList();
+		sortedCalls.forEach(entry -> topRedisCommands.put(entry.getKey(), entry.getValue()));
+
+		Map<String, Object> redis = new LinkedHashMap<>();
+		redis.put("commands", redisTotal);
+		redis.put("opsPerUser", QueueSimulationRecorder.round((double)redisTotal / config.users()));
+		redis.put("topCommands", topRedisCommands);
+
+		Map<String, Object> db = new LinkedHashMap<>();
+		db.put("queries", dbTotal);
+		db.put("queriesPerUser", QueueSimulationRecorder.round((double)dbTotal / config.users()));
+
+		Map<String, Object> summary = new LinkedHashMap<>();
+		summary.put("finishedAt", Instant.now().toString());
+		summary.put("elapsedSeconds", QueueSimulationRecorder.round(elapsedMillis / 1000.0));
+		summary.put("config", config);
+		summary.put("outcomes", recorder.outcomeSummary());
+		summary.put("admission", recorder.admissionSummary());
+		summary.put("endpoints", recorder.endpointSummary());
+		summary.put("redis", redis);
+		summary.put("db", db);
+		return summary;
+	}
+}
@@ -0,0 +1,65 @@
+package com.back.b2st.domain.queue.simulation;
+
+/**
+ * 티켓 오픈 시뮬레이션 설정 (-Dqueue.simulation.* 시스템 프로퍼티)
+ *
+ * ./gradlew queueSimulation -Dqueue.simulation.users=500000 -Dqueue.simulation.ramp-up-seconds=10
+ *
+ * @param users 가상 사용자 수 (사용자당 가상 스레드 1개)
+ * @param rampUpSeconds 전체 사용자가 startBooking을 호출하기까지의 구간 (0이면 동시 출발)
+ * @param pollIntervalMs 위치 조회 최소 주기 (서버 권장 nextPollSeconds가 더 길면 그 값을 따름)
+ * @param maxPollIntervalMs 위치 조회 최대 주기
+ * @param admissionTickMs 승격 루프 주기 (QueueEntryScheduler 대체)
+ * @param admissionBatchSize 틱당 승격 인원
+ * @param maxActiveUsers 대기열 동시 입장 상한
+ * @param entryTtlMinutes 입장 가능 유지 시간
+ * @param waitingShardCount WAITING 샤드 수
+ * @param seats 회차 좌석 수 (HOLD 대상)
+ * @param holdEnabled ENTERABLE 이후 좌석 HOLD 수행 여부
+ * @param timeoutSeconds 사용자별 대기 상한 (초과 시 timeout으로 집계)
+ * @param summaryPath 결과 요약 JSON 경로
+ */
+public record QueueSimulationConfig(
+	int users,
+	int rampUpSeconds,
+	long pollIntervalMs,
+	long maxPollIntervalMs,
+	long admissionTickMs,
+	int admissionBatchSize,
+	int maxActiveUsers,
+	int entryTtlMinutes,
+	int waitingShardCount,
+	int seats,
+	boolean holdEnabled,
+	long timeoutSeconds,
+	String summaryPath
+) {
+
+	private static final String PREFIX = "queue.simulation.";
+
+	public static QueueSimulationConfig fromSystemProperties() {
+		return new QueueSimulationConfig(
+			intProp("users", 2_000),
+			intProp("ramp-up-seconds", 5),
+			longProp("poll-interval-ms", 1_000),
+			longProp("max-poll-interval-ms", 10_000),
+			longProp("admission-tick-ms", 1_000),
+			intProp("admission-batch-size", 200),
+			intProp("max-active-users", 500),
+			intProp("entry-ttl-minutes", 10),
+			intProp("waiting-shard-count", 1),
+			intProp("seats", 1_000),
+			Boolean.parseBoolean(System.getProperty(PREFIX + "hold-enabled", "true")),
+			longProp("timeout-seconds", 600),
+			System.getProperty(PREFIX + "summary-path", "build/reports/queue-simulation/summary.json")
+		);
+	}
+
+	private static int intProp(String name, int defaultValue) {
+		return Integer.parseInt(System.getProperty(PREFIX + name, String.valueOf(defaultValue)));
+	}
+
+	private static long longProp(String name, long defaultValue) {
+		return Long.parseLong(System.getProperty(PREFIX + name, String.valueOf(defaultValue)));
+	}
+}
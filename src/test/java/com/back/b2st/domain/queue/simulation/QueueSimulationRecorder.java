@@ -0,0 +1,125 @@
+package com.back.b2st.domain.queue.simulation;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 시뮬레이션 계측 (엔드포인트별 지연 분포 + 사용자 결과 집계)
+ *
+ * 애플리케이션 MeterRegistry와 분리된 SimpleMeterRegistry 사용 (실행 전체 구간 분포, 만료 없음)
+ */
+class QueueSimulationRecorder {
+
+	static final String START_BOOKING = "startBooking";
+	static final String GET_MY_POSITION = "getMyPosition";
+	static final String ADMISSION_TICK = "admissionTick";
+	static final String HOLD_SEAT = "holdSeat";
+	static final String COMPLETE_ENTRY = "completeEntry";
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+	private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+	private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+	private final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+	private final Timer admissionWait = newTimer("admissionWait");
+
+	private final AtomicLong firstAdmissionMillis = new AtomicLong(Long.MAX_VALUE);
+	private final AtomicLong lastAdmissionMillis = new AtomicLong(0);
+	private final LongAdder admitted = new LongAdder();
+
+	<T> T time(String endpoint, Supplier<T> call) {
+		long start = System.nanoTime();
+		try {
+			return call.get();
+		} catch (RuntimeException e) {
+			errors.computeIfAbsent(endpoint, k -> new LongAdder()).increment();
+			throw e;
+		} finally {
+			timers.computeIfAbsent(endpoint, this::newTimer).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	void time(String endpoint, Runnable call) {
+		time(endpoint, () -> {
+			call.run();
+			return null;
+		});
+	}
+
+	/** 사용자 최종 결과 (held / hold_rejected / enterable / timeout / failed ...) */
+	void outcome(String outcome) {
+		outcomes.computeIfAbsent(outcome, k -> new LongAdder()).increment();
+	}
+
+	/** WAITING 진입 → ENTERABLE 확인까지 */
+	void admitted(long enteredAtNanos) {
+		long now = System.currentTimeMillis();
+		admitted.increment();
+		admissionWait.record(System.nanoTime() - enteredAtNanos, TimeUnit.NANOSECONDS);
+		firstAdmissionMillis.accumulateAndGet(now, Math::min);
+		lastAdmissionMillis.accumulateAndGet(now, Math::max);
+	}
+
+	Map<String, Object> endpointSummary() {
+		Map<String, Object> summary = new LinkedHashMap<>();
+		timers.forEach((endpoint, timer) -> {
+			Map<String, Object> stats = latencySummary(timer);
+			LongAdder errorCount = errors.get(endpoint);
+			stats.put("errors", errorCount != null ? errorCount.sum() : 0L);
+			summary.put(endpoint, stats);
+		});
+		return summary;
+	}
+
+	Map<String, Object> admissionSummary() {
+		long count = admitted.sum();
+		long windowMillis = Math.max(1L, lastAdmissionMillis.get() - firstAdmissionMillis.get());
+
+		Map<String, Object> summary = new LinkedHashMap<>();
+		summary.put("admitted", count);
+		summary.put("throughputPerSecond", count == 0 ? 0.0 : round(count * 1000.0 / windowMillis));
+		summary.put("wait", latencySummary(admissionWait));
+		return summary;
+	}
+
+	Map<String, Long> outcomeSummary() {
+		Map<String, Long> summary = new LinkedHashMap<>();
+		outcomes.forEach((outcome, count) -> summary.put(outcome, count.sum()));
+		return summary;
+	}
+
+	private Map<String, Object> latencySummary(Timer timer) {
+		HistogramSnapshot snapshot = timer.takeSnapshot();
+		Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("count", snapshot.count());
+		stats.put("meanMs", round(snapshot.mean(TimeUnit.MILLISECONDS)));
+		for (ValueAtPercentile percentile : snapshot.percentileValues()) {
+			String key = percentile.percentile() == 0.5 ? "p50Ms" : "p99Ms";
+			stats.put(key, round(percentile.value(TimeUnit.MILLISECONDS)));
+		}
+		stats.put("maxMs", round(snapshot.max(TimeUnit.MILLISECONDS)));
+		return stats;
+	}
+
+	private Timer newTimer(String name) {
+		return Timer.builder("simulation." + name)
+			.publishPercentiles(0.5, 0.99)
+			.distributionStatisticExpiry(Duration.ofDays(1))
+			.distributionStatisticBufferLength(1)
+			.register(registry);
+	}
+
+	static double round(double value) {
+		return Math.round(value * 100.0) / 100.0;
+	}
+}
@@ -14,6 +14,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import com.back.b2st.domain.reservation.dto.response.LotteryReservationCreatedRes;
 import com.back.b2st.domain.reservation.entity.Reservation;
@@ -37,6 +38,9 @@ class LotteryReservationServiceTest {
 	@Mock
 	ScheduleSeatRepository scheduleSeatRepository;
 
+	@Mock
+	ApplicationEventPublisher eventPublisher;
+
 	@InjectMocks
 	LotteryReservationService lotteryReservationService;
 
@@ -99,11 +99,11 @@ class ReservationServiceTest {
 	}
 
 	@Test
-	@DisplayName("createReservation(): 좌석이 1개가 아니면 INVALID_SEAT_COUNT")
+	@DisplayName("createReservation(): 좌석이 최대 좌석 수를 넘으면 INVALID_SEAT_COUNT")
 	void createReservation_invalidSeatCount_throw() {
 		// given
 		ReservationReq request = mock(ReservationReq.class);
-		when(request.seatIds()).thenReturn(List.of(1L, 2L));
+		when(request.seatIds()).thenReturn(List.of(1L, 2L, 3L, 4L, 5L));
 
 		// when & then
 		assertThatThrownBy(() ->
@@ -117,6 +117,24 @@ class ReservationServiceTest {
 		verifyNoInteractions(reservationSeatManager);
 	}
 
+	@Test
+	@DisplayName("createReservation(): 중복 좌석이 있으면 INVALID_SEAT_COUNT")
+	void createReservation_duplicateSeat_throw() {
+		// given
+		ReservationReq request = mock(ReservationReq.class);
+		when(request.seatIds()).thenReturn(List.of(1L, 1L));
+
+		// when & then
+		assertThatThrownBy(() ->
+			reservationService.createReservation(MEMBER_ID, request)
+		)
+			.isInstanceOf(BusinessException.class)
+			.extracting(e -> ((BusinessException)e).getErrorCode())
+			.isEqualTo(ReservationErrorCode.INVALID_SEAT_COUNT);
+
+		verifyNoInteractions(reservationSeatManager);
+	}
+
 	@Test
 	@DisplayName("failReservation(): PENDING → FAILED + 좌석 해제")
 	void failReservation_success() {
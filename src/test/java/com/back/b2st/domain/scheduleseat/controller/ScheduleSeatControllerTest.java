@@ -153,4 +153,16 @@ class ScheduleSeatControllerTest {
 			.andExpect(jsonPath("$.data").isArray())
 			.andExpect(jsonPath("$.data[0].status").value("AVAILABLE"));
 	}
+
+	@DisplayName("회차 좌석 맵 조회 API - sinceVersion 없으면 전체 스냅샷")
+	@Test
+	void getScheduleSeatMap_full_snapshot() throws Exception {
+		mockMvc.perform(
+				get("/api/schedules/{scheduleId}/seats/map", scheduleId)
+			)
+			.andDo(print())
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.data.full").value(true))
+			.andExpect(jsonPath("$.data.seats.length()").value(5));
+	}
 }
@@ -0,0 +1,128 @@
+package com.back.b2st.domain.scheduleseat.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.back.b2st.domain.performance.entity.Performance;
+import com.back.b2st.domain.performance.repository.PerformanceRepository;
+import com.back.b2st.domain.performanceschedule.entity.BookingType;
+import com.back.b2st.domain.performanceschedule.repository.PerformanceScheduleRepository;
+import com.back.b2st.domain.seat.seat.entity.Seat;
+import com.back.b2st.domain.seat.seat.repository.SeatRepository;
+import com.back.b2st.domain.venue.section.entity.Section;
+import com.back.b2st.domain.venue.section.repository.SectionRepository;
+import com.back.b2st.domain.venue.venue.entity.Venue;
+import com.back.b2st.domain.venue.venue.repository.VenueRepository;
+import com.back.b2st.support.TestFixture;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * INSERT ... SELECT 회차 좌석 생성 (H2 PostgreSQL 모드)
+ */
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+class ScheduleSeatBatchRepositoryTest {
+
+	@Autowired
+	private ScheduleSeatBatchRepository scheduleSeatBatchRepository;
+
+	@Autowired
+	private VenueRepository venueRepository;
+
+	@Autowired
+	private PerformanceRepository performanceRepository;
+
+	@Autowired
+	private PerformanceScheduleRepository performanceScheduleRepository;
+
+	@Autowired
+	private SectionRepository sectionRepository;
+
+	@Autowired
+	private SeatRepository seatRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	private Venue venue;
+	private List<Seat> seats;
+	private Long scheduleId;
+
+	@BeforeEach
+	void setUp() {
+		venue = TestFixture.createVenue("테스트 공연장", venueRepository);
+		Performance performance = TestFixture.createPerformance(venue, performanceRepository);
+		scheduleId = TestFixture.createSchedules(performance, 1, BookingType.FIRST_COME, performanceScheduleRepository)
+			.getFirst().getPerformanceScheduleId();
+
+		List<Section> sections = TestFixture.createSections(venue.getVenueId(), sectionRepository, "A", "B");
+		seats = TestFixture.createSeats(venue.getVenueId(), sections, 2, 3, seatRepository);
+
+		// 다른 공연장 좌석은 생성 대상이 아님
+		Venue otherVenue = TestFixture.createVenue("다른 공연장", venueRepository);
+		List<Section> otherSections = TestFixture.createSections(otherVenue.getVenueId(), sectionRepository, "A");
+		TestFixture.createSeats(otherVenue.getVenueId(), otherSections, 1, 2, seatRepository);
+
+		// JDBC 쿼리는 영속성 컨텍스트를 자동 flush하지 않음
+		entityManager.flush();
+	}
+
+	@Test
+	@DisplayName("insertForVenue(): 공연장 좌석마다 AVAILABLE 회차 좌석을 1건씩 생성")
+	void insertForVenue_createsAvailableSeatPerVenueSeat() {
+		// when
+		int inserted = scheduleSeatBatchRepository.insertForVenue(scheduleId, venue.getVenueId());
+
+		// then
+		assertThat(inserted).isEqualTo(seats.size());
+		assertThat(countRows("SELECT COUNT(*) FROM schedule_seat WHERE schedule_id = ?", scheduleId))
+			.isEqualTo(seats.size());
+		assertThat(countRows(
+			"SELECT COUNT(*) FROM schedule_seat WHERE schedule_id = ? AND status = 'AVAILABLE'", scheduleId))
+			.isEqualTo(seats.size());
+		assertThat(countRows(
+			"SELECT COUNT(DISTINCT schedule_seat_id) FROM schedule_seat WHERE schedule_id = ?", scheduleId))
+			.isEqualTo(seats.size());
+		assertThat(jdbcTemplate.queryForList(
+			"SELECT seat_id FROM schedule_seat WHERE schedule_id = ?", Long.class, scheduleId))
+			.containsExactlyInAnyOrderElementsOf(seats.stream().map(Seat::getId).toList());
+	}
+
+	@Test
+	@DisplayName("insertForVenue(): 이미 있는 회차 좌석은 건너뛰고 빠진 좌석만 생성")
+	void insertForVenue_skipsExisting() {
+		// given
+		scheduleSeatBatchRepository.insertForVenue(scheduleId, venue.getVenueId());
+		jdbcTemplate.update("DELETE FROM schedule_seat WHERE schedule_id = ? AND seat_id = ?",
+			scheduleId, seats.getFirst().getId());
+
+		// when
+		int inserted = scheduleSeatBatchRepository.insertForVenue(scheduleId, venue.getVenueId());
+		int rerun = scheduleSeatBatchRepository.insertForVenue(scheduleId, venue.getVenueId());
+
+		// then
+		assertThat(inserted).isEqualTo(1);
+		assertThat(rerun).isZero();
+		assertThat(countRows("SELECT COUNT(*) FROM schedule_seat WHERE schedule_id = ?", scheduleId))
+			.isEqualTo(seats.size());
+	}
+
+	private long countRows(String sql, Object... args) {
+		return jdbcTemplate.queryForObject(sql, Long.class, args);
+	}
+}
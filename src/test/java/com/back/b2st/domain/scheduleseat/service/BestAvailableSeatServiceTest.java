@@ -0,0 +1,166 @@
+package com.back.b2st.domain.scheduleseat.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.back.b2st.domain.scheduleseat.dto.ScheduleSeatLayout;
+import com.back.b2st.domain.scheduleseat.dto.response.BestAvailableSeatRes;
+import com.back.b2st.domain.scheduleseat.error.ScheduleSeatErrorCode;
+import com.back.b2st.domain.scheduleseat.error.SeatHoldConflictException;
+import com.back.b2st.domain.seat.grade.entity.SeatGradeType;
+import com.back.b2st.domain.seat.layout.dto.SeatLayout;
+import com.back.b2st.global.error.exception.BusinessException;
+
+@ExtendWith(MockitoExtension.class)
+@ActiveProfiles("test")
+class BestAvailableSeatServiceTest {
+
+	@Mock
+	private ScheduleSeatLayoutCache scheduleSeatLayoutCache;
+
+	@Mock
+	private ScheduleSeatStatusMap scheduleSeatStatusMap;
+
+	@Mock
+	private ScheduleSeatStateService scheduleSeatStateService;
+
+	@InjectMocks
+	private BestAvailableSeatService bestAvailableSeatService;
+
+	private static final Long MEMBER_ID = 1L;
+	private static final Long SCHEDULE_ID = 10L;
+	private static final long VERSION = 7L;
+
+	private ScheduleSeatLayout layout;
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(bestAvailableSeatService, "maxCacheSize", 100);
+		bestAvailableSeatService.initCache();
+
+		// 1구역 1열(seatId 1~6), 2열(seatId 7~12), 전 좌석 VIP
+		List<Object[]> rows = new ArrayList<>();
+		List<Object[]> keys = new ArrayList<>();
+		for (long seatId = 1; seatId <= 12; seatId++) {
+			String rowLabel = seatId <= 6 ? "1" : "2";
+			int seatNumber = (int)((seatId - 1) % 6) + 1;
+			rows.add(new Object[] {seatId, 1L, "A", rowLabel, seatNumber, SeatGradeType.VIP, 100000});
+			keys.add(new Object[] {seatId + 100, seatId});
+		}
+		layout = ScheduleSeatLayout.of(SeatLayout.of(1L, 1L, rows), keys);
+		lenient().when(scheduleSeatLayoutCache.get(SCHEDULE_ID)).thenReturn(layout);
+	}
+
+	@Test
+	@DisplayName("holdBestAvailable(): 앞 열에서 번호가 이어지는 좌석을 선택해 HOLD")
+	void holdBestAvailable_contiguousFrontRow() {
+		// given: 1열 3, 4번 판매
+		when(scheduleSeatStatusMap.load(SCHEDULE_ID, layout)).thenReturn(snapshot(3L, 4L));
+
+		// when
+		BestAvailableSeatRes result =
+			bestAvailableSeatService.holdBestAvailable(MEMBER_ID, SCHEDULE_ID, SeatGradeType.VIP, 2, null);
+
+		// then
+		assertThat(result.seatIds()).containsExactly(1L, 2L);
+		assertThat(result.contiguous()).isTrue();
+		verify(scheduleSeatStateService).holdSeats(MEMBER_ID, SCHEDULE_ID, List.of(1L, 2L), null);
+	}
+
+	@Test
+	@DisplayName("holdBestAvailable(): 열 이름은 수로 비교해 10열보다 2열을 먼저 선택")
+	void holdBestAvailable_numericRowOrder() {
+		// given: 1구역 1~12열(열당 4석), 배치도 표시 순서는 DB 문자열 정렬(1, 10, 11, 12, 2, ...)
+		Long scheduleId = 20L;
+		List<Object[]> rows = new ArrayList<>();
+		List<Object[]> keys = new ArrayList<>();
+		List<Integer> rowNumbers = new ArrayList<>();
+		for (int rowNumber = 1; rowNumber <= 12; rowNumber++) {
+			rowNumbers.add(rowNumber);
+		}
+		rowNumbers.sort(Comparator.comparing(String::valueOf));
+		for (int rowNumber : rowNumbers) {
+			for (int seatNumber = 1; seatNumber <= 4; seatNumber++) {
+				long seatId = (rowNumber - 1) * 4L + seatNumber;
+				String rowLabel = String.valueOf(rowNumber);
+				rows.add(new Object[] {seatId, 1L, "A", rowLabel, seatNumber, SeatGradeType.VIP, 100000});
+				keys.add(new Object[] {seatId + 100, seatId});
+			}
+		}
+		layout = ScheduleSeatLayout.of(SeatLayout.of(1L, 1L, rows), keys);
+		when(scheduleSeatLayoutCache.get(scheduleId)).thenReturn(layout);
+
+		// 1열 전부 판매
+		when(scheduleSeatStatusMap.load(scheduleId, layout)).thenReturn(snapshot(1L, 2L, 3L, 4L));
+
+		// when
+		BestAvailableSeatRes result =
+			bestAvailableSeatService.holdBestAvailable(MEMBER_ID, scheduleId, SeatGradeType.VIP, 2, null);
+
+		// then: 2열 중앙 (seatId 6, 7)
+		assertThat(result.seatIds()).containsExactly(6L, 7L);
+		verify(scheduleSeatStateService).holdSeats(MEMBER_ID, scheduleId, List.of(6L, 7L), null);
+	}
+
+	@Test
+	@DisplayName("holdBestAvailable(): HOLD 충돌 좌석을 제외하고 재선택")
+	void holdBestAvailable_retryWithoutConflicts() {
+		// given
+		when(scheduleSeatStatusMap.load(SCHEDULE_ID, layout)).thenReturn(snapshot(3L, 4L));
+		when(scheduleSeatStatusMap.changesSince(SCHEDULE_ID, VERSION))
+			.thenReturn(new ScheduleSeatStatusMap.Changes(VERSION, true, Map.of()));
+		doThrow(new SeatHoldConflictException(ScheduleSeatErrorCode.SEAT_ALREADY_HOLD, List.of(1L)))
+			.doNothing()
+			.when(scheduleSeatStateService).holdSeats(eq(MEMBER_ID), eq(SCHEDULE_ID), anyList(), isNull());
+
+		// when
+		BestAvailableSeatRes result =
+			bestAvailableSeatService.holdBestAvailable(MEMBER_ID, SCHEDULE_ID, SeatGradeType.VIP, 2, null);
+
+		// then
+		assertThat(result.seatIds()).containsExactly(5L, 6L);
+		verify(scheduleSeatStateService).holdSeats(MEMBER_ID, SCHEDULE_ID, List.of(1L, 2L), null);
+		verify(scheduleSeatStateService).holdSeats(MEMBER_ID, SCHEDULE_ID, List.of(5L, 6L), null);
+	}
+
+	@Test
+	@DisplayName("holdBestAvailable(): 등급 잔여 좌석이 없으면 NO_AVAILABLE_SEATS")
+	void holdBestAvailable_noSeats() {
+		// given
+		when(scheduleSeatStatusMap.load(SCHEDULE_ID, layout)).thenReturn(snapshot());
+
+		// when & then
+		assertThatThrownBy(() ->
+			bestAvailableSeatService.holdBestAvailable(MEMBER_ID, SCHEDULE_ID, SeatGradeType.ROYAL, 2, null))
+			.isInstanceOf(BusinessException.class)
+			.extracting(e -> ((BusinessException)e).getErrorCode())
+			.isEqualTo(ScheduleSeatErrorCode.NO_AVAILABLE_SEATS);
+		verifyNoInteractions(scheduleSeatStateService);
+	}
+
+	/** soldSeatIds만 SOLD인 상태 맵 스냅샷 */
+	private ScheduleSeatStatusMap.Snapshot snapshot(Long... soldSeatIds) {
+		byte[] states = new byte[(layout.size() + 3) / 4];
+		for (Long seatId : soldSeatIds) {
+			int ordinal = layout.ordinalOf(seatId);
+			states[ordinal / 4] |= (byte)(2 << (6 - 2 * (ordinal % 4)));
+		}
+		return new ScheduleSeatStatusMap.Snapshot(states, VERSION);
+	}
+}
@@ -0,0 +1,194 @@
+package com.back.b2st.domain.scheduleseat.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.back.b2st.domain.scheduleseat.dto.FlashSaleSeatHold;
+import com.back.b2st.domain.scheduleseat.dto.event.ScheduleSeatStatusChangedEvent;
+import com.back.b2st.domain.scheduleseat.entity.SeatStatus;
+import com.back.b2st.domain.scheduleseat.error.ScheduleSeatErrorCode;
+import com.back.b2st.domain.scheduleseat.error.SeatHoldConflictException;
+import com.back.b2st.domain.scheduleseat.repository.ScheduleSeatBatchRepository;
+import com.back.b2st.domain.scheduleseat.repository.ScheduleSeatRepository;
+import com.back.b2st.global.config.SeatRedisScriptConfig;
+
+/**
+ * 플래시 세일 HOLD 스크립트 검증 (실제 Redis에서 Lua 실행, DB/토큰은 mock)
+ */
+@Testcontainers
+class FlashSaleSeatHoldServiceTest {
+
+	@Container
+	static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine")
+		.withExposedPorts(6379);
+
+	private static final Long SCHEDULE_ID = 1L;
+	private static final Long SEAT_ID = 7L;
+	private static final Long BUYER_ID = 100L;
+	private static final Long OTHER_MEMBER_ID = 200L;
+
+	/** 테스트용 짧은 HOLD 유지 시간 */
+	private static final Duration HOLD_TTL = Duration.ofMillis(200);
+
+	private LettuceConnectionFactory connectionFactory;
+	private StringRedisTemplate stringRedisTemplate;
+	private ScheduleSeatRepository scheduleSeatRepository;
+	private ScheduleSeatBatchRepository scheduleSeatBatchRepository;
+	private SeatHoldTokenService seatHoldTokenService;
+	private FlashSaleSeatHoldService flashSaleSeatHoldService;
+
+	@BeforeEach
+	void setUp() {
+		connectionFactory = new LettuceConnectionFactory(redis.getHost(), redis.getMappedPort(6379));
+		connectionFactory.afterPropertiesSet();
+		connectionFactory.start();
+		stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+		stringRedisTemplate.afterPropertiesSet();
+		stringRedisTemplate.execute((RedisCallback<Object>)connection -> {
+			connection.serverCommands().flushAll();
+			return null;
+		});
+
+		scheduleSeatRepository = mock(ScheduleSeatRepository.class);
+		when(scheduleSeatRepository.findSeatStatusesWithExpiry(SCHEDULE_ID))
+			.thenReturn(List.<Object[]>of(new Object[] {SEAT_ID, SeatStatus.AVAILABLE, null}));
+
+		scheduleSeatBatchRepository = mock(ScheduleSeatBatchRepository.class);
+		seatHoldTokenService = mock(SeatHoldTokenService.class);
+		flashSaleSeatHoldService = new FlashSaleSeatHoldService(
+			stringRedisTemplate, scheduleSeatRepository, scheduleSeatBatchRepository, seatHoldTokenService);
+		ReflectionTestUtils.setField(flashSaleSeatHoldService, "enabled", true);
+		ReflectionTestUtils.setField(flashSaleSeatHoldService, "stateTtlSeconds", 60L);
+		ReflectionTestUtils.setField(flashSaleSeatHoldService, "holdTtl", HOLD_TTL);
+		SeatRedisScriptConfig scripts = new SeatRedisScriptConfig();
+		ReflectionTestUtils.setField(flashSaleSeatHoldService, "flashSaleHoldScript", scripts.flashSaleHoldScript());
+		ReflectionTestUtils.setField(flashSaleSeatHoldService, "flashSaleSeedScript", scripts.flashSaleSeedScript());
+		ReflectionTestUtils.setField(
+			flashSaleSeatHoldService, "flashSaleMirrorScript", scripts.flashSaleMirrorScript());
+		ReflectionTestUtils.setField(
+			flashSaleSeatHoldService, "flashSaleRevokeHoldScript", scripts.flashSaleRevokeHoldScript());
+	}
+
+	@AfterEach
+	void tearDown() {
+		connectionFactory.destroy();
+	}
+
+	@Test
+	@DisplayName("HOLD → 결제 확정(SOLD) → HOLD 만료 시각 경과 후에도 다른 회원 HOLD는 SOLD로 거절")
+	void soldSeat_staysSold_afterHoldTtl() throws InterruptedException {
+		// given: 구매자 HOLD 후 결제 확정
+		flashSaleSeatHoldService.hold(SCHEDULE_ID, SEAT_ID, BUYER_ID);
+		flashSaleSeatHoldService.onStatusChanged(
+			ScheduleSeatStatusChangedEvent.of(SCHEDULE_ID, SEAT_ID, SeatStatus.SOLD));
+
+		assertThat(stringRedisTemplate.opsForHash().get(statusKey(), SEAT_ID.toString())).isEqualTo("S");
+
+		// when: 구매자 HOLD 만료 시각 경과
+		Thread.sleep(HOLD_TTL.toMillis() * 2);
+
+		// then
+		assertThatThrownBy(() -> flashSaleSeatHoldService.hold(SCHEDULE_ID, SEAT_ID, OTHER_MEMBER_ID))
+			.isInstanceOf(SeatHoldConflictException.class)
+			.extracting(e -> ((SeatHoldConflictException)e).getErrorCode())
+			.isEqualTo(ScheduleSeatErrorCode.SEAT_ALREADY_SOLD);
+	}
+
+	@Test
+	@DisplayName("확정되지 않은 HOLD는 만료 시각 경과 후 다른 회원이 HOLD 가능")
+	void expiredHold_canBeHeldByOtherMember() throws InterruptedException {
+		// given
+		flashSaleSeatHoldService.hold(SCHEDULE_ID, SEAT_ID, BUYER_ID);
+
+		assertThatThrownBy(() -> flashSaleSeatHoldService.hold(SCHEDULE_ID, SEAT_ID, OTHER_MEMBER_ID))
+			.isInstanceOf(SeatHoldConflictException.class)
+			.extracting(e -> ((SeatHoldConflictException)e).getErrorCode())
+			.isEqualTo(ScheduleSeatErrorCode.SEAT_ALREADY_HOLD);
+
+		// when
+		Thread.sleep(HOLD_TTL.toMillis() * 2);
+		flashSaleSeatHoldService.hold(SCHEDULE_ID, SEAT_ID, OTHER_MEMBER_ID);
+
+		// then
+		assertThat((String)stringRedisTemplate.opsForHash().get(statusKey(), SEAT_ID.toString()))
+			.startsWith("H:" + OTHER_MEMBER_ID + ":");
+	}
+
+	@Test
+	@DisplayName("만료 정리(AVAILABLE 반영)는 유효 HOLD를 되돌리지 않음")
+	void availableMirror_keepsLiveHold() {
+		// given
+		flashSaleSeatHoldService.hold(SCHEDULE_ID, SEAT_ID, BUYER_ID);
+
+		// when
+		flashSaleSeatHoldService.onStatusChanged(
+			ScheduleSeatStatusChangedEvent.of(SCHEDULE_ID, SEAT_ID, SeatStatus.AVAILABLE));
+
+		// then
+		assertThat((String)stringRedisTemplate.opsForHash().get(statusKey(), SEAT_ID.toString()))
+			.startsWith("H:" + BUYER_ID + ":");
+	}
+
+	@Test
+	@DisplayName("예매 시점 선영속화는 본인 유효 HOLD만 DB에 반영")
+	void persistHold_writesOnlyOwnLiveHold() {
+		// given
+		flashSaleSeatHoldService.hold(SCHEDULE_ID, SEAT_ID, BUYER_ID);
+
+		// when
+		flashSaleSeatHoldService.persistHold(SCHEDULE_ID, SEAT_ID, OTHER_MEMBER_ID);
+		flashSaleSeatHoldService.persistHold(SCHEDULE_ID, SEAT_ID, BUYER_ID);
+
+		// then
+		verify(scheduleSeatBatchRepository).batchHold(argThat(holds -> holds.size() == 1
+			&& holds.get(0).memberId().equals(BUYER_ID)
+			&& holds.get(0).expiresAt().equals(FlashSaleSeatHoldService.toDateTime(heldUntil()))));
+	}
+
+	@Test
+	@DisplayName("영속화 실패 보정은 HASH가 아직 해당 HOLD일 때만 DB 상태로 되돌리고 토큰 제거")
+	void revokeUnpersisted_onlyWhenHoldUnchanged() {
+		// given
+		flashSaleSeatHoldService.hold(SCHEDULE_ID, SEAT_ID, BUYER_ID);
+		LocalDateTime expiresAt = FlashSaleSeatHoldService.toDateTime(heldUntil());
+		FlashSaleSeatHold stale =
+			new FlashSaleSeatHold("1-0", SCHEDULE_ID, SEAT_ID, BUYER_ID, expiresAt.minusSeconds(1));
+		FlashSaleSeatHold current = new FlashSaleSeatHold("2-0", SCHEDULE_ID, SEAT_ID, BUYER_ID, expiresAt);
+
+		// when & then: 이미 다른 HOLD로 바뀐 항목은 유지
+		assertThat(flashSaleSeatHoldService.revokeUnpersisted(stale, SeatStatus.AVAILABLE, null)).isFalse();
+		assertThat((String)stringRedisTemplate.opsForHash().get(statusKey(), SEAT_ID.toString()))
+			.startsWith("H:" + BUYER_ID + ":");
+		verify(seatHoldTokenService, never()).remove(SCHEDULE_ID, SEAT_ID);
+
+		assertThat(flashSaleSeatHoldService.revokeUnpersisted(current, SeatStatus.AVAILABLE, null)).isTrue();
+		assertThat(stringRedisTemplate.opsForHash().get(statusKey(), SEAT_ID.toString())).isEqualTo("A");
+		verify(seatHoldTokenService).remove(SCHEDULE_ID, SEAT_ID);
+	}
+
+	/** 현재 HASH에 기록된 HOLD 만료 시각(ms) */
+	private long heldUntil() {
+		String value = (String)stringRedisTemplate.opsForHash().get(statusKey(), SEAT_ID.toString());
+		return Long.parseLong(value.substring(value.lastIndexOf(':') + 1));
+	}
+
+	private static String statusKey() {
+		return "seat:flash:{" + SCHEDULE_ID + "}:status";
+	}
+}
@@ -0,0 +1,158 @@
+package com.back.b2st.domain.scheduleseat.service;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.back.b2st.domain.scheduleseat.entity.ScheduleSeat;
+import com.back.b2st.domain.scheduleseat.entity.SeatStatus;
+import com.back.b2st.domain.scheduleseat.repository.ScheduleSeatBatchRepository;
+import com.back.b2st.domain.scheduleseat.repository.ScheduleSeatRepository;
+
+@ExtendWith(MockitoExtension.class)
+class FlashSaleSeatHoldWriterTest {
+
+	@Mock
+	private StringRedisTemplate stringRedisTemplate;
+
+	@Mock
+	private StreamOperations<String, Object, Object> streamOperations;
+
+	@Mock
+	private FlashSaleSeatHoldService flashSaleSeatHoldService;
+
+	@Mock
+	private ScheduleSeatBatchRepository scheduleSeatBatchRepository;
+
+	@Mock
+	private ScheduleSeatRepository scheduleSeatRepository;
+
+	@Mock
+	private TransactionTemplate transactionTemplate;
+
+	@Mock
+	private SeatHoldExpiryQueue seatHoldExpiryQueue;
+
+	@InjectMocks
+	private FlashSaleSeatHoldWriter flashSaleSeatHoldWriter;
+
+	private static final Long SCHEDULE_ID = 1L;
+	private static final String STREAM_KEY = FlashSaleSeatHoldService.streamKey(SCHEDULE_ID);
+	private static final long EXPIRES_AT = 1_700_000_000_000L;
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(flashSaleSeatHoldWriter, "batchSize", 500);
+		ReflectionTestUtils.setField(flashSaleSeatHoldWriter, "claimIdleMs", 30000L);
+
+		when(stringRedisTemplate.<Object, Object>opsForStream()).thenReturn(streamOperations);
+		when(flashSaleSeatHoldService.activeScheduleIds()).thenReturn(Set.of(SCHEDULE_ID));
+	}
+
+	@Test
+	@DisplayName("flush(): 기록된 HOLD는 만료 큐 등록, DB SOLD 좌석은 Redis HOLD 무효화, 전부 ACK")
+	void flush_writesHoldsAndRevokesSoldSeats() {
+		// given: 7번 좌석 기록 성공, 8번 좌석은 DB가 이미 SOLD
+		when(streamOperations.read(any(Consumer.class), any(StreamReadOptions.class), any(StreamOffset.class)))
+			.thenReturn(List.of(record("1-0", 7L, 100L), record("2-0", 8L, 200L)));
+		when(transactionTemplate.execute(any()))
+			.thenAnswer(invocation -> ((TransactionCallback<?>)invocation.getArgument(0)).doInTransaction(null));
+		when(scheduleSeatBatchRepository.batchHold(anyList())).thenReturn(new int[] {1, 0});
+
+		ScheduleSeat soldSeat = mock(ScheduleSeat.class);
+		when(soldSeat.getStatus()).thenReturn(SeatStatus.SOLD);
+		when(scheduleSeatRepository.findByScheduleIdAndSeatId(SCHEDULE_ID, 8L)).thenReturn(Optional.of(soldSeat));
+
+		// when
+		flashSaleSeatHoldWriter.flush();
+
+		// then
+		verify(seatHoldExpiryQueue).register(SCHEDULE_ID, 7L, FlashSaleSeatHoldService.toDateTime(EXPIRES_AT));
+		verify(flashSaleSeatHoldService).revoke(SCHEDULE_ID, 8L);
+		verify(flashSaleSeatHoldService, never()).revoke(SCHEDULE_ID, 7L);
+		verify(streamOperations).acknowledge(
+			STREAM_KEY, FlashSaleSeatHoldService.WRITER_GROUP, RecordId.of("1-0"), RecordId.of("2-0"));
+		verify(streamOperations).delete(STREAM_KEY, RecordId.of("1-0"), RecordId.of("2-0"));
+	}
+
+	@Test
+	@DisplayName("flush(): 예매 시점에 먼저 기록된 HOLD는 반영 완료, 다른 HOLD에 막힌 항목은 조건부 무효화")
+	void flush_prePersistedHold_registered_blockedHold_revoked() {
+		// given: 두 항목 모두 갱신 0건, 7번은 같은 만료 시각 HOLD(선영속화), 8번은 더 늦은 다른 HOLD
+		when(streamOperations.read(any(Consumer.class), any(StreamReadOptions.class), any(StreamOffset.class)))
+			.thenReturn(List.of(record("1-0", 7L, 100L), record("2-0", 8L, 200L)));
+		when(transactionTemplate.execute(any()))
+			.thenAnswer(invocation -> ((TransactionCallback<?>)invocation.getArgument(0)).doInTransaction(null));
+		when(scheduleSeatBatchRepository.batchHold(anyList())).thenReturn(new int[] {0, 0});
+
+		LocalDateTime expiresAt = FlashSaleSeatHoldService.toDateTime(EXPIRES_AT);
+		ScheduleSeat persistedSeat = mock(ScheduleSeat.class);
+		when(persistedSeat.getStatus()).thenReturn(SeatStatus.HOLD);
+		when(persistedSeat.getHoldExpiredAt()).thenReturn(expiresAt);
+		when(scheduleSeatRepository.findByScheduleIdAndSeatId(SCHEDULE_ID, 7L)).thenReturn(Optional.of(persistedSeat));
+
+		ScheduleSeat otherHoldSeat = mock(ScheduleSeat.class);
+		when(otherHoldSeat.getStatus()).thenReturn(SeatStatus.HOLD);
+		when(otherHoldSeat.getHoldExpiredAt()).thenReturn(expiresAt.plusMinutes(5));
+		when(scheduleSeatRepository.findByScheduleIdAndSeatId(SCHEDULE_ID, 8L)).thenReturn(Optional.of(otherHoldSeat));
+
+		// when
+		flashSaleSeatHoldWriter.flush();
+
+		// then
+		verify(seatHoldExpiryQueue).register(SCHEDULE_ID, 7L, expiresAt);
+		verify(seatHoldExpiryQueue, never()).register(eq(SCHEDULE_ID), eq(8L), any());
+		verify(flashSaleSeatHoldService).revokeUnpersisted(
+			argThat(hold -> hold.seatId().equals(8L)), eq(SeatStatus.HOLD), eq(expiresAt.plusMinutes(5)));
+		verify(flashSaleSeatHoldService, never()).revoke(anyLong(), anyLong());
+		verify(streamOperations).acknowledge(
+			STREAM_KEY, FlashSaleSeatHoldService.WRITER_GROUP, RecordId.of("1-0"), RecordId.of("2-0"));
+	}
+
+	@Test
+	@DisplayName("flush(): 기록할 항목이 없으면 회차 비활성화 확인만 수행")
+	void flush_noRecords_deactivatesIfIdle() {
+		// given
+		when(streamOperations.read(any(Consumer.class), any(StreamReadOptions.class), any(StreamOffset.class)))
+			.thenReturn(List.of());
+
+		// when
+		flashSaleSeatHoldWriter.flush();
+
+		// then
+		verify(flashSaleSeatHoldService).deactivateIfIdle(SCHEDULE_ID);
+		verifyNoInteractions(scheduleSeatBatchRepository, transactionTemplate);
+	}
+
+	private static MapRecord<String, Object, Object> record(String id, Long seatId, Long memberId) {
+		Map<Object, Object> value = Map.of(
+			"seatId", seatId.toString(),
+			"memberId", memberId.toString(),
+			"expiresAt", Long.toString(EXPIRES_AT)
+		);
+		return MapRecord.create(STREAM_KEY, value).withId(RecordId.of(id));
+	}
+}
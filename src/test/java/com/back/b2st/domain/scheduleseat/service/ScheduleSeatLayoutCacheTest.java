@@ -0,0 +1,83 @@
+package com.back.b2st.domain.scheduleseat.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.back.b2st.domain.performanceschedule.service.ScheduleResolver;
+import com.back.b2st.domain.scheduleseat.dto.ScheduleSeatLayout;
+import com.back.b2st.domain.scheduleseat.repository.ScheduleSeatRepository;
+import com.back.b2st.domain.seat.layout.dto.SeatLayout;
+import com.back.b2st.domain.seat.layout.service.SeatLayoutCache;
+
+@ExtendWith(MockitoExtension.class)
+class ScheduleSeatLayoutCacheTest {
+
+	@Mock
+	private ScheduleSeatRepository scheduleSeatRepository;
+
+	@Mock
+	private ScheduleResolver scheduleResolver;
+
+	@Mock
+	private SeatLayoutCache seatLayoutCache;
+
+	@InjectMocks
+	private ScheduleSeatLayoutCache scheduleSeatLayoutCache;
+
+	private static final Long SCHEDULE_ID = 10L;
+	private static final Long PERFORMANCE_ID = 99L;
+
+	private final SeatLayout seatLayout = SeatLayout.of(PERFORMANCE_ID, 1L, List.of());
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(scheduleSeatLayoutCache, "layoutTtlSeconds", 300L);
+		ReflectionTestUtils.setField(scheduleSeatLayoutCache, "maxCacheSize", 100);
+		scheduleSeatLayoutCache.initCache();
+
+		when(scheduleResolver.resolvePerformanceId(SCHEDULE_ID)).thenReturn(PERFORMANCE_ID);
+		when(seatLayoutCache.get(PERFORMANCE_ID)).thenReturn(seatLayout);
+		when(scheduleSeatRepository.findSeatKeys(SCHEDULE_ID)).thenReturn(List.of());
+	}
+
+	@Test
+	@DisplayName("get(): 공연 레이아웃이 유효하면 회차 좌석 키는 최초 1회만 조회")
+	void get_cachesLayout() {
+		// given
+		when(seatLayoutCache.isCurrent(seatLayout)).thenReturn(true);
+
+		// when
+		ScheduleSeatLayout first = scheduleSeatLayoutCache.get(SCHEDULE_ID);
+		ScheduleSeatLayout second = scheduleSeatLayoutCache.get(SCHEDULE_ID);
+
+		// then
+		assertThat(second).isSameAs(first);
+		verify(scheduleSeatRepository, times(1)).findSeatKeys(SCHEDULE_ID);
+	}
+
+	@Test
+	@DisplayName("get(): 공연 레이아웃이 무효화되면 회차 레이아웃도 재적재")
+	void get_reloadsWhenSeatLayoutInvalidated() {
+		// given
+		when(seatLayoutCache.isCurrent(seatLayout)).thenReturn(false);
+
+		// when
+		ScheduleSeatLayout first = scheduleSeatLayoutCache.get(SCHEDULE_ID);
+		ScheduleSeatLayout second = scheduleSeatLayoutCache.get(SCHEDULE_ID);
+
+		// then
+		assertThat(second).isNotSameAs(first);
+		verify(scheduleSeatRepository, times(2)).findSeatKeys(SCHEDULE_ID);
+	}
+}
@@ -6,10 +6,14 @@ import com.back.b2st.domain.performance.repository.PerformanceRepository;
 import com.back.b2st.domain.performanceschedule.entity.BookingType;
 import com.back.b2st.domain.performanceschedule.entity.PerformanceSchedule;
 import com.back.b2st.domain.performanceschedule.repository.PerformanceScheduleRepository;
+import com.back.b2st.domain.scheduleseat.dto.response.ScheduleSeatSummaryRes;
 import com.back.b2st.domain.scheduleseat.dto.response.ScheduleSeatViewRes;
 import com.back.b2st.domain.scheduleseat.entity.ScheduleSeat;
 import com.back.b2st.domain.scheduleseat.entity.SeatStatus;
 import com.back.b2st.domain.scheduleseat.repository.ScheduleSeatRepository;
+import com.back.b2st.domain.seat.grade.entity.SeatGrade;
+import com.back.b2st.domain.seat.grade.entity.SeatGradeType;
+import com.back.b2st.domain.seat.grade.repository.SeatGradeRepository;
 import com.back.b2st.domain.seat.seat.entity.Seat;
 import com.back.b2st.domain.seat.seat.repository.SeatRepository;
 import com.back.b2st.domain.venue.section.entity.Section;
@@ -56,6 +60,9 @@ class ScheduleSeatServiceTest {
 	@Autowired
 	private ScheduleSeatRepository scheduleSeatRepository;
 
+	@Autowired
+	private SeatGradeRepository seatGradeRepository;
+
 	private Long scheduleId;
 
 	private Venue venue;
@@ -139,6 +146,35 @@ class ScheduleSeatServiceTest {
 		assertThat(seats).hasSize(5);
 	}
 
+	@DisplayName("회차 잔여 좌석 요약을 등급/구역별로 조회한다")
+	@Test
+	void getSeatSummary_byGradeAndSection() {
+		// given: 5석 모두 VIP
+		for (ScheduleSeat scheduleSeat : scheduleSeatRepository.findAll()) {
+			if (scheduleSeat.getScheduleId().equals(scheduleId)) {
+				seatGradeRepository.save(
+					SeatGrade.builder()
+						.performanceId(performance.getPerformanceId())
+						.seatId(scheduleSeat.getSeatId())
+						.grade(SeatGradeType.VIP)
+						.price(100000)
+						.build()
+				);
+			}
+		}
+
+		// when
+		ScheduleSeatSummaryRes summary = scheduleSeatService.getSeatSummary(scheduleId);
+
+		// then
+		assertThat(summary.grades()).hasSize(1);
+		ScheduleSeatSummaryRes.GradeSummary vip = summary.grades().getFirst();
+		assertThat(vip.grade()).isEqualTo(SeatGradeType.VIP.name());
+		assertThat(vip.available()).isEqualTo(5);
+		assertThat(vip.sections()).hasSize(1);
+		assertThat(vip.sections().getFirst().sectionName()).isEqualTo("A");
+	}
+
 	@DisplayName("특정 회차에서 AVAILABLE 상태 좌석만 조회한다")
 	@Test
 	void getSeatsByStatus_available_only() {
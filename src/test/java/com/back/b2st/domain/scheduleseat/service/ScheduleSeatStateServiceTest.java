@@ -6,6 +6,8 @@ import static org.mockito.Mockito.*;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.junit.jupiter.api.DisplayName;
@@ -15,15 +17,19 @@ import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.context.ActiveProfiles;
 
-import com.back.b2st.domain.performanceschedule.repository.PerformanceScheduleRepository;
+import com.back.b2st.domain.performanceschedule.service.ScheduleResolver;
 import com.back.b2st.domain.queue.service.QueueAccessService;
+import com.back.b2st.domain.scheduleseat.dto.event.ScheduleSeatStatusChangedEvent;
 import com.back.b2st.domain.scheduleseat.entity.ScheduleSeat;
 import com.back.b2st.domain.scheduleseat.entity.SeatStatus;
 import com.back.b2st.domain.scheduleseat.error.ScheduleSeatErrorCode;
+import com.back.b2st.domain.scheduleseat.error.SeatHoldConflictException;
 import com.back.b2st.domain.scheduleseat.repository.ScheduleSeatRepository;
 import com.back.b2st.global.error.exception.BusinessException;
+import com.back.b2st.global.scheduler.ExpiryChunk;
 
 @ExtendWith(MockitoExtension.class)
 @ActiveProfiles("test")
@@ -39,11 +45,20 @@ class ScheduleSeatStateServiceTest {
 	private ScheduleSeatRepository scheduleSeatRepository;
 
 	@Mock
-	private PerformanceScheduleRepository performanceScheduleRepository;
+	private ScheduleResolver scheduleResolver;
 
 	@Mock
 	private QueueAccessService queueAccessService;
 
+	@Mock
+	private FlashSaleSeatHoldService flashSaleSeatHoldService;
+
+	@Mock
+	private SeatHoldExpiryQueue seatHoldExpiryQueue;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
 	@InjectMocks
 	private ScheduleSeatStateService scheduleSeatStateService;
 
@@ -56,8 +71,7 @@ class ScheduleSeatStateServiceTest {
 	@DisplayName("holdSeat(): 락 획득 실패 시 SEAT_LOCK_FAILED")
 	void holdSeat_lockFailed_throw() {
 		// given
-		when(performanceScheduleRepository.findPerformanceIdByScheduleId(SCHEDULE_ID))
-			.thenReturn(Optional.of(PERFORMANCE_ID));
+		when(scheduleResolver.resolvePerformanceId(SCHEDULE_ID)).thenReturn(PERFORMANCE_ID);
 		doNothing().when(queueAccessService).assertEnterable(PERFORMANCE_ID, MEMBER_ID);
 
 		when(scheduleSeatLockService.tryLock(SCHEDULE_ID, SEAT_ID, MEMBER_ID))
@@ -76,6 +90,7 @@ class ScheduleSeatStateServiceTest {
 		verify(seatHoldTokenService, never()).save(anyLong(), anyLong(), anyLong());
 
 		verify(queueAccessService).assertEnterable(PERFORMANCE_ID, MEMBER_ID);
+		verify(queueAccessService).recordSeatHold(eq(PERFORMANCE_ID), anyLong(), eq(true));
 	}
 
 	@Test
@@ -85,8 +100,7 @@ class ScheduleSeatStateServiceTest {
 		String lockValue = "lock-value";
 		ScheduleSeat seat = mock(ScheduleSeat.class);
 
-		when(performanceScheduleRepository.findPerformanceIdByScheduleId(SCHEDULE_ID))
-			.thenReturn(Optional.of(PERFORMANCE_ID));
+		when(scheduleResolver.resolvePerformanceId(SCHEDULE_ID)).thenReturn(PERFORMANCE_ID);
 		doNothing().when(queueAccessService).assertEnterable(PERFORMANCE_ID, MEMBER_ID);
 
 		when(scheduleSeatLockService.tryLock(SCHEDULE_ID, SEAT_ID, MEMBER_ID))
@@ -100,15 +114,15 @@ class ScheduleSeatStateServiceTest {
 			.isThrownBy(() -> scheduleSeatStateService.holdSeat(MEMBER_ID, SCHEDULE_ID, SEAT_ID));
 
 		InOrder inOrder = inOrder(
-			performanceScheduleRepository,
+			scheduleResolver,
 			queueAccessService,
 			scheduleSeatLockService,
 			seat,
 			seatHoldTokenService
 		);
 
-		inOrder.verify(performanceScheduleRepository)
-			.findPerformanceIdByScheduleId(SCHEDULE_ID);
+		inOrder.verify(scheduleResolver)
+			.resolvePerformanceId(SCHEDULE_ID);
 		inOrder.verify(queueAccessService)
 			.assertEnterable(PERFORMANCE_ID, MEMBER_ID);
 		inOrder.verify(scheduleSeatLockService)
@@ -121,6 +135,148 @@ class ScheduleSeatStateServiceTest {
 			.unlock(SCHEDULE_ID, SEAT_ID, lockValue);
 	}
 
+	@Test
+	@DisplayName("holdSeat(): 플래시 세일 모드면 락/DB 없이 Redis HOLD 후 상태 이벤트 발행")
+	void holdSeat_flashSale_redisOnly() {
+		// given
+		when(scheduleResolver.resolvePerformanceId(SCHEDULE_ID)).thenReturn(PERFORMANCE_ID);
+		doNothing().when(queueAccessService).assertEnterable(PERFORMANCE_ID, MEMBER_ID);
+		when(flashSaleSeatHoldService.isEnabled()).thenReturn(true);
+
+		// when
+		scheduleSeatStateService.holdSeat(MEMBER_ID, SCHEDULE_ID, SEAT_ID);
+
+		// then
+		verify(flashSaleSeatHoldService).hold(SCHEDULE_ID, SEAT_ID, MEMBER_ID);
+		verify(eventPublisher).publishEvent(ScheduleSeatStatusChangedEvent.of(SCHEDULE_ID, SEAT_ID, SeatStatus.HOLD));
+		verify(scheduleSeatLockService, never()).tryLock(anyLong(), anyLong(), anyLong());
+		verify(scheduleSeatRepository, never()).findByScheduleIdAndSeatIdWithLock(anyLong(), anyLong());
+		verify(queueAccessService).recordSeatHold(eq(PERFORMANCE_ID), anyLong(), eq(false));
+	}
+
+	@Test
+	@DisplayName("holdSeat(): 플래시 세일 모드에서 이미 HOLD면 SEAT_ALREADY_HOLD")
+	void holdSeat_flashSale_alreadyHold_throw() {
+		// given
+		when(scheduleResolver.resolvePerformanceId(SCHEDULE_ID)).thenReturn(PERFORMANCE_ID);
+		doNothing().when(queueAccessService).assertEnterable(PERFORMANCE_ID, MEMBER_ID);
+		when(flashSaleSeatHoldService.isEnabled()).thenReturn(true);
+		doThrow(new BusinessException(ScheduleSeatErrorCode.SEAT_ALREADY_HOLD))
+			.when(flashSaleSeatHoldService).hold(SCHEDULE_ID, SEAT_ID, MEMBER_ID);
+
+		// when & then
+		assertThatThrownBy(() -> scheduleSeatStateService.holdSeat(MEMBER_ID, SCHEDULE_ID, SEAT_ID))
+			.isInstanceOf(BusinessException.class)
+			.extracting(e -> ((BusinessException)e).getErrorCode())
+			.isEqualTo(ScheduleSeatErrorCode.SEAT_ALREADY_HOLD);
+
+		verify(eventPublisher, never()).publishEvent(any());
+	}
+
+	@Test
+	@DisplayName("holdSeats(): seatId 오름차순으로 락 → 일괄 HOLD → 토큰 저장 → 락 해제")
+	void holdSeats_success_sortedFlow() {
+		// given
+		ScheduleSeat seat1 = mock(ScheduleSeat.class);
+		ScheduleSeat seat2 = mock(ScheduleSeat.class);
+
+		when(scheduleResolver.resolvePerformanceId(SCHEDULE_ID)).thenReturn(PERFORMANCE_ID);
+		when(scheduleSeatLockService.tryLock(eq(SCHEDULE_ID), anyLong(), eq(MEMBER_ID)))
+			.thenReturn("lock-value");
+		when(scheduleSeatRepository.findAllByScheduleIdAndSeatIdInWithLock(SCHEDULE_ID, List.of(100L, 101L)))
+			.thenReturn(List.of(seat1, seat2));
+		when(seat1.getStatus()).thenReturn(SeatStatus.AVAILABLE);
+		when(seat2.getStatus()).thenReturn(SeatStatus.AVAILABLE);
+
+		// when
+		scheduleSeatStateService.holdSeats(MEMBER_ID, SCHEDULE_ID, List.of(101L, 100L), null);
+
+		// then
+		InOrder inOrder = inOrder(scheduleSeatLockService, seatHoldTokenService);
+		inOrder.verify(scheduleSeatLockService).tryLock(SCHEDULE_ID, 100L, MEMBER_ID);
+		inOrder.verify(scheduleSeatLockService).tryLock(SCHEDULE_ID, 101L, MEMBER_ID);
+		inOrder.verify(seatHoldTokenService).save(SCHEDULE_ID, 100L, MEMBER_ID);
+		inOrder.verify(seatHoldTokenService).save(SCHEDULE_ID, 101L, MEMBER_ID);
+		inOrder.verify(scheduleSeatLockService).unlock(SCHEDULE_ID, 100L, "lock-value");
+		inOrder.verify(scheduleSeatLockService).unlock(SCHEDULE_ID, 101L, "lock-value");
+
+		verify(seat1).hold(any(LocalDateTime.class));
+		verify(seat2).hold(any(LocalDateTime.class));
+		verify(eventPublisher).publishEvent(
+			ScheduleSeatStatusChangedEvent.of(SCHEDULE_ID, List.of(100L, 101L), SeatStatus.HOLD));
+	}
+
+	@Test
+	@DisplayName("holdSeats(): 하나라도 HOLD 불가면 아무것도 HOLD하지 않고 충돌 좌석과 함께 실패")
+	void holdSeats_conflict_allOrNothing() {
+		// given
+		ScheduleSeat available = mock(ScheduleSeat.class);
+		ScheduleSeat sold = mock(ScheduleSeat.class);
+
+		when(scheduleResolver.resolvePerformanceId(SCHEDULE_ID)).thenReturn(PERFORMANCE_ID);
+		when(scheduleSeatLockService.tryLock(eq(SCHEDULE_ID), anyLong(), eq(MEMBER_ID)))
+			.thenReturn("lock-value");
+		when(scheduleSeatRepository.findAllByScheduleIdAndSeatIdInWithLock(SCHEDULE_ID, List.of(100L, 101L)))
+			.thenReturn(List.of(available, sold));
+		when(available.getStatus()).thenReturn(SeatStatus.AVAILABLE);
+		when(sold.getStatus()).thenReturn(SeatStatus.SOLD);
+		when(sold.getSeatId()).thenReturn(101L);
+
+		// when & then
+		assertThatThrownBy(() ->
+			scheduleSeatStateService.holdSeats(MEMBER_ID, SCHEDULE_ID, List.of(100L, 101L), null)
+		)
+			.isInstanceOf(SeatHoldConflictException.class)
+			.satisfies(e -> {
+				SeatHoldConflictException conflict = (SeatHoldConflictException)e;
+				assertThat(conflict.getErrorCode()).isEqualTo(ScheduleSeatErrorCode.SEAT_ALREADY_SOLD);
+				assertThat(conflict.getConflictSeatIds()).containsExactly(101L);
+			});
+
+		verify(available, never()).hold(any());
+		verify(seatHoldTokenService, never()).save(anyLong(), anyLong(), anyLong());
+		verify(scheduleSeatLockService).unlock(SCHEDULE_ID, 100L, "lock-value");
+		verify(scheduleSeatLockService).unlock(SCHEDULE_ID, 101L, "lock-value");
+	}
+
+	@Test
+	@DisplayName("holdSeats(): 최대 좌석 수 초과 시 INVALID_HOLD_SEAT_COUNT")
+	void holdSeats_tooMany_throw() {
+		assertThatThrownBy(() ->
+			scheduleSeatStateService.holdSeats(MEMBER_ID, SCHEDULE_ID, List.of(1L, 2L, 3L, 4L, 5L), null)
+		)
+			.isInstanceOf(BusinessException.class)
+			.extracting(e -> ((BusinessException)e).getErrorCode())
+			.isEqualTo(ScheduleSeatErrorCode.INVALID_HOLD_SEAT_COUNT);
+
+		verifyNoInteractions(scheduleSeatLockService);
+	}
+
+	@Test
+	@DisplayName("holdSeat(): 입장권 제출 시 입장권 검증 경로 사용")
+	void holdSeat_withQueuePass_verifyPass() {
+		// given
+		String queuePass = "signed-pass";
+		ScheduleSeat seat = mock(ScheduleSeat.class);
+
+		when(scheduleResolver.resolvePerformanceId(SCHEDULE_ID)).thenReturn(PERFORMANCE_ID);
+		doNothing().when(queueAccessService).assertEnterable(PERFORMANCE_ID, MEMBER_ID, queuePass);
+
+		when(scheduleSeatLockService.tryLock(SCHEDULE_ID, SEAT_ID, MEMBER_ID))
+			.thenReturn("lock-value");
+		when(scheduleSeatRepository.findByScheduleIdAndSeatIdWithLock(SCHEDULE_ID, SEAT_ID))
+			.thenReturn(Optional.of(seat));
+		when(seat.getStatus()).thenReturn(SeatStatus.AVAILABLE);
+
+		// when
+		scheduleSeatStateService.holdSeat(MEMBER_ID, SCHEDULE_ID, SEAT_ID, queuePass);
+
+		// then
+		verify(queueAccessService).assertEnterable(PERFORMANCE_ID, MEMBER_ID, queuePass);
+		verify(queueAccessService, never()).assertEnterable(PERFORMANCE_ID, MEMBER_ID);
+		verify(seatHoldTokenService).save(SCHEDULE_ID, SEAT_ID, MEMBER_ID);
+	}
+
 	@Test
 	@DisplayName("holdSeat(): HOLD 상태면 SEAT_ALREADY_HOLD")
 	void holdSeat_alreadyHold_throw() {
@@ -128,8 +284,7 @@ class ScheduleSeatStateServiceTest {
 		String lockValue = "lock-value";
 		ScheduleSeat seat = mock(ScheduleSeat.class);
 
-		when(performanceScheduleRepository.findPerformanceIdByScheduleId(SCHEDULE_ID))
-			.thenReturn(Optional.of(PERFORMANCE_ID));
+		when(scheduleResolver.resolvePerformanceId(SCHEDULE_ID)).thenReturn(PERFORMANCE_ID);
 		doNothing().when(queueAccessService).assertEnterable(PERFORMANCE_ID, MEMBER_ID);
 
 		when(scheduleSeatLockService.tryLock(SCHEDULE_ID, SEAT_ID, MEMBER_ID))
@@ -150,6 +305,7 @@ class ScheduleSeatStateServiceTest {
 			.unlock(eq(SCHEDULE_ID), eq(SEAT_ID), anyString());
 		verify(seatHoldTokenService, never()).save(anyLong(), anyLong(), anyLong());
 		verify(queueAccessService).assertEnterable(PERFORMANCE_ID, MEMBER_ID);
+		verify(queueAccessService).recordSeatHold(eq(PERFORMANCE_ID), anyLong(), eq(false));
 	}
 
 	@Test
@@ -168,6 +324,8 @@ class ScheduleSeatStateServiceTest {
 		// then
 		verify(seat).release();
 		verify(seatHoldTokenService).remove(SCHEDULE_ID, SEAT_ID);
+		verify(eventPublisher).publishEvent(
+			ScheduleSeatStatusChangedEvent.of(SCHEDULE_ID, SEAT_ID, SeatStatus.AVAILABLE));
 	}
 
 	@Test
@@ -186,28 +344,121 @@ class ScheduleSeatStateServiceTest {
 		// then
 		verify(seat).sold();
 		verify(seatHoldTokenService).remove(SCHEDULE_ID, SEAT_ID);
+		verify(eventPublisher).publishEvent(
+			ScheduleSeatStatusChangedEvent.of(SCHEDULE_ID, SEAT_ID, SeatStatus.SOLD));
 	}
 
 	@Test
-	@DisplayName("releaseExpiredHoldsBatch(): 만료된 HOLD 좌석을 복구하고 token 제거")
-	void releaseExpiredHoldsBatch_success() {
+	@DisplayName("releaseExpiredHoldsChunk(): 잠근 만료 HOLD 청크를 복구하고 token 일괄 제거")
+	void releaseExpiredHoldsChunk_success() {
 		// given
-		Object[] row = new Object[] {SCHEDULE_ID, SEAT_ID};
+		Object[] row = new Object[] {100L, SCHEDULE_ID, SEAT_ID};
 
-		when(scheduleSeatRepository.findExpiredHoldKeys(eq(SeatStatus.HOLD), any(LocalDateTime.class)))
+		when(scheduleSeatRepository.lockExpiredHoldChunk(eq(0L), any(LocalDateTime.class), eq(500)))
 			.thenReturn(Collections.singletonList(row));
 
-		when(scheduleSeatRepository.releaseExpiredHolds(
-			eq(SeatStatus.HOLD),
-			eq(SeatStatus.AVAILABLE),
-			any(LocalDateTime.class)
-		)).thenReturn(1);
+		// when
+		ExpiryChunk chunk = scheduleSeatStateService.releaseExpiredHoldsChunk(0L, 500);
+
+		// then
+		assertThat(chunk).isEqualTo(new ExpiryChunk(1, 100L));
+		verify(scheduleSeatRepository).releaseHoldsByIds(List.of(100L), SeatStatus.HOLD, SeatStatus.AVAILABLE);
+		verify(seatHoldTokenService).removeAll(SCHEDULE_ID, List.of(SEAT_ID));
+		verify(eventPublisher).publishEvent(
+			ScheduleSeatStatusChangedEvent.of(SCHEDULE_ID, List.of(SEAT_ID), SeatStatus.AVAILABLE));
+	}
+
+	@Test
+	@DisplayName("releaseExpiredHoldsChunk(): Redis로 재선점된 플래시 세일 좌석은 제외하고 커서는 청크 끝으로 이동")
+	void releaseExpiredHoldsChunk_skipsLiveFlashSaleHold() {
+		// given
+		Long reheldSeatId = SEAT_ID + 1;
+		when(scheduleSeatRepository.lockExpiredHoldChunk(eq(0L), any(LocalDateTime.class), eq(500)))
+			.thenReturn(List.of(
+				new Object[] {100L, SCHEDULE_ID, SEAT_ID},
+				new Object[] {101L, SCHEDULE_ID, reheldSeatId}));
+		when(flashSaleSeatHoldService.liveHoldSeats(SCHEDULE_ID, List.of(SEAT_ID, reheldSeatId)))
+			.thenReturn(Map.of(reheldSeatId, LocalDateTime.now().plusMinutes(10)));
 
 		// when
-		int updated = scheduleSeatStateService.releaseExpiredHoldsBatch();
+		ExpiryChunk chunk = scheduleSeatStateService.releaseExpiredHoldsChunk(0L, 500);
 
 		// then
-		assertThat(updated).isEqualTo(1);
-		verify(seatHoldTokenService).remove(SCHEDULE_ID, SEAT_ID);
+		assertThat(chunk).isEqualTo(new ExpiryChunk(2, 101L));
+		verify(scheduleSeatRepository).releaseHoldsByIds(List.of(100L), SeatStatus.HOLD, SeatStatus.AVAILABLE);
+		verify(seatHoldTokenService).removeAll(SCHEDULE_ID, List.of(SEAT_ID));
+	}
+
+	@Test
+	@DisplayName("releaseExpiredHoldsChunk(): 만료 대상이 없으면 갱신 없이 빈 청크")
+	void releaseExpiredHoldsChunk_empty() {
+		// given
+		when(scheduleSeatRepository.lockExpiredHoldChunk(eq(0L), any(LocalDateTime.class), eq(500)))
+			.thenReturn(List.of());
+
+		// when
+		ExpiryChunk chunk = scheduleSeatStateService.releaseExpiredHoldsChunk(0L, 500);
+
+		// then
+		assertThat(chunk.count()).isZero();
+		verify(scheduleSeatRepository, never()).releaseHoldsByIds(any(), any(), any());
+		verifyNoInteractions(seatHoldTokenService, eventPublisher);
+	}
+
+	@Test
+	@DisplayName("releaseExpiredHolds(): 만료된 HOLD만 해제하고 재선점된 좌석은 만료 큐에 재등록")
+	void releaseExpiredHolds_releasesOnlyExpired() {
+		// given
+		Long renewedSeatId = SEAT_ID + 1;
+		LocalDateTime renewedExpiredAt = LocalDateTime.now().plusMinutes(5);
+
+		ScheduleSeat expired = mock(ScheduleSeat.class);
+		when(expired.getSeatId()).thenReturn(SEAT_ID);
+		when(expired.getHoldExpiredAt()).thenReturn(LocalDateTime.now().minusSeconds(1));
+
+		ScheduleSeat renewed = mock(ScheduleSeat.class);
+		when(renewed.getSeatId()).thenReturn(renewedSeatId);
+		when(renewed.getHoldExpiredAt()).thenReturn(renewedExpiredAt);
+
+		when(scheduleSeatRepository.findHoldsByScheduleIdAndSeatIdInWithLock(
+			SCHEDULE_ID, List.of(SEAT_ID, renewedSeatId), SeatStatus.HOLD))
+			.thenReturn(List.of(expired, renewed));
+
+		// when
+		int released = scheduleSeatStateService.releaseExpiredHolds(SCHEDULE_ID, List.of(renewedSeatId, SEAT_ID));
+
+		// then
+		assertThat(released).isEqualTo(1);
+		verify(expired).release();
+		verify(renewed, never()).release();
+		verify(seatHoldExpiryQueue).register(SCHEDULE_ID, renewedSeatId, renewedExpiredAt);
+		verify(seatHoldTokenService).removeAll(SCHEDULE_ID, List.of(SEAT_ID));
+		verify(eventPublisher).publishEvent(
+			ScheduleSeatStatusChangedEvent.of(SCHEDULE_ID, List.of(SEAT_ID), SeatStatus.AVAILABLE));
+	}
+
+	@Test
+	@DisplayName("releaseExpiredHolds(): Redis로 재선점된 플래시 세일 좌석은 해제/토큰 제거 없이 Redis 만료 시각으로 재등록")
+	void releaseExpiredHolds_skipsLiveFlashSaleHold() {
+		// given: DB는 이전 소유자의 만료 HOLD, Redis는 새 소유자의 유효 HOLD (영속화 전)
+		LocalDateTime flashExpiresAt = LocalDateTime.now().plusMinutes(10);
+		ScheduleSeat expired = mock(ScheduleSeat.class);
+		when(expired.getSeatId()).thenReturn(SEAT_ID);
+		when(expired.getHoldExpiredAt()).thenReturn(LocalDateTime.now().minusSeconds(1));
+
+		when(scheduleSeatRepository.findHoldsByScheduleIdAndSeatIdInWithLock(
+			SCHEDULE_ID, List.of(SEAT_ID), SeatStatus.HOLD))
+			.thenReturn(List.of(expired));
+		when(flashSaleSeatHoldService.liveHoldSeats(SCHEDULE_ID, List.of(SEAT_ID)))
+			.thenReturn(Map.of(SEAT_ID, flashExpiresAt));
+
+		// when
+		int released = scheduleSeatStateService.releaseExpiredHolds(SCHEDULE_ID, List.of(SEAT_ID));
+
+		// then
+		assertThat(released).isZero();
+		verify(expired, never()).release();
+		verify(seatHoldExpiryQueue).register(SCHEDULE_ID, SEAT_ID, flashExpiresAt);
+		verifyNoInteractions(seatHoldTokenService, eventPublisher);
 	}
 }
@@ -0,0 +1,148 @@
+package com.back.b2st.domain.seat.grade.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.back.b2st.domain.performance.entity.Performance;
+import com.back.b2st.domain.performance.repository.PerformanceRepository;
+import com.back.b2st.domain.seat.grade.dto.SectionGrade;
+import com.back.b2st.domain.seat.grade.entity.SeatGradeType;
+import com.back.b2st.domain.seat.seat.repository.SeatRepository;
+import com.back.b2st.domain.venue.section.entity.Section;
+import com.back.b2st.domain.venue.section.repository.SectionRepository;
+import com.back.b2st.domain.venue.venue.entity.Venue;
+import com.back.b2st.domain.venue.venue.repository.VenueRepository;
+import com.back.b2st.support.TestFixture;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * INSERT ... SELECT 구역별 등급 생성 (H2 PostgreSQL 모드)
+ */
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+class SeatGradeBatchRepositoryTest {
+
+	@Autowired
+	private SeatGradeBatchRepository seatGradeBatchRepository;
+
+	@Autowired
+	private VenueRepository venueRepository;
+
+	@Autowired
+	private PerformanceRepository performanceRepository;
+
+	@Autowired
+	private SectionRepository sectionRepository;
+
+	@Autowired
+	private SeatRepository seatRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	private Venue venue;
+	private Performance performance;
+
+	/** 구역당 좌석 수 (2열 × 3석) */
+	private static final int SEATS_PER_SECTION = 6;
+
+	private static final List<SectionGrade> SECTION_GRADES = List.of(
+		new SectionGrade("A", SeatGradeType.VIP, 30000),
+		new SectionGrade("B", SeatGradeType.STANDARD, 10000)
+	);
+
+	@BeforeEach
+	void setUp() {
+		venue = TestFixture.createVenue("테스트 공연장", venueRepository);
+		performance = TestFixture.createPerformance(venue, performanceRepository);
+
+		List<Section> sections = TestFixture.createSections(venue.getVenueId(), sectionRepository, "A", "B", "C");
+		TestFixture.createSeats(venue.getVenueId(), sections, 2, 3, seatRepository);
+
+		// JDBC 쿼리는 영속성 컨텍스트를 자동 flush하지 않음
+		entityManager.flush();
+	}
+
+	@Test
+	@DisplayName("insertBySection(): 지정한 구역의 좌석에만 구역 등급/가격으로 생성")
+	void insertBySection_createsGradePerSection() {
+		// when
+		int inserted = seatGradeBatchRepository.insertBySection(
+			performance.getPerformanceId(), venue.getVenueId(), SECTION_GRADES);
+
+		// then
+		assertThat(inserted).isEqualTo(SEATS_PER_SECTION * SECTION_GRADES.size());
+		assertThat(countGrades("A", SeatGradeType.VIP, 30000)).isEqualTo(SEATS_PER_SECTION);
+		assertThat(countGrades("B", SeatGradeType.STANDARD, 10000)).isEqualTo(SEATS_PER_SECTION);
+		assertThat(countBySection("C")).isZero();
+		assertThat(jdbcTemplate.queryForObject(
+			"SELECT COUNT(DISTINCT seat_grade_id) FROM seat_grades WHERE performance_id = ?",
+			Long.class, performance.getPerformanceId()))
+			.isEqualTo(inserted);
+	}
+
+	@Test
+	@DisplayName("insertBySection(): 이미 등급이 있는 좌석은 건너뜀")
+	void insertBySection_skipsExisting() {
+		// given
+		seatGradeBatchRepository.insertBySection(
+			performance.getPerformanceId(), venue.getVenueId(), SECTION_GRADES.subList(0, 1));
+
+		// when
+		int inserted = seatGradeBatchRepository.insertBySection(
+			performance.getPerformanceId(), venue.getVenueId(), SECTION_GRADES);
+
+		// then
+		assertThat(inserted).isEqualTo(SEATS_PER_SECTION);
+		assertThat(countBySection("A")).isEqualTo(SEATS_PER_SECTION);
+		assertThat(countBySection("B")).isEqualTo(SEATS_PER_SECTION);
+	}
+
+	@Test
+	@DisplayName("insertBySection(): 구역 목록이 비면 생성하지 않음")
+	void insertBySection_empty() {
+		// when
+		int inserted = seatGradeBatchRepository.insertBySection(
+			performance.getPerformanceId(), venue.getVenueId(), List.of());
+
+		// then
+		assertThat(inserted).isZero();
+	}
+
+	private long countGrades(String sectionName, SeatGradeType grade, int price) {
+		return jdbcTemplate.queryForObject("""
+			SELECT COUNT(*)
+			FROM seat_grades g
+			JOIN seats s ON s.seat_id = g.seat_id
+			WHERE g.performance_id = ?
+			  AND s.section_name = ?
+			  AND g.grade = ?
+			  AND g.price = ?
+			""", Long.class, performance.getPerformanceId(), sectionName, grade.name(), price);
+	}
+
+	private long countBySection(String sectionName) {
+		return jdbcTemplate.queryForObject("""
+			SELECT COUNT(*)
+			FROM seat_grades g
+			JOIN seats s ON s.seat_id = g.seat_id
+			WHERE g.performance_id = ?
+			  AND s.section_name = ?
+			""", Long.class, performance.getPerformanceId(), sectionName);
+	}
+}